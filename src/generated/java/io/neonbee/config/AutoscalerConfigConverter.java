@@ -0,0 +1,83 @@
+package io.neonbee.config;
+
+import java.util.Base64;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.impl.JsonUtil;
+
+/**
+ * Converter and mapper for {@link io.neonbee.config.AutoscalerConfig}. NOTE: This class has been automatically
+ * generated from the {@link io.neonbee.config.AutoscalerConfig} original class using Vert.x codegen.
+ */
+public class AutoscalerConfigConverter {
+
+    private static final Base64.Decoder BASE64_DECODER = JsonUtil.BASE64_DECODER;
+
+    private static final Base64.Encoder BASE64_ENCODER = JsonUtil.BASE64_ENCODER;
+
+    static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, AutoscalerConfig obj) {
+        for (java.util.Map.Entry<String, Object> member : json) {
+            switch (member.getKey()) {
+            case "busyLag":
+                if (member.getValue() instanceof Number) {
+                    obj.setBusyLag(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "enabled":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setEnabled((Boolean) member.getValue());
+                }
+                break;
+            case "interval":
+                if (member.getValue() instanceof Number) {
+                    obj.setInterval(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "maxInstances":
+                if (member.getValue() instanceof Number) {
+                    obj.setMaxInstances(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "minInstances":
+                if (member.getValue() instanceof Number) {
+                    obj.setMinInstances(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "queueDepth":
+                if (member.getValue() instanceof Number) {
+                    obj.setQueueDepth(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "verticles":
+                if (member.getValue() instanceof JsonArray) {
+                    java.util.ArrayList<java.lang.String> list = new java.util.ArrayList<>();
+                    ((Iterable<Object>) member.getValue()).forEach(item -> {
+                        if (item instanceof String)
+                            list.add((String) item);
+                    });
+                    obj.setVerticles(list);
+                }
+                break;
+            }
+        }
+    }
+
+    static void toJson(AutoscalerConfig obj, JsonObject json) {
+        toJson(obj, json.getMap());
+    }
+
+    static void toJson(AutoscalerConfig obj, java.util.Map<String, Object> json) {
+        json.put("busyLag", obj.getBusyLag());
+        json.put("enabled", obj.isEnabled());
+        json.put("interval", obj.getInterval());
+        json.put("maxInstances", obj.getMaxInstances());
+        json.put("minInstances", obj.getMinInstances());
+        json.put("queueDepth", obj.getQueueDepth());
+        if (obj.getVerticles() != null) {
+            JsonArray array = new JsonArray();
+            obj.getVerticles().forEach(item -> array.add(item));
+            json.put("verticles", array);
+        }
+    }
+}
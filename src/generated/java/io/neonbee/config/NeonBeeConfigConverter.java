@@ -19,6 +19,19 @@ public class NeonBeeConfigConverter {
     static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, NeonBeeConfig obj) {
         for (java.util.Map.Entry<String, Object> member : json) {
             switch (member.getKey()) {
+            case "autoscalerConfig":
+                if (member.getValue() instanceof JsonObject) {
+                    obj.setAutoscalerConfig(
+                            new io.neonbee.config.AutoscalerConfig((io.vertx.core.json.JsonObject) member.getValue()));
+                }
+                break;
+            case "entityWrapperWireFormat":
+                if (member.getValue() instanceof String) {
+                    obj.setEntityWrapperWireFormat(
+                            io.neonbee.internal.codec.EntityWrapperMessageCodec.WireFormat.valueOf(
+                                    (String) member.getValue()));
+                }
+                break;
             case "eventBusCodecs":
                 if (member.getValue() instanceof JsonObject) {
                     java.util.Map<String, java.lang.String> map = new java.util.LinkedHashMap<>();
@@ -77,6 +90,11 @@ public class NeonBeeConfigConverter {
                     obj.setTrackingDataHandlingStrategy((String) member.getValue());
                 }
                 break;
+            case "trackingSamplingRate":
+                if (member.getValue() instanceof Number) {
+                    obj.setTrackingSamplingRate(((Number) member.getValue()).doubleValue());
+                }
+                break;
             }
         }
     }
@@ -86,6 +104,12 @@ public class NeonBeeConfigConverter {
     }
 
     static void toJson(NeonBeeConfig obj, java.util.Map<String, Object> json) {
+        if (obj.getAutoscalerConfig() != null) {
+            json.put("autoscalerConfig", obj.getAutoscalerConfig().toJson());
+        }
+        if (obj.getEntityWrapperWireFormat() != null) {
+            json.put("entityWrapperWireFormat", obj.getEntityWrapperWireFormat().name());
+        }
         if (obj.getEventBusCodecs() != null) {
             JsonObject map = new JsonObject();
             obj.getEventBusCodecs().forEach((key, value) -> map.put(key, value));
@@ -114,5 +138,6 @@ public class NeonBeeConfigConverter {
         if (obj.getTrackingDataHandlingStrategy() != null) {
             json.put("trackingDataHandlingStrategy", obj.getTrackingDataHandlingStrategy());
         }
+        json.put("trackingSamplingRate", obj.getTrackingSamplingRate());
     }
 }
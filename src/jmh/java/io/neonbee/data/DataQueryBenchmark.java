@@ -0,0 +1,91 @@
+package io.neonbee.data;
+
+import static io.neonbee.data.DataAction.READ;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.neonbee.internal.codec.DataQueryMessageCodec;
+
+/**
+ * Measures the cost of the data query of a request to an entity verticle: the query is transformed for the local
+ * delivery on the event bus, copied by the entity verticle and its query string is read for the metrics and to parse
+ * the URI. Run with {@code gradlew jmh -PjmhIncludes=DataQueryBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataQueryBenchmark {
+    private static final String URI_PATH = "io.neonbee.benchmark.Service/Products";
+
+    private static final String QUERY = "$filter=name eq 'Product 1' and stock gt 10&$orderby=rating desc,name"
+            + "&$select=ID,name,rating,stock&$top=10&$skip=20&$count=true&tag=a&tag=b";
+
+    private static final Map<String, List<String>> HEADERS = Map.of("Accept", List.of("application/json"),
+            "Accept-Language", List.of("en-US", "en"), "X-Correlation-ID", List.of("f7b3c1e2-benchmark"));
+
+    private final DataQueryMessageCodec codec = new DataQueryMessageCodec();
+
+    private DataQuery query;
+
+    /**
+     * Sets up the query of the request.
+     */
+    @Setup
+    public void setUp() {
+        query = new DataQuery(READ, URI_PATH, QUERY, HEADERS);
+    }
+
+    /**
+     * Transforms the query for the local delivery on the event bus.
+     *
+     * @return the transformed query
+     */
+    @Benchmark
+    public DataQuery transform() {
+        return codec.transform(query);
+    }
+
+    /**
+     * Reads the query string of the query.
+     *
+     * @return the query string
+     */
+    @Benchmark
+    public String getQuery() {
+        return query.getQuery();
+    }
+
+    /**
+     * Handles the query as a request to an entity verticle does.
+     *
+     * @param blackhole the blackhole to consume the results
+     */
+    @Benchmark
+    public void request(Blackhole blackhole) {
+        DataQuery entityQuery = codec.transform(query);
+        blackhole.consume(entityQuery.getQuery());
+
+        DataQuery dataQuery = codec.transform(entityQuery.copy().setHeader("entityTypeName", "Products"));
+        blackhole.consume(dataQuery.getQuery());
+        blackhole.consume(dataQuery.getQuery());
+        blackhole.consume(dataQuery.getParameter("$top"));
+        blackhole.consume(dataQuery.getHeader("Accept"));
+    }
+}
@@ -0,0 +1,136 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.core.MetadataParser;
+import org.apache.olingo.server.core.uri.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionCompiler.CompiledFilter;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Compares filtering entities by visiting the filter expression with a {@link FilterExpressionVisitor} per entity and
+ * by a filter compiled once by the {@link FilterExpressionCompiler}. Run with
+ * {@code gradlew jmh -PjmhIncludes=FilterExpressionBenchmark}, add {@code -prof gc} to the JMH arguments to compare
+ * the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterExpressionBenchmark {
+    private static final String EDMX = "<?xml version=\"1.0\" encoding=\"utf-8\"?>"
+            + "<edmx:Edmx Version=\"4.0\" xmlns:edmx=\"http://docs.oasis-open.org/odata/ns/edmx\"><edmx:DataServices>"
+            + "<Schema Namespace=\"io.neonbee.benchmark.Service\" xmlns=\"http://docs.oasis-open.org/odata/ns/edm\">"
+            + "<EntityContainer Name=\"EntityContainer\">"
+            + "<EntitySet Name=\"Products\" EntityType=\"io.neonbee.benchmark.Service.Products\"/></EntityContainer>"
+            + "<EntityType Name=\"Products\"><Key><PropertyRef Name=\"ID\"/></Key>"
+            + "<Property Name=\"ID\" Type=\"Edm.Int32\" Nullable=\"false\"/>"
+            + "<Property Name=\"name\" Type=\"Edm.String\"/>"
+            + "<Property Name=\"stock\" Type=\"Edm.Int32\"/>"
+            + "<Property Name=\"price\" Type=\"Edm.Decimal\" Scale=\"2\" Precision=\"10\"/>"
+            + "</EntityType></Schema></edmx:DataServices></edmx:Edmx>";
+
+    private static final RoutingContext ROUTING_CONTEXT =
+            (RoutingContext) Proxy.newProxyInstance(RoutingContext.class.getClassLoader(),
+                    new Class<?>[] { RoutingContext.class }, (proxy, method, args) -> null);
+
+    @Param({ "100000" })
+    private int entities;
+
+    @Param({ "stock gt 500 and startswith(name, 'Product 1') or price le 10.5" })
+    private String filter;
+
+    private List<Entity> entityList;
+
+    private Expression expression;
+
+    /**
+     * Sets up the model, the entities and parses the filter expression.
+     *
+     * @throws Exception if the model or the filter expression could not be parsed
+     */
+    @Setup
+    public void setUp() throws Exception {
+        ServiceMetadata serviceMetadata;
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(EDMX.getBytes(UTF_8)), UTF_8)) {
+            serviceMetadata = OData.newInstance().createServiceMetadata(
+                    new MetadataParser().referenceResolver(null).buildEdmProvider(reader), Collections.emptyList());
+        }
+        expression = new Parser(serviceMetadata.getEdm(), OData.newInstance())
+                .parseUri("Products", "$filter=" + filter, null, "").getFilterOption().getExpression();
+
+        entityList = new ArrayList<>(entities);
+        for (int index = 0; index < entities; index++) {
+            entityList.add(new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, index))
+                    .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "Product " + index))
+                    .addProperty(new Property(null, "stock", ValueType.PRIMITIVE, index % 1000))
+                    .addProperty(new Property(null, "price", ValueType.PRIMITIVE, BigDecimal.valueOf(index, 2))));
+        }
+    }
+
+    /**
+     * Filters the entities with a new filter expression visitor per entity.
+     *
+     * @return the filtered entities
+     * @throws Exception if the filter expression could not be evaluated
+     */
+    @Benchmark
+    public List<Entity> filterVisitor() throws Exception {
+        List<Entity> filteredEntities = new ArrayList<>();
+        for (Entity entity : entityList) {
+            FilterExpressionVisitor filterExpressionVisitor = new FilterExpressionVisitor(ROUTING_CONTEXT, entity);
+            if (Boolean.TRUE.equals(expression.accept(filterExpressionVisitor).getValue())) {
+                filteredEntities.add(entity);
+            }
+        }
+        return filteredEntities;
+    }
+
+    /**
+     * Filters the entities with a filter expression compiled once.
+     *
+     * @return the filtered entities
+     * @throws Exception if the filter expression could not be compiled or evaluated
+     */
+    @Benchmark
+    public List<Entity> filterCompiled() throws Exception {
+        List<Entity> filteredEntities = new ArrayList<>();
+        CompiledFilter compiledFilter = FilterExpressionCompiler.compile(ROUTING_CONTEXT, expression);
+        for (Entity entity : entityList) {
+            if (compiledFilter.test(entity)) {
+                filteredEntities.add(entity);
+            }
+        }
+        return filteredEntities;
+    }
+}
@@ -0,0 +1,133 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.core.MetadataParser;
+import org.apache.olingo.server.core.uri.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Compares ordering entities with the chained {@link EntityComparator EntityComparators} and with the sort keys
+ * extracted once per entity by the {@link OrderExpressionExecutor}, for all entities and for the first entities only
+ * (as requested by a $top option). Run with {@code gradlew jmh -PjmhIncludes=OrderExpressionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderExpressionBenchmark {
+    private static final String EDMX = "<?xml version=\"1.0\" encoding=\"utf-8\"?>"
+            + "<edmx:Edmx Version=\"4.0\" xmlns:edmx=\"http://docs.oasis-open.org/odata/ns/edmx\"><edmx:DataServices>"
+            + "<Schema Namespace=\"io.neonbee.benchmark.Service\" xmlns=\"http://docs.oasis-open.org/odata/ns/edm\">"
+            + "<EntityContainer Name=\"EntityContainer\">"
+            + "<EntitySet Name=\"Products\" EntityType=\"io.neonbee.benchmark.Service.Products\"/></EntityContainer>"
+            + "<EntityType Name=\"Products\"><Key><PropertyRef Name=\"ID\"/></Key>"
+            + "<Property Name=\"ID\" Type=\"Edm.Int64\" Nullable=\"false\"/>"
+            + "<Property Name=\"createdAt\" Type=\"Edm.DateTimeOffset\"/>"
+            + "</EntityType></Schema></edmx:DataServices></edmx:Edmx>";
+
+    private static final RoutingContext ROUTING_CONTEXT =
+            (RoutingContext) Proxy.newProxyInstance(RoutingContext.class.getClassLoader(),
+                    new Class<?>[] { RoutingContext.class }, (proxy, method, args) -> null);
+
+    @Param({ "200000" })
+    private int entities;
+
+    @Param({ "20" })
+    private int top;
+
+    private List<Entity> entityList;
+
+    private OrderByOption orderByOption;
+
+    /**
+     * Sets up the model, the entities and parses the order by option.
+     *
+     * @throws Exception if the model or the order by option could not be parsed
+     */
+    @Setup
+    public void setUp() throws Exception {
+        ServiceMetadata serviceMetadata;
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(EDMX.getBytes(UTF_8)), UTF_8)) {
+            serviceMetadata = OData.newInstance().createServiceMetadata(
+                    new MetadataParser().referenceResolver(null).buildEdmProvider(reader), Collections.emptyList());
+        }
+        orderByOption = new Parser(serviceMetadata.getEdm(), OData.newInstance())
+                .parseUri("Products", "$orderby=createdAt desc,ID", null, "").getOrderByOption();
+
+        Random random = new Random(42);
+        entityList = new ArrayList<>(entities);
+        for (long index = 0; index < entities; index++) {
+            entityList.add(new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, index))
+                    .addProperty(new Property(null, "createdAt", ValueType.PRIMITIVE,
+                            Instant.ofEpochSecond(random.nextInt(Integer.MAX_VALUE)))));
+        }
+    }
+
+    /**
+     * Sorts all entities with the chained entity comparators and takes the first entities.
+     *
+     * @return the first entities
+     */
+    @Benchmark
+    public List<Entity> topComparator() {
+        List<Entity> sortedEntities = new ArrayList<>(entityList);
+        sortedEntities.sort(new EntityChainedComparator(List.of(
+                new EntityComparator(ROUTING_CONTEXT, "createdAt", true, EdmPrimitiveTypeKind.DateTimeOffset),
+                new EntityComparator(ROUTING_CONTEXT, "ID", false, EdmPrimitiveTypeKind.Int64))));
+        return sortedEntities.subList(0, top);
+    }
+
+    /**
+     * Sorts all entities by their sort keys.
+     *
+     * @return the sorted entities
+     */
+    @Benchmark
+    public List<Entity> sortKeys() {
+        return OrderExpressionExecutor.executeOrderOption(ROUTING_CONTEXT, orderByOption, entityList,
+                entityList.size());
+    }
+
+    /**
+     * Selects the first entities by their sort keys.
+     *
+     * @return the first entities
+     */
+    @Benchmark
+    public List<Entity> topSortKeys() {
+        return OrderExpressionExecutor.executeOrderOption(ROUTING_CONTEXT, orderByOption, entityList, top);
+    }
+}
@@ -0,0 +1,103 @@
+package io.neonbee.hook.internal;
+
+import static io.neonbee.hook.HookType.ONCE_PER_REQUEST;
+import static io.neonbee.hook.HookType.ROUTING_CONTEXT;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.neonbee.NeonBee;
+import io.neonbee.hook.Hook;
+import io.neonbee.hook.HookContext;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+/**
+ * Measures the overhead of the {@link io.neonbee.hook.HookType#ONCE_PER_REQUEST} hooks per request, as executed by the
+ * {@link io.neonbee.internal.handler.HooksHandler}. Run with
+ * {@code gradlew jmh -PjmhIncludes=DefaultHookRegistryBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultHookRegistryBenchmark {
+    @Param({ "0", "1", "4" })
+    private int hooks;
+
+    private final Object routingContext = new Object();
+
+    private Vertx vertx;
+
+    private DefaultHookRegistry hookRegistry;
+
+    /**
+     * Sets up the hook registry with the given number of hooks.
+     *
+     * @throws NoSuchMethodException if the hook method cannot be found
+     */
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        vertx = Vertx.vertx();
+        hookRegistry = new DefaultHookRegistry(vertx);
+        for (int i = 0; i < hooks; i++) {
+            hookRegistry.register(new DefaultHookRegistration(hookRegistry, new BenchmarkHook(),
+                    BenchmarkHook.class.getMethod("hook", NeonBee.class, HookContext.class, Promise.class),
+                    ONCE_PER_REQUEST));
+        }
+    }
+
+    /**
+     * Closes the Vert.x instance.
+     */
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    /**
+     * Executes the hooks of a request.
+     *
+     * @return the result of the hooks or null, if no hooks are registered
+     */
+    @Benchmark
+    public CompositeFuture request() {
+        if (!hookRegistry.hasHooks(ONCE_PER_REQUEST)) {
+            return null;
+        }
+        return hookRegistry.executeHooks(ONCE_PER_REQUEST, Map.of(ROUTING_CONTEXT, routingContext));
+    }
+
+    /**
+     * A hook, which completes right away.
+     */
+    public static class BenchmarkHook {
+        /**
+         * Completes the hook.
+         *
+         * @param neonBee     the NeonBee instance
+         * @param hookContext the hook context
+         * @param promise     the promise to complete
+         */
+        @Hook(ONCE_PER_REQUEST)
+        public void hook(NeonBee neonBee, HookContext hookContext, Promise<Void> promise) {
+            promise.complete();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.neonbee.internal.codec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.core.MetadataParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.internal.codec.EntityWrapperMessageCodec.WireFormat;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Compares encoding and decoding entity wrappers in the JSON and the binary wire format of the
+ * {@link EntityWrapperMessageCodec}. Run with {@code gradlew jmh -PjmhIncludes=EntityWrapperMessageCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityWrapperMessageCodecBenchmark {
+    private static final String EDMX = "<?xml version=\"1.0\" encoding=\"utf-8\"?>"
+            + "<edmx:Edmx Version=\"4.0\" xmlns:edmx=\"http://docs.oasis-open.org/odata/ns/edmx\"><edmx:DataServices>"
+            + "<Schema Namespace=\"io.neonbee.benchmark.Service\" xmlns=\"http://docs.oasis-open.org/odata/ns/edm\">"
+            + "<EntityContainer Name=\"EntityContainer\">"
+            + "<EntitySet Name=\"Products\" EntityType=\"io.neonbee.benchmark.Service.Products\"/></EntityContainer>"
+            + "<EntityType Name=\"Products\"><Key><PropertyRef Name=\"ID\"/></Key>"
+            + "<Property Name=\"ID\" Type=\"Edm.Guid\" Nullable=\"false\"/>"
+            + "<Property Name=\"name\" Type=\"Edm.String\"/>"
+            + "<Property Name=\"description\" Type=\"Edm.String\"/>"
+            + "<Property Name=\"available\" Type=\"Edm.Boolean\"/>"
+            + "<Property Name=\"stock\" Type=\"Edm.Int32\"/>"
+            + "<Property Name=\"sold\" Type=\"Edm.Int64\"/>"
+            + "<Property Name=\"rating\" Type=\"Edm.Double\"/>"
+            + "<Property Name=\"price\" Type=\"Edm.Decimal\" Scale=\"2\" Precision=\"10\"/>"
+            + "<Property Name=\"modifiedAt\" Type=\"Edm.DateTimeOffset\" Precision=\"7\"/>"
+            + "</EntityType></Schema></edmx:DataServices></edmx:Edmx>";
+
+    private static final String ENTITY_TYPE_NAME = "io.neonbee.benchmark.Service.Products";
+
+    @Param({ "10000" })
+    private int entities;
+
+    private ServiceMetadata serviceMetadata;
+
+    private EntityWrapper entityWrapper;
+
+    private Buffer jsonBuffer;
+
+    private Buffer binaryBuffer;
+
+    /**
+     * Sets up the model, the entities and the pre-encoded buffers to decode.
+     *
+     * @throws Exception if the model could not be parsed
+     */
+    @Setup
+    public void setUp() throws Exception {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(EDMX.getBytes(UTF_8)), UTF_8)) {
+            serviceMetadata = OData.newInstance().createServiceMetadata(
+                    new MetadataParser().referenceResolver(null).buildEdmProvider(reader), Collections.emptyList());
+        }
+
+        List<Entity> entityList = new ArrayList<>(entities);
+        for (int index = 0; index < entities; index++) {
+            entityList.add(new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, UUID.randomUUID()))
+                    .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "Product " + index))
+                    .addProperty(new Property(null, "description", ValueType.PRIMITIVE,
+                            "A description of product number " + index))
+                    .addProperty(new Property(null, "available", ValueType.PRIMITIVE, index % 2 == 0))
+                    .addProperty(new Property(null, "stock", ValueType.PRIMITIVE, index))
+                    .addProperty(new Property(null, "sold", ValueType.PRIMITIVE, index * 1000L))
+                    .addProperty(new Property(null, "rating", ValueType.PRIMITIVE, index % 50 / 10d))
+                    .addProperty(new Property(null, "price", ValueType.PRIMITIVE, BigDecimal.valueOf(index, 2)))
+                    .addProperty(new Property(null, "modifiedAt", ValueType.PRIMITIVE,
+                            new Timestamp(1_657_800_000_000L + index))));
+        }
+        entityWrapper = new EntityWrapper(ENTITY_TYPE_NAME, entityList);
+
+        jsonBuffer = encode(WireFormat.JSON);
+        binaryBuffer = encode(WireFormat.BINARY);
+    }
+
+    /**
+     * Encodes the entities to the JSON wire format.
+     *
+     * @return the encoded buffer
+     */
+    @Benchmark
+    public Buffer encodeJson() {
+        return encode(WireFormat.JSON);
+    }
+
+    /**
+     * Encodes the entities to the binary wire format.
+     *
+     * @return the encoded buffer
+     */
+    @Benchmark
+    public Buffer encodeBinary() {
+        return encode(WireFormat.BINARY);
+    }
+
+    /**
+     * Decodes the entities from the JSON wire format.
+     *
+     * @return the decoded entity wrapper
+     */
+    @Benchmark
+    public EntityWrapper decodeJson() {
+        return decode(jsonBuffer);
+    }
+
+    /**
+     * Decodes the entities from the binary wire format.
+     *
+     * @return the decoded entity wrapper
+     */
+    @Benchmark
+    public EntityWrapper decodeBinary() {
+        return decode(binaryBuffer);
+    }
+
+    private Buffer encode(WireFormat wireFormat) {
+        Buffer buffer = Buffer.buffer();
+        EntityWrapperMessageCodec.encodeToWire(buffer, entityWrapper, serviceMetadata, wireFormat);
+        return buffer;
+    }
+
+    private EntityWrapper decode(Buffer buffer) {
+        return EntityWrapperMessageCodec.decodeFromWire(0, buffer, entityTypeName -> serviceMetadata);
+    }
+}
@@ -0,0 +1,157 @@
+package io.neonbee.internal.deploy;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.ToolProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.neonbee.NeonBee;
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.NeonBeeProfile;
+
+/**
+ * Measures the startup time of a large module, i.e. the time to load a module from its JAR file, to deploy its verticle
+ * which loads all classes of the module through the {@link io.neonbee.internal.SelfFirstClassLoader} and to undeploy
+ * the module again. Run with {@code gradlew jmh -PjmhIncludes=DeployableModuleBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeployableModuleBenchmark {
+    private static final String MODULE_PACKAGE = "io.neonbee.benchmark.module";
+
+    private static final int CLASSES_PER_PACKAGE = 100;
+
+    @Param({ "100", "1000" })
+    private int classes;
+
+    private Path tempDir;
+
+    private Path moduleJar;
+
+    private NeonBee neonBee;
+
+    /**
+     * Compiles the classes of the module, packages them into a module JAR file and starts NeonBee.
+     *
+     * @throws Exception if the module cannot be created or NeonBee cannot be started
+     */
+    @Setup
+    public void setUp() throws Exception {
+        tempDir = Files.createTempDirectory("neonbee-benchmark");
+        Path sourceDir = Files.createDirectories(tempDir.resolve("sources"));
+        Path classesDir = Files.createDirectories(tempDir.resolve("classes"));
+
+        List<String> sourceFiles = new ArrayList<>();
+        for (int i = 0; i < classes; i++) {
+            String packageName = MODULE_PACKAGE + ".p" + (i / CLASSES_PER_PACKAGE);
+            sourceFiles.add(writeSource(sourceDir, packageName, "Class" + i, "package " + packageName + ";\n"
+                    + "public class Class" + i + " implements java.util.function.Supplier<String> {\n"
+                    + "    public String get() { return getClass().getName(); }\n" + "}\n"));
+        }
+        sourceFiles.add(writeSource(sourceDir, MODULE_PACKAGE, "ModuleVerticle", "package " + MODULE_PACKAGE + ";\n"
+                + "public class ModuleVerticle extends io.vertx.core.AbstractVerticle {\n"
+                + "    @Override public void start() throws Exception {\n"
+                + "        for (int i = 0; i < " + classes + "; i++) {\n"
+                + "            Class.forName(\"" + MODULE_PACKAGE + ".p\" + (i / " + CLASSES_PER_PACKAGE
+                + ") + \".Class\" + i, true, getClass().getClassLoader());\n" + "        }\n" + "    }\n" + "}\n"));
+
+        List<String> arguments = new ArrayList<>(List.of("-d", classesDir.toString(), "-cp",
+                System.getProperty("java.class.path"), "-nowarn"));
+        arguments.addAll(sourceFiles);
+        if (ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(String[]::new)) != 0) {
+            throw new IllegalStateException("Failed to compile the classes of the module");
+        }
+
+        moduleJar = tempDir.resolve("module.jar");
+        writeJar(classesDir, moduleJar);
+
+        NeonBeeOptions.Mutable options = new NeonBeeOptions.Mutable().setIgnoreClassPath(true)
+                .setDoNotWatchFiles(true).setDisableJobScheduling(true)
+                .setActiveProfiles(List.of(NeonBeeProfile.NO_WEB))
+                .setWorkingDirectory(Files.createDirectories(tempDir.resolve("working_dir")));
+        neonBee = NeonBee.create(options).toCompletionStage().toCompletableFuture().get();
+    }
+
+    /**
+     * Closes NeonBee and deletes the module.
+     *
+     * @throws Exception if NeonBee cannot be closed or the module cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        neonBee.getVertx().close().toCompletionStage().toCompletableFuture().get();
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted((first, second) -> second.compareTo(first)).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Loads, deploys and undeploys the module.
+     *
+     * @throws Exception if the module cannot be deployed
+     */
+    @Benchmark
+    public void deployModule() throws Exception {
+        DeployableModule.fromJar(neonBee.getVertx(), moduleJar).compose(module -> module.deploy(neonBee))
+                .compose(Deployment::undeploy).toCompletionStage().toCompletableFuture().get();
+    }
+
+    private static String writeSource(Path sourceDir, String packageName, String className, String source)
+            throws IOException {
+        Path sourceFile = sourceDir.resolve(packageName.replace('.', '/')).resolve(className + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source, UTF_8);
+        return sourceFile.toString();
+    }
+
+    private static void writeJar(Path classesDir, Path jarFile) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(new Attributes.Name(DeployableModule.NEONBEE_MODULE), "benchmark-module");
+        manifest.getMainAttributes().put(new Attributes.Name(DeployableVerticle.NEONBEE_DEPLOYABLES),
+                MODULE_PACKAGE + ".ModuleVerticle");
+
+        try (OutputStream outputStream = Files.newOutputStream(jarFile);
+                JarOutputStream jarOutputStream = new JarOutputStream(outputStream, manifest);
+                Stream<Path> classFiles = Files.walk(classesDir)) {
+            for (Path classFile : classFiles.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                String entryName = classesDir.relativize(classFile).toString().replace('\\', '/');
+                jarOutputStream.putNextEntry(new JarEntry(entryName));
+                Files.copy(classFile, jarOutputStream);
+                jarOutputStream.closeEntry();
+            }
+        }
+    }
+}
@@ -44,6 +44,7 @@ import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.config.ServerConfig;
 import io.neonbee.data.DataQuery;
 import io.neonbee.entity.EntityModelManager;
+import io.neonbee.entity.EntityVerticleRoutingTable;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.health.HazelcastClusterHealthCheck;
 import io.neonbee.health.HealthCheckProvider;
@@ -71,6 +72,7 @@ import io.neonbee.internal.tracking.MessageDirection;
 import io.neonbee.internal.tracking.TrackingDataHandlingStrategy;
 import io.neonbee.internal.tracking.TrackingDataLoggingStrategy;
 import io.neonbee.internal.tracking.TrackingInterceptor;
+import io.neonbee.internal.verticle.AutoscalerVerticle;
 import io.neonbee.internal.verticle.ConsolidationVerticle;
 import io.neonbee.internal.verticle.DeployerVerticle;
 import io.neonbee.internal.verticle.HealthCheckVerticle;
@@ -147,8 +149,6 @@ public class NeonBee {
 
     private static final String SHARED_MAP_NAME = "#sharedMap";
 
-    private static final int NUMBER_DEFAULT_INSTANCES = 4;
-
     private static final String NODE_ID = UUID.randomUUID().toString();
 
     @VisibleForTesting
@@ -170,10 +170,16 @@ public class NeonBee {
 
     private final EntityModelManager modelManager;
 
+    private final EntityVerticleRoutingTable entityVerticleRoutingTable;
+
+    private final EntityWrapperMessageCodec entityWrapperCodec;
+
     private final CompositeMeterRegistry compositeMeterRegistry;
 
     private final HazelcastClusterManager clusterManager;
 
+    private TrackingDataHandlingStrategy trackingDataHandlingStrategy;
+
     /**
      * Convenience method for returning the current NeonBee instance.
      * <p>
@@ -318,7 +324,8 @@ public class NeonBee {
                     TimeZone.setDefault(TimeZone.getTimeZone(config.getTimeZone()));
 
                     // further synchronous initializations which should happen before verticles are getting deployed
-                }).compose(nothing -> all(initializeSharedMaps(), decorateEventBus(), createMicrometerRegistries()))
+                }).compose(nothing -> all(initializeSharedMaps(), decorateEventBus(), createMicrometerRegistries(),
+                        entityVerticleRoutingTable.listenForChanges()))
                 .compose(nothing -> all(deployVerticles(), deployModules())) // deployment of verticles & modules
                 .compose(nothing -> registerHealthChecks())
                 .compose(nothing -> hookRegistry.executeHooks(HookType.AFTER_STARTUP))
@@ -402,12 +409,25 @@ public class NeonBee {
                 strategy = new TrackingDataLoggingStrategy();
             }
 
-            vertx.eventBus().addInboundInterceptor(new TrackingInterceptor(MessageDirection.INBOUND, strategy))
-                    .addOutboundInterceptor(new TrackingInterceptor(MessageDirection.OUTBOUND, strategy));
+            trackingDataHandlingStrategy = strategy;
+
+            // interceptors are only installed for the directions the strategy handles and if any request is sampled
+            double samplingRate = config.getTrackingSamplingRate();
+            if (samplingRate > 0) {
+                Set<MessageDirection> directions = strategy.getMessageDirections();
+                if (directions.contains(MessageDirection.INBOUND)) {
+                    vertx.eventBus().addInboundInterceptor(
+                            new TrackingInterceptor(MessageDirection.INBOUND, strategy, samplingRate));
+                }
+                if (directions.contains(MessageDirection.OUTBOUND)) {
+                    vertx.eventBus().addOutboundInterceptor(
+                            new TrackingInterceptor(MessageDirection.OUTBOUND, strategy, samplingRate));
+                }
+            }
 
             // add any default system codecs (bundled w/ NeonBee) here
             vertx.eventBus().registerDefaultCodec(DataQuery.class, new DataQueryMessageCodec())
-                    .registerDefaultCodec(EntityWrapper.class, new EntityWrapperMessageCodec(vertx))
+                    .registerDefaultCodec(EntityWrapper.class, entityWrapperCodec)
                     .registerDefaultCodec(ImmutableBuffer.class, new ImmutableBufferMessageCodec())
                     .registerDefaultCodec(ImmutableJsonArray.class, new ImmutableJsonArrayMessageCodec())
                     .registerDefaultCodec(ImmutableJsonObject.class, new ImmutableJsonObjectMessageCodec());
@@ -485,10 +505,14 @@ public class NeonBee {
     @SuppressWarnings("deprecation")
     private Future<Void> deploySystemVerticles() {
         List<Future<? extends Deployable>> requiredVerticles = new ArrayList<>();
-        requiredVerticles.add(fromClass(vertx, ConsolidationVerticle.class, new JsonObject().put("instances", 1)));
+        requiredVerticles.add(fromClass(vertx, ConsolidationVerticle.class,
+                new JsonObject().put("instances", options.getEventLoopPoolSize())));
         requiredVerticles.add(fromVerticle(vertx, new MetricsVerticle(1, TimeUnit.SECONDS)));
         requiredVerticles.add(fromVerticle(vertx, new HealthCheckVerticle()));
         requiredVerticles.add(fromClass(vertx, LoggerManagerVerticle.class));
+        if (config.getAutoscalerConfig().isEnabled()) {
+            requiredVerticles.add(fromVerticle(vertx, new AutoscalerVerticle(config.getAutoscalerConfig())));
+        }
 
         List<Future<Optional<? extends Deployable>>> optionalVerticles = new ArrayList<>();
         optionalVerticles.add(deployableWatchVerticle(options.getModelsDirectory(), ModelRefreshVerticle::new));
@@ -528,7 +552,8 @@ public class NeonBee {
      */
     private Future<Void> deployServerVerticle() {
         LOGGER.info("Deploying server verticle ...");
-        return fromClass(vertx, ServerVerticle.class, new JsonObject().put("instances", NUMBER_DEFAULT_INSTANCES))
+        return fromClass(vertx, ServerVerticle.class,
+                new JsonObject().put("instances", options.getEventLoopPoolSize()))
                 .compose(deployable -> deployable.deploy(this)).mapEmpty();
     }
 
@@ -586,6 +611,8 @@ public class NeonBee {
         this.clusterManager = clusterManager;
         this.healthRegistry = new HealthCheckRegistry(vertx);
         this.modelManager = new EntityModelManager(this);
+        this.entityVerticleRoutingTable = new EntityVerticleRoutingTable(this);
+        this.entityWrapperCodec = new EntityWrapperMessageCodec(vertx, config.getEntityWrapperWireFormat());
         this.compositeMeterRegistry = compositeMeterRegistry;
 
         // to be able to retrieve the NeonBee instance from any point you have a Vert.x instance add it to a global map
@@ -729,6 +756,24 @@ public class NeonBee {
         return modelManager;
     }
 
+    /**
+     * Get the {@link EntityVerticleRoutingTable}.
+     *
+     * @return the {@link EntityVerticleRoutingTable}
+     */
+    public EntityVerticleRoutingTable getEntityVerticleRoutingTable() {
+        return entityVerticleRoutingTable;
+    }
+
+    /**
+     * Get the {@link EntityWrapperMessageCodec} registered as default codec for {@link EntityWrapper}.
+     *
+     * @return the {@link EntityWrapperMessageCodec}
+     */
+    public EntityWrapperMessageCodec getEntityWrapperCodec() {
+        return entityWrapperCodec;
+    }
+
     /**
      * Get the {@link CompositeMeterRegistry}.
      *
@@ -756,6 +801,16 @@ public class NeonBee {
         return healthRegistry;
     }
 
+    /**
+     * Get the strategy tracking the messages on the event bus, e.g. to read the hops recorded by a
+     * {@link io.neonbee.internal.tracking.TrackingDataTimingStrategy}.
+     *
+     * @return the tracking data handling strategy or null, if the event bus was not decorated yet
+     */
+    public TrackingDataHandlingStrategy getTrackingDataHandlingStrategy() {
+        return trackingDataHandlingStrategy;
+    }
+
     /**
      * Hidden marker function interface, that indicates to the boot-stage that an own Vert.x instance was created, and
      * we must be held responsible to close it again.
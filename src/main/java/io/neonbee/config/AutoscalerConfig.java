@@ -0,0 +1,213 @@
+package io.neonbee.config;
+
+import java.util.List;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Configuration of the autoscaler, which deploys additional instances of hot data verticles at runtime and undeploys
+ * them again, as soon as the event loops the verticles run on are idle.
+ * <p>
+ * An event loop is considered busy, if a task submitted to it was not executed within the configured busy lag, or if
+ * the configured number of tasks is pending in its queue. A data verticle is considered hot, if all event loops its
+ * instances run on are busy.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class AutoscalerConfig {
+    private static final int DEFAULT_INTERVAL = 1000;
+
+    private static final int DEFAULT_MIN_INSTANCES = 1;
+
+    private static final int DEFAULT_BUSY_LAG = 50;
+
+    private static final int DEFAULT_QUEUE_DEPTH = 1000;
+
+    private boolean enabled;
+
+    private int interval = DEFAULT_INTERVAL;
+
+    private int minInstances = DEFAULT_MIN_INSTANCES;
+
+    private int maxInstances;
+
+    private int busyLag = DEFAULT_BUSY_LAG;
+
+    private int queueDepth = DEFAULT_QUEUE_DEPTH;
+
+    private List<String> verticles = List.of();
+
+    /**
+     * Constructs an instance of {@linkplain AutoscalerConfig}.
+     */
+    public AutoscalerConfig() {}
+
+    /**
+     * Creates a {@linkplain AutoscalerConfig} parsing a given JSON object.
+     *
+     * @param json the JSON object to parse
+     */
+    public AutoscalerConfig(JsonObject json) {
+        AutoscalerConfigConverter.fromJson(json, this);
+    }
+
+    /**
+     * Is the autoscaler enabled?
+     *
+     * @return true if the autoscaler is enabled, defaults to false
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the value to enable, disable the autoscaler.
+     *
+     * @param enabled true if the autoscaler should be enabled, false otherwise
+     * @return the {@linkplain AutoscalerConfig} for fluent use
+     */
+    @Fluent
+    public AutoscalerConfig setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Gets the interval in which the utilization of the event loops is checked.
+     *
+     * @return the interval in milliseconds
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Sets the interval in which the utilization of the event loops is checked.
+     *
+     * @param interval the interval in milliseconds
+     * @return the {@linkplain AutoscalerConfig} for fluent use
+     */
+    @Fluent
+    public AutoscalerConfig setInterval(int interval) {
+        this.interval = interval;
+        return this;
+    }
+
+    /**
+     * Gets the minimum number of instances of each scaled data verticle.
+     *
+     * @return the minimum number of instances
+     */
+    public int getMinInstances() {
+        return minInstances;
+    }
+
+    /**
+     * Sets the minimum number of instances of each scaled data verticle.
+     *
+     * @param minInstances the minimum number of instances
+     * @return the {@linkplain AutoscalerConfig} for fluent use
+     */
+    @Fluent
+    public AutoscalerConfig setMinInstances(int minInstances) {
+        this.minInstances = minInstances;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of instances of each scaled data verticle.
+     *
+     * @return the maximum number of instances, 0 to use the size of the event loop pool
+     */
+    public int getMaxInstances() {
+        return maxInstances;
+    }
+
+    /**
+     * Sets the maximum number of instances of each scaled data verticle.
+     *
+     * @param maxInstances the maximum number of instances, 0 to use the size of the event loop pool
+     * @return the {@linkplain AutoscalerConfig} for fluent use
+     */
+    @Fluent
+    public AutoscalerConfig setMaxInstances(int maxInstances) {
+        this.maxInstances = maxInstances;
+        return this;
+    }
+
+    /**
+     * Gets the time after which a task which was not executed by an event loop marks the event loop as busy.
+     *
+     * @return the busy lag in milliseconds
+     */
+    public int getBusyLag() {
+        return busyLag;
+    }
+
+    /**
+     * Sets the time after which a task which was not executed by an event loop marks the event loop as busy.
+     *
+     * @param busyLag the busy lag in milliseconds
+     * @return the {@linkplain AutoscalerConfig} for fluent use
+     */
+    @Fluent
+    public AutoscalerConfig setBusyLag(int busyLag) {
+        this.busyLag = busyLag;
+        return this;
+    }
+
+    /**
+     * Gets the number of pending tasks which marks an event loop as busy.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Sets the number of pending tasks which marks an event loop as busy.
+     *
+     * @param queueDepth the queue depth
+     * @return the {@linkplain AutoscalerConfig} for fluent use
+     */
+    @Fluent
+    public AutoscalerConfig setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+        return this;
+    }
+
+    /**
+     * Gets the class names of the data verticles to scale.
+     *
+     * @return the class names, an empty list to scale all data verticles
+     */
+    public List<String> getVerticles() {
+        return verticles;
+    }
+
+    /**
+     * Sets the class names of the data verticles to scale. Only data verticles with a public no-args constructor can be
+     * scaled.
+     *
+     * @param verticles the class names, an empty list to scale all data verticles
+     * @return the {@linkplain AutoscalerConfig} for fluent use
+     */
+    @Fluent
+    public AutoscalerConfig setVerticles(List<String> verticles) {
+        this.verticles = verticles;
+        return this;
+    }
+
+    /**
+     * Transforms this configuration object into JSON.
+     *
+     * @return a JSON representation of this configuration
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        AutoscalerConfigConverter.toJson(this, json);
+        return json;
+    }
+}
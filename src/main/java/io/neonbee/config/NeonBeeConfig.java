@@ -20,6 +20,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeOptions;
 import io.neonbee.config.metrics.MicrometerRegistryLoader;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.internal.codec.EntityWrapperMessageCodec.WireFormat;
 import io.neonbee.internal.tracking.TrackingDataLoggingStrategy;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.Fluent;
@@ -48,20 +50,29 @@ public class NeonBeeConfig {
      */
     public static final String DEFAULT_TRACKING_DATA_HANDLING_STRATEGY = TrackingDataLoggingStrategy.class.getName();
 
+    /**
+     * The default rate of requests to track. Defaults to all requests.
+     */
+    public static final double DEFAULT_TRACKING_SAMPLING_RATE = 1.0;
+
     /**
      * The default timezone to use e.g. for logging. Defaults to UTC.
      */
     public static final String DEFAULT_TIME_ZONE = "UTC";
 
     private static final ImmutableBiMap<String, String> REPHRASE_MAP =
-            ImmutableBiMap.of("healthConfig", "health", "metricsConfig", "metrics");
+            ImmutableBiMap.of("healthConfig", "health", "metricsConfig", "metrics", "autoscalerConfig", "autoscaler");
 
     private int eventBusTimeout = DEFAULT_EVENT_BUS_TIMEOUT;
 
     private Map<String, String> eventBusCodecs = Map.of();
 
+    private WireFormat entityWrapperWireFormat = WireFormat.JSON;
+
     private String trackingDataHandlingStrategy = DEFAULT_TRACKING_DATA_HANDLING_STRATEGY;
 
+    private double trackingSamplingRate = DEFAULT_TRACKING_SAMPLING_RATE;
+
     private List<String> platformClasses = List.of("io.vertx.*", "io.neonbee.*", "org.slf4j.*", "org.apache.olingo.*");
 
     private String timeZone = DEFAULT_TIME_ZONE;
@@ -72,6 +83,8 @@ public class NeonBeeConfig {
 
     private MetricsConfig metricsConfig = new MetricsConfig();
 
+    private AutoscalerConfig autoscalerConfig = new AutoscalerConfig();
+
     /**
      * Are the metrics enabled?
      *
@@ -157,6 +170,27 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Gets the autoscaler config.
+     *
+     * @return the {@link AutoscalerConfig}
+     */
+    public AutoscalerConfig getAutoscalerConfig() {
+        return autoscalerConfig;
+    }
+
+    /**
+     * Sets the autoscaler config.
+     *
+     * @param autoscalerConfig the autoscaler config to set
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setAutoscalerConfig(AutoscalerConfig autoscalerConfig) {
+        this.autoscalerConfig = autoscalerConfig;
+        return this;
+    }
+
     /**
      * Try to load all {@link MicrometerRegistryLoader}s which are configured in the {@link NeonBeeConfig}.
      *
@@ -289,6 +323,30 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Gets the wire format used to encode {@link EntityWrapper}s, when sent via the event bus to other cluster nodes.
+     * <p>
+     * Entity wrappers of any wire format can be decoded, independent of this setting. Thus the setting can differ
+     * between the nodes of a cluster.
+     *
+     * @return the wire format of entity wrappers, defaults to {@link WireFormat#JSON}
+     */
+    public WireFormat getEntityWrapperWireFormat() {
+        return entityWrapperWireFormat;
+    }
+
+    /**
+     * Sets the wire format used to encode {@link EntityWrapper}s.
+     *
+     * @param entityWrapperWireFormat the wire format to use
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setEntityWrapperWireFormat(WireFormat entityWrapperWireFormat) {
+        this.entityWrapperWireFormat = entityWrapperWireFormat;
+        return this;
+    }
+
     /**
      * Returns the implementation class name of the tracking data handling strategy.
      *
@@ -310,6 +368,28 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Returns the rate of requests to track. Whether a request is tracked is decided by its correlation id, thus either
+     * all or none of the messages of a request are tracked, on all nodes of a cluster.
+     *
+     * @return the sampling rate, between 0.0 (no request) and 1.0 (all requests)
+     */
+    public double getTrackingSamplingRate() {
+        return trackingSamplingRate;
+    }
+
+    /**
+     * Sets the rate of requests to track.
+     *
+     * @param trackingSamplingRate the sampling rate, between 0.0 (no request) and 1.0 (all requests)
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setTrackingSamplingRate(double trackingSamplingRate) {
+        this.trackingSamplingRate = trackingSamplingRate;
+        return this;
+    }
+
     /**
      * Platform classes are classes to be considered "provided" by the system class loader. NeonBee modules will attempt
      * to find platform classes in the system class loader first, before loading them (self-first) from their own (so
@@ -0,0 +1,53 @@
+package io.neonbee.data;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables caching the results of reading data requests to a {@link DataVerticle}.
+ * <p>
+ * The results are cached by the {@link DataQuery} of the request and, unless turned off, the user principal of the
+ * {@link DataContext}. Identical requests received while the first request is still being processed, will share the
+ * result of the first request. Failed requests are never cached. The settings of the annotation can be overridden in
+ * the {@value DataVerticle#CONFIG_CACHE_KEY} object of the verticle configuration:
+ *
+ * <pre>
+ * cache:
+ *   enabled: true # caching can also be enabled / disabled w/o the annotation
+ *   maximumSize: 1000 # the maximum number of results to cache
+ *   expireAfterWrite: 60 # seconds after which a cached result expires
+ *   partitionByUser: true # cache the results per user principal
+ * </pre>
+ *
+ * Every identical request is handed its own copy of the cached result, so consumers of the data verticle are free to
+ * modify the results. Results which cannot be copied, i.e. results other than immutable values, JSON, buffers and
+ * entity wrappers, for which the data verticle does not provide a {@link DataVerticle#getMessageCodec() message
+ * codec}, are not cached.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DataCache {
+    /**
+     * The maximum number of results to cache, the least recently used results are evicted first.
+     *
+     * @return the maximum number of results to cache
+     */
+    long maximumSize() default 1000;
+
+    /**
+     * The number of seconds after which a cached result expires.
+     *
+     * @return the number of seconds after which a cached result expires
+     */
+    long expireAfterWrite() default 60;
+
+    /**
+     * Whether the results are cached per user principal. Only turn this off, in case the results of the data verticle
+     * do not depend on the user requesting them.
+     *
+     * @return true if the results are cached per user principal
+     */
+    boolean partitionByUser() default true;
+}
@@ -13,11 +13,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -32,6 +29,10 @@ import io.vertx.core.buffer.Buffer;
 
 /**
  * Note that DataQuery is always mutable, as a copy of it will be created when sent via the event bus.
+ * <p>
+ * Copies share the parameters, headers and body with the query they were copied from, until either of them changes
+ * them (copy-on-write). As {@link #getParameters()}, {@link #getHeaders()} and {@link #getBody()} return the mutable
+ * objects, these objects are never shared again, once they have been returned.
  */
 public final class DataQuery { // NOPMD not a "god class"
     private static final Pattern QUERY_SPLIT_PATTERN = Pattern.compile("&");
@@ -62,6 +63,25 @@ public final class DataQuery { // NOPMD not a "god class"
     @JsonProperty
     Buffer body;
 
+    private boolean sharedParameters;
+
+    private boolean exposedParameters;
+
+    private boolean sharedHeaders;
+
+    private boolean exposedHeaders;
+
+    private boolean sharedBody;
+
+    private boolean exposedBody;
+
+    /**
+     * The query string built from the parameters, as long as the parameters are the same and did not change.
+     */
+    private String memoizedQuery;
+
+    private Map<String, List<String>> memoizedQueryParameters;
+
     /**
      * New DataQuery.
      */
@@ -191,6 +211,37 @@ public final class DataQuery { // NOPMD not a "god class"
         this.body = CollectionHelper.copyOf(body);
     }
 
+    private DataQuery(DataQuery query) {
+        this.action = query.action;
+        this.uriPath = query.uriPath;
+
+        if (query.exposedParameters) {
+            this.parameters = CollectionHelper.mutableCopyOf(query.parameters);
+        } else {
+            this.parameters = query.parameters;
+            this.sharedParameters = true;
+            query.sharedParameters = true;
+            this.memoizedQuery = query.memoizedQuery;
+            this.memoizedQueryParameters = query.memoizedQueryParameters;
+        }
+
+        if (query.exposedHeaders) {
+            this.headers = CollectionHelper.mutableCopyOf(query.headers);
+        } else {
+            this.headers = query.headers;
+            this.sharedHeaders = true;
+            query.sharedHeaders = true;
+        }
+
+        if (query.exposedBody) {
+            this.body = CollectionHelper.copyOf(query.body);
+        } else {
+            this.body = query.body;
+            this.sharedBody = true;
+            query.sharedBody = true;
+        }
+    }
+
     /**
      * Returns the {@link DataAction} of this data query.
      *
@@ -241,10 +292,26 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the query
      */
     public String getQuery() {
-        Function<String, Stream<String>> paramBuilder =
-                name -> getParameterValues(name).stream().map(value -> String.format("%s=%s", name, value));
+        if (memoizedQuery != null && memoizedQueryParameters == parameters) {
+            return memoizedQuery;
+        }
 
-        return parameters.keySet().stream().flatMap(paramBuilder).collect(joining("&"));
+        StringBuilder queryBuilder = new StringBuilder();
+        for (Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+            for (String value : parameter.getValue()) {
+                if (queryBuilder.length() > 0) {
+                    queryBuilder.append('&');
+                }
+                queryBuilder.append(parameter.getKey()).append('=').append(value);
+            }
+        }
+
+        String query = queryBuilder.toString();
+        if (!exposedParameters) {
+            memoizedQuery = query;
+            memoizedQueryParameters = parameters;
+        }
+        return query;
     }
 
     /**
@@ -255,6 +322,9 @@ public final class DataQuery { // NOPMD not a "god class"
      */
     public DataQuery setQuery(String query) {
         this.parameters = parseQueryString(query);
+        this.sharedParameters = false;
+        this.exposedParameters = false;
+        this.memoizedQuery = null;
         return this;
     }
 
@@ -264,6 +334,8 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the parameters as Map
      */
     public Map<String, List<String>> getParameters() {
+        Map<String, List<String>> parameters = ownParameters();
+        exposedParameters = true;
         return parameters;
     }
 
@@ -271,10 +343,12 @@ public final class DataQuery { // NOPMD not a "god class"
      * Returns a list containing all parameter values for a given parameter.
      *
      * @param name The name of the parameter
-     * @return All values for a given parameter
+     * @return An unmodifiable list of all values for a given parameter, or null if no parameter was found
      */
     public List<String> getParameterValues(String name) {
-        return getParameters().get(name);
+        // read the field directly, to neither expose nor copy the (potentially shared) parameters
+        List<String> values = parameters.get(name);
+        return values != null ? Collections.unmodifiableList(values) : null;
     }
 
     /**
@@ -295,8 +369,8 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return The value for a given query parameter or {@code defaultValue} if parameter is not present
      */
     public String getParameter(String name, String defaultValue) {
-        return Optional.ofNullable(getParameterValues(name)).map(List::stream).flatMap(Stream::findFirst)
-                .orElse(defaultValue);
+        List<String> values = parameters.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : defaultValue;
     }
 
     /**
@@ -308,7 +382,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery addParameter(String name, String... values) {
-        getParameters().computeIfAbsent(name, s -> new ArrayList<>()).addAll(Arrays.asList(values));
+        ownParameters().computeIfAbsent(name, s -> new ArrayList<>()).addAll(Arrays.asList(values));
         return this;
     }
 
@@ -332,10 +406,19 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery removeParameter(String name) {
-        getParameters().remove(name);
+        ownParameters().remove(name);
         return this;
     }
 
+    private Map<String, List<String>> ownParameters() {
+        if (sharedParameters) {
+            parameters = CollectionHelper.mutableCopyOf(parameters);
+            sharedParameters = false;
+        }
+        memoizedQuery = null;
+        return parameters;
+    }
+
     @VisibleForTesting
     static Map<String, List<String>> parseQueryString(String query) {
         if (Strings.isNullOrEmpty(query)) {
@@ -354,6 +437,8 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the headers
      */
     public Map<String, List<String>> getHeaders() {
+        Map<String, List<String>> headers = ownHeaders();
+        exposedHeaders = true;
         return headers;
     }
 
@@ -361,10 +446,12 @@ public final class DataQuery { // NOPMD not a "god class"
      * A list of headers with a given name.
      *
      * @param name The name of the header
-     * @return A list of values for this header
+     * @return An unmodifiable list of values for this header, or null if no header was found
      */
     public List<String> getHeaderValues(String name) {
-        return headers.get(name);
+        // read the field directly, to neither expose nor copy the (potentially shared) headers
+        List<String> values = headers.get(name);
+        return values != null ? Collections.unmodifiableList(values) : null;
     }
 
     /**
@@ -374,8 +461,8 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return The header or null
      */
     public String getHeader(String name) {
-        return Optional.ofNullable(getHeaderValues(name)).map(List::stream).orElseGet(Stream::empty).findFirst()
-                .orElse(null);
+        List<String> values = headers.get(name);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
     }
 
     /**
@@ -386,6 +473,8 @@ public final class DataQuery { // NOPMD not a "god class"
      */
     public DataQuery setHeaders(Map<String, List<String>> headers) {
         this.headers = CollectionHelper.mutableCopyOf(headers);
+        this.sharedHeaders = false;
+        this.exposedHeaders = false;
         return this;
     }
 
@@ -397,7 +486,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery addHeader(String name, String value) {
-        this.headers.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        ownHeaders().computeIfAbsent(name, key -> new ArrayList<>()).add(value);
         return this;
     }
 
@@ -409,7 +498,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery setHeader(String name, String value) {
-        this.headers.put(name, new ArrayList<>(Collections.singleton(value)));
+        ownHeaders().put(name, new ArrayList<>(Collections.singleton(value)));
         return this;
     }
 
@@ -420,16 +509,29 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery removeHeader(String name) {
-        this.headers.remove(name);
+        ownHeaders().remove(name);
         return this;
     }
 
+    private Map<String, List<String>> ownHeaders() {
+        if (sharedHeaders) {
+            headers = CollectionHelper.mutableCopyOf(headers);
+            sharedHeaders = false;
+        }
+        return headers;
+    }
+
     /**
      * Returns the body of the query.
      *
      * @return the body
      */
     public Buffer getBody() {
+        if (sharedBody) {
+            body = CollectionHelper.copyOf(body);
+            sharedBody = false;
+        }
+        exposedBody = true;
         return body;
     }
 
@@ -441,16 +543,23 @@ public final class DataQuery { // NOPMD not a "god class"
      */
     public DataQuery setBody(Buffer body) {
         this.body = CollectionHelper.copyOf(body);
+        this.sharedBody = false;
+        this.exposedBody = false;
         return this;
     }
 
     /**
-     * Copy a DataQuery (decided to not go for a copy constructor as brace handling can easily be messed up).
+     * Copy a DataQuery (decided to not go for a public copy constructor as brace handling can easily be messed up).
+     * The copy shares the parameters, headers and body with this query, until either query changes them.
+     * <p>
+     * Note that copying is not free of side effects on this query: the parameters, headers and body of this query are
+     * marked as shared, so the next change to them copies them first. Like any other change to a query, copying a
+     * query must thus not happen concurrently with changing the query on another thread.
      *
      * @return a copy of this DataQuery
      */
     public DataQuery copy() {
-        return new DataQuery(action, uriPath, getQuery(), headers, body);
+        return new DataQuery(this);
     }
 
     @Override
@@ -30,28 +30,19 @@ public class DataRequest {
         RECURSIVE,
 
         /**
-         * An optimized / parallel / tail first resolution strategy for the data
+         * An optimized / deduplicating resolution strategy for the data
          * <p>
-         * This strategy will first recursively send a message via the event bus to collect all the
-         * {@link DataVerticle#requireData(DataQuery,DataContext)} for all the verticle involved (could also be done
-         * locally to be even faster). The list of data requests is then optimized, e.g. by removing duplicates and
-         * reducing the data requests if possible (e.g. by joining filters). Afterwards the data will be (in parallel)
-         * requested from all the verticle the data request was targeted to. As soon as the first requests are finished,
-         * it will be checked if the data is enough for any further requests to resolve, by sending further requests to
-         * the {@link DataVerticle#requireData(DataQuery,DataContext)} methods via the event bus. This is done via a
-         * handler cascade, build up, when determining the required data. If one request resolves, the next verticle
-         * will be called immediately.
+         * This strategy resolves the required data like the {@link #RECURSIVE} strategy, however all data verticle
+         * involved in resolving the request share one resolution scope (per node). The resolution scope is propagated
+         * to all data requests in the dependency tree, which do not explicitly define an own resolution strategy. Any
+         * reading data request (same target and same {@link DataQuery}) is executed only once in the whole scope, the
+         * result of the request is then handed to every verticle requiring the same data.
          * <p>
-         * Advantages: Optimizations on the data requests are possible. Initially every data request is send in
-         * parallel.
+         * Advantages: Identical requests in different branches of the dependency tree are only sent once, which
+         * especially reduces the traffic for verticle fanning out to many other verticle requiring the same data.
          * <p>
-         * Disadvantages: More traffic via the event bus, to first determine the required data and then the required
-         * data is sent back and forth in order for the verticle to get the data they needed in the first place. Also
-         * the outgoing network traffic could be focused on specific nodes.
-         * <p>
-         * Notes: Further optimizations possible, e.g. data requests which are only required by one certain verticle (so
-         * it could not be optimized in the optimization step), could be directly done by the respective data verticle.
-         * This would reduce the amount of data exchanged via the event bus.
+         * Disadvantages: The results of deduplicated requests are shared between all verticle requiring the data, thus
+         * results must be treated as read-only. Identical requests are only deduplicated on the same node.
          */
         OPTIMIZED
     }
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,8 +39,12 @@ import io.neonbee.NeonBeeDeployable;
 import io.neonbee.config.MetricsConfig;
 import io.neonbee.data.DataRequest.ResolutionStrategy;
 import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.data.internal.DataResultCache;
+import io.neonbee.data.internal.ResolutionScope;
+import io.neonbee.data.internal.ResultCopier;
 import io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics;
 import io.neonbee.data.internal.metrics.DataVerticleMetrics;
+import io.neonbee.data.internal.metrics.QueryTagNormalizer;
 import io.neonbee.internal.helper.FunctionalHelper;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.AbstractVerticle;
@@ -67,8 +72,15 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      */
     public static final String CONFIG_METRICS_KEY = "metrics";
 
+    /**
+     * Result cache configuration name, see {@link DataCache}.
+     */
+    public static final String CONFIG_CACHE_KEY = "cache";
+
     static final String RESOLUTION_STRATEGY_HEADER = "resolutionStrategy";
 
+    static final String RESOLUTION_SCOPE_HEADER = "resolutionScope";
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     private static final String SUCCEEDED_RESPONSE_COUNT = "succeeded response count";
@@ -80,6 +92,20 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
 
     private DataVerticleMetrics dataVerticleMetrics;
 
+    private QueryTagNormalizer queryTagNormalizer;
+
+    private DataResultCache resultCache;
+
+    /**
+     * The names of the metrics reported for requests to other verticles, by their qualified name. Building the names
+     * once, avoids concatenating them for every request.
+     */
+    private final Map<String, MetricNames> requestMetricNames = new ConcurrentHashMap<>();
+
+    private MetricNames retrieveMetricNames;
+
+    private List<Tag> retrieveDataTags;
+
     /**
      * The name of this data verticle (must be unique in one cluster)
      * <p>
@@ -132,6 +158,10 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         super.init(vertx, context);
         JsonObject metrics = getMetricsConfig(NeonBee.get().getConfig().getMetricsConfig());
         this.dataVerticleMetrics = ConfiguredDataVerticleMetrics.configureMetricsReporting(metrics);
+        this.queryTagNormalizer = QueryTagNormalizer.configure(metrics);
+        this.resultCache = DataResultCache.configure(config() == null ? null : config().getJsonObject(CONFIG_CACHE_KEY),
+                getClass().getAnnotation(DataCache.class),
+                () -> new ResultCopier(getMessageCodec(), NeonBee.get(vertx).getEntityWrapperCodec()));
 
         // if present, register the custom codec. IMPORTANT: do NOT register the codec in the start method, as the
         // codec will need to be available on all instances, even if no instance of the verticle is started later on
@@ -184,8 +214,10 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             MultiMap headers = message.headers();
             try {
                 routine = message.body().getAction() == READ
-                        ? resolutionRoutineForStrategy(Optional.ofNullable(headers.get(RESOLUTION_STRATEGY_HEADER))
-                                .map(ResolutionStrategy::valueOf).orElse(RECURSIVE))
+                        ? resolutionRoutineForStrategy(
+                                Optional.ofNullable(headers.get(RESOLUTION_STRATEGY_HEADER))
+                                        .map(ResolutionStrategy::valueOf).orElse(RECURSIVE),
+                                headers.get(RESOLUTION_SCOPE_HEADER))
                         : new ManipulationRoutine();
             } catch (IllegalArgumentException e) {
                 message.fail(FAILURE_CODE_UNKNOWN_STRATEGY, "Unknown data resolution strategy");
@@ -290,6 +322,17 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         return retrieveData(query, context);
     }
 
+    /**
+     * Invalidates all results cached for this instance of the data verticle, in case caching is enabled via the
+     * {@link DataCache} annotation or the {@value #CONFIG_CACHE_KEY} configuration. Call this method whenever the data
+     * returned by {@link #retrieveData(DataQuery, DataMap, DataContext)} changed.
+     */
+    protected void invalidateCachedData() {
+        if (resultCache != null) {
+            resultCache.invalidate();
+        }
+    }
+
     /**
      * Convenience method for calling the {@link #requestData(Vertx, DataRequest, DataContext)} method.
      *
@@ -319,6 +362,22 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * @return a future to the data requested
      */
     public static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context) {
+        return requestData(vertx, request, context, null);
+    }
+
+    /**
+     * Requesting data from other DataSources or Data/EntityVerticles in a given resolution scope.
+     *
+     * @param vertx   The Vertx instance
+     * @param request The DataRequest specifying the data to request
+     * @param context The {@link DataContext data context} which keeps track of all the request-level data during a
+     *                request
+     * @param scope   The resolution scope to propagate to the verticle requested or null
+     * @param <U>     The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context,
+            ResolutionScope scope) {
         DataSource<?> dataSource = request.getDataSource();
 
         if (dataSource != null) {
@@ -338,7 +397,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             LOGGER.correlateWith(context).debug("Sending message via the event bus to {}", qualifiedName);
             String address = getAddress(qualifiedName);
             return vertx.eventBus()
-                    .<U>request(address, request.getQuery(), requestDeliveryOptions(vertx, request, context, address))
+                    .<U>request(address, request.getQuery(),
+                            requestDeliveryOptions(vertx, request, context, address, scope))
                     .transform(asyncReply -> {
                         LOGGER.correlateWith(context).debug("Received event bus reply");
 
@@ -368,21 +428,18 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
     }
 
     private <U> void reportRequestDataMetrics(DataRequest request, Future<U> future) {
-        List<Tag> tags;
-        if (request.getQuery() == null || request.getQuery().getQuery() == null) {
-            tags = List.of();
-        } else {
-            tags = List.of(new ImmutableTag("query", request.getQuery().getQuery()));
-        }
+        List<Tag> tags = queryTagNormalizer.tags(request.getQuery() != null ? request.getQuery().getQuery() : null);
         String qualifiedName = request.getQualifiedName();
+        MetricNames metricNames = requestMetricNames.get(qualifiedName);
+        if (metricNames == null) {
+            metricNames = requestMetricNames.computeIfAbsent(qualifiedName, name -> new MetricNames("request", name));
+        }
 
-        dataVerticleMetrics.reportTimingMetric("request.data.timer." + qualifiedName, "time to retrieve the data", tags,
-                future);
-        dataVerticleMetrics.reportStatusCounter("request.data.counter." + qualifiedName, SUCCEEDED_RESPONSE_COUNT, tags,
-                future);
-        dataVerticleMetrics.reportActiveRequestsGauge("request.data.active.requests." + qualifiedName,
+        dataVerticleMetrics.reportTimingMetric(metricNames.timer, "time to retrieve the data", tags, future);
+        dataVerticleMetrics.reportStatusCounter(metricNames.counter, SUCCEEDED_RESPONSE_COUNT, tags, future);
+        dataVerticleMetrics.reportActiveRequestsGauge(metricNames.activeRequests,
                 "Number of requests waiting for a response", List.of(), future);
-        dataVerticleMetrics.reportNumberOfRequests("request.counter." + qualifiedName, "Number of requests sent", tags);
+        dataVerticleMetrics.reportNumberOfRequests(metricNames.requests, "Number of requests sent", tags);
     }
 
     /**
@@ -435,10 +492,11 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * @param request the data request
      * @param context the data context
      * @param address request address
+     * @param scope   the resolution scope to propagate or null
      * @return a new DeliveryOptions
      */
     private static DeliveryOptions requestDeliveryOptions(Vertx vertx, DataRequest request, DataContext context,
-            String address) {
+            String address, ResolutionScope scope) {
         if (context instanceof DataContextImpl) { // will also perform a null check!
             // before encoding the context header, add the current qualified name of the verticle to the path stack
             ((DataContextImpl) context).pushVerticleToPath(request.getQualifiedName());
@@ -457,8 +515,15 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             deliveryOptions.setSendTimeout(request.getSendTimeout());
         }
 
-        Optional.ofNullable(request.getResolutionStrategy()).map(ResolutionStrategy::name)
-                .ifPresent(value -> deliveryOptions.addHeader(RESOLUTION_STRATEGY_HEADER, value));
+        if (scope != null && request.getResolutionStrategy() == null) {
+            // requests in a resolution scope are propagated using the optimized strategy, to deduplicate requests in
+            // the whole dependency tree, except the request explicitly defines an own resolution strategy
+            deliveryOptions.addHeader(RESOLUTION_STRATEGY_HEADER, ResolutionStrategy.OPTIMIZED.name());
+            deliveryOptions.addHeader(RESOLUTION_SCOPE_HEADER, scope.getId());
+        } else {
+            Optional.ofNullable(request.getResolutionStrategy()).map(ResolutionStrategy::name)
+                    .ifPresent(value -> deliveryOptions.addHeader(RESOLUTION_STRATEGY_HEADER, value));
+        }
 
         return deliveryOptions;
     }
@@ -516,12 +581,13 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * Get an instance of a resolution routine for a certain strategy.
      *
      * @param strategy the strategy to obtain the resolution routine for
+     * @param scopeId  the id of the resolution scope the request was sent in or null
      * @return the resolution routine
      */
-    private ResolutionRoutine resolutionRoutineForStrategy(ResolutionStrategy strategy) {
+    private ResolutionRoutine resolutionRoutineForStrategy(ResolutionStrategy strategy, String scopeId) {
         // case RECURSIVE:
         if (strategy == ResolutionStrategy.OPTIMIZED) {
-            return new OptimizedResolutionRoutine();
+            return new OptimizedResolutionRoutine(scopeId);
         }
         return new RecursiveResolutionRoutine();
     }
@@ -544,6 +610,11 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
     private class RecursiveResolutionRoutine implements ResolutionRoutine {
         @Override
         public Future<T> execute(DataQuery query, DataContext context) {
+            return resultCache != null ? resultCache.get(query, context, () -> resolve(query, context))
+                    : resolve(query, context);
+        }
+
+        private Future<T> resolve(DataQuery query, DataContext context) {
             // initialize the results map as a LinkedHashMap, this will safeguard that iterating it will return the same
             // order, as the collection returned via requireData. This also favours the previous implementation of
             // requireData(), where any index of the requireData array corresponded with the indexes of the data array
@@ -552,11 +623,9 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
                 // ignore the result of the require data composite future (otherwiseEmpty), the retrieve data method
                 // should decide if it needs to handle success or failure of any of the individual asynchronous results
                 return CompositeFuture.join(Optional.ofNullable(requests).map(Collection::stream).orElse(Stream.empty())
-                        .map(request -> requestResults.computeIfAbsent(request, mapRequest -> {
-                            Future<Object> future = requestData(vertx, request, context.copy());
-                            reportRequestDataMetrics(request, future);
-                            return future;
-                        })).map(Future.class::cast).collect(Collectors.toList())).otherwiseEmpty();
+                        .map(request -> requestResults.computeIfAbsent(request,
+                                mapRequest -> requestRequiredData(request, context.copy())))
+                        .map(Future.class::cast).collect(Collectors.toList())).otherwiseEmpty();
             }).compose(requiredCompositeOrNothing -> {
                 List<Tag> tags = retrieveDataTags();
                 try {
@@ -564,45 +633,116 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
                     reportRetrieveDataMetrics(tags, future);
                     return future;
                 } catch (Exception e) {
-                    dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + getAddress(),
-                            SUCCEEDED_RESPONSE_COUNT, tags, failedFuture(e));
+                    dataVerticleMetrics.reportStatusCounter(retrieveMetricNames().counter, SUCCEEDED_RESPONSE_COUNT,
+                            tags, failedFuture(e));
                     // handle any (runtime) exception here and fail the result future
                     return failedFuture(e);
                 }
             });
         }
+
+        /**
+         * Requests the data of one of the data requests returned by {@link #requireData(DataQuery, DataContext)}.
+         *
+         * @param request the data request
+         * @param context a copy of the data context
+         * @return a future to the data requested
+         */
+        protected Future<Object> requestRequiredData(DataRequest request, DataContext context) {
+            Future<Object> future = requestData(vertx, request, context);
+            reportRequestDataMetrics(request, future);
+            return future;
+        }
     }
 
     /**
      * @return tags for the retrieve data metrics.
      */
     private List<Tag> retrieveDataTags() {
-        List<Tag> tags = new ArrayList<>(2);
-        String name = getName();
-        if (name != null) {
-            tags.add(new ImmutableTag("name", name));
+        if (retrieveDataTags == null) {
+            List<Tag> tags = new ArrayList<>(2);
+            String name = getName();
+            if (name != null) {
+                tags.add(new ImmutableTag("name", name));
+            }
+            String namespace = getNamespace();
+            if (namespace != null) {
+                tags.add(new ImmutableTag("namespace", namespace));
+            }
+            retrieveDataTags = List.copyOf(tags);
         }
-        String namespace = getNamespace();
-        if (namespace != null) {
-            tags.add(new ImmutableTag("namespace", namespace));
+        return retrieveDataTags;
+    }
+
+    /**
+     * @return names of the retrieve data metrics.
+     */
+    private MetricNames retrieveMetricNames() {
+        if (retrieveMetricNames == null) {
+            retrieveMetricNames = new MetricNames("retrieve", getAddress());
         }
-        return tags;
+        return retrieveMetricNames;
     }
 
     private void reportRetrieveDataMetrics(List<Tag> tags, Future<T> future) {
-        String address = getAddress();
-        dataVerticleMetrics.reportTimingMetric("retrieve.data.timer." + address, "Time to retrieve data", tags, future);
-        dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + address, SUCCEEDED_RESPONSE_COUNT, tags,
-                future);
-        dataVerticleMetrics.reportActiveRequestsGauge("retrieve.data.active.requests." + address,
+        MetricNames metricNames = retrieveMetricNames();
+        dataVerticleMetrics.reportTimingMetric(metricNames.timer, "Time to retrieve data", tags, future);
+        dataVerticleMetrics.reportStatusCounter(metricNames.counter, SUCCEEDED_RESPONSE_COUNT, tags, future);
+        dataVerticleMetrics.reportActiveRequestsGauge(metricNames.activeRequests,
                 "Number of requests waiting for a response", tags, future);
-        dataVerticleMetrics.reportNumberOfRequests("retrieve.counter." + address, "Number of requests sent", tags);
+        dataVerticleMetrics.reportNumberOfRequests(metricNames.requests, "Number of requests sent", tags);
     }
 
-    private class OptimizedResolutionRoutine implements ResolutionRoutine {
+    /**
+     * The names of the metrics reported for either the requests to other verticles or for retrieving the data.
+     */
+    private static final class MetricNames {
+        final String timer;
+
+        final String counter;
+
+        final String activeRequests;
+
+        final String requests;
+
+        MetricNames(String type, String name) {
+            timer = type + ".data.timer." + name;
+            counter = type + ".data.counter." + name;
+            activeRequests = type + ".data.active.requests." + name;
+            requests = type + ".counter." + name;
+        }
+    }
+
+    private class OptimizedResolutionRoutine extends RecursiveResolutionRoutine {
+        private final String scopeId;
+
+        private ResolutionScope scope;
+
+        OptimizedResolutionRoutine(String scopeId) {
+            super();
+            this.scopeId = scopeId;
+        }
+
         @Override
         public Future<T> execute(DataQuery query, DataContext context) {
-            return failedFuture(new UnsupportedOperationException("Optimized resolution strategy not available."));
+            // the scope is shared by all verticles in the dependency tree of the request on this node, it safeguards
+            // that identical requests in the tree are only executed once and the result is handed to every consumer
+            scope = ResolutionScope.acquire(scopeId);
+            try {
+                return super.execute(query, context).onComplete(asyncResult -> scope.release());
+            } catch (RuntimeException e) {
+                scope.release();
+                throw e;
+            }
+        }
+
+        @Override
+        protected Future<Object> requestRequiredData(DataRequest request, DataContext context) {
+            return scope.request(vertx, request, context, () -> {
+                Future<Object> future = requestData(vertx, request, context, scope);
+                reportRequestDataMetrics(request, future);
+                return future;
+            });
         }
     }
 
@@ -5,11 +5,14 @@ import static io.neonbee.internal.handler.CorrelationIdHandler.CORRELATION_ID;
 import static io.neonbee.internal.helper.CollectionHelper.mutableCopyOf;
 import static io.neonbee.internal.helper.HostHelper.getHostIp;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -19,7 +22,12 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Streams;
 
 import io.neonbee.data.DataContext;
@@ -27,8 +35,11 @@ import io.neonbee.data.DataException;
 import io.neonbee.internal.handler.CorrelationIdHandler;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.DatabindCodec;
 import io.vertx.ext.auth.User;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.Session;
@@ -50,20 +61,49 @@ public class DataContextImpl implements DataContext {
 
     private static final String SESSION_ID_KEY = "sessionId";
 
+    private static final String QUALIFIED_NAME_KEY = "qualifiedName";
+
+    private static final String REQUEST_TIMESTAMP_KEY = "requestTimestamp";
+
+    private static final String RESPONSE_TIMESTAMP_KEY = "responseTimestamp";
+
+    private static final String DEPLOYMENT_ID_KEY = "deploymentId";
+
+    private static final String IP_ADDRESS_KEY = "ipAddress";
+
     private static final Pattern BEARER_AUTHENTICATION_PATTERN = Pattern.compile("Bearer\\s(.+)");
 
+    /**
+     * The context header of a message is decoded by the outbound and inbound tracking interceptors and the receiving
+     * verticle. All of them read the very same header string (in case the message is delivered locally), thus the
+     * decoded JSON is kept by the identity of the header string, for as long as the string is referenced.
+     */
+    private static final Cache<String, JsonObject> DECODED_CONTEXTS =
+            CacheBuilder.newBuilder().weakKeys().maximumSize(1000).build();
+
     private final String correlationId;
 
     private final String bearerToken;
 
-    private final JsonObject userPrincipal;
-
     private final String sessionId;
 
+    private JsonObject userPrincipal;
+
     private Map<String, Object> data;
 
     private Deque<DataVerticleCoordinate> pathStack;
 
+    /*
+     * The user principal, data and path of a decoded context are materialized, as soon as they are accessed. Until then
+     * the decoded JSON is referenced, which is shared by all contexts decoded from the same header and must therefore
+     * never be modified.
+     */
+    private JsonObject decodedUserPrincipal;
+
+    private JsonObject decodedData;
+
+    private JsonArray decodedPath;
+
     public DataContextImpl() {
         // initialize an empty context (w/ will also create an empty path stack)
         this(null, null, null, null, null, null);
@@ -110,13 +150,25 @@ public class DataContextImpl implements DataContext {
         this.correlationId = correlationId;
         this.sessionId = sessionId;
         this.bearerToken = bearerToken;
-        // actually create a read only user principal object, so that no one can tamper with the data
-        this.userPrincipal = Optional.ofNullable(userPrincipal).map(JsonObject::getMap)
-                .map(Collections::unmodifiableMap).map(JsonObject::new).orElse(null);
+        this.userPrincipal = readOnly(userPrincipal);
         this.setData(data); // create a mutable copy of the map
         this.setPath(paths); // create a mutable copy of the dequeue
     }
 
+    /**
+     * Creates a context from the decoded JSON of a context header.
+     *
+     * @param contextJson the decoded JSON, which is never modified
+     */
+    private DataContextImpl(JsonObject contextJson) {
+        this.correlationId = contextJson.getString(CORRELATION_ID);
+        this.sessionId = contextJson.getString(SESSION_ID_KEY);
+        this.bearerToken = contextJson.getString(BEARER_TOKEN_KEY);
+        this.decodedUserPrincipal = contextJson.getJsonObject(USER_PRINCIPAL_KEY);
+        this.decodedData = contextJson.getJsonObject(DATA_KEY);
+        this.decodedPath = Optional.ofNullable(contextJson.getJsonArray(PATH_KEY)).orElseGet(JsonArray::new);
+    }
+
     /**
      * Copy constructor, use {@code context.copy()}.
      *
@@ -128,9 +180,60 @@ public class DataContextImpl implements DataContext {
         this.correlationId = original.correlationId();
         this.sessionId = original.sessionId();
         this.bearerToken = original.bearerToken();
-        this.userPrincipal = original.userPrincipal();
-        this.setData(original.data());
-        this.setPath(original.path());
+        if (original instanceof DataContextImpl) {
+            // no need to materialize what was not accessed in the original context yet, the decoded JSON is shared
+            DataContextImpl originalImpl = (DataContextImpl) original;
+            this.userPrincipal = originalImpl.userPrincipal;
+            this.decodedUserPrincipal = originalImpl.decodedUserPrincipal;
+            this.setData(originalImpl.data);
+            this.decodedData = originalImpl.decodedData;
+            if (originalImpl.decodedPath != null) {
+                this.decodedPath = originalImpl.decodedPath;
+            } else {
+                this.setPath(originalImpl.path());
+            }
+        } else {
+            this.userPrincipal = original.userPrincipal();
+            this.setData(original.data());
+            this.setPath(original.path());
+        }
+    }
+
+    /**
+     * Creates a read only user principal object, so that no one can tamper with the data. The nested objects and arrays
+     * of the principal are read only as well, as a decoded principal is shared by all contexts decoded from the same
+     * header.
+     */
+    private static JsonObject readOnly(JsonObject userPrincipal) {
+        return Optional.ofNullable(userPrincipal).map(JsonObject::getMap).map(DataContextImpl::readOnlyMap)
+                .map(JsonObject::new).orElse(null);
+    }
+
+    private static Map<String, Object> readOnlyMap(Map<String, Object> map) {
+        Map<String, Object> readOnlyMap = new LinkedHashMap<>(map);
+        readOnlyMap.replaceAll((key, value) -> readOnlyValue(value));
+        return Collections.unmodifiableMap(readOnlyMap);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object readOnlyValue(Object value) {
+        if (value instanceof JsonObject) {
+            return readOnlyMap(((JsonObject) value).getMap());
+        } else if (value instanceof Map) {
+            return readOnlyMap((Map<String, Object>) value);
+        } else if (value instanceof JsonArray) {
+            return readOnlyList(((JsonArray) value).getList());
+        } else if (value instanceof List) {
+            return readOnlyList((List<Object>) value);
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        return value;
+    }
+
+    private static List<Object> readOnlyList(List<Object> list) {
+        return list.stream().map(DataContextImpl::readOnlyValue)
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
     }
 
     @Override
@@ -144,12 +247,20 @@ public class DataContextImpl implements DataContext {
     }
 
     @Override
+    @SuppressWarnings("PMD.NullAssignment")
     public JsonObject userPrincipal() {
+        if (decodedUserPrincipal != null) {
+            userPrincipal = readOnly(decodedUserPrincipal);
+            decodedUserPrincipal = null;
+        }
         return userPrincipal;
     }
 
     @Override
     public Map<String, Object> data() {
+        if (this.decodedData != null) {
+            setData(decodedData.getMap());
+        }
         if (this.data == null) {
             this.data = new HashMap<>();
         }
@@ -162,7 +273,9 @@ public class DataContextImpl implements DataContext {
      * @param path an iterator of coordinates
      */
     @VisibleForTesting
+    @SuppressWarnings("PMD.NullAssignment")
     protected void setPath(Iterator<DataVerticleCoordinate> path) {
+        this.decodedPath = null;
         this.pathStack =
                 streamPath(path).collect(Collector.of(ArrayDeque::new, (deq, t) -> deq.addFirst(t), (d1, d2) -> {
                     d2.addAll(d1);
@@ -177,7 +290,9 @@ public class DataContextImpl implements DataContext {
      * @return current context
      */
     @VisibleForTesting
+    @SuppressWarnings("PMD.NullAssignment")
     protected DataContext setPath(Deque<DataVerticleCoordinate> path) {
+        this.decodedPath = null;
         this.pathStack = mutableCopyOf(path, ArrayDeque::new);
         return this;
     }
@@ -185,6 +300,7 @@ public class DataContextImpl implements DataContext {
     @Override
     @SuppressWarnings("PMD.NullAssignment")
     public final DataContext setData(Map<String, Object> data) {
+        this.decodedData = null;
         this.data = (data != null) && !data.isEmpty() ? mutableCopyOf(data) : null;
         return this;
     }
@@ -193,7 +309,7 @@ public class DataContextImpl implements DataContext {
     public DataContext mergeData(Map<String, Object> data) {
         if ((data != null) && !data.isEmpty()) {
             // instead of putAll, might be worth it to write a more sophisticated logic using .merge()
-            this.data.putAll(mutableCopyOf(data));
+            this.data().putAll(mutableCopyOf(data));
         }
         return this;
     }
@@ -230,6 +346,9 @@ public class DataContextImpl implements DataContext {
 
     /**
      * Encodes a given {@link DataContext} to string.
+     * <p>
+     * The context is written to a JSON string in one pass. A user principal, data or path of a decoded context, which
+     * was not accessed since, is written as it was decoded.
      *
      * @param context A data context to encode
      * @return The passed data context represented as string
@@ -239,17 +358,56 @@ public class DataContextImpl implements DataContext {
             // actually it's fine for the context to be null, so also a null should be set as header
             return null;
         }
-        return new JsonObject().put(CORRELATION_ID, context.correlationId()).put(SESSION_ID_KEY, context.sessionId())
-                .put(BEARER_TOKEN_KEY, context.bearerToken()).put(USER_PRINCIPAL_KEY, context.userPrincipal())
-                .put(DATA_KEY, context.data()).put(PATH_KEY, pathToJson(context.path())).toString();
+
+        DataContextImpl contextImpl = context instanceof DataContextImpl ? (DataContextImpl) context : null;
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = DatabindCodec.mapper().getFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            writeField(generator, CORRELATION_ID, context.correlationId());
+            writeField(generator, SESSION_ID_KEY, context.sessionId());
+            writeField(generator, BEARER_TOKEN_KEY, context.bearerToken());
+            writeField(generator, USER_PRINCIPAL_KEY,
+                    contextImpl != null && contextImpl.decodedUserPrincipal != null ? contextImpl.decodedUserPrincipal
+                            : context.userPrincipal());
+            writeField(generator, DATA_KEY,
+                    contextImpl != null && contextImpl.decodedData != null ? contextImpl.decodedData : context.data());
+            if (contextImpl != null && contextImpl.decodedPath != null) {
+                writeField(generator, PATH_KEY, contextImpl.decodedPath);
+            } else {
+                generator.writeArrayFieldStart(PATH_KEY);
+                for (Iterator<DataVerticleCoordinate> path = context.path(); path != null && path.hasNext();) {
+                    writeCoordinate(generator, path.next());
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode data context: " + e.getMessage(), e);
+        }
+        return writer.toString();
     }
 
-    private static JsonArray pathToJson(Iterator<DataVerticleCoordinate> path) {
-        return new JsonArray(streamPath(path).map(JsonObject::mapFrom).collect(Collectors.toList()));
+    private static void writeCoordinate(JsonGenerator generator, DataVerticleCoordinate coordinate)
+            throws IOException {
+        generator.writeStartObject();
+        writeField(generator, QUALIFIED_NAME_KEY, coordinate.getQualifiedName());
+        writeField(generator, REQUEST_TIMESTAMP_KEY, coordinate.getRequestTimestamp());
+        writeField(generator, DEPLOYMENT_ID_KEY, coordinate.getDeploymentId());
+        writeField(generator, IP_ADDRESS_KEY, coordinate.getIpAddress());
+        writeField(generator, RESPONSE_TIMESTAMP_KEY, coordinate.getResponseTimestamp());
+        generator.writeEndObject();
+    }
+
+    private static void writeField(JsonGenerator generator, String name, Object value) throws IOException {
+        if (value != null) {
+            generator.writeObjectField(name, value);
+        }
     }
 
     /**
      * Decodes a given string to {@link DataContext}.
+     * <p>
+     * The user principal, data and path of the returned context are only materialized as soon as they are accessed.
      *
      * @param contextString A string to decode
      * @return a new {@link DataContext} instance representing the passed string
@@ -260,17 +418,69 @@ public class DataContextImpl implements DataContext {
             return null;
         }
 
-        JsonObject contextJson = new JsonObject(contextString);
-        return new DataContextImpl(contextJson.getString(CORRELATION_ID), contextJson.getString(SESSION_ID_KEY),
-                contextJson.getString(BEARER_TOKEN_KEY), contextJson.getJsonObject(USER_PRINCIPAL_KEY),
-                Optional.ofNullable(contextJson.getJsonObject(DATA_KEY)).map(JsonObject::getMap).orElse(null),
-                Optional.ofNullable(contextJson.getJsonArray(PATH_KEY)).map(DataContextImpl::pathFromJson)
-                        .orElse(null));
+        JsonObject contextJson = DECODED_CONTEXTS.getIfPresent(contextString);
+        if (contextJson == null) {
+            contextJson = new JsonObject(contextString);
+            DECODED_CONTEXTS.put(contextString, contextJson);
+        }
+        return new DataContextImpl(contextJson);
+    }
+
+    /**
+     * Decodes only the correlation id of a given context string, without decoding the whole context.
+     * <p>
+     * The correlation id is the first field written by {@link #encodeContextToString(DataContext)}, thus reading the
+     * string stops right after it in most cases.
+     *
+     * @param contextString A string to decode
+     * @return the correlation id of the context or null, if the context has no correlation id
+     */
+    public static String decodeCorrelationIdFromString(String contextString) {
+        if (contextString == null) {
+            return null;
+        }
+
+        JsonObject contextJson = DECODED_CONTEXTS.getIfPresent(contextString);
+        if (contextJson != null) {
+            return contextJson.getString(CORRELATION_ID);
+        }
+
+        try (JsonParser parser = DatabindCodec.mapper().getFactory().createParser(contextString)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (CORRELATION_ID.equals(fieldName)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode the correlation id: " + e.getMessage(), e);
+        }
     }
 
     private static Deque<DataVerticleCoordinate> pathFromJson(JsonArray array) {
-        return array.stream().map(JsonObject.class::cast).map(object -> object.mapTo(DataVerticleCoordinateImpl.class))
-                .collect(ArrayDeque::new, Deque::push, Deque::addAll);
+        Deque<DataVerticleCoordinate> path = new ArrayDeque<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            JsonObject coordinate = array.getJsonObject(i);
+            path.push(new DataVerticleCoordinateImpl(coordinate.getString(QUALIFIED_NAME_KEY),
+                    coordinate.getString(REQUEST_TIMESTAMP_KEY), coordinate.getString(DEPLOYMENT_ID_KEY),
+                    coordinate.getString(IP_ADDRESS_KEY), coordinate.getString(RESPONSE_TIMESTAMP_KEY)));
+        }
+        return path;
+    }
+
+    @SuppressWarnings("PMD.NullAssignment")
+    private Deque<DataVerticleCoordinate> pathStack() {
+        if (decodedPath != null) {
+            pathStack = pathFromJson(decodedPath);
+            decodedPath = null;
+        }
+        return pathStack;
     }
 
     /**
@@ -279,15 +489,15 @@ public class DataContextImpl implements DataContext {
      * @param name verticle name
      */
     public void pushVerticleToPath(String name) {
-        if (!pathStack.isEmpty()) {
-            DataVerticleCoordinate topVerticle = pathStack.peek();
+        if (!pathStack().isEmpty()) {
+            DataVerticleCoordinate topVerticle = pathStack().peek();
             if (name.equalsIgnoreCase(topVerticle.getQualifiedName())) {
                 LOGGER.error("A DataVerticle {} is sending message to itself, which could lead to a dead loop", name);
                 throw new DataException(String.format("DataVerticle %s is sending message to itself.", name));
             }
         }
 
-        pathStack.push(new DataVerticleCoordinateImpl(name));
+        pathStack().push(new DataVerticleCoordinateImpl(name));
     }
 
     /**
@@ -297,7 +507,7 @@ public class DataContextImpl implements DataContext {
      * @return current context
      */
     public DataContext amendTopVerticleCoordinate(String deploymentId) {
-        Optional.ofNullable(pathStack.peek()).map(DataVerticleCoordinateImpl.class::cast).ifPresent(coordinate -> {
+        Optional.ofNullable(pathStack().peek()).map(DataVerticleCoordinateImpl.class::cast).ifPresent(coordinate -> {
             coordinate.setDeploymentId(deploymentId);
             coordinate.setIpAddress(getHostIp());
         });
@@ -308,12 +518,12 @@ public class DataContextImpl implements DataContext {
      * Remove the top coordinate from the stack.
      */
     public void popVerticleFromPath() {
-        pathStack.pop();
+        pathStack().pop();
     }
 
     @Override
     public Iterator<DataVerticleCoordinate> path() {
-        return unmodifiableIterator(pathStack.descendingIterator());
+        return unmodifiableIterator(pathStack().descendingIterator());
     }
 
     /**
@@ -346,7 +556,7 @@ public class DataContextImpl implements DataContext {
 
     @Override
     public void updateResponseTimestamp() {
-        Optional.ofNullable(pathStack.peek()).map(DataVerticleCoordinateImpl.class::cast)
+        Optional.ofNullable(pathStack().peek()).map(DataVerticleCoordinateImpl.class::cast)
                 .ifPresent(DataVerticleCoordinateImpl::updateResponseTimestamp);
     }
 }
@@ -0,0 +1,185 @@
+package io.neonbee.data.internal;
+
+import static io.neonbee.data.DataAction.READ;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.neonbee.data.DataCache;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Caches the results of the reading data requests to one instance of a data verticle, see {@link DataCache}.
+ * <p>
+ * The futures to the results are cached as soon as a request is received, thus identical requests received while the
+ * first request is still being processed, will share the result of the first request. Futures which fail are removed
+ * from the cache. As every instance of a data verticle has its own cache and handles all of its requests on its own
+ * Vert.x context, the cached futures are always completed on the context of the requests.
+ * <p>
+ * Results are handed out to consumers, which could modify them, e.g. by sorting the entities of an
+ * {@link EntityWrapper}. Thus the cache keeps a copy of every result and hands every consumer its own copy, see
+ * {@link ResultCopier}. Results which cannot be copied are not cached.
+ */
+public final class DataResultCache {
+    /**
+     * Whether caching is enabled in the configuration of the verticle.
+     */
+    public static final String ENABLED = "enabled";
+
+    /**
+     * The maximum number of results to cache.
+     */
+    public static final String MAXIMUM_SIZE = "maximumSize";
+
+    /**
+     * The number of seconds after which a cached result expires.
+     */
+    public static final String EXPIRE_AFTER_WRITE = "expireAfterWrite";
+
+    /**
+     * Whether the results are cached per user principal.
+     */
+    public static final String PARTITION_BY_USER = "partitionByUser";
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final long DEFAULT_EXPIRE_AFTER_WRITE = 60;
+
+    @VisibleForTesting
+    final Cache<ResultKey, Future<Object>> results;
+
+    private final boolean partitionByUser;
+
+    private final ResultCopier copier;
+
+    @VisibleForTesting
+    DataResultCache(long maximumSize, long expireAfterWrite, boolean partitionByUser, Ticker ticker,
+            ResultCopier copier) {
+        this.results = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite, SECONDS)
+                .ticker(ticker).build();
+        this.partitionByUser = partitionByUser;
+        this.copier = copier;
+    }
+
+    /**
+     * Configures the result cache of a data verticle.
+     *
+     * @param cacheConfig    the cache configuration of the data verticle or null
+     * @param annotation     the {@link DataCache} annotation of the data verticle or null
+     * @param copierSupplier supplies the copier used to hand out copies of the cached results, only called in case
+     *                       caching is enabled
+     * @return the configured {@link DataResultCache} or null, in case caching is not enabled
+     */
+    public static DataResultCache configure(JsonObject cacheConfig, DataCache annotation,
+            Supplier<ResultCopier> copierSupplier) {
+        JsonObject config = cacheConfig != null ? cacheConfig : new JsonObject();
+        if (!config.getBoolean(ENABLED, annotation != null)) {
+            return null;
+        }
+
+        return new DataResultCache(
+                config.getLong(MAXIMUM_SIZE, annotation != null ? annotation.maximumSize() : DEFAULT_MAXIMUM_SIZE),
+                config.getLong(EXPIRE_AFTER_WRITE,
+                        annotation != null ? annotation.expireAfterWrite() : DEFAULT_EXPIRE_AFTER_WRITE),
+                config.getBoolean(PARTITION_BY_USER, annotation == null || annotation.partitionByUser()),
+                Ticker.systemTicker(), copierSupplier.get());
+    }
+
+    /**
+     * Returns the future to the result of a data query. In case the result of an identical query is cached or
+     * currently being retrieved, a copy of the cached result is returned, otherwise the result is retrieved using the
+     * given supplier. Queries which do not only read data are never cached.
+     *
+     * @param query    the query to return the result for
+     * @param context  the data context of the request, could be null
+     * @param supplier the supplier retrieving the result
+     * @param <U>      the type of the result
+     * @return a future to the result of the query
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Future<U> get(DataQuery query, DataContext context, Supplier<Future<U>> supplier) {
+        if (query.getAction() != READ) {
+            return supplier.get();
+        }
+
+        ResultKey key =
+                new ResultKey(query.copy(), partitionByUser && context != null ? context.userPrincipal() : null);
+        Promise<Object> promise = Promise.promise();
+        Future<Object> cachedFuture = results.asMap().putIfAbsent(key, promise.future());
+        if (cachedFuture != null) {
+            // a result which cannot be copied is not cached, so requests waiting for it have to retrieve it themselves
+            return (Future<U>) (Future<?>) cachedFuture.compose(snapshot -> ResultCopier.isCopyable(snapshot)
+                    ? Future.succeededFuture(copier.copy(snapshot)) : (Future<Object>) (Future<?>) supplier.get());
+        }
+
+        Future<U> future;
+        try {
+            future = supplier.get();
+        } catch (RuntimeException e) {
+            results.asMap().remove(key, promise.future());
+            throw e;
+        }
+
+        // the handler is registered before the future is returned, so the result is copied before it can be modified
+        return future.onComplete(asyncResult -> {
+            if (asyncResult.failed()) {
+                results.asMap().remove(key, promise.future());
+                promise.fail(asyncResult.cause());
+                return;
+            }
+
+            Object snapshot = copier.snapshot(asyncResult.result());
+            if (!ResultCopier.isCopyable(snapshot)) {
+                results.asMap().remove(key, promise.future());
+            }
+            promise.complete(snapshot);
+        });
+    }
+
+    /**
+     * Invalidates all cached results.
+     */
+    public void invalidate() {
+        results.invalidateAll();
+    }
+
+    @VisibleForTesting
+    static final class ResultKey {
+        private final DataQuery query;
+
+        private final JsonObject userPrincipal;
+
+        ResultKey(DataQuery query, JsonObject userPrincipal) {
+            this.query = query;
+            this.userPrincipal = userPrincipal != null ? userPrincipal.copy() : null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ResultKey)) {
+                return false;
+            }
+            ResultKey other = (ResultKey) obj;
+            return query.equals(other.query) && Objects.equals(userPrincipal, other.userPrincipal);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, userPrincipal);
+        }
+    }
+}
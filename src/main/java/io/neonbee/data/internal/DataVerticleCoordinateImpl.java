@@ -24,6 +24,25 @@ public class DataVerticleCoordinateImpl implements DataVerticleCoordinate {
         this.requestTimestamp = LocalTime.now(ZoneId.systemDefault()).toString();
     }
 
+    /**
+     * Restores a coordinate decoded from a data context.
+     *
+     * @param qualifiedName     the qualified name of the verticle
+     * @param requestTimestamp  the request timestamp or null to use the current time
+     * @param deploymentId      the deployment id of the verticle or null
+     * @param ipAddress         the IP address of the verticle or null
+     * @param responseTimestamp the response timestamp or null
+     */
+    DataVerticleCoordinateImpl(String qualifiedName, String requestTimestamp, String deploymentId, String ipAddress,
+            String responseTimestamp) {
+        this.qualifiedName = qualifiedName;
+        this.requestTimestamp =
+                requestTimestamp != null ? requestTimestamp : LocalTime.now(ZoneId.systemDefault()).toString();
+        this.deploymentId = deploymentId;
+        this.ipAddress = ipAddress;
+        this.responseTimestamp = responseTimestamp;
+    }
+
     @Override
     public String getRequestTimestamp() {
         return requestTimestamp;
@@ -0,0 +1,188 @@
+package io.neonbee.data.internal;
+
+import static io.neonbee.data.DataAction.READ;
+import static io.neonbee.internal.helper.CollectionHelper.mutableCopyOf;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.NeonBee;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A node-local scope shared by all data verticles taking part in resolving one data request with the
+ * {@link DataRequest.ResolutionStrategy#OPTIMIZED optimized} resolution strategy.
+ * <p>
+ * The scope is identified by an id, which is propagated to all verticles of the dependency tree. Every unique data
+ * request issued in a scope is executed only once, all further identical requests (same target, {@link DataQuery}
+ * and {@link DataContext} data) get handed a copy of the result of the first request, see {@link ResultCopier}. A
+ * scope is reference counted, it is removed as soon as the last resolution routine participating in the scope on this
+ * node released it.
+ */
+public final class ResolutionScope {
+    private static final Map<String, ResolutionScope> SCOPES = new ConcurrentHashMap<>();
+
+    private final String id;
+
+    private final Map<RequestKey, Future<Object>> requests = new ConcurrentHashMap<>();
+
+    private int references;
+
+    private ResolutionScope(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Acquires the scope with the given id, or creates a new scope in case no scope with the id exists on this node, or
+     * the id is null. Every call to acquire must be followed by exactly one call to {@link #release()}.
+     *
+     * @param id the id of the scope or null to create a new scope
+     * @return the acquired scope
+     */
+    public static ResolutionScope acquire(String id) {
+        return SCOPES.compute(Optional.ofNullable(id).orElseGet(() -> UUID.randomUUID().toString()), (key, scope) -> {
+            ResolutionScope acquiredScope = scope != null ? scope : new ResolutionScope(key);
+            acquiredScope.references++;
+            return acquiredScope;
+        });
+    }
+
+    /**
+     * Releases the scope. In case no more resolution routines refer to this scope, it is removed.
+     */
+    public void release() {
+        SCOPES.computeIfPresent(id, (key, scope) -> --scope.references > 0 ? scope : null);
+    }
+
+    /**
+     * Returns the id of this scope, which has to be propagated to all data requests in this scope.
+     *
+     * @return the id of the scope
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the future to the result of the given data request. In case an identical request was already issued in
+     * this scope, a copy of the result of the existing request is returned, otherwise the request is executed using the
+     * given supplier. Requests which do not only read data will never be deduplicated.
+     * <p>
+     * The returned future is always completed on the Vert.x context of the caller.
+     *
+     * @param vertx    the Vert.x instance
+     * @param request  the data request to issue
+     * @param context  the data context of the request, could be null
+     * @param supplier the supplier executing the data request
+     * @param <U>      the type of the result
+     * @return a future to the result of the data request
+     */
+    @SuppressWarnings("unchecked")
+    public <U> Future<U> request(Vertx vertx, DataRequest request, DataContext context, Supplier<Future<U>> supplier) {
+        if (!isDeduplicable(request)) {
+            return supplier.get();
+        }
+
+        // results can only be copied using the default codecs, as the codec of the target verticle is unknown
+        ResultCopier copier = new ResultCopier(null, NeonBee.get(vertx).getEntityWrapperCodec());
+        Promise<Object> promise = Promise.promise();
+        Future<Object> existingFuture = requests.putIfAbsent(new RequestKey(request, context), promise.future());
+        if (existingFuture == null) {
+            // the handler is registered before the future is returned, so the result is copied before being modified
+            return supplier.get().onComplete(asyncResult -> promise.handle(asyncResult.map(copier::snapshot)));
+        }
+
+        // the existing future could be completed on any other context, make sure to complete on the callers context
+        Context callerContext = vertx.getOrCreateContext();
+        Promise<U> resultPromise = Promise.promise();
+        existingFuture.onComplete(asyncResult -> {
+            Handler<Void> handler = nothing -> {
+                if (asyncResult.succeeded() && !ResultCopier.isCopyable(asyncResult.result())) {
+                    // a result which cannot be copied is not shared, so the request has to be executed once more
+                    supplier.get().onComplete(resultPromise);
+                } else {
+                    resultPromise.handle(asyncResult.map(snapshot -> (U) copier.copy(snapshot)));
+                }
+            };
+            if (callerContext.equals(Vertx.currentContext())) {
+                handler.handle(null);
+            } else {
+                callerContext.runOnContext(handler);
+            }
+        });
+        return resultPromise.future();
+    }
+
+    @VisibleForTesting
+    static boolean isActive(String id) {
+        return SCOPES.containsKey(id);
+    }
+
+    private static boolean isDeduplicable(DataRequest request) {
+        return request.getDataSink() == null && request.getQuery() != null && request.getQuery().getAction() == READ;
+    }
+
+    /**
+     * The key identifying a data request, being the target of the request, a snapshot of the query and of all
+     * information of the data context, which could affect the result of the request.
+     */
+    private static final class RequestKey {
+        private final Object target;
+
+        private final DataQuery query;
+
+        private final JsonObject userPrincipal;
+
+        private final String bearerToken;
+
+        private final Map<String, Object> data;
+
+        RequestKey(DataRequest request, DataContext context) {
+            if (request.getQualifiedName() != null) {
+                this.target = request.getQualifiedName();
+            } else if (request.getEntityTypeName() != null) {
+                this.target = request.getEntityTypeName();
+            } else {
+                this.target = request.getDataSource();
+            }
+            this.query = request.getQuery().copy();
+            this.userPrincipal = context != null && context.userPrincipal() != null ? context.userPrincipal().copy()
+                    : null;
+            this.bearerToken = context != null ? context.bearerToken() : null;
+            this.data = context != null ? mutableCopyOf(context.data()) : null;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof RequestKey)) {
+                return false;
+            }
+            RequestKey key = (RequestKey) object;
+            return Objects.equals(target, key.target) && Objects.equals(query, key.query)
+                    && Objects.equals(userPrincipal, key.userPrincipal) && Objects.equals(bearerToken, key.bearerToken)
+                    && Objects.equals(data, key.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(target, query, userPrincipal, bearerToken, data);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.neonbee.data.internal;
+
+import java.util.Set;
+
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Copies the results of data requests, which are shared by multiple consumers. Consumers could modify the results
+ * handed to them, e.g. by sorting the entities of an {@link EntityWrapper}, thus every consumer has to get its own
+ * copy of a shared result.
+ * <p>
+ * Immutable results, JSON, buffers and entity wrappers are copied, results of any other type only in case a message
+ * codec is provided, by encoding and decoding the result.
+ */
+public final class ResultCopier {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    /**
+     * The snapshot of a result, which could not be copied and which is thus not shared.
+     */
+    private static final Object NOT_COPYABLE = new Object();
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+
+    private final MessageCodec<Object, ?> codec;
+
+    private final MessageCodec<EntityWrapper, ?> entityWrapperCodec;
+
+    /**
+     * Creates a new result copier.
+     *
+     * @param codec              the message codec used to copy results of any other type or null
+     * @param entityWrapperCodec the message codec used to copy {@link EntityWrapper} results or null
+     */
+    @SuppressWarnings("unchecked")
+    public ResultCopier(MessageCodec<?, ?> codec, MessageCodec<EntityWrapper, ?> entityWrapperCodec) {
+        this.codec = (MessageCodec<Object, ?>) codec;
+        this.entityWrapperCodec = entityWrapperCodec;
+    }
+
+    /**
+     * Takes a snapshot of a result to be shared, from which copies can be handed out to consumers later on.
+     *
+     * @param result the result to take a snapshot of
+     * @return a copy of the result, or a snapshot which is not {@link #isCopyable(Object) copyable}, in case the result
+     *         cannot be copied
+     */
+    public Object snapshot(Object result) {
+        try {
+            return copy(result);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Result of type {} cannot be copied", result.getClass().getName(), e);
+            return NOT_COPYABLE;
+        }
+    }
+
+    /**
+     * Checks whether a snapshot taken with {@link #snapshot(Object)} can be copied.
+     *
+     * @param snapshot the snapshot to check
+     * @return true if copies of the snapshot can be handed out to consumers
+     */
+    public static boolean isCopyable(Object snapshot) {
+        return snapshot != NOT_COPYABLE;
+    }
+
+    /**
+     * Copies a result, so it can be handed out to a consumer.
+     *
+     * @param result the result to copy
+     * @return a copy of the result, or the result itself if it is immutable
+     * @throws IllegalArgumentException if the result cannot be copied
+     */
+    public Object copy(Object result) {
+        if (result == null || IMMUTABLE_TYPES.contains(result.getClass())) {
+            return result;
+        } else if (result instanceof JsonObject) {
+            return ((JsonObject) result).copy();
+        } else if (result instanceof JsonArray) {
+            return ((JsonArray) result).copy();
+        } else if (result instanceof Buffer) {
+            return ((Buffer) result).copy();
+        } else if (result instanceof byte[]) {
+            return ((byte[]) result).clone();
+        } else if (result instanceof EntityWrapper && entityWrapperCodec != null) {
+            return copy(entityWrapperCodec, (EntityWrapper) result);
+        } else if (codec != null) {
+            return copy(codec, result);
+        }
+        throw new IllegalArgumentException("No message codec to copy result of type " + result.getClass().getName());
+    }
+
+    private static <T> Object copy(MessageCodec<T, ?> codec, T result) {
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, result);
+        return codec.decodeFromWire(0, buffer);
+    }
+}
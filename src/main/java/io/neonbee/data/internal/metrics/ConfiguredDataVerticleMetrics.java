@@ -1,6 +1,7 @@
 package io.neonbee.data.internal.metrics;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -48,6 +49,16 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      */
     public static final String TIMING = "reportTiming";
 
+    /**
+     * Key for the normalization of the query tag, either raw, parameters or none.
+     */
+    public static final String QUERY_TAG = "queryTag";
+
+    /**
+     * Key for the queries, which are always reported as they are in the query tag.
+     */
+    public static final String QUERY_TAG_ALLOW_LIST = "queryTagAllowList";
+
     @VisibleForTesting
     static final NoopDataVerticleMetrics DUMMY_IMPL = new NoopDataVerticleMetrics();
 
@@ -85,6 +96,11 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      * "reportStatusCounter", "reportTiming", only the values configured as true will be reported. If you do not specify
      * any of these values, all metrics are reported.
      *
+     * The query of the data requests is reported as a tag of the request metrics. To limit the number of time series,
+     * by default only the names of the query parameters are reported. Set "queryTag" to "raw" to report the whole
+     * query string, or to "none" to report an empty query tag. Queries listed in "queryTagAllowList" are always
+     * reported as they are.
+     *
      * Full example:
      *
      * <pre>
@@ -95,7 +111,9 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      *     "reportNumberOfRequests" : true,
      *     "reportActiveRequests" : true
      *     "reportStatusCounter" : true,
-     *     "reportTiming" : true
+     *     "reportTiming" : true,
+     *     "queryTag" : "parameters",
+     *     "queryTagAllowList" : [ "$top=10" ]
      * }
      * }
      * </pre>
@@ -125,8 +143,8 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
     private static DataVerticleMetrics configureDataVericleMetrics(JsonObject metricsConfig,
             DataVerticleMetrics metricsImpl) {
 
-        int fieldNameSize = metricsConfig.containsKey(METER_REGISTRY_NAME) ? 2 : 1;
-        boolean activateAllMetrics = metricsConfig.size() == fieldNameSize;
+        boolean activateAllMetrics = Stream.of(NUMBER_OF_REQUESTS, ACTIVE_REQUESTS, STATUS_COUNTER, TIMING)
+                .noneMatch(metricsConfig::containsKey);
         if (activateAllMetrics) {
             return metricsImpl;
         } else {
@@ -149,12 +167,12 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
     }
 
     @Override
-    public void reportStatusCounter(String name, String description, Iterable<Tag> tags, Future<?> future) {
+    public void reportStatusCounter(String name, String description, List<Tag> tags, Future<?> future) {
         reportStatusCounter.reportStatusCounter(name, description, tags, future);
     }
 
     @Override
-    public void reportTimingMetric(String name, String description, Iterable<Tag> tags, Future<?> future) {
+    public void reportTimingMetric(String name, String description, List<Tag> tags, Future<?> future) {
         reportTimingMetric.reportTimingMetric(name, description, tags, future);
     }
 }
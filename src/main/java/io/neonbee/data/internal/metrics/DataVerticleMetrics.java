@@ -36,7 +36,7 @@ public interface DataVerticleMetrics {
      * @param tags        dimensions of a meter used to classify the metric
      * @param future      the future to measure
      */
-    void reportStatusCounter(String name, String description, Iterable<Tag> tags, Future<?> future);
+    void reportStatusCounter(String name, String description, List<Tag> tags, Future<?> future);
 
     /**
      * Reports timing metrics such as duration.
@@ -46,5 +46,5 @@ public interface DataVerticleMetrics {
      * @param tags        dimensions of a meter used to classify the metric
      * @param future      the future to measure
      */
-    void reportTimingMetric(String name, String description, Iterable<Tag> tags, Future<?> future);
+    void reportTimingMetric(String name, String description, List<Tag> tags, Future<?> future);
 }
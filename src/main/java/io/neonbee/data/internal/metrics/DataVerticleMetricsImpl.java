@@ -1,12 +1,15 @@
 package io.neonbee.data.internal.metrics;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 
-import com.google.common.collect.Iterables;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
@@ -14,16 +17,46 @@ import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Future;
 
+/**
+ * Reports the metrics of a data verticle to a {@link MeterRegistry}.
+ * <p>
+ * Meters are registered once and cached by their name and tags, so that reporting a metric for a request does not
+ * build and register the meters again. Apart from the handlers added to the future to measure, reporting metrics for
+ * known meters does not allocate.
+ */
 public class DataVerticleMetricsImpl implements DataVerticleMetrics {
 
     private static final ImmutableTag SUCCEEDED_TAG = new ImmutableTag("succeeded", "true");
 
     private static final ImmutableTag FAILED_TAG = new ImmutableTag("succeeded", "false");
 
-    private final Map<Meter.Id, LongAdder> activeRequestsMap = new ConcurrentHashMap<>();
+    /**
+     * The long adders read by the active requests gauges of a registry. The registry returns an already registered
+     * gauge when a gauge with the same ID gets registered again, e.g. by the metrics of another data verticle. In this
+     * case the gauge still reads the first long adder registered, thus the long adders must be shared across all
+     * instances reporting to the same registry.
+     */
+    private static final Cache<MeterRegistry, Map<Meter.Id, LongAdder>> ACTIVE_REQUESTS =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    @VisibleForTesting
+    final Map<String, Map<List<Tag>, Counter>> counters = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    final Map<String, Map<List<Tag>, Counter>> succeededCounters = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    final Map<String, Map<List<Tag>, Counter>> failedCounters = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    final Map<String, Map<List<Tag>, Timer>> timers = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    final Map<String, Map<List<Tag>, LongAdder>> activeRequests = new ConcurrentHashMap<>();
 
     private final MeterRegistry registry;
 
@@ -33,46 +66,77 @@ public class DataVerticleMetricsImpl implements DataVerticleMetrics {
 
     @Override
     public void reportNumberOfRequests(String name, String description, List<Tag> tags) {
-        Counter.builder(name).description(description).tags(tags).register(registry).increment();
+        Counter counter = getMeter(counters, name, tags);
+        if (counter == null) {
+            counter = putMeter(counters, name, tags,
+                    Counter.builder(name).description(description).tags(tags).register(registry));
+        }
+        counter.increment();
     }
 
     @Override
     public void reportActiveRequestsGauge(String name, String description, List<Tag> tags, Future<?> future) {
-        LongAdder longAdder = getGaugeLongAdder(name, description, tags, registry);
-        longAdder.increment();
-        future.onComplete(event -> {
-            longAdder.decrement();
-        });
+        LongAdder longAdder = getMeter(activeRequests, name, tags);
+        if (longAdder == null) {
+            longAdder = putMeter(activeRequests, name, tags, getGaugeLongAdder(name, description, tags));
+        }
+
+        LongAdder activeRequestsAdder = longAdder;
+        activeRequestsAdder.increment();
+        future.onComplete(event -> activeRequestsAdder.decrement());
     }
 
-    private LongAdder getGaugeLongAdder(String name, String description, List<Tag> tags, MeterRegistry registry) {
-        LongAdder longAdder = new LongAdder();
-        Gauge gauge = Gauge.builder(name, longAdder, LongAdder::doubleValue).description(description).tags(tags)
-                .register(registry);
-        activeRequestsMap.computeIfAbsent(gauge.getId(), id -> longAdder);
-        return longAdder;
+    private LongAdder getGaugeLongAdder(String name, String description, List<Tag> tags) {
+        Meter.Id id = new Meter.Id(name, Tags.of(tags), null, description, Meter.Type.GAUGE);
+        return ACTIVE_REQUESTS.asMap().computeIfAbsent(registry, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(id, key -> {
+                    LongAdder longAdder = new LongAdder();
+                    Gauge.builder(name, longAdder, LongAdder::doubleValue).description(description).tags(tags)
+                            .register(registry);
+                    return longAdder;
+                });
     }
 
     @Override
-    public void reportStatusCounter(String name, String description, Iterable<Tag> tags, Future<?> future) {
-        future.onComplete(data -> {
-            Counter.builder(name).description("succeeded response count")
-                    .tags(Iterables.concat(tags, List.of(data.succeeded() ? SUCCEEDED_TAG : FAILED_TAG)))
-                    .register(registry).increment();
-        });
+    public void reportStatusCounter(String name, String description, List<Tag> tags, Future<?> future) {
+        future.onComplete(data -> getStatusCounter(name, tags, data.succeeded()).increment());
+    }
+
+    private Counter getStatusCounter(String name, List<Tag> tags, boolean succeeded) {
+        Map<String, Map<List<Tag>, Counter>> statusCounters = succeeded ? succeededCounters : failedCounters;
+        Counter counter = getMeter(statusCounters, name, tags);
+        if (counter == null) {
+            List<Tag> statusTags = new ArrayList<>(tags.size() + 1);
+            statusTags.addAll(tags);
+            statusTags.add(succeeded ? SUCCEEDED_TAG : FAILED_TAG);
+            counter = putMeter(statusCounters, name, tags,
+                    Counter.builder(name).description("succeeded response count").tags(statusTags).register(registry));
+        }
+        return counter;
     }
 
     @Override
-    public void reportTimingMetric(String name, String description, Iterable<Tag> tags, Future<?> future) {
+    public void reportTimingMetric(String name, String description, List<Tag> tags, Future<?> future) {
         long start = System.nanoTime();
-        future.onComplete(data -> reportTimeMetric(name, description, tags, start));
+        Timer timer = getMeter(timers, name, tags);
+        if (timer == null) {
+            timer = putMeter(timers, name, tags,
+                    Timer.builder(name).description(description).tags(tags).register(registry));
+        }
+
+        Timer reportedTimer = timer;
+        future.onComplete(data -> reportedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
     }
 
-    private void reportTimeMetric(String name, String description, Iterable<Tag> tags, long start) {
-        long time = System.nanoTime() - start;
+    private static <M> M getMeter(Map<String, Map<List<Tag>, M>> meters, String name, List<Tag> tags) {
+        Map<List<Tag>, M> metersByTags = meters.get(name);
+        return metersByTags != null ? metersByTags.get(tags) : null;
+    }
 
-        Timer timer = Timer.builder(name).description(description).tags(tags).register(registry);
-        timer.record(time, TimeUnit.NANOSECONDS);
+    private static <M> M putMeter(Map<String, Map<List<Tag>, M>> meters, String name, List<Tag> tags, M meter) {
+        M previousMeter = meters.computeIfAbsent(name, key -> new ConcurrentHashMap<>())
+                .putIfAbsent(List.copyOf(tags), meter);
+        return previousMeter != null ? previousMeter : meter;
     }
 
 }
@@ -23,12 +23,12 @@ public class NoopDataVerticleMetrics implements DataVerticleMetrics {
     }
 
     @Override
-    public void reportStatusCounter(String name, String description, Iterable<Tag> tags, Future<?> future) {
+    public void reportStatusCounter(String name, String description, List<Tag> tags, Future<?> future) {
         // This method is intentionally empty.
     }
 
     @Override
-    public void reportTimingMetric(String name, String description, Iterable<Tag> tags, Future<?> future) {
+    public void reportTimingMetric(String name, String description, List<Tag> tags, Future<?> future) {
         // This method is intentionally empty.
     }
 }
@@ -0,0 +1,146 @@
+package io.neonbee.data.internal.metrics;
+
+import static io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics.ENABLED;
+import static io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics.QUERY_TAG;
+import static io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics.QUERY_TAG_ALLOW_LIST;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.Tag;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Normalizes the query of a data request, before it is used as a tag of the request metrics.
+ * <p>
+ * Using the raw query string as a tag, results in a new time series for every distinct query. Thus by default only the
+ * names of the query parameters are reported, e.g. {@code $filter&$top} for {@code $filter=ID eq 1&$top=10}. Queries
+ * which are explicitly allowed are always reported as they are.
+ */
+public final class QueryTagNormalizer {
+    /**
+     * The key of the query tag.
+     */
+    public static final String QUERY_TAG_KEY = "query";
+
+    @VisibleForTesting
+    static final QueryTagNormalizer DISABLED = new QueryTagNormalizer(Normalization.NONE, Set.of());
+
+    private static final int MAXIMUM_CACHED_QUERIES = 1000;
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final Normalization normalization;
+
+    private final Set<String> allowedQueries;
+
+    private final Cache<String, List<Tag>> tags = CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_QUERIES).build();
+
+    @VisibleForTesting
+    QueryTagNormalizer(Normalization normalization, Set<String> allowedQueries) {
+        this.normalization = normalization;
+        this.allowedQueries = allowedQueries;
+    }
+
+    /**
+     * Configures the normalization of the query tag, see
+     * {@link ConfiguredDataVerticleMetrics#configureMetricsReporting(JsonObject)}.
+     *
+     * @param metricsConfig {@link JsonObject} containing the metrics configuration.
+     * @return the configured {@link QueryTagNormalizer}
+     */
+    public static QueryTagNormalizer configure(JsonObject metricsConfig) {
+        if (metricsConfig == null || !Boolean.TRUE.equals(metricsConfig.getBoolean(ENABLED))) {
+            return DISABLED;
+        }
+
+        Normalization normalization = Normalization.PARAMETERS;
+        String queryTag = metricsConfig.getString(QUERY_TAG);
+        if (queryTag != null) {
+            try {
+                normalization = Normalization.valueOf(queryTag.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unknown query tag normalization {}, reporting the query parameter names instead",
+                        queryTag);
+            }
+        }
+
+        JsonArray allowList = metricsConfig.getJsonArray(QUERY_TAG_ALLOW_LIST, new JsonArray());
+        return new QueryTagNormalizer(normalization,
+                allowList.stream().map(Object::toString).collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * Returns the tags to report for the query of a data request.
+     *
+     * @param query the query string of the request, could be null
+     * @return the tags to report, an empty list in case the query is null
+     */
+    public List<Tag> tags(String query) {
+        if (query == null || this == DISABLED) {
+            return List.of();
+        }
+
+        List<Tag> queryTags = tags.getIfPresent(query);
+        if (queryTags == null) {
+            queryTags = List.of(new ImmutableTag(QUERY_TAG_KEY, normalize(query)));
+            tags.put(query, queryTags);
+        }
+        return queryTags;
+    }
+
+    @VisibleForTesting
+    String normalize(String query) {
+        if (allowedQueries.contains(query)) {
+            return query;
+        }
+
+        switch (normalization) {
+        case RAW:
+            return query;
+        case NONE:
+            return "";
+        default:
+            StringBuilder parameterNames = new StringBuilder();
+            for (String parameter : query.split("&")) {
+                if (parameter.isEmpty()) {
+                    continue;
+                }
+                int separator = parameter.indexOf('=');
+                if (parameterNames.length() > 0) {
+                    parameterNames.append('&');
+                }
+                parameterNames.append(separator == -1 ? parameter : parameter.substring(0, separator));
+            }
+            return parameterNames.toString();
+        }
+    }
+
+    /**
+     * How to normalize the query tag.
+     */
+    @VisibleForTesting
+    enum Normalization {
+        /**
+         * Report the raw query string.
+         */
+        RAW,
+        /**
+         * Report the names of the query parameters only.
+         */
+        PARAMETERS,
+        /**
+         * Report an empty query tag.
+         */
+        NONE
+    }
+}
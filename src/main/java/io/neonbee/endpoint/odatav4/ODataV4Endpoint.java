@@ -6,30 +6,31 @@ import static com.google.common.base.Strings.nullToEmpty;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion.STRICT;
 import static io.neonbee.entity.EntityModelManager.EVENT_BUS_MODELS_LOADED_ADDRESS;
 import static io.neonbee.internal.helper.FunctionalHelper.entryConsumer;
-import static io.neonbee.internal.helper.FunctionalHelper.entryFunction;
 import static io.neonbee.internal.helper.StringHelper.EMPTY;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.vertx.core.Future.succeededFuture;
 import static java.net.URLDecoder.decode;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
+import org.apache.olingo.server.api.ServiceMetadata;
+
 import com.google.common.base.MoreObjects;
 
 import io.neonbee.NeonBee;
 import io.neonbee.config.EndpointConfig;
 import io.neonbee.endpoint.Endpoint;
 import io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler;
-import io.neonbee.entity.EntityModel;
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchProcessor;
 import io.neonbee.internal.RegexBlockList;
 import io.neonbee.internal.SharedDataAccessor;
 import io.neonbee.logging.LoggingFacade;
@@ -47,6 +48,11 @@ public class ODataV4Endpoint implements Endpoint {
      */
     public static final String CONFIG_URI_CONVERSION = "uriConversion";
 
+    /**
+     * The key to configure the maximum number of parts of a batch request processed concurrently.
+     */
+    public static final String CONFIG_BATCH_PARALLELISM = "batchParallelism";
+
     /**
      * The default path the OData V4 endpoint is exposed by NeonBee.
      */
@@ -175,7 +181,8 @@ public class ODataV4Endpoint implements Endpoint {
     public Future<Router> createEndpointRouter(Vertx vertx, String basePath, JsonObject config) {
         Router router = Router.router(vertx);
         AtomicBoolean initialized = new AtomicBoolean(); // true if the router was initialized already
-        AtomicReference<Map<String, EntityModel>> models = new AtomicReference<>();
+        // the route and the metadata of every service served, to only replace the routes of changed services
+        Map<String, ServiceRoute> serviceRoutes = new HashMap<>();
 
         // the URI convention used to expose the given service in the endpoint.
         UriConversion uriConversion = UriConversion.byName(config.getString("uriConversion", STRICT.name()));
@@ -184,6 +191,9 @@ public class ODataV4Endpoint implements Endpoint {
         // matched against the full qualified name of the entity in question (URI conversion is applied by NeonBee).
         RegexBlockList exposedEntities = RegexBlockList.fromJson(config.getValue("exposedEntities"));
 
+        // the maximum number of independent parts of a batch request, which are processed concurrently
+        int batchParallelism = config.getInteger(CONFIG_BATCH_PARALLELISM, BatchProcessor.DEFAULT_PARALLELISM);
+
         // Register the event bus consumer first, otherwise it could happen that during initialization we are missing an
         // update to the data model, a refresh of the router will only be triggered in case it is already initialized.
         // This is a NON-local consumer, this means the reload could be triggered from anywhere, however currently the
@@ -192,7 +202,8 @@ public class ODataV4Endpoint implements Endpoint {
         vertx.eventBus().consumer(EVENT_BUS_MODELS_LOADED_ADDRESS, message -> {
             // do not refresh the router if it wasn't even initialized
             if (initialized.get()) {
-                refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, models);
+                refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, batchParallelism,
+                        serviceRoutes);
             }
         });
 
@@ -206,7 +217,8 @@ public class ODataV4Endpoint implements Endpoint {
                 routingContext -> new SharedDataAccessor(vertx, ODataV4Endpoint.class).getLocalLock(asyncLock ->
                 // immediately initialize the router, this will also "arm" the event bus listener
                 (!initialized.getAndSet(true)
-                        ? refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, models)
+                        ? refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, batchParallelism,
+                                serviceRoutes)
                         : succeededFuture()).onComplete(handler -> {
                             // wait for the refresh to finish (the result doesn't matter), remove the initial route, as
                             // this will redirect all requests to the registered service endpoint handlers (if non have
@@ -229,65 +241,94 @@ public class ODataV4Endpoint implements Endpoint {
     }
 
     private static Future<Void> refreshRouter(Vertx vertx, Router router, String basePath, UriConversion uriConversion,
-            RegexBlockList exposedEntities, AtomicReference<Map<String, EntityModel>> currentModels) {
-        return NeonBee.get(vertx).getModelManager().getSharedModels().compose(models -> {
-            if (models == currentModels.get()) {
-                return succeededFuture(); // no update needed
-            } else {
-                currentModels.set(models);
-            }
+            RegexBlockList exposedEntities, int batchParallelism, Map<String, ServiceRoute> serviceRoutes) {
+        return NeonBee.get(vertx).getModelManager().getSharedModels().map(models -> {
+            // reloading the models only creates new metadata for changed services, so compare the metadata by identity
+            Map<String, ServiceMetadata> services = new HashMap<>();
+            models.values().forEach(entityModel -> services.putAll(entityModel.getAllEdmxMetadata()));
+
+            synchronized (serviceRoutes) {
+                // get a list of existing routes of changed / removed services, to remove after the new routes have
+                // been added
+                List<Route> existingRoutes = new ArrayList<>();
+                serviceRoutes.entrySet().removeIf(entry -> {
+                    if (services.get(entry.getKey()) == entry.getValue().edmxModel) {
+                        return false;
+                    }
+                    existingRoutes.add(entry.getValue().route);
+                    return true;
+                });
+
+                // register new routes first, this will avoid downtimes of already existing services. Routes are
+                // ordered by the length of their path, this will lead to some routes like the empty namespace / to be
+                // matched last, even if they are registered before other routes.
+                services.entrySet().stream().filter(entry -> !serviceRoutes.containsKey(entry.getKey()))
+                        .forEach(entryConsumer((schemaNamespace, edmxModel) -> {
+                            String uriPath = uriConversion.apply(schemaNamespace);
+                            Route route = registerServiceRoute(router, uriPath, edmxModel, exposedEntities,
+                                    batchParallelism);
+                            serviceRoutes.put(schemaNamespace, new ServiceRoute(edmxModel, route));
+                            if (LOGGER.isInfoEnabled()) {
+                                LOGGER.info("Serving OData service endpoint for {} at {}{} ({} URI mapping)",
+                                        edmxModel.getEdm().getEntityContainer().getNamespace(), basePath, uriPath,
+                                        uriConversion.name().toLowerCase(Locale.getDefault()));
+                            }
+                        }));
 
-            // before adding new routes, get a list of existing routes, to remove after the new routes have been added
-            List<Route> existingRoutes = router.getRoutes();
-
-            // register new routes first, this will avoid downtimes of already existing services. Register the shortest
-            // routes last, this will lead to some routes like the empty namespace / to be registered last.
-            models.values().stream().flatMap(entityModel -> entityModel.getAllEdmxMetadata().entrySet().stream())
-                    .map(entryFunction(
-                            (schemaNamespace, edmxModel) -> Map.entry(uriConversion.apply(schemaNamespace), edmxModel)))
-                    .sorted(Map.Entry.comparingByKey(Comparator.comparingInt(String::length).reversed()))
-                    .forEach(entryConsumer((uriPath, edmxModel) -> {
-                        String schemaNamespace = edmxModel.getEdm().getEntityContainer().getNamespace();
-                        router.route((uriPath.isEmpty() ? EMPTY : ("/" + uriPath)) + "/*")
-                                // some entities should not get exposed, register a handler, checking the block list
-                                .handler(routingContext -> {
-                                    // normalize the URI first
-                                    NormalizedUri normalizedUri = normalizeUri(routingContext, schemaNamespace);
-                                    if (LOGGER.isDebugEnabled()) {
-                                        LOGGER.correlateWith(routingContext).debug("Normalized OData V4 URI {}",
-                                                normalizedUri);
-                                    }
-
-                                    // if a entity is specified check it against the block list
-                                    // TODO: maybe also navigation properties have to be taken into account here?
-                                    if (normalizedUri.fullQualifiedName != null
-                                            && !exposedEntities.isAllowed(normalizedUri.fullQualifiedName)) {
-                                        routingContext.fail(FORBIDDEN.code());
-                                        return;
-                                    }
-
-                                    routingContext.next();
-                                })
-                                // TODO depending on the config either create Olingo or CDS based OData V4 handlers here
-                                .handler(new OlingoEndpointHandler(edmxModel));
-                        if (LOGGER.isInfoEnabled()) {
-                            LOGGER.info("Serving OData service endpoint for {} at {}{} ({} URI mapping)",
-                                    schemaNamespace, basePath, uriPath,
-                                    uriConversion.name().toLowerCase(Locale.getDefault()));
-                        }
-                    }));
-
-            // remove any of the old routes, so the old models will stop serving
-            existingRoutes.forEach(Route::remove);
-
-            if (LOGGER.isInfoEnabled()) {
-                LOGGER.info("Refreshed OData endpoint router, populated {} models, removed {} existing routes",
-                        models.size(), existingRoutes.size());
+                // remove any of the old routes, so the old models will stop serving
+                existingRoutes.forEach(Route::remove);
+
+                if (LOGGER.isInfoEnabled()) {
+                    LOGGER.info("Refreshed OData endpoint router, serving {} services, removed {} existing routes",
+                            serviceRoutes.size(), existingRoutes.size());
+                }
             }
-            return succeededFuture();
+            return null;
         });
     }
 
+    private static Route registerServiceRoute(Router router, String uriPath, ServiceMetadata edmxModel,
+            RegexBlockList exposedEntities, int batchParallelism) {
+        String schemaNamespace = edmxModel.getEdm().getEntityContainer().getNamespace();
+        return router.route((uriPath.isEmpty() ? EMPTY : ("/" + uriPath)) + "/*")
+                // match the longest paths first, but only after the initial route
+                .order(Integer.MAX_VALUE - uriPath.length())
+                // some entities should not get exposed, register a handler, checking the block list
+                .handler(routingContext -> {
+                    // normalize the URI first
+                    NormalizedUri normalizedUri = normalizeUri(routingContext, schemaNamespace);
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.correlateWith(routingContext).debug("Normalized OData V4 URI {}", normalizedUri);
+                    }
+
+                    // if a entity is specified check it against the block list
+                    // TODO: maybe also navigation properties have to be taken into account here?
+                    if (normalizedUri.fullQualifiedName != null
+                            && !exposedEntities.isAllowed(normalizedUri.fullQualifiedName)) {
+                        routingContext.fail(FORBIDDEN.code());
+                        return;
+                    }
+
+                    routingContext.next();
+                })
+                // TODO depending on the config either create Olingo or CDS based OData V4 handlers here
+                .handler(new OlingoEndpointHandler(edmxModel, batchParallelism));
+    }
+
+    /**
+     * The route registered for the metadata of a service.
+     */
+    private static final class ServiceRoute {
+        private final ServiceMetadata edmxModel;
+
+        private final Route route;
+
+        ServiceRoute(ServiceMetadata edmxModel, Route route) {
+            this.edmxModel = edmxModel;
+            this.route = route;
+        }
+    }
+
     /**
      * Normalize a given OData V4 request URI using a given {@link RoutingContext} and the schema namespace.
      *
@@ -1,21 +1,20 @@
 package io.neonbee.endpoint.odatav4.internal.olingo;
 
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.normalizeUri;
-import static io.neonbee.internal.helper.BufferHelper.inputStreamToBuffer;
+import static io.neonbee.entity.EntityModelManager.getBufferedOData;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.AMBIGUOUS_XHTTP_METHOD;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.HTTP_METHOD_NOT_ALLOWED;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.INVALID_HTTP_METHOD;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import org.apache.olingo.commons.api.ex.ODataRuntimeException;
 import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.commons.api.http.HttpMethod;
-import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.ODataHandler;
 import org.apache.olingo.server.api.ODataLibraryException;
@@ -32,24 +31,53 @@ import io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollecti
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.EntityProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.PrimitiveProcessor;
 import io.neonbee.internal.helper.BufferHelper.BufferInputStream;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
 public final class OlingoEndpointHandler implements Handler<RoutingContext> {
+    /**
+     * Requests with a body larger than this size (in bytes) are processed in a worker thread, as deserializing the
+     * body could block the event loop for too long.
+     */
+    @VisibleForTesting
+    static final int MAXIMUM_EVENT_LOOP_BODY_SIZE = 64 * 1024;
+
+    /**
+     * Batch requests and metadata documents are processed in a worker thread, as parsing respectively serializing
+     * them (synchronously) could block the event loop for too long.
+     */
+    private static final Set<String> WORKER_PATHS = Set.of("/$batch", "/$metadata");
+
     private final ServiceMetadata serviceMetadata;
 
+    private final String schemaNamespace;
+
+    private final int batchParallelism;
+
     /**
      * Returns the OlingoEndpointHandler.
      *
      * @param serviceMetadata The metadata of the service
      */
     public OlingoEndpointHandler(ServiceMetadata serviceMetadata) {
+        this(serviceMetadata, BatchProcessor.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Returns the OlingoEndpointHandler.
+     *
+     * @param serviceMetadata  The metadata of the service
+     * @param batchParallelism The maximum number of parts of a batch request processed concurrently
+     */
+    public OlingoEndpointHandler(ServiceMetadata serviceMetadata, int batchParallelism) {
         this.serviceMetadata = serviceMetadata;
+        this.schemaNamespace = serviceMetadata.getEdm().getEntityContainer().getNamespace();
+        this.batchParallelism = batchParallelism;
     }
 
     @Override
@@ -58,29 +86,28 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
         // done, in case Olingo handles the request synchronously, the processPromise will be completed here
         Vertx vertx = routingContext.vertx();
         Promise<Void> processPromise = Promise.promise();
-        vertx.<ODataResponse>executeBlocking(blockingPromise -> {
-            OData odata = OData.newInstance();
-            ODataHandler odataHandler = odata.createRawHandler(serviceMetadata);
-
-            // add further built-in processors for NeonBee here (every processor must handle the processPromise)
-            odataHandler.register(new CountEntityCollectionProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new EntityProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new BatchProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new PrimitiveProcessor(vertx, routingContext, processPromise));
-
-            try {
-                ODataResponse odataResponse = odataHandler.process(mapToODataRequest(routingContext,
-                        serviceMetadata.getEdm().getEntityContainer().getNamespace()));
-                // check for synchronous processing, complete the processPromise in case a response body is set
-                if ((odataResponse.getStatusCode() != INTERNAL_SERVER_ERROR.code())
-                        || (odataResponse.getContent() != null) || (odataResponse.getODataContent() != null)) {
-                    processPromise.tryComplete();
-                }
-                blockingPromise.complete(odataResponse);
-            } catch (ODataLibraryException e) {
-                blockingPromise.fail(e);
+
+        Future<ODataResponse> processFuture;
+        try {
+            ODataRequest odataRequest = mapToODataRequest(routingContext, schemaNamespace);
+            if (isProcessedOnEventLoop(routingContext, odataRequest)) {
+                // parsing the URI and dispatching the request to the processors is cheap, as the processors are
+                // asynchronous anyways, so process the request on the event loop, without waiting for a worker thread
+                processFuture = succeededFuture(process(vertx, routingContext, odataRequest, processPromise));
+            } else {
+                processFuture = vertx.executeBlocking(blockingPromise -> {
+                    try {
+                        blockingPromise.complete(process(vertx, routingContext, odataRequest, processPromise));
+                    } catch (ODataLibraryException e) {
+                        blockingPromise.fail(e);
+                    }
+                });
             }
-        }, asyncODataResponse -> {
+        } catch (ODataLibraryException e) {
+            processFuture = failedFuture(e);
+        }
+
+        processFuture.onComplete(asyncODataResponse -> {
             // failed to map / process OData request, so fail the web request
             if (asyncODataResponse.failed()) {
                 Throwable cause = asyncODataResponse.cause();
@@ -99,16 +126,54 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
                     return;
                 }
 
-                try {
-                    // map the odataResponse to the routingContext.response
-                    mapODataResponse(odataResponse, routingContext.response());
-                } catch (IOException | ODataRuntimeException e) {
-                    routingContext.fail(-1, e);
-                }
+                // map the odataResponse to the routingContext.response
+                HttpServerResponse response = routingContext.response();
+                mapODataResponse(vertx, odataResponse, response).onFailure(cause -> {
+                    if (response.headWritten()) {
+                        // parts of the content have already been streamed, reset to signal the incomplete response
+                        response.reset();
+                    } else {
+                        routingContext.fail(-1, cause);
+                    }
+                });
             });
         });
     }
 
+    private ODataResponse process(Vertx vertx, RoutingContext routingContext, ODataRequest odataRequest,
+            Promise<Void> processPromise) throws ODataLibraryException {
+        // the processors are bound to the current request, thus a new handler has to be created for every request
+        ODataHandler odataHandler = getBufferedOData().createRawHandler(serviceMetadata);
+
+        // add further built-in processors for NeonBee here (every processor must handle the processPromise)
+        odataHandler.register(new CountEntityCollectionProcessor(vertx, routingContext, processPromise));
+        odataHandler.register(new EntityProcessor(vertx, routingContext, processPromise));
+        odataHandler.register(new BatchProcessor(vertx, routingContext, processPromise, batchParallelism));
+        odataHandler.register(new PrimitiveProcessor(vertx, routingContext, processPromise));
+
+        ODataResponse odataResponse = odataHandler.process(odataRequest);
+        // check for synchronous processing, complete the processPromise in case a response body is set
+        if ((odataResponse.getStatusCode() != INTERNAL_SERVER_ERROR.code()) || (odataResponse.getContent() != null)
+                || (odataResponse.getODataContent() != null)) {
+            processPromise.tryComplete();
+        }
+        return odataResponse;
+    }
+
+    /**
+     * Checks whether an OData request can be processed on the event loop. Batch requests, metadata requests and
+     * requests with large bodies are processed in a worker thread.
+     *
+     * @param routingContext the context for the handling of the HTTP request
+     * @param odataRequest   the OData request mapped from the routing context
+     * @return true if the request can be processed on the event loop
+     */
+    @VisibleForTesting
+    static boolean isProcessedOnEventLoop(RoutingContext routingContext, ODataRequest odataRequest) {
+        return !WORKER_PATHS.contains(odataRequest.getRawODataPath())
+                && routingContext.body().length() <= MAXIMUM_EVENT_LOOP_BODY_SIZE;
+    }
+
     private static int getStatusCode(Throwable throwable) {
         return throwable instanceof ODataApplicationException ? ((ODataApplicationException) throwable).getStatusCode()
                 : -1;
@@ -204,14 +269,16 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
     }
 
     /**
-     * Maps a ODataResponse to a existing Vert.x HttpServerResponse.
+     * Maps a ODataResponse to a existing Vert.x HttpServerResponse. The content of the ODataResponse is streamed to
+     * the HttpServerResponse in chunks, see {@link ResponseStreamer}.
      *
+     * @param vertx         The Vert.x instance to write the ODataContent with
      * @param odataResponse The ODataResponse to map
      * @param response      The HttpServerResponse to map to
-     * @throws IOException IOException
+     * @return a future, which succeeds as soon as the whole content was written to the HttpServerResponse
      */
     @VisibleForTesting
-    static void mapODataResponse(ODataResponse odataResponse, HttpServerResponse response) throws IOException {
+    static Future<Void> mapODataResponse(Vertx vertx, ODataResponse odataResponse, HttpServerResponse response) {
         // status code and headers
         response.setStatusCode(odataResponse.getStatusCode());
         for (Map.Entry<String, List<String>> entry : odataResponse.getAllHeaders().entrySet()) {
@@ -221,13 +288,11 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
         }
         // OData response content
         if (odataResponse.getContent() != null) {
-            response.end(inputStreamToBuffer(odataResponse.getContent()));
+            return ResponseStreamer.stream(odataResponse.getContent(), response);
         } else if (odataResponse.getODataContent() != null) {
-            ByteArrayOutputStream byteArrayOutput = new ByteArrayOutputStream();
-            odataResponse.getODataContent().write(byteArrayOutput);
-            response.end(Buffer.buffer(byteArrayOutput.toByteArray()));
+            return ResponseStreamer.stream(vertx, odataResponse.getODataContent(), response);
         } else {
-            response.end(); // no content (e.g. for update / delete requests)
+            return response.end(); // no content (e.g. for update / delete requests)
         }
     }
 }
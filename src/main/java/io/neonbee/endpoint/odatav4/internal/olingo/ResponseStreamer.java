@@ -0,0 +1,220 @@
+package io.neonbee.endpoint.odatav4.internal.olingo;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.olingo.server.api.ODataContent;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Streams the content of an OData response to a {@link HttpServerResponse} in chunks, instead of copying the whole
+ * content into one {@link Buffer} first.
+ * <p>
+ * Content which fits into a single chunk is sent with a Content-Length header, as before. Any larger content is sent
+ * using chunked transfer encoding, while respecting the back pressure of the response: whenever the write queue of the
+ * response is full, streaming is suspended until the response got drained. In case the response fails or is closed
+ * before the content was written, e.g. because the client disconnected, streaming stops. The handlers set on the
+ * response while streaming are removed again, as soon as streaming completed.
+ */
+final class ResponseStreamer {
+    @VisibleForTesting
+    static final int CHUNK_SIZE = 8192;
+
+    private static final long DRAIN_POLL_INTERVAL_MILLIS = 100;
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    /**
+     * This helper class cannot be instantiated.
+     */
+    private ResponseStreamer() {}
+
+    /**
+     * Streams the content of an {@link InputStream} to the response and ends the response.
+     * <p>
+     * The content is read on the calling thread, which is fine for the content provided by the Olingo serializers, as
+     * it is held in memory.
+     *
+     * @param content  the content to stream
+     * @param response the response to stream the content to
+     * @return a future, which succeeds as soon as the whole content was written to the response and fails if the
+     *         response fails or is closed before
+     */
+    static Future<Void> stream(InputStream content, HttpServerResponse response) {
+        Promise<Void> promise = Promise.promise();
+        // a response which is closed while its write queue is full, is never drained, so stop streaming in that case
+        response.exceptionHandler(promise::tryFail);
+        response.closeHandler(nothing -> promise
+                .tryFail(new IOException("Response was closed before the content was written")));
+        pump(content, response, new byte[CHUNK_SIZE], promise);
+        return promise.future().onComplete(nothing -> {
+            // the response has no accessors for the previous handlers to restore, thus the handlers are removed
+            response.drainHandler(null);
+            response.exceptionHandler(null);
+            response.closeHandler(null);
+            try {
+                content.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close the content of the response", e);
+            }
+        });
+    }
+
+    /**
+     * Streams the content written by an {@link ODataContent} to the response and ends the response.
+     * <p>
+     * The {@link ODataContent} pushes its content to an {@link OutputStream}, which cannot be suspended without
+     * blocking the writing thread, thus the content is written in a worker thread.
+     *
+     * @param vertx    the Vert.x instance to execute the blocking write with
+     * @param content  the content to stream
+     * @param response the response to stream the content to
+     * @return a future, which succeeds as soon as the whole content was written to the response
+     */
+    static Future<Void> stream(Vertx vertx, ODataContent content, HttpServerResponse response) {
+        return vertx.executeBlocking(promise -> {
+            // do not end the response in case writing the content fails, as the content would be incomplete
+            ResponseOutputStream output = new ResponseOutputStream(response);
+            try {
+                content.write(output);
+                output.close();
+            } catch (IOException | RuntimeException e) {
+                promise.fail(e);
+                return;
+            }
+            promise.complete();
+        }, false);
+    }
+
+    private static void pump(InputStream content, HttpServerResponse response, byte[] data, Promise<Void> promise) {
+        if (promise.future().isComplete()) {
+            // the response failed or was closed in the meantime
+            return;
+        }
+
+        try {
+            while (!response.writeQueueFull()) {
+                int length = readChunk(content, data);
+                if (length < data.length) {
+                    // the last chunk, in case the response was not written yet, the Content-Length is set by end
+                    response.end(Buffer.buffer(length).appendBytes(data, 0, length)).onComplete(promise);
+                    return;
+                }
+                writeChunk(response, Buffer.buffer(length).appendBytes(data));
+            }
+        } catch (IOException | RuntimeException e) {
+            promise.tryFail(e);
+            return;
+        }
+
+        response.drainHandler(nothing -> pump(content, response, data, promise));
+    }
+
+    /**
+     * Reads a chunk from the input stream, until the chunk is full or the end of the stream is reached.
+     *
+     * @return the length of the chunk read, which is less than the length of the chunk at the end of the stream
+     */
+    private static int readChunk(InputStream content, byte[] data) throws IOException {
+        int length = 0;
+        int read;
+        while (length < data.length && (read = content.read(data, length, data.length - length)) != -1) {
+            length += read;
+        }
+        return length;
+    }
+
+    private static void writeChunk(HttpServerResponse response, Buffer chunk) {
+        if (!response.isChunked() && !response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+            response.setChunked(true);
+        }
+        response.write(chunk);
+    }
+
+    /**
+     * An {@link OutputStream} writing to a {@link HttpServerResponse} in chunks, which blocks the writing thread while
+     * the write queue of the response is full. Closing the stream ends the response.
+     */
+    @VisibleForTesting
+    static class ResponseOutputStream extends OutputStream {
+        private final HttpServerResponse response;
+
+        private final byte[] data = new byte[CHUNK_SIZE];
+
+        private int length;
+
+        ResponseOutputStream(HttpServerResponse response) {
+            super();
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (length == data.length) {
+                flushChunk();
+            }
+            data[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                if (length == data.length) {
+                    flushChunk();
+                }
+                int copy = Math.min(remaining, data.length - length);
+                System.arraycopy(b, offset, data, length, copy);
+                length += copy;
+                offset += copy;
+                remaining -= copy;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.end(Buffer.buffer(length).appendBytes(data, 0, length));
+        }
+
+        private void flushChunk() throws IOException {
+            awaitDrain();
+            writeChunk(response, Buffer.buffer(length).appendBytes(data, 0, length));
+            length = 0;
+        }
+
+        private void awaitDrain() throws IOException {
+            if (!response.writeQueueFull()) {
+                return;
+            }
+
+            CountDownLatch drained = new CountDownLatch(1);
+            response.drainHandler(nothing -> drained.countDown());
+            try {
+                // check the write queue again, in case the response got drained before the drain handler was set
+                while (response.writeQueueFull() && !drained.await(DRAIN_POLL_INTERVAL_MILLIS, MILLISECONDS)) {
+                    if (response.closed()) {
+                        throw new IOException("Response was closed before the content was written");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the response to drain");
+            }
+        }
+    }
+}
@@ -122,13 +122,13 @@ public interface EntityComparison {
                 }
             } else {
                 String message = "Converting object of type" + object.getClass() + " is not yet supported.";
-                LOGGER.correlateWith(routingContext).error(message);
+                errorLog(routingContext, message, null);
                 throw new ODataApplicationException(message, HttpStatusCode.NOT_IMPLEMENTED.getStatusCode(),
                         Locale.ENGLISH);
             }
         } catch (NullPointerException | IllegalArgumentException | DateTimeParseException e) {
             String message = "Converting object of type" + object.getClass() + " failed.";
-            LOGGER.correlateWith(routingContext).error(message);
+            errorLog(routingContext, message, null);
             throw new ODataApplicationException(message, HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode(),
                     Locale.ENGLISH, e);
         }
@@ -0,0 +1,237 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper.throwNotImplementedODataException;
+import static io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor.binaryOperation;
+import static io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor.literalOperand;
+import static io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor.memberOperand;
+import static io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor.memberProperty;
+import static io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor.methodCall;
+import static io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor.unaryOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.edm.EdmEnumType;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitor;
+import org.apache.olingo.server.api.uri.queryoption.expression.Literal;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.apache.olingo.server.api.uri.queryoption.expression.MethodKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operands.ExpressionVisitorOperand;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Compiles a filter expression into a {@link CompiledFilter}, which can be evaluated for any number of entities.
+ * <p>
+ * A {@link FilterExpressionVisitor} has to be created for every single entity and walks the whole expression tree
+ * again. Instead the expression is compiled only once per request: literals are parsed and the properties referred to
+ * are resolved at compile time, sub-expressions which consist of literals only are evaluated at compile time and the
+ * logical operators <code>and</code> / <code>or</code> short-circuit. All operators are evaluated exactly like by the
+ * {@link FilterExpressionVisitor}. Expressions which are not supported, fail when the filter is evaluated.
+ */
+public final class FilterExpressionCompiler
+        implements ExpressionVisitor<FilterExpressionCompiler.CompiledExpression> {
+    private final RoutingContext routingContext;
+
+    private FilterExpressionCompiler(RoutingContext routingContext) {
+        this.routingContext = routingContext;
+    }
+
+    /**
+     * Compiles a filter expression.
+     *
+     * @param routingContext the current routingContext
+     * @param expression     the filter expression to compile
+     * @return a filter, which can be tested for any number of entities
+     * @throws ExpressionVisitException  if the expression could not be visited
+     * @throws ODataApplicationException if the expression could not be compiled
+     */
+    public static CompiledFilter compile(RoutingContext routingContext, Expression expression)
+            throws ExpressionVisitException, ODataApplicationException {
+        CompiledExpression compiledExpression = expression.accept(new FilterExpressionCompiler(routingContext));
+        return entity -> Boolean.TRUE.equals(compiledExpression.evaluate(entity).getValue());
+    }
+
+    @Override
+    public CompiledExpression visitBinaryOperator(BinaryOperatorKind operator, CompiledExpression left,
+            CompiledExpression right) throws ExpressionVisitException, ODataApplicationException {
+        CompiledExpression compiledExpression;
+        switch (operator) {
+        case AND:
+            compiledExpression = entity -> {
+                ExpressionVisitorOperand leftOperand = left.evaluate(entity);
+                return leftOperand.isBooleanType() && Boolean.FALSE.equals(leftOperand.getValue()) ? leftOperand
+                        : binaryOperation(routingContext, operator, leftOperand, right.evaluate(entity));
+            };
+            break;
+        case OR:
+            compiledExpression = entity -> {
+                ExpressionVisitorOperand leftOperand = left.evaluate(entity);
+                return leftOperand.isBooleanType() && Boolean.TRUE.equals(leftOperand.getValue()) ? leftOperand
+                        : binaryOperation(routingContext, operator, leftOperand, right.evaluate(entity));
+            };
+            break;
+        default:
+            compiledExpression = entity -> binaryOperation(routingContext, operator, left.evaluate(entity),
+                    right.evaluate(entity));
+        }
+        return fold(compiledExpression, List.of(left, right));
+    }
+
+    @Override
+    public CompiledExpression visitBinaryOperator(BinaryOperatorKind operator, CompiledExpression left,
+            List<CompiledExpression> right) throws ExpressionVisitException, ODataApplicationException {
+        return fold(entity -> binaryOperation(routingContext, operator, left.evaluate(entity),
+                evaluate(right, entity)), append(right, left));
+    }
+
+    @Override
+    public CompiledExpression visitUnaryOperator(UnaryOperatorKind operator, CompiledExpression operand)
+            throws ExpressionVisitException, ODataApplicationException {
+        return fold(entity -> unaryOperation(routingContext, operator, operand.evaluate(entity)), List.of(operand));
+    }
+
+    @Override
+    public CompiledExpression visitMethodCall(MethodKind methodCall, List<CompiledExpression> parameters)
+            throws ExpressionVisitException, ODataApplicationException {
+        return fold(entity -> methodCall(routingContext, methodCall, evaluate(parameters, entity)), parameters);
+    }
+
+    @Override
+    public CompiledExpression visitLiteral(Literal literal) throws ExpressionVisitException, ODataApplicationException {
+        ExpressionVisitorOperand operand = literalOperand(routingContext, literal);
+        try {
+            return new Constant(operand.setType());
+        } catch (ODataApplicationException | RuntimeException e) {
+            // the operators will fail to set the type of the operand the same way, so leave it to them
+            return new Constant(operand);
+        }
+    }
+
+    @Override
+    public CompiledExpression visitMember(Member member) throws ExpressionVisitException, ODataApplicationException {
+        EdmProperty edmProperty;
+        try {
+            edmProperty = memberProperty(member);
+        } catch (ODataApplicationException | RuntimeException e) {
+            return entity -> memberOperand(routingContext, memberProperty(member), entity);
+        }
+        return entity -> memberOperand(routingContext, edmProperty, entity);
+    }
+
+    @Override
+    public CompiledExpression visitAlias(String aliasName) throws ExpressionVisitException, ODataApplicationException {
+        return entity -> throwNotImplementedODataException();
+    }
+
+    @Override
+    public CompiledExpression visitTypeLiteral(EdmType type)
+            throws ExpressionVisitException, ODataApplicationException {
+        return entity -> throwNotImplementedODataException();
+    }
+
+    @Override
+    public CompiledExpression visitLambdaReference(String variableName)
+            throws ExpressionVisitException, ODataApplicationException {
+        return entity -> throwNotImplementedODataException();
+    }
+
+    @Override
+    public CompiledExpression visitEnum(EdmEnumType type, List<String> enumValues)
+            throws ExpressionVisitException, ODataApplicationException {
+        return entity -> throwNotImplementedODataException();
+    }
+
+    @Override
+    public CompiledExpression visitLambdaExpression(String lambdaFunction, String lambdaVariable,
+            Expression expression) throws ExpressionVisitException, ODataApplicationException {
+        return entity -> throwNotImplementedODataException();
+    }
+
+    /**
+     * In case all operands of an expression are constant, evaluates the expression at compile time.
+     *
+     * @param compiledExpression the compiled expression
+     * @param operands           the operands of the expression
+     * @return the constant result of the expression, or the compiled expression in case it is not constant
+     */
+    private static CompiledExpression fold(CompiledExpression compiledExpression, List<CompiledExpression> operands) {
+        if (!operands.stream().allMatch(Constant.class::isInstance)) {
+            return compiledExpression;
+        }
+
+        try {
+            return new Constant(compiledExpression.evaluate(null));
+        } catch (ODataApplicationException | RuntimeException e) {
+            // fail when evaluating the filter, as the filter expression visitor does
+            return compiledExpression;
+        }
+    }
+
+    private static List<ExpressionVisitorOperand> evaluate(List<CompiledExpression> compiledExpressions,
+            Entity entity) throws ODataApplicationException {
+        List<ExpressionVisitorOperand> operands = new ArrayList<>(compiledExpressions.size());
+        for (CompiledExpression compiledExpression : compiledExpressions) {
+            operands.add(compiledExpression.evaluate(entity));
+        }
+        return operands;
+    }
+
+    private static List<CompiledExpression> append(List<CompiledExpression> compiledExpressions,
+            CompiledExpression compiledExpression) {
+        List<CompiledExpression> result = new ArrayList<>(compiledExpressions);
+        result.add(compiledExpression);
+        return result;
+    }
+
+    /**
+     * A filter expression compiled by the {@link FilterExpressionCompiler}.
+     */
+    @FunctionalInterface
+    public interface CompiledFilter {
+        /**
+         * Tests whether the entity matches the filter expression.
+         *
+         * @param entity the entity to test
+         * @return true if the filter expression evaluates to true for the entity
+         * @throws ODataApplicationException if the filter expression could not be evaluated
+         */
+        boolean test(Entity entity) throws ODataApplicationException;
+    }
+
+    /**
+     * A compiled (sub-)expression of a filter expression.
+     */
+    @FunctionalInterface
+    public interface CompiledExpression {
+        /**
+         * Evaluates the expression for an entity.
+         *
+         * @param entity the entity to evaluate the expression for
+         * @return the result of the expression
+         * @throws ODataApplicationException if the expression could not be evaluated
+         */
+        ExpressionVisitorOperand evaluate(Entity entity) throws ODataApplicationException;
+    }
+
+    private static final class Constant implements CompiledExpression {
+        private final ExpressionVisitorOperand operand;
+
+        Constant(ExpressionVisitorOperand operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public ExpressionVisitorOperand evaluate(Entity entity) {
+            return operand;
+        }
+    }
+}
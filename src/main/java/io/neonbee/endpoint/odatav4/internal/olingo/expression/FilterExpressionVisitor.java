@@ -3,6 +3,7 @@ package io.neonbee.endpoint.odatav4.internal.olingo.expression;
 import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper.throwNotImplementedODataException;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.apache.olingo.commons.api.data.Entity;
@@ -10,6 +11,7 @@ import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.EdmEnumType;
 import org.apache.olingo.commons.api.edm.EdmProperty;
 import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourceProperty;
@@ -52,15 +54,98 @@ public class FilterExpressionVisitor implements ExpressionVisitor<ExpressionVisi
     @Override
     public ExpressionVisitorOperand visitBinaryOperator(BinaryOperatorKind operator, ExpressionVisitorOperand left,
             List<ExpressionVisitorOperand> right) throws ExpressionVisitException, ODataApplicationException {
+        return binaryOperation(routingContext, operator, left, right);
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitBinaryOperator(BinaryOperatorKind operator, ExpressionVisitorOperand left,
+            ExpressionVisitorOperand right) throws ExpressionVisitException, ODataApplicationException {
+        return binaryOperation(routingContext, operator, left, right);
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitLiteral(Literal literal)
+            throws ExpressionVisitException, ODataApplicationException {
+        return literalOperand(routingContext, literal);
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitUnaryOperator(UnaryOperatorKind operator, ExpressionVisitorOperand operand)
+            throws ExpressionVisitException, ODataApplicationException {
+        return unaryOperation(routingContext, operator, operand);
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitMember(Member member)
+            throws ExpressionVisitException, ODataApplicationException {
+        return memberOperand(routingContext, memberProperty(member), entity);
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitMethodCall(MethodKind methodCall, List<ExpressionVisitorOperand> parameters)
+            throws ExpressionVisitException, ODataApplicationException {
+        return methodCall(routingContext, methodCall, parameters);
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitTypeLiteral(EdmType type)
+            throws ExpressionVisitException, ODataApplicationException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.correlateWith(routingContext).trace("Visiting Type Literal '{}' is not yet implemented.", type);
+        }
+        return throwNotImplementedODataException();
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitAlias(String aliasName)
+            throws ExpressionVisitException, ODataApplicationException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.correlateWith(routingContext).trace("Visiting Alias '{}' is not yet implemented.", aliasName);
+        }
+        return throwNotImplementedODataException();
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitEnum(EdmEnumType type, List<String> enumValues)
+            throws ExpressionVisitException, ODataApplicationException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.correlateWith(routingContext)
+                    .trace("Visiting Enum of type '{}' with values '{}' is not yet implemented.", type, enumValues);
+        }
+        return throwNotImplementedODataException();
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitLambdaExpression(String lambdaFunction, String lambdaVariable,
+            Expression expression) throws ExpressionVisitException, ODataApplicationException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.correlateWith(routingContext).trace(
+                    "Visiting Lambda Expression with function '{}' and variable '{}' is not yet implemented.",
+                    lambdaFunction, lambdaVariable);
+        }
+        return throwNotImplementedODataException();
+    }
+
+    @Override
+    public ExpressionVisitorOperand visitLambdaReference(String variableName)
+            throws ExpressionVisitException, ODataApplicationException {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.correlateWith(routingContext).trace("Visiting Lambda Reference '{}' is not yet implemented.",
+                    variableName);
+        }
+        return throwNotImplementedODataException();
+    }
+
+    static ExpressionVisitorOperand binaryOperation(RoutingContext routingContext, BinaryOperatorKind operator,
+            ExpressionVisitorOperand left, List<ExpressionVisitorOperand> right) throws ODataApplicationException {
         if (BinaryOperatorKind.IN.equals(operator)) {
             return new BinaryOperator(routingContext, left, right).inOperator();
         }
         return throwNotImplementedODataException();
     }
 
-    @Override
-    public ExpressionVisitorOperand visitBinaryOperator(BinaryOperatorKind operator, ExpressionVisitorOperand left,
-            ExpressionVisitorOperand right) throws ExpressionVisitException, ODataApplicationException {
+    static ExpressionVisitorOperand binaryOperation(RoutingContext routingContext, BinaryOperatorKind operator,
+            ExpressionVisitorOperand left, ExpressionVisitorOperand right) throws ODataApplicationException {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.correlateWith(routingContext).trace("Operator: {}", operator);
         }
@@ -94,9 +179,7 @@ public class FilterExpressionVisitor implements ExpressionVisitor<ExpressionVisi
         }
     }
 
-    @Override
-    public ExpressionVisitorOperand visitLiteral(Literal literal)
-            throws ExpressionVisitException, ODataApplicationException {
+    static ExpressionVisitorOperand literalOperand(RoutingContext routingContext, Literal literal) {
         String literalText = EdmHelper.extractValueFromLiteral(literal.getText());
         EdmType literalType = literal.getType();
         if (LOGGER.correlateWith(routingContext).isTraceEnabled()) {
@@ -105,9 +188,8 @@ public class FilterExpressionVisitor implements ExpressionVisitor<ExpressionVisi
         return new ExpressionVisitorOperand(routingContext, literalText, literalType);
     }
 
-    @Override
-    public ExpressionVisitorOperand visitUnaryOperator(UnaryOperatorKind operator, ExpressionVisitorOperand operand)
-            throws ExpressionVisitException, ODataApplicationException {
+    static ExpressionVisitorOperand unaryOperation(RoutingContext routingContext, UnaryOperatorKind operator,
+            ExpressionVisitorOperand operand) throws ODataApplicationException {
         UnaryOperator unaryOperator = new UnaryOperator(routingContext, operand);
         if (LOGGER.isTraceEnabled()) {
             LOGGER.correlateWith(routingContext).trace("Unary Operator: {}", unaryOperator);
@@ -122,9 +204,7 @@ public class FilterExpressionVisitor implements ExpressionVisitor<ExpressionVisi
         return throwNotImplementedODataException();
     }
 
-    @Override
-    public ExpressionVisitorOperand visitMember(Member member)
-            throws ExpressionVisitException, ODataApplicationException {
+    static EdmProperty memberProperty(Member member) throws ODataApplicationException {
         /*
          * See https://docs.oasis-open.org/odata/odata/v4.01/odata-v4.01-part2-url-conventions.html#sec_URLComponents
          * for details about how the OData URL broken down into its component parts.
@@ -133,23 +213,26 @@ public class FilterExpressionVisitor implements ExpressionVisitor<ExpressionVisi
         // initialPart contains the part with the entity resource (+ key if exists) in the example link from above
         // it would be the "Categories(1)" part of the resource path
         UriResource initialPart = uriResourceParts.get(0);
-        if (initialPart instanceof UriResourceProperty) {
-            UriResourceProperty uriResourceProperty =
-                    Optional.ofNullable((UriResourceProperty) initialPart).orElseThrow();
-            EdmProperty edmProperty = Optional.ofNullable(uriResourceProperty.getProperty()).orElseThrow();
-            Property property = Optional.ofNullable(entity.getProperty(edmProperty.getName())).orElseThrow();
-            if (property.isPrimitive()) {
-                return new ExpressionVisitorOperand(routingContext, property.getValue(), edmProperty.getType(),
-                        edmProperty);
-            }
-            return throwNotImplementedODataException();
+        if (!(initialPart instanceof UriResourceProperty)) {
+            throw new ODataApplicationException("Not implemented", HttpStatusCode.NOT_IMPLEMENTED.getStatusCode(),
+                    Locale.ENGLISH);
+        }
+        UriResourceProperty uriResourceProperty = Optional.ofNullable((UriResourceProperty) initialPart).orElseThrow();
+        return Optional.ofNullable(uriResourceProperty.getProperty()).orElseThrow();
+    }
+
+    static ExpressionVisitorOperand memberOperand(RoutingContext routingContext, EdmProperty edmProperty,
+            Entity entity) throws ODataApplicationException {
+        Property property = Optional.ofNullable(entity.getProperty(edmProperty.getName())).orElseThrow();
+        if (property.isPrimitive()) {
+            return new ExpressionVisitorOperand(routingContext, property.getValue(), edmProperty.getType(),
+                    edmProperty);
         }
         return throwNotImplementedODataException();
     }
 
-    @Override
-    public ExpressionVisitorOperand visitMethodCall(MethodKind methodCall, List<ExpressionVisitorOperand> parameters)
-            throws ExpressionVisitException, ODataApplicationException {
+    static ExpressionVisitorOperand methodCall(RoutingContext routingContext, MethodKind methodCall,
+            List<ExpressionVisitorOperand> parameters) throws ODataApplicationException {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.correlateWith(routingContext).trace("Method Call: {}", methodCall);
         }
@@ -196,53 +279,4 @@ public class FilterExpressionVisitor implements ExpressionVisitor<ExpressionVisi
             return throwNotImplementedODataException();
         }
     }
-
-    @Override
-    public ExpressionVisitorOperand visitTypeLiteral(EdmType type)
-            throws ExpressionVisitException, ODataApplicationException {
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.correlateWith(routingContext).trace("Visiting Type Literal '{}' is not yet implemented.", type);
-        }
-        return throwNotImplementedODataException();
-    }
-
-    @Override
-    public ExpressionVisitorOperand visitAlias(String aliasName)
-            throws ExpressionVisitException, ODataApplicationException {
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.correlateWith(routingContext).trace("Visiting Alias '{}' is not yet implemented.", aliasName);
-        }
-        return throwNotImplementedODataException();
-    }
-
-    @Override
-    public ExpressionVisitorOperand visitEnum(EdmEnumType type, List<String> enumValues)
-            throws ExpressionVisitException, ODataApplicationException {
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.correlateWith(routingContext)
-                    .trace("Visiting Enum of type '{}' with values '{}' is not yet implemented.", type, enumValues);
-        }
-        return throwNotImplementedODataException();
-    }
-
-    @Override
-    public ExpressionVisitorOperand visitLambdaExpression(String lambdaFunction, String lambdaVariable,
-            Expression expression) throws ExpressionVisitException, ODataApplicationException {
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.correlateWith(routingContext).trace(
-                    "Visiting Lambda Expression with function '{}' and variable '{}' is not yet implemented.",
-                    lambdaFunction, lambdaVariable);
-        }
-        return throwNotImplementedODataException();
-    }
-
-    @Override
-    public ExpressionVisitorOperand visitLambdaReference(String variableName)
-            throws ExpressionVisitException, ODataApplicationException {
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.correlateWith(routingContext).trace("Visiting Lambda Reference '{}' is not yet implemented.",
-                    variableName);
-        }
-        return throwNotImplementedODataException();
-    }
 }
@@ -1,9 +1,8 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.expression;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.edm.EdmProperty;
@@ -11,21 +10,28 @@ import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourcePrimitiveProperty;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
 import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
 import org.apache.olingo.server.api.uri.queryoption.expression.Member;
 
+import io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.ext.web.RoutingContext;
 
 public final class OrderExpressionExecutor implements EntityComparison {
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
+    /**
+     * Ranges of indexes up to this size are sorted using an insertion sort, instead of being split any further.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
     private OrderExpressionExecutor() {
         // No need to instantiate
     }
 
     /**
-     * Creates new EntityComparators based on the passed order options and sort the passed list.
+     * Orders the passed list according to the passed order options.
      *
      * @param routingContext the current routingContent
      * @param orderByOption  the orderByOption
@@ -34,32 +40,305 @@ public final class OrderExpressionExecutor implements EntityComparison {
      */
     public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
             List<Entity> entityList) {
+        List<Entity> orderedEntities =
+                executeOrderOption(routingContext, orderByOption, entityList, entityList.size());
+        for (int index = 0; index < orderedEntities.size(); index++) {
+            entityList.set(index, orderedEntities.get(index));
+        }
+        return entityList;
+    }
+
+    /**
+     * Returns the first entities of the passed list, according to the passed order options.
+     * <p>
+     * The sort keys are extracted only once per entity and the indexes of the entities are sorted as primitive values.
+     * In case less entities than contained in the list are requested (e.g. because of a $top option), the first
+     * entities are selected using a bounded heap, instead of sorting the whole list. Entities with equal sort keys keep
+     * their relative order.
+     *
+     * @param routingContext the current routingContent
+     * @param orderByOption  the orderByOption
+     * @param entityList     the list of entities to order, which is not modified
+     * @param limit          the maximum number of entities to return
+     * @return a new list with at most limit entities in the requested order, or the passed list in case the order
+     *         options contained no property to order by
+     */
+    public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
+            List<Entity> entityList, int limit) {
+        List<SortKeyColumn> columns = extractSortKeys(routingContext, orderByOption, entityList);
+        if (columns.isEmpty()) {
+            return entityList;
+        }
+
+        IndexComparator comparator = indexComparator(columns);
+        int[] orderedIndexes;
+        if (limit < entityList.size()) {
+            orderedIndexes = selectFirst(entityList.size(), Math.max(limit, 0), comparator);
+        } else {
+            orderedIndexes = new int[entityList.size()];
+            Arrays.setAll(orderedIndexes, index -> index);
+        }
+        sort(orderedIndexes, comparator);
+
+        List<Entity> orderedEntities = new ArrayList<>(orderedIndexes.length);
+        for (int index : orderedIndexes) {
+            orderedEntities.add(entityList.get(index));
+        }
+        return orderedEntities;
+    }
+
+    /**
+     * Merges lists of entities, which are each ordered according to the passed order options already, into one ordered
+     * list.
+     * <p>
+     * The first remaining entities of all lists are kept in a heap, the next entity is always taken from the list with
+     * the first entity in the requested order. Merging stops as soon as limit entities have been taken, so the
+     * remaining entities of the lists are never compared. Entities with equal sort keys are taken in the order of the
+     * lists passed.
+     *
+     * @param routingContext the current routingContent, or null if the entities are not merged for a HTTP request
+     * @param orderByOption  the orderByOption
+     * @param orderedLists   the lists of entities to merge, each ordered according to the orderByOption
+     * @param limit          the maximum number of entities to return
+     * @return a new list with at most limit entities in the requested order
+     */
+    public static List<Entity> mergeOrderedLists(RoutingContext routingContext, OrderByOption orderByOption,
+            List<List<Entity>> orderedLists, int limit) {
+        // the sort keys are extracted for all entities at once, so every entity is addressed by its index in the
+        // concatenation of all lists and the end index of every list is remembered
+        List<Entity> entityList = new ArrayList<>();
+        int[] nextIndexes = new int[orderedLists.size()];
+        int[] endIndexes = new int[orderedLists.size()];
+        for (int list = 0; list < orderedLists.size(); list++) {
+            nextIndexes[list] = entityList.size();
+            entityList.addAll(orderedLists.get(list));
+            endIndexes[list] = entityList.size();
+        }
+
+        List<SortKeyColumn> columns = extractSortKeys(routingContext, orderByOption, entityList);
+        if (columns.isEmpty()) {
+            return new ArrayList<>(entityList.subList(0, Math.max(Math.min(limit, entityList.size()), 0)));
+        }
+
+        IndexComparator comparator = indexComparator(columns);
+        IndexHeap heads = new IndexHeap(orderedLists.size(),
+                (list1, list2) -> comparator.compare(nextIndexes[list1], nextIndexes[list2]));
+        for (int list = 0; list < orderedLists.size(); list++) {
+            if (nextIndexes[list] < endIndexes[list]) {
+                heads.add(list);
+            }
+        }
+
+        List<Entity> mergedEntities = new ArrayList<>(Math.max(Math.min(limit, entityList.size()), 0));
+        while (mergedEntities.size() < limit && !heads.isEmpty()) {
+            int list = heads.peek();
+            mergedEntities.add(entityList.get(nextIndexes[list]++));
+            if (nextIndexes[list] < endIndexes[list]) {
+                // the next entity of the list is moved to its position in the heap
+                heads.replaceTop(list);
+            } else {
+                heads.poll();
+            }
+        }
+        return mergedEntities;
+    }
 
+    private static List<SortKeyColumn> extractSortKeys(RoutingContext routingContext, OrderByOption orderByOption,
+            List<Entity> entityList) {
         // Sorts the list in 'asc' order by default e.g. in the case that nothing is specified
-        Collections.sort(entityList, new EntityChainedComparator(orderByOption.getOrders().stream()
-                .filter(orderByItem -> orderByItem.getExpression() instanceof Member).map(orderByItem -> {
-                    /*
-                     * See https://docs.oasis-open.org/odata/odata/v4.01/odata-v4.01-part2-url-conventions.html#
-                     * sec_URLComponents for details about how the OData URL broken down into its component parts.
-                     */
-                    UriResource uriResource =
-                            ((Member) orderByItem.getExpression()).getResourcePath().getUriResourceParts().get(0);
-                    if (uriResource instanceof UriResourcePrimitiveProperty) {
-                        // The property we want to sort by
-                        EdmProperty property = ((UriResourcePrimitiveProperty) uriResource).getProperty();
-                        if (property.getType().getKind() == EdmTypeKind.PRIMITIVE) {
-                            String sortPropertyName = property.getName();
-                            try {
-                                return new EntityComparator(routingContext, sortPropertyName,
-                                        orderByItem.isDescending(), property.getType().toString());
-                            } catch (ODataApplicationException e) {
-                                LOGGER.correlateWith(routingContext).error("Failure during order options execution", e);
-                            }
-                        }
+        List<SortKeyColumn> columns = new ArrayList<>();
+        for (OrderByItem orderByItem : orderByOption.getOrders()) {
+            if (!(orderByItem.getExpression() instanceof Member)) {
+                continue;
+            }
+
+            /*
+             * See https://docs.oasis-open.org/odata/odata/v4.01/odata-v4.01-part2-url-conventions.html#
+             * sec_URLComponents for details about how the OData URL broken down into its component parts.
+             */
+            UriResource uriResource =
+                    ((Member) orderByItem.getExpression()).getResourcePath().getUriResourceParts().get(0);
+            if (uriResource instanceof UriResourcePrimitiveProperty) {
+                // The property we want to sort by
+                EdmProperty property = ((UriResourcePrimitiveProperty) uriResource).getProperty();
+                if (property.getType().getKind() == EdmTypeKind.PRIMITIVE) {
+                    try {
+                        columns.add(SortKeyColumn.extract(routingContext, entityList, property.getName(),
+                                orderByItem.isDescending(),
+                                EdmHelper.getEdmPrimitiveTypeKindByPropertyType(property.getType().toString())));
+                    } catch (ODataApplicationException e) {
+                        (routingContext != null ? LOGGER.correlateWith(routingContext) : LOGGER)
+                                .error("Failure during order options execution", e);
                     }
-                    return null;
-                }).filter(Objects::nonNull).collect(Collectors.toList())));
+                }
+            }
+        }
+        return columns;
+    }
 
-        return entityList;
+    /**
+     * Compares the indexes of entities by their sort keys. The indexes are compared last, to keep the relative order of
+     * entities with equal sort keys.
+     */
+    private static IndexComparator indexComparator(List<SortKeyColumn> columns) {
+        SortKeyColumn[] columnArray = columns.toArray(new SortKeyColumn[0]);
+        return (index1, index2) -> {
+            for (SortKeyColumn column : columnArray) {
+                int result = column.compare(index1, index2);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(index1, index2);
+        };
+    }
+
+    /**
+     * Selects the first indexes in the given order, using a bounded heap with the last selected index on top.
+     */
+    private static int[] selectFirst(int size, int limit, IndexComparator comparator) {
+        if (limit == 0) {
+            return new int[0];
+        }
+
+        IndexHeap heap = new IndexHeap(limit, (index1, index2) -> comparator.compare(index2, index1));
+        for (int index = 0; index < size; index++) {
+            if (heap.size() < limit) {
+                heap.add(index);
+            } else if (comparator.compare(index, heap.peek()) < 0) {
+                heap.replaceTop(index);
+            }
+        }
+        return heap.toArray();
+    }
+
+    /**
+     * Sorts the indexes using a merge sort, as the JDK does not offer to sort primitive values using a comparator.
+     */
+    private static void sort(int[] indexes, IndexComparator comparator) {
+        if (indexes.length > 1) {
+            mergeSort(indexes.clone(), indexes, 0, indexes.length, comparator);
+        }
+    }
+
+    /**
+     * Sorts the range of the source array into the same range of the target array. Both arrays must contain the same
+     * indexes in the range, the source array is used as working space.
+     */
+    private static void mergeSort(int[] source, int[] target, int from, int to, IndexComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int sorted = from + 1; sorted < to; sorted++) {
+                int index = target[sorted];
+                int position = sorted;
+                while (position > from && comparator.compare(target[position - 1], index) > 0) {
+                    target[position] = target[position - 1];
+                    position--;
+                }
+                target[position] = index;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(target, source, from, middle, comparator);
+        mergeSort(target, source, middle, to, comparator);
+        if (comparator.compare(source[middle - 1], source[middle]) <= 0) {
+            // both halves are in order already
+            System.arraycopy(source, from, target, from, to - from);
+            return;
+        }
+
+        for (int position = from, left = from, right = middle; position < to; position++) {
+            if (right >= to || (left < middle && comparator.compare(source[left], source[right]) <= 0)) {
+                target[position] = source[left++];
+            } else {
+                target[position] = source[right++];
+            }
+        }
+    }
+
+    /**
+     * Compares two indexes, without boxing them.
+     */
+    @FunctionalInterface
+    private interface IndexComparator {
+        int compare(int index1, int index2);
+    }
+
+    /**
+     * A binary heap of indexes with a fixed capacity, holding the first index in the order of the comparator on top.
+     */
+    private static final class IndexHeap {
+        private final int[] indexes;
+
+        private final IndexComparator comparator;
+
+        private int size;
+
+        IndexHeap(int capacity, IndexComparator comparator) {
+            this.indexes = new int[capacity];
+            this.comparator = comparator;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int peek() {
+            return indexes[0];
+        }
+
+        void add(int index) {
+            int position = size++;
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (comparator.compare(index, indexes[parent]) >= 0) {
+                    break;
+                }
+                indexes[position] = indexes[parent];
+                position = parent;
+            }
+            indexes[position] = index;
+        }
+
+        int poll() {
+            int top = indexes[0];
+            if (--size > 0) {
+                siftDown(indexes[size]);
+            }
+            return top;
+        }
+
+        /**
+         * Replaces the index on top of the heap, or restores the heap after the order of the top index changed.
+         */
+        void replaceTop(int index) {
+            siftDown(index);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(indexes, size);
+        }
+
+        private void siftDown(int index) {
+            int position = 0;
+            int half = size >>> 1;
+            while (position < half) {
+                int child = 2 * position + 1;
+                if (child + 1 < size && comparator.compare(indexes[child + 1], indexes[child]) < 0) {
+                    child++;
+                }
+                if (comparator.compare(index, indexes[child]) <= 0) {
+                    break;
+                }
+                indexes[position] = indexes[child];
+                position = child;
+            }
+            indexes[position] = index;
+        }
     }
 }
@@ -0,0 +1,263 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_BINARY_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_BOOLEAN_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_DATE_TIMEOFDAY_DATETIMEOFFSET_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_DECIMAL_DURATION_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_GUID_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_INT16_INT32_INT64_BYTE_SBYTE_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_SINGLE_DOUBLE_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_STRING_JAVA_TYPES;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.ODataApplicationException;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The sort keys of one item of an $orderby option for a list of entities.
+ * <p>
+ * The value of the sort property is read and converted into a sort key only once per entity, instead of once per
+ * comparison as {@link EntityComparator} does. Integer, floating-point, date / time, boolean and binary properties are
+ * stored as primitive {@code long} or {@code double} keys, all other properties as {@link Comparable} keys. The keys
+ * are compared by the index of the entity in the list. The order equals the order of the {@link EntityComparator}.
+ */
+abstract class SortKeyColumn implements EntityComparison {
+    private final boolean descending;
+
+    private final boolean[] nulls;
+
+    SortKeyColumn(boolean descending, boolean[] nulls) {
+        this.descending = descending;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Extracts the sort keys of a property for all entities.
+     *
+     * @param routingContext   the current routingContext
+     * @param entities         the entities to extract the sort keys from
+     * @param propertyName     the name of the property to sort by
+     * @param descending       whether to sort in descending order
+     * @param propertyTypeKind the Edm primitive type kind of the property
+     * @return the sort keys of the property
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    static SortKeyColumn extract(RoutingContext routingContext, List<Entity> entities, String propertyName,
+            boolean descending, EdmPrimitiveTypeKind propertyTypeKind) {
+        Object[] values = new Object[entities.size()];
+        boolean[] nulls = new boolean[values.length];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = entities.get(index).getProperty(propertyName).getValue();
+            nulls[index] = values[index] == null;
+        }
+
+        switch (propertyTypeKind) {
+        case Binary:
+            return new LongColumn(descending, nulls, routingContext, values, propertyName, EDM_BINARY_JAVA_TYPES,
+                    (column, value) -> Array.getLength(value));
+        case Int16:
+        case Int32:
+        case Int64:
+        case Byte:
+        case SByte:
+            return integerColumn(routingContext, values, nulls, propertyName, descending);
+        case Decimal:
+        case Duration:
+            return new ObjectColumn<>(descending, nulls, routingContext, values, propertyName,
+                    EDM_DECIMAL_DURATION_JAVA_TYPES, (column, value) -> toBigDecimal(value),
+                    Comparator.<BigDecimal>naturalOrder());
+        case Single:
+        case Double:
+            return new DoubleColumn(descending, nulls, routingContext, values, propertyName);
+        case Date:
+        case TimeOfDay:
+        case DateTimeOffset:
+            return new LongColumn(descending, nulls, routingContext, values, propertyName,
+                    EDM_DATE_TIMEOFDAY_DATETIMEOFFSET_JAVA_TYPES,
+                    (column, value) -> value instanceof Time ? ((Time) value).getTime()
+                            : column.dateTimeObjectToInstant(routingContext, value).toEpochMilli());
+        case Boolean:
+            return new LongColumn(descending, nulls, routingContext, values, propertyName, EDM_BOOLEAN_JAVA_TYPES,
+                    (column, value) -> (Boolean) value ? 1 : 0);
+        case String:
+            return new ObjectColumn<>(descending, nulls, routingContext, values, propertyName, EDM_STRING_JAVA_TYPES,
+                    (column, value) -> (String) value, String.CASE_INSENSITIVE_ORDER);
+        case Guid:
+            return new ObjectColumn<>(descending, nulls, routingContext, values, propertyName, EDM_GUID_JAVA_TYPES,
+                    (column, value) -> (UUID) value, Comparator.<UUID>naturalOrder());
+        default:
+            throw new IllegalArgumentException(
+                    new ODataApplicationException("Error during comparison of entity properties.",
+                            HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode(), Locale.ENGLISH));
+        }
+    }
+
+    /**
+     * Integers are stored as {@code long} keys, except any value exceeds the range of a {@code long}.
+     */
+    private static SortKeyColumn integerColumn(RoutingContext routingContext, Object[] values, boolean[] nulls,
+            String propertyName, boolean descending) {
+        for (Object value : values) {
+            if (value instanceof BigInteger && ((BigInteger) value).bitLength() >= Long.SIZE) {
+                return new ObjectColumn<>(descending, nulls, routingContext, values, propertyName,
+                        EDM_INT16_INT32_INT64_BYTE_SBYTE_JAVA_TYPES, (column, integer) -> toBigInteger(integer),
+                        Comparator.<BigInteger>naturalOrder());
+            }
+        }
+        return new LongColumn(descending, nulls, routingContext, values, propertyName,
+                EDM_INT16_INT32_INT64_BYTE_SBYTE_JAVA_TYPES, (column, value) -> ((Number) value).longValue());
+    }
+
+    private static BigInteger toBigInteger(Object object) {
+        return object instanceof BigInteger ? (BigInteger) object : BigInteger.valueOf(((Number) object).longValue());
+    }
+
+    private static BigDecimal toBigDecimal(Object object) {
+        if (object instanceof BigDecimal) {
+            return (BigDecimal) object;
+        } else if (object instanceof BigInteger) {
+            return new BigDecimal((BigInteger) object);
+        } else {
+            return new BigDecimal(String.valueOf(object));
+        }
+    }
+
+    /**
+     * Compares the sort keys of two entities.
+     *
+     * @param index1 the index of the first entity
+     * @param index2 the index of the second entity
+     * @return a negative integer, zero, or a positive integer as the first entity is ordered before, equal to, or
+     *         after the second entity
+     */
+    final int compare(int index1, int index2) {
+        // sort null values last in case of 'asc' order
+        if (nulls[index1]) {
+            return nulls[index2] ? 0 : (descending ? -1 : 1);
+        } else if (nulls[index2]) {
+            return descending ? 1 : -1;
+        }
+
+        int compareResult = compareKeys(index1, index2);
+        return descending ? -compareResult : compareResult;
+    }
+
+    /**
+     * Compares the non-null sort keys of two entities.
+     */
+    abstract int compareKeys(int index1, int index2);
+
+    /**
+     * Checks the type of a value to extract a sort key from, see
+     * {@link EntityComparison#comparePropertyValues(RoutingContext, Object, Object, EdmPrimitiveTypeKind, String)}.
+     */
+    final void checkType(RoutingContext routingContext, List<Class<?>> expectedTypes, Object value,
+            String propertyName) {
+        if (!instanceOfExpectedType(expectedTypes, value)) {
+            throw createAndLogException(routingContext, expectedTypes, value, value, propertyName);
+        }
+    }
+
+    @FunctionalInterface
+    private interface KeyFunction<K> {
+        K apply(SortKeyColumn column, Object value) throws ODataApplicationException;
+    }
+
+    private static final class LongColumn extends SortKeyColumn {
+        private final long[] keys;
+
+        LongColumn(boolean descending, boolean[] nulls, RoutingContext routingContext, Object[] values,
+                String propertyName, List<Class<?>> expectedTypes, KeyFunction<Number> keyFunction) {
+            super(descending, nulls);
+            keys = new long[values.length];
+            for (int index = 0; index < values.length; index++) {
+                if (values[index] != null) {
+                    checkType(routingContext, expectedTypes, values[index], propertyName);
+                    try {
+                        keys[index] = keyFunction.apply(this, values[index]).longValue();
+                    } catch (ODataApplicationException | RuntimeException e) {
+                        throw createAndLogException(routingContext, expectedTypes, values[index], values[index],
+                                propertyName);
+                    }
+                }
+            }
+        }
+
+        @Override
+        int compareKeys(int index1, int index2) {
+            return Long.compare(keys[index1], keys[index2]);
+        }
+    }
+
+    private static final class DoubleColumn extends SortKeyColumn {
+        private final double[] keys;
+
+        DoubleColumn(boolean descending, boolean[] nulls, RoutingContext routingContext, Object[] values,
+                String propertyName) {
+            super(descending, nulls);
+            keys = new double[values.length];
+            for (int index = 0; index < values.length; index++) {
+                if (values[index] != null) {
+                    checkType(routingContext, EDM_SINGLE_DOUBLE_JAVA_TYPES, values[index], propertyName);
+                    keys[index] = ((Number) values[index]).doubleValue();
+                    if (!Double.isFinite(keys[index])) {
+                        // the BigDecimal comparison of the EntityComparator does not support NaN or infinite values
+                        throw createAndLogException(routingContext, EDM_SINGLE_DOUBLE_JAVA_TYPES, values[index],
+                                values[index], propertyName);
+                    }
+                }
+            }
+        }
+
+        @Override
+        int compareKeys(int index1, int index2) {
+            double key1 = keys[index1];
+            double key2 = keys[index2];
+            // do not use Double.compare, which orders -0.0 before 0.0
+            return key1 < key2 ? -1 : (key1 > key2 ? 1 : 0);
+        }
+    }
+
+    private static final class ObjectColumn<K> extends SortKeyColumn {
+        private final Object[] keys;
+
+        private final Comparator<K> comparator;
+
+        ObjectColumn(boolean descending, boolean[] nulls, RoutingContext routingContext, Object[] values,
+                String propertyName, List<Class<?>> expectedTypes, KeyFunction<K> keyFunction,
+                Comparator<K> comparator) {
+            super(descending, nulls);
+            this.comparator = comparator;
+            keys = new Object[values.length];
+            for (int index = 0; index < values.length; index++) {
+                if (values[index] != null) {
+                    checkType(routingContext, expectedTypes, values[index], propertyName);
+                    try {
+                        keys[index] = keyFunction.apply(this, values[index]);
+                    } catch (ODataApplicationException | RuntimeException e) {
+                        throw createAndLogException(routingContext, expectedTypes, values[index], values[index],
+                                propertyName);
+                    }
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int compareKeys(int index1, int index2) {
+            return comparator.compare((K) keys[index1], (K) keys[index2]);
+        }
+    }
+}
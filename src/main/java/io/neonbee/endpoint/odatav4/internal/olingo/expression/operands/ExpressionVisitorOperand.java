@@ -16,7 +16,6 @@ import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.TYPE_
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Locale;
 
@@ -231,7 +230,13 @@ public class ExpressionVisitorOperand implements EntityComparison {
      * @return true of the type matches one of the passed ones, otherwise false.
      */
     public boolean is(EdmPrimitiveType... types) {
-        return Arrays.stream(types).anyMatch(t -> t.equals(type));
+        // called for every operand of every entity filtered, thus avoid streaming the types
+        for (EdmPrimitiveType t : types) {
+            if (t.equals(type)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -293,7 +298,8 @@ public class ExpressionVisitorOperand implements EntityComparison {
     }
 
     private Class<?> getDefaultType(EdmPrimitiveType type) {
-        return TYPE_MAPPINGS.get(type) != null ? TYPE_MAPPINGS.get(type) : type.getDefaultType();
+        Class<?> defaultType = TYPE_MAPPINGS.get(type);
+        return defaultType != null ? defaultType : type.getDefaultType();
     }
 
     /**
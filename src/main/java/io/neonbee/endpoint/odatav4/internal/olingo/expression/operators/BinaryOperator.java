@@ -7,7 +7,6 @@ import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMI
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -92,7 +91,12 @@ public class BinaryOperator {
                 result = leftOperand.getValue().equals(rightOperand.getValue()) ? 0 : 1;
             }
         }
-        return Arrays.stream(expected).anyMatch(i -> i == result);
+        for (int i : expected) {
+            if (i == result) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public ExpressionVisitorOperand equalsOperator() {
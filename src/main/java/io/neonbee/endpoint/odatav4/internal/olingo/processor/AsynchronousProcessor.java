@@ -1,6 +1,7 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
-import static java.util.Objects.requireNonNull;
+import static io.neonbee.internal.helper.AsyncHelper.allComposite;
+import static io.vertx.core.Future.failedFuture;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -8,16 +9,17 @@ import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataLibraryException;
 import org.apache.olingo.server.api.processor.Processor;
 
-import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.RoutingContext;
 
 public abstract class AsynchronousProcessor implements Processor {
-    private static final String PROCESSING_STACK = "processingStack";
+    private static final String PROCESSING_STACK = AsynchronousProcessor.class.getName() + "_processingStack";
 
     protected Vertx vertx;
 
@@ -25,8 +27,6 @@ public abstract class AsynchronousProcessor implements Processor {
 
     private final Promise<Void> processPromise;
 
-    private Promise<Void> subProcessPromise;
-
     AsynchronousProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
         this.vertx = vertx;
         this.routingContext = routingContext;
@@ -38,56 +38,76 @@ public abstract class AsynchronousProcessor implements Processor {
      * case this request is called in batch processing, it'll return a new sub-processPromise and store the future on
      * the processingStack.
      *
-     * <b>Important:</b> Should be called directly when entering the Olingo method once and stored in a reference.
+     * <b>Important:</b> Should be called directly when entering the Olingo method once and stored in a reference. As
+     * the same processor handles all parts of a batch request, every call in batch processing returns a new
+     * sub-processPromise.
      *
      * @return the processPromise
      */
     public Promise<Void> getProcessPromise() {
-        if (subProcessPromise != null) {
-            // never create a second subProcessPromise, as it'll never resolve
-            return subProcessPromise;
-        } else if (processingStack().isEmpty()) {
-            // return the main endpoint processPromise if not in batch processing, or in case this is batch
-            // processing, but the first call (by the BatchProcessor) to enterBatchProcessing
+        List<Future<Void>> processingLayer = processingStack().peek();
+        if (processingLayer == null) {
+            // return the main endpoint processPromise if not in batch processing
             return processPromise;
-        } else {
-            // we are in batch processing (somebody has called enterBatchProcessing before and there is an element
-            // on the processingStack). Thus create a new subProcessPromise and put it onto the stack
-            subProcessPromise = Promise.promise();
-            requireNonNull(processingStack().peek(), "head of deque is empty").add(subProcessPromise.future());
-            return subProcessPromise;
         }
-    }
 
-    /**
-     * The enterBatchProcessing method will return a processPromise (either the global one, or a sub-processPromise) and
-     * push a new processing stack to the processingStack. After processing the returned future should be resolved, as
-     * soon as all elements of the top processingStack resolve.
-     *
-     * @return a processPromise to resolve, when this layer of the processingStack finish
-     */
-    public Promise<Void> enterBatchProcessing() {
-        Promise<Void> processPromise = getProcessPromise();
-        processingStack().push(new ArrayList<>());
-        return processPromise;
+        // we are in batch processing (a part of the batch request is processed and there is an element on the
+        // processingStack). Thus create a new subProcessPromise and put it onto the stack
+        Promise<Void> subProcessPromise = Promise.promise();
+        processingLayer.add(subProcessPromise.future());
+        return subProcessPromise;
     }
 
     /**
-     * This will pop the top element from he processingStack, as soon as all futures of the list returned resolve, the
-     * processFuture returned by enterBatchProcessing should be resolved.
+     * Processes one part of a batch request, or one request of a change set. A new layer is pushed to the
+     * processingStack while the part is handled, so all sub-processPromises of the processors handling the part are
+     * collected. The returned future completes as soon as all of them resolve.
      *
-     * @return a list of processFutures to wait for being resolved
+     * @param handler the handler to process the part, e.g. by passing it to the batch facade
+     * @param <T>     the type of the result of the handler
+     * @return a future to the result of the handler, which completes as soon as the part has been processed
      */
-    public List<Future<Void>> wrapUpBatchProcessing() {
-        return processingStack().pop();
+    protected <T> Future<T> processBatchPart(BatchPartHandler<T> handler) {
+        Deque<List<Future<Void>>> processingStack = processingStack();
+        List<Future<Void>> processingLayer = new ArrayList<>();
+        processingStack.push(processingLayer);
+
+        T result;
+        try {
+            result = handler.handle();
+        } catch (ODataApplicationException | ODataLibraryException | RuntimeException e) {
+            return failedFuture(e);
+        } finally {
+            processingStack.pop();
+        }
+
+        return allComposite(processingLayer).map(result);
     }
 
-    private static Deque<List<Future<Void>>> processingStack() {
-        Context context = Vertx.currentContext();
-        Deque<List<Future<Void>>> processingStack = context.get(PROCESSING_STACK);
+    private Deque<List<Future<Void>>> processingStack() {
+        // the stack is bound to the HTTP request, as parts of a batch request are processed on multiple event loop
+        // iterations, interleaving with the processing of other requests on the same context
+        Deque<List<Future<Void>>> processingStack = routingContext.get(PROCESSING_STACK);
         if (Objects.isNull(processingStack)) {
-            context.put(PROCESSING_STACK, processingStack = new ArrayDeque<>());
+            routingContext.put(PROCESSING_STACK, processingStack = new ArrayDeque<>());
         }
         return processingStack;
     }
+
+    /**
+     * Handles one part of a batch request.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    protected interface BatchPartHandler<T> {
+        /**
+         * Handles the part of the batch request.
+         *
+         * @return the result of handling the part
+         * @throws ODataApplicationException if handling the part failed
+         * @throws ODataLibraryException     if handling the part failed
+         */
+        T handle() throws ODataApplicationException, ODataLibraryException;
+    }
 }
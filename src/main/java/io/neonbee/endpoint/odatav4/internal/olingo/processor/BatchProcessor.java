@@ -1,10 +1,12 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
-import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.vertx.core.Future.succeededFuture;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,6 +25,7 @@ import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
 import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
 import org.apache.olingo.server.api.serializer.BatchSerializerException;
 
+import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.RoutingContext;
@@ -31,6 +34,13 @@ import io.vertx.ext.web.RoutingContext;
         justification = "Common practice in Olingo to name the implementation of the processor same as the interface")
 public class BatchProcessor extends AsynchronousProcessor
         implements org.apache.olingo.server.api.processor.BatchProcessor {
+    /**
+     * The default maximum number of parts of a batch request processed concurrently.
+     */
+    public static final int DEFAULT_PARALLELISM = 16;
+
+    private final int parallelism;
+
     private OData odata;
 
     /**
@@ -41,7 +51,24 @@ public class BatchProcessor extends AsynchronousProcessor
      * @param processPromise the promise to complete when data has been fetched
      */
     public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        this(vertx, routingContext, processPromise, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Creates a new BatchProcessor.
+     *
+     * @param vertx          the related Vert.x instance
+     * @param routingContext the routingContext of the related request
+     * @param processPromise the promise to complete when data has been fetched
+     * @param parallelism    the maximum number of parts of a batch request processed concurrently
+     */
+    public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise,
+            int parallelism) {
         super(vertx, routingContext, processPromise);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism of batch processing must be positive");
+        }
+        this.parallelism = parallelism;
     }
 
     @Override
@@ -49,6 +76,11 @@ public class BatchProcessor extends AsynchronousProcessor
         this.odata = odata;
     }
 
+    /**
+     * Parts of a batch request outside of a change set are independent of each other. Thus, up to
+     * {@link #parallelism} parts are processed concurrently, the next part is dispatched as soon as one of the parts
+     * being processed has finished. The order of the response parts corresponds to the order of the request parts.
+     */
     @Override
     public void processBatch(BatchFacade facade, ODataRequest request, ODataResponse response)
             throws ODataApplicationException, ODataLibraryException {
@@ -58,60 +90,152 @@ public class BatchProcessor extends AsynchronousProcessor
         List<BatchRequestPart> requestParts =
                 odata.createFixedFormatDeserializer().parseBatchRequest(request.getBody(), boundary, options);
 
-        // by entering batch processing here, we'll enter a new processing phase
-        Promise<Void> processPromise = enterBatchProcessing();
+        Promise<Void> processPromise = getProcessPromise();
+
+        // the batch request could have been parsed in a worker thread, dispatch all parts on the context of the
+        // request, so the parts are never dispatched concurrently, when one of the parts finishes processing
+        vertx.getOrCreateContext().runOnContext(nothing -> new PartDispatcher(facade, requestParts).dispatch()
+                .onComplete(asyncResponseParts -> {
+                    if (asyncResponseParts.failed()) {
+                        processPromise.fail(asyncResponseParts.cause());
+                        return;
+                    }
+
+                    try {
+                        String responseBoundary = "batch_" + UUID.randomUUID().toString();
+                        InputStream responseContent = odata.createFixedFormatSerializer()
+                                .batchResponse(asyncResponseParts.result(), responseBoundary);
+
+                        response.setHeader(HttpHeader.CONTENT_TYPE,
+                                ContentType.MULTIPART_MIXED + ";boundary=" + responseBoundary);
+                        response.setContent(responseContent);
+                        response.setStatusCode(HttpStatusCode.ACCEPTED.getStatusCode());
+
+                        processPromise.complete();
+                    } catch (BatchSerializerException e) {
+                        processPromise.fail(e);
+                    }
+                }));
+    }
 
-        List<ODataResponsePart> responseParts = new ArrayList<>();
-        for (BatchRequestPart part : requestParts) {
-            responseParts.add(facade.handleBatchRequest(part));
+    /**
+     * NOTE: NeonBee does NOT support rolling-back change sets so far! This method will simply execute all ODataRequests
+     * consecutively, every request is dispatched as soon as the previous request has been processed. In case one of
+     * the requests fails, the remaining requests are not executed and the failed response is returned instead of the
+     * change set. It would not make sense to roll-back the transaction in this method, as the requests have been
+     * processed by the entity verticles already. This is why the transaction handling has to take place in a different
+     * place more likely.
+     */
+    @Override
+    public ODataResponsePart processChangeSet(BatchFacade facade, List<ODataRequest> requests)
+            throws ODataApplicationException, ODataLibraryException {
+        // the change set is processed asynchronously, the processPromise resolves after the last request was processed
+        Promise<Void> processPromise = getProcessPromise();
+
+        ChangeSetResponsePart responsePart = new ChangeSetResponsePart();
+        processChangeSetRequests(facade, requests.iterator(), responsePart).onComplete(processPromise);
+        return responsePart;
+    }
+
+    private Future<Void> processChangeSetRequests(BatchFacade facade, Iterator<ODataRequest> requests,
+            ChangeSetResponsePart responsePart) {
+        if (!requests.hasNext()) {
+            return succeededFuture();
         }
 
-        // wrap up the batch processing here, which will complete the current processing phase
-        allComposite(wrapUpBatchProcessing()).onComplete(resultHandler -> {
-            if (resultHandler.failed()) {
-                processPromise.fail(resultHandler.cause());
-                return;
+        ODataRequest request = requests.next();
+        return processBatchPart(() -> facade.handleODataRequest(request)).compose(response -> {
+            if (response.getStatusCode() >= BAD_REQUEST.code()) {
+                responsePart.fail(response);
+                return succeededFuture();
             }
 
-            try {
-                String responseBoundary = "batch_" + UUID.randomUUID().toString();
-                InputStream responseContent =
-                        odata.createFixedFormatSerializer().batchResponse(responseParts, responseBoundary);
+            responsePart.responses.add(response);
+            return processChangeSetRequests(facade, requests, responsePart);
+        });
+    }
+
+    /**
+     * Dispatches the parts of one batch request, with at most {@link #parallelism} parts being processed at a time.
+     */
+    private final class PartDispatcher {
+        private final BatchFacade facade;
+
+        private final List<BatchRequestPart> requestParts;
+
+        private final ODataResponsePart[] responseParts;
+
+        private final Promise<List<ODataResponsePart>> promise = Promise.promise();
 
-                response.setHeader(HttpHeader.CONTENT_TYPE,
-                        ContentType.MULTIPART_MIXED + ";boundary=" + responseBoundary);
-                response.setContent(responseContent);
-                response.setStatusCode(HttpStatusCode.ACCEPTED.getStatusCode());
+        private int nextPart;
 
-                processPromise.complete();
-            } catch (BatchSerializerException e) {
-                processPromise.fail(e);
+        private int pendingParts;
+
+        PartDispatcher(BatchFacade facade, List<BatchRequestPart> requestParts) {
+            this.facade = facade;
+            this.requestParts = requestParts;
+            this.responseParts = new ODataResponsePart[requestParts.size()];
+        }
+
+        Future<List<ODataResponsePart>> dispatch() {
+            for (int part = 0; part < parallelism && !promise.future().isComplete(); part++) {
+                dispatchNextPart();
             }
-        });
+            return promise.future();
+        }
+
+        private void dispatchNextPart() {
+            if (promise.future().isComplete()) {
+                return;
+            } else if (nextPart == requestParts.size()) {
+                if (pendingParts == 0) {
+                    promise.complete(Arrays.asList(responseParts));
+                }
+                return;
+            }
+
+            int part = nextPart++;
+            pendingParts++;
+            processBatchPart(() -> facade.handleBatchRequest(requestParts.get(part))).onComplete(asyncResponsePart -> {
+                pendingParts--;
+                if (asyncResponsePart.failed()) {
+                    promise.tryFail(asyncResponsePart.cause());
+                    return;
+                }
+
+                responseParts[part] = asyncResponsePart.result();
+                dispatchNextPart();
+            });
+        }
     }
 
     /**
-     * NOTE: NeonBee does NOT support processing / rolling-back change sets so far! This method will simply execute all
-     * ODataRequests consecutively. It would not make sense to fail / roll-back the transaction in this method, as
-     * facade.handleODataRequest will return immediately (as the request is processed) asynchronous. This is why the
-     * transaction handling has to take place in a different place more likely.
+     * The response part of a change set. As the requests of the change set are processed asynchronously, the
+     * responses are added after the response part has been returned to Olingo. In case one of the requests fails, the
+     * response part contains only the failed response and is no change set anymore.
      */
-    @Override
-    public ODataResponsePart processChangeSet(BatchFacade facade, List<ODataRequest> requests)
-            throws ODataApplicationException, ODataLibraryException {
-        List<ODataResponse> responses = new ArrayList<>();
+    private static final class ChangeSetResponsePart extends ODataResponsePart {
+        private List<ODataResponse> responses = new ArrayList<>();
 
-        for (ODataRequest request : requests) {
-            ODataResponse response = facade.handleODataRequest(request);
+        private boolean changeSet = true;
 
-            int statusCode = response.getStatusCode();
-            if (statusCode < BAD_REQUEST.code()) {
-                responses.add(response);
-            } else {
-                return new ODataResponsePart(response, false);
-            }
+        ChangeSetResponsePart() {
+            super(List.of(), true);
+        }
+
+        void fail(ODataResponse response) {
+            responses = List.of(response);
+            changeSet = false;
         }
 
-        return new ODataResponsePart(responses, true);
+        @Override
+        public List<ODataResponse> getResponses() {
+            return responses;
+        }
+
+        @Override
+        public boolean isChangeSet() {
+            return changeSet;
+        }
     }
 }
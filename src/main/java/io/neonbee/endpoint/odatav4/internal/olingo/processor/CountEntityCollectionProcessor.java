@@ -5,6 +5,9 @@ import static io.neonbee.endpoint.odatav4.internal.olingo.processor.EntityProces
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.chooseEntitySet;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.fetchNavigationTargetEntities;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.forwardRequest;
+import static io.neonbee.entity.QueryCapability.FILTER;
+import static io.neonbee.entity.QueryCapability.ORDER_BY;
+import static io.neonbee.entity.QueryCapability.PAGING;
 import static io.neonbee.internal.helper.StringHelper.EMPTY;
 
 import java.io.ByteArrayInputStream;
@@ -12,6 +15,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.apache.olingo.commons.api.data.ContextURL;
 import org.apache.olingo.commons.api.data.ContextURL.Suffix;
@@ -42,8 +46,11 @@ import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitEx
 
 import com.google.common.annotations.VisibleForTesting;
 
-import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionCompiler;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionCompiler.CompiledFilter;
 import io.neonbee.endpoint.odatav4.internal.olingo.expression.OrderExpressionExecutor;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.entity.QueryCapability;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -105,12 +112,21 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         forwardRequest(request, READ, uriInfo, vertx, routingContext, processPromise).onSuccess(ew -> {
             if (resourceParts.size() == 1) {
                 try {
-                    List<Entity> resultEntityList = applyFilterQueryOption(uriInfo.getFilterOption(), ew.getEntities());
-                    applyCountOption(uriInfo.getCountOption(), resultEntityList, entityCollection);
+                    // any query option the entity verticle declared to have applied already, is not applied again
+                    Set<QueryCapability> queryCapabilities = ew.getQueryCapabilities();
+                    boolean paged = queryCapabilities.contains(PAGING);
+                    List<Entity> resultEntityList = paged || queryCapabilities.contains(FILTER) ? ew.getEntities()
+                            : applyFilterQueryOption(uriInfo.getFilterOption(), ew.getEntities());
+                    applyCountOption(uriInfo.getCountOption(), ew, resultEntityList, entityCollection);
                     if (!resultEntityList.isEmpty()) {
-                        applyOrderByQueryOption(uriInfo.getOrderByOption(), resultEntityList);
-                        resultEntityList = applySkipQueryOption(uriInfo.getSkipOption(), resultEntityList);
-                        resultEntityList = applyTopQueryOption(uriInfo.getTopOption(), resultEntityList);
+                        if (!paged) {
+                            if (!queryCapabilities.contains(ORDER_BY)) {
+                                resultEntityList = applyOrderByQueryOption(uriInfo.getOrderByOption(),
+                                        resultEntityList, orderLimit(uriInfo.getSkipOption(), uriInfo.getTopOption()));
+                            }
+                            resultEntityList = applySkipQueryOption(uriInfo.getSkipOption(), resultEntityList);
+                            resultEntityList = applyTopQueryOption(uriInfo.getTopOption(), resultEntityList);
+                        }
                         applyExpandQueryOptions(uriInfo, resultEntityList).onComplete(responsePromise);
                     } else {
                         responsePromise.complete(resultEntityList);
@@ -148,18 +164,35 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         }).onFailure(processPromise::fail);
     }
 
-    private void applyCountOption(CountOption countOption, List<Entity> filteredEntities,
-            EntityCollection entityCollection) {
+    private void applyCountOption(CountOption countOption, EntityWrapper entityWrapper, List<Entity> filteredEntities,
+            EntityCollection entityCollection) throws ODataApplicationException {
         // Apply $count system query option. The $count system query option with a value of true
         // specifies that the total count of items within a collection matching the request be returned
         // along with the result. The $count system query option ignores any $top, $skip, or $expand query
         // options, and returns the total count of results across all pages including only those results
         // matching any specified $filter and $search.
         if ((countOption != null) && countOption.getValue()) {
-            entityCollection.setCount(filteredEntities.size());
+            entityCollection.setCount(countEntities(entityWrapper, filteredEntities));
         }
     }
 
+    /**
+     * Returns the number of entities matching the request, either as provided by the entity verticle, or determined
+     * from the filtered entities.
+     */
+    private int countEntities(EntityWrapper entityWrapper, List<Entity> filteredEntities)
+            throws ODataApplicationException {
+        if (entityWrapper.getCount() != null) {
+            return Math.toIntExact(entityWrapper.getCount());
+        } else if (entityWrapper.getQueryCapabilities().contains(PAGING)) {
+            String message = "Entity verticle applied paging, but did not provide a count of the matching entities";
+            LOGGER.correlateWith(routingContext).error(message);
+            throw new ODataApplicationException(message, HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode(),
+                    Locale.ENGLISH);
+        }
+        return filteredEntities.size();
+    }
+
     private List<Entity> applyFilterQueryOption(FilterOption filterOption, List<Entity> unfilteredEntities)
             throws ODataException {
         List<Entity> filteredEntities = unfilteredEntities;
@@ -167,21 +200,20 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         if (filterOption != null) {
             LOGGER.correlateWith(routingContext).debug("Applying filter expression on list of entities with size: {}",
                     unfilteredEntities.size());
+            LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
+                    filterOption.getName(), filterOption.getText());
             filteredEntities = new ArrayList<>();
-            for (Entity entity : unfilteredEntities) {
-                FilterExpressionVisitor filterExpressionVisitor = new FilterExpressionVisitor(routingContext, entity);
-                LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
-                        filterOption.getName(), filterOption.getText());
-                LOGGER.correlateWith(routingContext).debug("FilterExpressionVisitor for entity '{}' was created",
-                        entity);
-                try {
-                    if (Boolean.TRUE.equals(filterOption.getExpression().accept(filterExpressionVisitor).getValue())) {
+            try {
+                // compile the filter expression once, instead of visiting the expression tree for every entity
+                CompiledFilter filter = FilterExpressionCompiler.compile(routingContext, filterOption.getExpression());
+                for (Entity entity : unfilteredEntities) {
+                    if (filter.test(entity)) {
                         filteredEntities.add(entity);
                     }
-                } catch (ODataApplicationException | ExpressionVisitException e) {
-                    LOGGER.correlateWith(routingContext).error("Exception in filter evaluation", e);
-                    throw e;
                 }
+            } catch (ODataApplicationException | ExpressionVisitException e) {
+                LOGGER.correlateWith(routingContext).error("Exception in filter evaluation", e);
+                throw e;
             }
             LOGGER.correlateWith(routingContext).debug(
                     "Filter expression was applied on list of entities and led to a result list of entities with size: {}",
@@ -191,13 +223,14 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         return filteredEntities;
     }
 
-    private void applyOrderByQueryOption(OrderByOption orderByOption, List<Entity> resultEntityList)
-            throws ODataApplicationException {
+    private List<Entity> applyOrderByQueryOption(OrderByOption orderByOption, List<Entity> resultEntityList,
+            int limit) throws ODataApplicationException {
         if (orderByOption != null) {
             LOGGER.correlateWith(routingContext).debug("orderByOption name: {}, orderByOption text: {}",
                     orderByOption.getName(), orderByOption.getText());
             try {
-                OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList);
+                return OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList,
+                        limit);
             } catch (Exception e) {
                 String message = "Error during processing of orderBy option";
                 LOGGER.correlateWith(routingContext).error(message);
@@ -205,6 +238,19 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                         e);
             }
         }
+        return resultEntityList;
+    }
+
+    /**
+     * Returns the number of ordered entities needed to apply the $skip and $top options. In case no valid $top option
+     * is present, all entities are needed.
+     */
+    private static int orderLimit(SkipOption skipOption, TopOption topOption) {
+        if (topOption == null || topOption.getValue() < 0) {
+            return Integer.MAX_VALUE;
+        }
+        long skipValue = skipOption != null ? Math.max(skipOption.getValue(), 0) : 0;
+        return (int) Math.min(skipValue + topOption.getValue(), Integer.MAX_VALUE);
     }
 
     private List<Entity> applySkipQueryOption(SkipOption skipOption, List<Entity> resultEntityList)
@@ -287,10 +333,12 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                  * Content negotiation using the Accept request header or the $format system query option is not allowed
                  * with the path segment /$count.
                  */
-                List<Entity> resultEntityList = applyFilterQueryOption(uriInfo.getFilterOption(), ew.getEntities());
+                List<Entity> resultEntityList = ew.getCount() != null || ew.getQueryCapabilities().contains(FILTER)
+                        ? ew.getEntities()
+                        : applyFilterQueryOption(uriInfo.getFilterOption(), ew.getEntities());
 
-                ByteArrayInputStream serializerContent = new ByteArrayInputStream(
-                        String.valueOf(resultEntityList.size()).getBytes(StandardCharsets.UTF_8));
+                ByteArrayInputStream serializerContent = new ByteArrayInputStream(String
+                        .valueOf(countEntities(ew, resultEntityList)).getBytes(StandardCharsets.UTF_8));
                 response.setContent(serializerContent);
                 response.setHeader(HttpHeader.CONTENT_TYPE, ContentType.TEXT_PLAIN.toContentTypeString());
                 response.setStatusCode(HttpStatusCode.OK.getStatusCode());
@@ -1,7 +1,6 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.fetchReferencedEntities;
-import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.getRelatedEntities;
 import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.stream.Collectors.toList;
@@ -13,12 +12,14 @@ import java.util.Map;
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
 import org.apache.olingo.commons.api.data.Link;
-import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
 import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
 import org.apache.olingo.server.api.uri.UriResourceNavigation;
 import org.apache.olingo.server.api.uri.queryoption.ExpandOption;
 
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.ReferencedEntityIndex;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.RoutingContext;
@@ -26,18 +27,20 @@ import io.vertx.ext.web.RoutingContext;
 public final class EntityExpander {
     private final List<EdmNavigationProperty> navigationProperties;
 
-    private final Map<EdmEntityType, List<Entity>> fetchedEntities;
+    private final Map<EdmNavigationProperty, ReferencedEntityIndex> referencedEntityIndexes;
 
-    private EntityExpander(List<EdmNavigationProperty> navigationProperties,
-            Map<EdmEntityType, List<Entity>> fetchedEntities) {
+    @VisibleForTesting
+    EntityExpander(List<EdmNavigationProperty> navigationProperties,
+            Map<EdmNavigationProperty, ReferencedEntityIndex> referencedEntityIndexes) {
         this.navigationProperties = navigationProperties;
-        this.fetchedEntities = fetchedEntities;
+        this.referencedEntityIndexes = referencedEntityIndexes;
     }
 
     /**
      * Creating the EntityExpander is an asynchronous operation, because during the creation the EntityExpander fetches
-     * all referenced and <b>potentially</b> required entities based on the expand options. When the EntityExpander is
-     * created successfully, the expand of an entity happens synchronously.
+     * all referenced and <b>potentially</b> required entities based on the expand options and indexes them by the
+     * properties of the referential constraints. When the EntityExpander is created successfully, the expand of an
+     * entity happens synchronously, by looking up the related entities in the index.
      *
      * @param vertx          The Vert.x instance
      * @param expandOption   The expand options of the OData request
@@ -47,13 +50,14 @@ public final class EntityExpander {
     public static Future<EntityExpander> create(Vertx vertx, ExpandOption expandOption, RoutingContext routingContext) {
         if (expandOption != null) {
             List<EdmNavigationProperty> navigationProperties = getNavigationProperties(expandOption);
-            Map<EdmEntityType, List<Entity>> fetchedEntities = new HashMap<>();
+            Map<EdmNavigationProperty, ReferencedEntityIndex> referencedEntityIndexes = new HashMap<>();
 
             List<Future<?>> fetchFutures = navigationProperties.stream().distinct().map(navProb -> {
-                return fetchReferencedEntities(navProb, vertx, routingContext)
-                        .map(entities -> fetchedEntities.put(navProb.getType(), entities));
+                return fetchReferencedEntities(navProb, vertx, routingContext).map(
+                        entities -> referencedEntityIndexes.put(navProb, new ReferencedEntityIndex(navProb, entities)));
             }).collect(toList());
-            return allComposite(fetchFutures).map(v -> new EntityExpander(navigationProperties, fetchedEntities));
+            return allComposite(fetchFutures)
+                    .map(v -> new EntityExpander(navigationProperties, referencedEntityIndexes));
         } else {
             return succeededFuture(new EntityExpander(List.of(), Map.of()));
         }
@@ -76,8 +80,8 @@ public final class EntityExpander {
                 throw new UnsupportedOperationException("At the moment only type Entity can be expanded");
             }
 
-            List<Entity> entitiesToLink = getRelatedEntities(navigationProperty, entityToExpand,
-                    fetchedEntities.get(navigationProperty.getType()));
+            List<Entity> entitiesToLink =
+                    referencedEntityIndexes.get(navigationProperty).getRelatedEntities(entityToExpand);
             linkEntities(entityToExpand, navigationProperty, entitiesToLink);
         }
     }
@@ -91,7 +95,8 @@ public final class EntityExpander {
             expandCollection.getEntities().addAll(entitiesToLink);
             link.setInlineEntitySet(expandCollection);
         } else {
-            link.setInlineEntity(entitiesToLink.get(0));
+            // in case no entity is related, e.g. as the foreign key is null, the navigation property is expanded to null
+            link.setInlineEntity(entitiesToLink.isEmpty() ? null : entitiesToLink.get(0));
         }
         entity.getNavigationLinks().add(link);
     }
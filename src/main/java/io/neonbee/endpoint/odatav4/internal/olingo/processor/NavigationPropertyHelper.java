@@ -3,13 +3,19 @@ package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 import static io.neonbee.entity.EntityVerticle.requestEntity;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.toList;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
 import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
@@ -47,6 +53,9 @@ public final class NavigationPropertyHelper {
 
     /**
      * Filters the referenced entities based on the navigation property.
+     * <p>
+     * In case related entities have to be determined for multiple source entities, use a
+     * {@link ReferencedEntityIndex} instead, to only iterate the referenced entities once.
      *
      * @param navigationProperty the navigation property
      * @param sourceEntity       the entity with navigation property
@@ -55,28 +64,99 @@ public final class NavigationPropertyHelper {
      */
     public static List<Entity> getRelatedEntities(EdmNavigationProperty navigationProperty, Entity sourceEntity,
             List<Entity> referencedEntities) {
-        List<Entity> filteredEntities = new ArrayList<>(referencedEntities);
-        boolean isCollection = navigationProperty.isCollection();
-        List<EdmReferentialConstraint> constraints =
-                isCollection ? navigationProperty.getPartner().getReferentialConstraints()
-                        : navigationProperty.getReferentialConstraints();
-
-        for (EdmReferentialConstraint constraint : constraints) {
-            String propertyName = isCollection ? constraint.getReferencedPropertyName() : constraint.getPropertyName();
-            String referencePropertyName =
-                    isCollection ? constraint.getPropertyName() : constraint.getReferencedPropertyName();
-
-            Object propertyValue = sourceEntity.getProperty(propertyName).getValue();
-            List<Entity> remainingEntities = List.copyOf(filteredEntities);
-            filteredEntities.clear();
-            for (Entity referenceEntity : remainingEntities) {
-                Object referencePropertyValue = referenceEntity.getProperty(referencePropertyName).getValue();
-                if (propertyValue.equals(referencePropertyValue)) {
-                    filteredEntities.add(referenceEntity);
+        List<String> referencePropertyNames = getReferencePropertyNames(navigationProperty);
+        Optional<List<Object>> sourceKey = getKey(sourceEntity, getSourcePropertyNames(navigationProperty));
+
+        List<Entity> relatedEntities = new ArrayList<>();
+        if (sourceKey.isPresent()) {
+            for (Entity referencedEntity : referencedEntities) {
+                if (sourceKey.equals(getKey(referencedEntity, referencePropertyNames))) {
+                    relatedEntities.add(referencedEntity);
                 }
             }
         }
-        return filteredEntities;
+        return relatedEntities;
+    }
+
+    /**
+     * Returns the names of the properties of the source entity, which are used by the referential constraints of the
+     * navigation property, in the order of the constraints.
+     */
+    private static List<String> getSourcePropertyNames(EdmNavigationProperty navigationProperty) {
+        boolean isCollection = navigationProperty.isCollection();
+        return getReferentialConstraints(navigationProperty).stream()
+                .map(constraint -> isCollection ? constraint.getReferencedPropertyName() : constraint.getPropertyName())
+                .collect(toList());
+    }
+
+    /**
+     * Returns the names of the properties of the referenced entities, which are used by the referential constraints of
+     * the navigation property, in the order of the constraints.
+     */
+    private static List<String> getReferencePropertyNames(EdmNavigationProperty navigationProperty) {
+        boolean isCollection = navigationProperty.isCollection();
+        return getReferentialConstraints(navigationProperty).stream()
+                .map(constraint -> isCollection ? constraint.getPropertyName() : constraint.getReferencedPropertyName())
+                .collect(toList());
+    }
+
+    private static List<EdmReferentialConstraint> getReferentialConstraints(EdmNavigationProperty navigationProperty) {
+        return navigationProperty.isCollection() ? navigationProperty.getPartner().getReferentialConstraints()
+                : navigationProperty.getReferentialConstraints();
+    }
+
+    /**
+     * Returns the values of the given properties of an entity, or an empty optional, in case any of the values is null.
+     * As null never equals any value, entities with null values can never be related.
+     */
+    private static Optional<List<Object>> getKey(Entity entity, List<String> propertyNames) {
+        List<Object> key = new ArrayList<>(propertyNames.size());
+        for (String propertyName : propertyNames) {
+            Property property = entity.getProperty(propertyName);
+            if (property == null || property.getValue() == null) {
+                return Optional.empty();
+            }
+            key.add(property.getValue());
+        }
+        return Optional.of(key);
+    }
+
+    /**
+     * A hash index of referenced entities, keyed by the values of the properties used by the referential constraints of
+     * a navigation property. Building the index iterates the referenced entities once, afterwards the related entities
+     * of any source entity are determined by a single lookup, instead of comparing every referenced entity.
+     */
+    public static final class ReferencedEntityIndex {
+        private final List<String> sourcePropertyNames;
+
+        private final Map<List<Object>, List<Entity>> index = new HashMap<>();
+
+        /**
+         * Creates a new index of the referenced entities of a navigation property.
+         *
+         * @param navigationProperty the navigation property
+         * @param referencedEntities the entities of the referenced type
+         */
+        public ReferencedEntityIndex(EdmNavigationProperty navigationProperty, List<Entity> referencedEntities) {
+            this.sourcePropertyNames = getSourcePropertyNames(navigationProperty);
+
+            List<String> referencePropertyNames = getReferencePropertyNames(navigationProperty);
+            for (Entity referencedEntity : referencedEntities) {
+                getKey(referencedEntity, referencePropertyNames)
+                        .ifPresent(key -> index.computeIfAbsent(key, k -> new ArrayList<>()).add(referencedEntity));
+            }
+        }
+
+        /**
+         * Returns the entities related to the source entity, in the order of the referenced entities.
+         *
+         * @param sourceEntity the entity with navigation property
+         * @return an unmodifiable {@link List} with all related {@link Entity entities}
+         */
+        public List<Entity> getRelatedEntities(Entity sourceEntity) {
+            return getKey(sourceEntity, sourcePropertyNames).map(index::get).map(Collections::unmodifiableList)
+                    .orElse(List.of());
+        }
     }
 
     /**
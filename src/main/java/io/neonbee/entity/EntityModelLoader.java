@@ -3,6 +3,7 @@ package io.neonbee.entity;
 import static io.neonbee.entity.EntityModelDefinition.CSN;
 import static io.neonbee.entity.EntityModelManager.getBufferedOData;
 import static io.neonbee.internal.helper.AsyncHelper.allComposite;
+import static io.neonbee.internal.helper.AsyncHelper.executeBlockingUnordered;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -19,10 +20,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.etag.ServiceMetadataETagSupport;
@@ -31,13 +37,14 @@ import org.apache.olingo.server.core.SchemaBasedEdmProvider;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Streams;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.sap.cds.reflect.CdsModel;
 
 import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeOptions;
-import io.neonbee.internal.helper.AsyncHelper;
 import io.neonbee.internal.helper.BufferHelper.BufferInputStream;
 import io.neonbee.internal.helper.FileSystemHelper;
 import io.neonbee.internal.scanner.ClassPathScanner;
@@ -48,6 +55,16 @@ import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystemException;
 
+/**
+ * Loads the entity models from the models directory, the class path and external model definitions.
+ * <p>
+ * Parsed models are cached in memory only: a loader passed as previous loader to {@link #load(Vertx, Collection,
+ * EntityModelLoader)} hands its parsed CSN and entity models to the next load, keyed by the hash of their payloads, so
+ * only models which changed are parsed again. There is no persistent (on-disk) cache of parsed models across restarts.
+ * Neither the Olingo CSDL and {@link ServiceMetadata} nor the {@link CdsModel} of the CDS reflection API can be
+ * serialized, so a persistent cache could only hold the CSN and EDMX payloads, which would have to be parsed again on
+ * every hit and would thus not speed up the cold start.
+ */
 class EntityModelLoader {
     @VisibleForTesting
     static final String NEONBEE_MODELS = "NeonBee-Models";
@@ -59,19 +76,63 @@ class EntityModelLoader {
     private static final PathMatcher MODELS_PATH_MATCHER = FileSystems.getDefault().getPathMatcher("glob:**.csn");
 
     @VisibleForTesting
-    Map<String, EntityModel> models = new HashMap<>();
+    Map<String, EntityModel> models = Collections.synchronizedMap(new HashMap<>());
 
     @VisibleForTesting
-    Map<String, SchemaBasedEdmProvider> edmProviders = new HashMap<>();
+    Map<String, SchemaBasedEdmProvider> edmProviders = new ConcurrentHashMap<>();
 
     @VisibleForTesting
-    Map<String, MetadataParser> metadataParsers = new HashMap<>();
+    Map<String, MetadataParser> metadataParsers = new ConcurrentHashMap<>();
+
+    /**
+     * The parsed CSN models by the hash of their payload. CSN models of unchanged payloads are reused by the next load.
+     */
+    @VisibleForTesting
+    Map<HashCode, CdsModel> csnModels = new ConcurrentHashMap<>();
+
+    /**
+     * The loaded entity models by the hash of the payloads of their CSN and all associated EDMX models. Entity models
+     * of unchanged payloads are reused by the next load.
+     */
+    @VisibleForTesting
+    Map<HashCode, EntityModel> hashedModels = new ConcurrentHashMap<>();
+
+    /**
+     * The schema namespaces of EDMX models, which have been merged with another EDMX model of the same schema
+     * namespace. Entity models with merged EDMX models depend on each other and are never reused by the next load.
+     */
+    private final Set<String> mergedSchemaNamespaces = ConcurrentHashMap.newKeySet();
+
+    private final Map<HashCode, CdsModel> previousCsnModels;
+
+    private final Map<HashCode, EntityModel> previousModels;
 
     private final Vertx vertx;
 
     @VisibleForTesting
     EntityModelLoader(Vertx vertx) {
+        this(vertx, null);
+    }
+
+    /**
+     * Creates a new loader, reusing the models of a previous loader for all model files that did not change.
+     *
+     * @param vertx          the Vert.x instance
+     * @param previousLoader the loader of a previous load, or null to parse all models
+     */
+    @VisibleForTesting
+    EntityModelLoader(Vertx vertx, EntityModelLoader previousLoader) {
         this.vertx = vertx;
+        if (previousLoader != null) {
+            previousCsnModels = previousLoader.csnModels;
+            previousModels = previousLoader.hashedModels.entrySet().stream()
+                    .filter(entry -> Collections.disjoint(entry.getValue().getAllEdmxMetadata().keySet(),
+                            previousLoader.mergedSchemaNamespaces))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        } else {
+            previousCsnModels = Map.of();
+            previousModels = Map.of();
+        }
     }
 
     /**
@@ -91,11 +152,26 @@ class EntityModelLoader {
      * @return a map of all loaded models
      */
     public static Future<Map<String, EntityModel>> load(Vertx vertx, Collection<EntityModelDefinition> definitions) {
-        return new EntityModelLoader(vertx).loadModelsFromModelDirectoryAndClassPath().compose(loader -> {
-            return CompositeFuture
-                    .all(definitions.stream().map(loader::loadModelsFromDefinition).collect(Collectors.toList()))
-                    .map(loader);
-        }).map(EntityModelLoader::getModels);
+        return load(vertx, definitions, null).map(EntityModelLoader::getModels);
+    }
+
+    /**
+     * Load models from model directory and class path, as well as from the maps provided. Only models which changed
+     * since they have been loaded by the previous loader are parsed, all other entity models are reused.
+     *
+     * @param vertx          the Vert.x instance
+     * @param definitions    the external model definitions to load
+     * @param previousLoader the loader of the previous load, or null to parse all models
+     * @return a future to the {@link EntityModelLoader} instance
+     */
+    public static Future<EntityModelLoader> load(Vertx vertx, Collection<EntityModelDefinition> definitions,
+            EntityModelLoader previousLoader) {
+        return new EntityModelLoader(vertx, previousLoader).loadModelsFromModelDirectoryAndClassPath()
+                .compose(loader -> {
+                    return CompositeFuture.all(
+                            definitions.stream().map(loader::loadModelsFromDefinition).collect(Collectors.toList()))
+                            .map(loader);
+                });
     }
 
     /**
@@ -178,33 +254,67 @@ class EntityModelLoader {
             return succeededFuture();
         }
 
-        return readCsnModel(csnFile).compose(cdsModel -> {
-            return CompositeFuture.all(EntityModelDefinition.resolveEdmxPaths(csnFile, cdsModel).stream()
-                    .map(this::loadEdmxModel).collect(Collectors.toList())).onSuccess(compositeFuture -> {
-                        buildModelMap(cdsModel, compositeFuture.<ServiceMetadata>list());
-                    });
-        }).mapEmpty();
+        return FileSystemHelper.readFile(vertx, csnFile).compose(csnPayload -> loadModel(csnFile,
+                csnPayload.getBytes(), edmxFile -> FileSystemHelper.readFile(vertx, edmxFile)));
     }
 
     Future<Void> parseModel(String csnFile, byte[] csnPayload, Map<String, byte[]> associatedModels) {
-        return parseCsnModel(csnPayload)
-                .compose(cdsModel -> CompositeFuture
-                        .all(EntityModelDefinition.resolveEdmxPaths(Path.of(csnFile), cdsModel).stream()
-                                .map(Path::toString).map(path -> {
-                                    // we do not know if the path uses windows / unix path separators, try both!
-                                    return FileSystemHelper.getPathFromMap(associatedModels, path);
-                                }).map(this::parseEdmxModel).collect(Collectors.toList()))
-                        .onSuccess(compositeFuture -> {
-                            buildModelMap(cdsModel, compositeFuture.<ServiceMetadata>list());
-                        }))
-                .mapEmpty();
+        return loadModel(Path.of(csnFile), csnPayload, edmxFile -> {
+            // we do not know if the path uses windows / unix path separators, try both!
+            byte[] edmxPayload = FileSystemHelper.getPathFromMap(associatedModels, edmxFile.toString());
+            return succeededFuture(Buffer.buffer(edmxPayload));
+        });
     }
 
-    private void buildModelMap(CdsModel cdsModel, List<ServiceMetadata> edmxModels) {
+    /**
+     * Loads the entity model of a CSN model and its associated EDMX models. Only models which changed since the
+     * previous load, which is determined by the hash of the content of the CSN and of all associated EDMX models, are
+     * parsed, the entity models of all unchanged models are reused.
+     *
+     * @param csnFile    the path of the CSN model
+     * @param csnPayload the payload of the CSN model
+     * @param edmxReader reads the payload of an EDMX model associated to the CSN model
+     * @return a succeeded future, in case the entity model was loaded
+     */
+    private Future<Void> loadModel(Path csnFile, byte[] csnPayload, Function<Path, Future<Buffer>> edmxReader) {
+        HashCode csnHash = HASH_FUNCTION.hashBytes(csnPayload);
+        CdsModel previousCsnModel = previousCsnModels.get(csnHash);
+        return (previousCsnModel != null ? succeededFuture(previousCsnModel) : parseCsnModel(csnPayload))
+                .compose(cdsModel -> {
+                    csnModels.put(csnHash, cdsModel);
+                    return CompositeFuture.all(EntityModelDefinition.resolveEdmxPaths(csnFile, cdsModel).stream()
+                            .map(edmxReader).collect(Collectors.toList())).compose(edmxFiles -> {
+                                List<Buffer> edmxPayloads = edmxFiles.list();
+                                Hasher modelHasher = HASH_FUNCTION.newHasher().putBytes(csnHash.asBytes());
+                                for (Buffer edmxPayload : edmxPayloads) {
+                                    modelHasher.putInt(edmxPayload.length()).putBytes(edmxPayload.getBytes());
+                                }
+
+                                HashCode modelHash = modelHasher.hash();
+                                EntityModel previousModel = previousModels.get(modelHash);
+                                if (previousModel != null) {
+                                    addModel(modelHash, cdsModel, previousModel);
+                                    return succeededFuture();
+                                }
+
+                                return CompositeFuture.all(edmxPayloads.stream()
+                                        .map(this::createServiceMetadataWithSchema).collect(Collectors.toList()))
+                                        .onSuccess(compositeFuture -> buildModelMap(modelHash, cdsModel,
+                                                compositeFuture.<ServiceMetadata>list()))
+                                        .mapEmpty();
+                            });
+                });
+    }
+
+    private void buildModelMap(HashCode modelHash, CdsModel cdsModel, List<ServiceMetadata> edmxModels) {
         Map<String, ServiceMetadata> edmxMap = edmxModels.stream().collect(Collectors.toMap(
                 serviceMetaData -> serviceMetaData.getEdm().getEntityContainer().getNamespace(), Function.identity()));
-        EntityModel entityModel = EntityModel.of(cdsModel, edmxMap);
+        addModel(modelHash, cdsModel, EntityModel.of(cdsModel, edmxMap));
+    }
+
+    private void addModel(HashCode modelHash, CdsModel cdsModel, EntityModel entityModel) {
         String namespace = EntityModelDefinition.getNamespace(cdsModel);
+        hashedModels.put(modelHash, entityModel);
         models.put(namespace, entityModel);
         LOGGER.info("Entity model of model with schema namespace {} was added the entity model map.", namespace);
     }
@@ -228,40 +338,43 @@ class EntityModelLoader {
      */
     @VisibleForTesting
     Future<CdsModel> parseCsnModel(byte[] csnModel) {
-        return AsyncHelper.executeBlocking(vertx, () -> {
+        return executeBlockingUnordered(vertx, () -> {
             try (InputStream inputStream = new ByteArrayInputStream(csnModel)) {
                 return CdsModel.read(inputStream);
             }
         });
     }
 
-    /**
-     * Loads the EDMX model located at a path.
-     *
-     * @param file path of the EDMX model
-     * @return a future with loaded model inside
-     */
-    Future<ServiceMetadata> loadEdmxModel(Path file) {
-        return FileSystemHelper.readFile(vertx, file).compose(this::createServiceMetadataWithSchema);
+    private Future<ServiceMetadata> createServiceMetadataWithSchema(Buffer csdl) {
+        return executeBlockingUnordered(vertx, () -> createServiceMetadataWithSchema(csdl, readSchemaNamespace(csdl)));
     }
 
     /**
-     * Loads the EDMX model from byte array.
+     * Reads the namespace of the first schema of an EDMX model, without parsing the whole model.
+     * <p>
+     * ATTENTION: This method contains BLOCKING code and thus should only be called in a Vert.x worker thread!
      *
-     * @param payload path of the EDMX model
-     * @return a future with loaded model inside
+     * @param csdl the EDMX model which contains the XML representation of the CSDL
+     * @return the namespace of the first schema of the EDMX model
+     * @throws XMLStreamException in case the EDMX model cannot be read or does not contain any schema
      */
-    Future<ServiceMetadata> parseEdmxModel(byte[] payload) {
-        return succeededFuture(Buffer.buffer(payload)).compose(this::createServiceMetadataWithSchema);
-    }
-
-    private Future<ServiceMetadata> createServiceMetadataWithSchema(Buffer csdl) {
-        return AsyncHelper.executeBlocking(vertx, () -> {
-            // Get the service metadata first w/o the schema namespace, because we have to read it
-            ServiceMetadata serviceMetadata = createServiceMetadata(csdl);
-            String schemaNamespace = serviceMetadata.getEdm().getSchemas().get(0).getNamespace();
-            return createServiceMetadataWithSchema(csdl, schemaNamespace);
-        });
+    @VisibleForTesting
+    static String readSchemaNamespace(Buffer csdl) throws XMLStreamException {
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(new BufferInputStream(csdl), UTF_8.name());
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "Schema".equals(reader.getLocalName())) {
+                    return reader.getAttributeValue(null, "Namespace");
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        throw new XMLStreamException("The EDMX model does not contain any schema");
     }
 
     /**
@@ -277,18 +390,20 @@ class EntityModelLoader {
      */
     private ServiceMetadata createServiceMetadataWithSchema(Buffer csdl, String schemaNamespace)
             throws XMLStreamException {
-        synchronized (this) {
-            // Create a metadata parser instance for the schema namespace if it is not existing
-            MetadataParser parser = metadataParsers.computeIfAbsent(schemaNamespace,
-                    newSchemaNamespace -> new MetadataParser().referenceResolver(null).parseAnnotations(true));
+        // Create a metadata parser instance for the schema namespace if it is not existing
+        MetadataParser parser = metadataParsers.computeIfAbsent(schemaNamespace,
+                newSchemaNamespace -> new MetadataParser().referenceResolver(null).parseAnnotations(true));
 
+        // only EDMX models of the same schema namespace have to be parsed one after another, as they are merged into
+        // the same provider, EDMX models of other schema namespaces are parsed concurrently
+        synchronized (parser) {
             Reader csdlReader = new InputStreamReader(new BufferInputStream(csdl), UTF_8);
-            // does NOT to be a ConcurrentHashMap, as only get / put access! so no iteration is done!
             SchemaBasedEdmProvider provider = edmProviders.get(schemaNamespace);
             if (provider == null) {
                 edmProviders.put(schemaNamespace, provider = parser.buildEdmProvider(csdlReader));
             } else {
                 parser.addToEdmProvider(provider, csdlReader);
+                mergedSchemaNamespaces.add(schemaNamespace);
             }
 
             return getBufferedOData().createServiceMetadata(provider, Collections.emptyList(),
@@ -296,19 +411,6 @@ class EntityModelLoader {
         }
     }
 
-    /*
-     * Get the service metadata of the bufferedOData instance w/o the schema namespace. This can be used e.g. in the
-     * case if it is the initial loading and the schema namespace is unknown. Then the unknown schema namespace can be
-     * fetched from the returned ServiceMetadata instance.
-     *
-     * ATTENTION: This method contains BLOCKING code and thus should only be called in a Vert.x worker thread!
-     */
-    private static ServiceMetadata createServiceMetadata(Buffer csdl) throws XMLStreamException {
-        InputStreamReader reader = new InputStreamReader(new BufferInputStream(csdl), UTF_8);
-        SchemaBasedEdmProvider edmProvider = new MetadataParser().referenceResolver(null).buildEdmProvider(reader);
-        return getBufferedOData().createServiceMetadata(edmProvider, Collections.emptyList());
-    }
-
     @VisibleForTesting
     static class MetadataETagSupport implements ServiceMetadataETagSupport {
         private final String metadataETag;
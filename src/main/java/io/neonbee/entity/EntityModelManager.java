@@ -5,6 +5,9 @@ import static io.vertx.core.Future.succeededFuture;
 
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -15,12 +18,14 @@ import org.apache.olingo.server.api.OData;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Functions;
+import com.google.common.collect.Sets;
 
 import io.neonbee.NeonBee;
 import io.neonbee.internal.SharedDataAccessor;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonArray;
 
 /**
  * The {@link EntityModelManager} is used to manage shared model files across a given NeonBee instance.
@@ -31,7 +36,8 @@ import io.vertx.core.eventbus.DeliveryOptions;
  */
 public class EntityModelManager {
     /**
-     * Every time new models are loaded a message will be published to this event bus address.
+     * Every time new models are loaded a message will be published to this event bus address. The body of the message
+     * is a {@link JsonArray} of the schema namespaces of all services which have been added, changed or removed.
      */
     public static final String EVENT_BUS_MODELS_LOADED_ADDRESS = EntityModelManager.class.getSimpleName() + "Loaded";
 
@@ -70,6 +76,18 @@ public class EntityModelManager {
     @VisibleForTesting
     final NeonBee neonBee;
 
+    /**
+     * The {@link UriInfoCache} for URIs parsed against the buffered models, invalidated whenever models are reloaded.
+     */
+    @VisibleForTesting
+    final UriInfoCache uriInfoCache = new UriInfoCache();
+
+    /**
+     * The loader of the buffered models. All models which did not change are reused by the next reload.
+     */
+    @VisibleForTesting
+    EntityModelLoader modelLoader;
+
     /**
      * Create a new instance of an {@link EntityModelManager} for a given {@link NeonBee} instance.
      *
@@ -351,17 +369,42 @@ public class EntityModelManager {
 
     /**
      * Returns a future to a freshly loaded EntityModel instance and updates the globally shared instance. Please note
-     * that all models files will be reloaded (from file system and / or class path). This method will also update the
-     * buffered models.
+     * that all models files will be reloaded (from file system and / or class path), however only models which changed
+     * since the last reload are parsed again, all other {@link EntityModel} instances are reused. This method will also
+     * update the buffered models.
      *
      * @return a {@link Future} to a map from schema namespace to EntityModel
      */
     public Future<Map<String, EntityModel>> reloadModels() {
-        return EntityModelLoader.load(neonBee.getVertx(), externalModelDefinitions).onSuccess(models -> {
+        return EntityModelLoader.load(neonBee.getVertx(), externalModelDefinitions, modelLoader).onSuccess(loader -> {
+            Map<String, EntityModel> previousModels = bufferedModels != null ? bufferedModels : Map.of();
+            Map<String, EntityModel> models = loader.getModels();
+            modelLoader = loader;
             bufferedModels = Collections.unmodifiableMap(models);
 
+            Set<String> changedSchemaNamespaces = new HashSet<>();
+            Set<EntityModel> outdatedModels = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (String namespace : Sets.union(previousModels.keySet(), models.keySet())) {
+                EntityModel previousModel = previousModels.get(namespace);
+                EntityModel model = models.get(namespace);
+                if (previousModel != model) {
+                    if (previousModel != null) {
+                        outdatedModels.add(previousModel);
+                        changedSchemaNamespaces.addAll(previousModel.getAllEdmxMetadata().keySet());
+                    }
+                    if (model != null) {
+                        changedSchemaNamespaces.addAll(model.getAllEdmxMetadata().keySet());
+                    }
+                }
+            }
+            if (changedSchemaNamespaces.isEmpty()) {
+                return; // none of the models changed, there is no need to notify anyone
+            }
+            uriInfoCache.invalidate(outdatedModels);
+
             // publish the event local only! models must be present locally on very instance in a cluster!
-            neonBee.getVertx().eventBus().publish(EVENT_BUS_MODELS_LOADED_ADDRESS, null, LOCAL_DELIVERY);
+            neonBee.getVertx().eventBus().publish(EVENT_BUS_MODELS_LOADED_ADDRESS,
+                    new JsonArray(List.copyOf(changedSchemaNamespaces)), LOCAL_DELIVERY);
         }).map(Functions.forSupplier(() -> bufferedModels));
     }
 
@@ -9,8 +9,8 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -36,6 +36,15 @@ import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.shareddata.AsyncMap;
 
+/**
+ * An entity verticle provides and manipulates the entities of one or multiple entity types.
+ * <p>
+ * Read requests are forwarded to the entity verticle with the full query, including all system query options. By
+ * default the OData endpoint applies the <code>$filter</code>, <code>$orderby</code>, <code>$skip</code> and
+ * <code>$top</code> system query options in memory on the entities returned. An entity verticle able to evaluate any of
+ * these options itself, can opt-in to skip the in-memory evaluation by declaring the {@link QueryCapability query
+ * capabilities} it applied, as well as an optional count, on the {@link EntityWrapper} returned.
+ */
 public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
     @VisibleForTesting
     static final String SHARED_ENTITY_MAP_NAME = "entityVerticles[%s]";
@@ -116,11 +125,8 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
                     "A entity request must specify an entity type name to request data from");
         }
 
-        /*
-         * TODO, as soon as having multiple verticle for an entity is not longer a corner case, I would recommend that
-         * we send the "qualifiedNames" in a header to the ConsolidationVerticle. Then it wouldn't be necessary to do
-         * the getVerticlesForEntityType call twice.
-         */
+        // the verticles for the entity type are served from the node-local routing table, so there is no need to
+        // pass the qualified names to the ConsolidationVerticle, which is looking them up again (locally)
         return getVerticlesForEntityType(vertx, entityTypeName).compose(qualifiedNames -> {
             if (qualifiedNames.isEmpty()) {
                 return failedFuture("No verticle registered listening to this entity type name");
@@ -165,7 +171,7 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
      * @param query   the DataQuery to convert
      * @return a future to an UriInfo for a given DataQuery
      */
-    protected static Future<UriInfo> parseUriInfo(NeonBee neonBee, DataQuery query) {
+    public static Future<UriInfo> parseUriInfo(NeonBee neonBee, DataQuery query) {
         // the uriPath with trimmed leading forward slash e.g. <schemaNamespace>/<entitySet> where <schemaNamespace> is
         // <namespace>.<service> or <service> (if no namespace was used in the CDS model file)
         Matcher uriMatcher = URI_PATH_PATTERN.matcher(query.getUriPath());
@@ -175,28 +181,37 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
         }
 
         String serviceName = uriMatcher.group(SERVICE_NAMESPACE_GROUP);
+        String resourcePath = uriMatcher.group(ENTITY_PATH_GROUP);
+        UriInfoCache uriInfoCache = neonBee.getModelManager().uriInfoCache;
         return neonBee.getModelManager().getSharedModel(EntityModelDefinition.retrieveNamespace(serviceName))
-                .compose(entityModel -> AsyncHelper.executeBlocking(neonBee.getVertx(), () -> {
-                    return new Parser(entityModel.getEdmxMetadata(serviceName).getEdm(), getBufferedOData())
-                            .parseUri(uriMatcher.group(ENTITY_PATH_GROUP), query.getQuery(), EMPTY, EMPTY);
-                }));
+                .compose(entityModel -> {
+                    // parsing the same URI again results in an equal UriInfo, so skip parsing for cached URIs
+                    UriInfo cachedUriInfo = uriInfoCache.get(entityModel, serviceName, resourcePath, query.getQuery());
+                    if (cachedUriInfo != null) {
+                        return succeededFuture(cachedUriInfo);
+                    }
+
+                    return AsyncHelper.executeBlocking(neonBee.getVertx(), () -> {
+                        return new Parser(entityModel.getEdmxMetadata(serviceName).getEdm(), getBufferedOData())
+                                .parseUri(resourcePath, query.getQuery(), EMPTY, EMPTY);
+                    }).onSuccess(uriInfo -> uriInfoCache.put(entityModel, serviceName, resourcePath,
+                            query.getQuery(), uriInfo));
+                });
     }
 
     /**
      * Get the (entity) verticle names registered for a certain entityTypeName.
      * <p>
-     * In case one verticle has been registered multiple times, this method will reduce the result down to a set.
+     * In case one verticle has been registered multiple times, this method will reduce the result down to a set. The
+     * result is served from the node-local {@link EntityVerticleRoutingTable}, which only reads from the cluster-wide
+     * shared map, in case the entity verticles serving the entity type changed.
      *
      * @param vertx          The Vert.x instance
      * @param entityTypeName The entityTypeName to query
      * @return A list of all (entity) verticle names as qualified names
      */
     public static Future<List<String>> getVerticlesForEntityType(Vertx vertx, FullQualifiedName entityTypeName) {
-        return Future
-                .future(asyncGet -> NeonBee.get(vertx).getAsyncMap().get(sharedEntityMapName(entityTypeName), asyncGet))
-                .map(qualifiedNames -> ((List<?>) Optional.ofNullable((JsonArray) qualifiedNames)
-                        .orElse(new JsonArray()).getList()).stream().map(Object::toString).distinct()
-                                .collect(Collectors.toList()));
+        return NeonBee.get(vertx).getEntityVerticleRoutingTable().getVerticlesForEntityType(entityTypeName);
     }
 
     /**
@@ -230,29 +245,37 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
      */
     @Override
     public void start(Promise<Void> promise) {
-        vertx.eventBus().consumer(EVENT_BUS_MODELS_LOADED_ADDRESS, message -> {
-            announceEntityVerticle(vertx).onFailure(throwable -> {
-                if (LOGGER.isErrorEnabled()) {
-                    LOGGER.error("Updating announcements of entity verticle {} failed", getQualifiedName(), throwable);
-                }
-            });
+        vertx.eventBus().<JsonArray>consumer(EVENT_BUS_MODELS_LOADED_ADDRESS, message -> {
+            // only the entity types of changed schema namespaces have to be announced again, if they are known
+            JsonArray changedSchemaNamespaces = message.body();
+            announceEntityVerticle(vertx, changedSchemaNamespaces != null ? changedSchemaNamespaces::contains
+                    : schemaNamespace -> true).onFailure(throwable -> {
+                        if (LOGGER.isErrorEnabled()) {
+                            LOGGER.error("Updating announcements of entity verticle {} failed", getQualifiedName(),
+                                    throwable);
+                        }
+                    });
         });
 
-        announceEntityVerticle(vertx).compose(nothing -> Future.<Void>future(super::start)).onComplete(promise);
+        announceEntityVerticle(vertx, schemaNamespace -> true).compose(nothing -> Future.<Void>future(super::start))
+                .onComplete(promise);
     }
 
     /**
      * Announces that this EntityVerticle is handling certain {@link #entityTypeNames()} to the rest of the cluster by
      * adding the EntityTypes to a shared map in a secure and cluster-wide thread safe manner.
+     *
+     * @param schemaNamespaceFilter only entity types of schema namespaces matching the filter are announced
      */
-    private Future<Void> announceEntityVerticle(Vertx vertx) {
+    private Future<Void> announceEntityVerticle(Vertx vertx, Predicate<String> schemaNamespaceFilter) {
         // in case this entity verticle does not listen to any entityTypeNames, do not add it to the shared map
         return entityTypeNames()
                 .map(entityTypeNames -> entityTypeNames != null ? entityTypeNames : Set.<FullQualifiedName>of())
                 .compose(entityTypeNames -> {
                     AsyncMap<String, Object> sharedMap = NeonBee.get(vertx).getAsyncMap();
-                    List<Future<Void>> announceFutures =
-                            entityTypeNames.stream().map(EntityVerticle::sharedEntityMapName).map(name -> {
+                    List<Future<Void>> announceFutures = entityTypeNames.stream()
+                            .filter(entityTypeName -> schemaNamespaceFilter.test(entityTypeName.getNamespace()))
+                            .map(EntityVerticle::sharedEntityMapName).map(name -> {
                                 LOGGER.debug("Acquire lock {} for announcement of entity verticle", name);
                                 return new SharedDataAccessor(vertx, EntityVerticle.class).getLock(name)
                                         .onFailure(throwable -> {
@@ -263,14 +286,18 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
                                                 JsonArray qualifiedNames =
                                                         qualifiedNamesOrNull != null ? (JsonArray) qualifiedNamesOrNull
                                                                 : new JsonArray();
-                                                if (!qualifiedNames.contains(qualifiedName)) {
-                                                    qualifiedNames.add(qualifiedName);
+                                                if (qualifiedNames.contains(qualifiedName)) {
+                                                    return succeededFuture();
                                                 }
+                                                qualifiedNames.add(qualifiedName);
 
                                                 LOGGER.info(
                                                         "Announce entity {} is served by entity verticle with qualified name {}",
                                                         name, qualifiedName);
-                                                return sharedMap.put(name, qualifiedNames);
+                                                return sharedMap.put(name, qualifiedNames)
+                                                        .onSuccess(nothing -> NeonBee.get(vertx)
+                                                                .getEntityVerticleRoutingTable()
+                                                                .publishInvalidation(name));
                                             }).onComplete(anyResult -> {
                                                 LOGGER.debug("Releasing lock {}", name);
                                                 lock.release();
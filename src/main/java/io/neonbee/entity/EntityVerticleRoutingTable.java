@@ -0,0 +1,115 @@
+package io.neonbee.entity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.NeonBee;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * A node-local routing table of the entity verticles serving an entity type.
+ * <p>
+ * Entity verticles announce the entity types they serve in the cluster-wide shared map of NeonBee. Reading the shared
+ * map on every entity request, means a round trip to the cluster in clustered mode. Thus the routing table caches the
+ * entity verticles serving an entity type on the local node. Whenever an entity verticle gets announced, a message is
+ * published to all nodes of the cluster to invalidate the cached entry, which gets read from the shared map again the
+ * next time it is needed.
+ */
+public class EntityVerticleRoutingTable {
+    /**
+     * Every time the entity verticles serving an entity type change, the name of the entry in the shared map will be
+     * published to this event bus address.
+     */
+    public static final String EVENT_BUS_ROUTES_CHANGED_ADDRESS =
+            EntityVerticleRoutingTable.class.getSimpleName() + "Changed";
+
+    @VisibleForTesting
+    final Map<String, List<String>> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Counts the invalidations, in order to not cache any routes read from the shared map, which got invalidated while
+     * reading them.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final NeonBee neonBee;
+
+    /**
+     * Routes are only cached, as soon as invalidations are received.
+     */
+    private volatile boolean cacheable;
+
+    /**
+     * Create a new instance of an {@link EntityVerticleRoutingTable} for a given {@link NeonBee} instance.
+     *
+     * Note that during the boot of NeonBee a {@link EntityVerticleRoutingTable} is created and assigned to the
+     * {@link NeonBee} instance permanently. Use {@code neonBee.getEntityVerticleRoutingTable()} to access it.
+     *
+     * @param neonBee the NeonBee instance this {@link EntityVerticleRoutingTable} is associated to
+     */
+    public EntityVerticleRoutingTable(NeonBee neonBee) {
+        this.neonBee = neonBee;
+    }
+
+    /**
+     * Get the (entity) verticle names registered for a certain entityTypeName.
+     *
+     * @param entityTypeName The entityTypeName to query
+     * @return A list of all (entity) verticle names as qualified names
+     */
+    public Future<List<String>> getVerticlesForEntityType(FullQualifiedName entityTypeName) {
+        String sharedEntityMapName = EntityVerticle.sharedEntityMapName(entityTypeName);
+        List<String> qualifiedNames = routes.get(sharedEntityMapName);
+        if (qualifiedNames != null) {
+            return Future.succeededFuture(qualifiedNames);
+        }
+
+        long invalidationsBeforeRead = invalidations.get();
+        return neonBee.getAsyncMap().get(sharedEntityMapName).map(qualifiedNamesOrNull -> {
+            List<String> readQualifiedNames = qualifiedNamesOrNull != null
+                    ? ((JsonArray) qualifiedNamesOrNull).stream().map(Object::toString).distinct()
+                            .collect(Collectors.toUnmodifiableList())
+                    : List.of();
+            if (cacheable && invalidations.get() == invalidationsBeforeRead) {
+                routes.put(sharedEntityMapName, readQualifiedNames);
+            }
+            return readQualifiedNames;
+        });
+    }
+
+    /**
+     * Invalidates the routes of an entry in the shared map on this node, and publishes the invalidation to all other
+     * nodes in the cluster.
+     *
+     * @param sharedEntityMapName the name of the entry in the shared map which changed
+     */
+    void publishInvalidation(String sharedEntityMapName) {
+        invalidate(sharedEntityMapName);
+        neonBee.getVertx().eventBus().publish(EVENT_BUS_ROUTES_CHANGED_ADDRESS, sharedEntityMapName);
+    }
+
+    private void invalidate(String sharedEntityMapName) {
+        invalidations.incrementAndGet();
+        routes.remove(sharedEntityMapName);
+    }
+
+    /**
+     * Starts listening to changes of the routes, published by any node of the cluster. Before, routes are read from
+     * the shared map, but not cached.
+     *
+     * @return a future indicating whether the routing table is listening to changes
+     */
+    public Future<Void> listenForChanges() {
+        return Future.<Void>future(promise -> neonBee.getVertx().eventBus()
+                .<String>consumer(EVENT_BUS_ROUTES_CHANGED_ADDRESS, message -> invalidate(message.body()))
+                .completionHandler(promise)).onSuccess(nothing -> cacheable = true);
+    }
+}
@@ -4,8 +4,10 @@ import static io.neonbee.internal.helper.CollectionHelper.mutableCopyOf;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
@@ -19,6 +21,10 @@ public class EntityWrapper {
 
     private List<Entity> entities;
 
+    private Set<QueryCapability> queryCapabilities = EnumSet.noneOf(QueryCapability.class);
+
+    private Long count;
+
     /**
      * EntityWrapper for one entity and its type.
      *
@@ -87,9 +93,55 @@ public class EntityWrapper {
         return entities;
     }
 
+    /**
+     * Returns the system query options, which have already been applied to the entities of this entity wrapper.
+     *
+     * @return a set of query capabilities, never null
+     */
+    public Set<QueryCapability> getQueryCapabilities() {
+        return queryCapabilities;
+    }
+
+    /**
+     * Declares the system query options, which have already been applied to the entities of this entity wrapper by the
+     * entity verticle, so they do not have to be applied again in memory.
+     *
+     * @see QueryCapability
+     * @param queryCapabilities the query capabilities applied to the entities
+     * @return the entity wrapper for chaining
+     */
+    public EntityWrapper setQueryCapabilities(Set<QueryCapability> queryCapabilities) {
+        this.queryCapabilities = queryCapabilities == null || queryCapabilities.isEmpty()
+                ? EnumSet.noneOf(QueryCapability.class)
+                : EnumSet.copyOf(queryCapabilities);
+        return this;
+    }
+
+    /**
+     * Returns the number of all entities matching the query, which could differ from the number of entities in this
+     * entity wrapper, in case paging was applied.
+     *
+     * @return the count of entities matching the query, or null in case no count was provided
+     */
+    public Long getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the number of all entities matching the query, ignoring any <code>$skip</code> or <code>$top</code> system
+     * query options. If set, the count is used to respond to <code>$count</code> requests.
+     *
+     * @param count the count of entities matching the query, or null
+     * @return the entity wrapper for chaining
+     */
+    public EntityWrapper setCount(Long count) {
+        this.count = count;
+        return this;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(entities, typeName);
+        return Objects.hash(entities, typeName, queryCapabilities, count);
     }
 
     @Override
@@ -101,7 +153,8 @@ public class EntityWrapper {
         }
 
         EntityWrapper other = (EntityWrapper) obj;
-        return Objects.equals(entities, other.entities) && Objects.equals(typeName, other.typeName);
+        return Objects.equals(entities, other.entities) && Objects.equals(typeName, other.typeName)
+                && Objects.equals(queryCapabilities, other.queryCapabilities) && Objects.equals(count, other.count);
     }
 
     /**
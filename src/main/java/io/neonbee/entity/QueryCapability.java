@@ -0,0 +1,31 @@
+package io.neonbee.entity;
+
+/**
+ * The OData system query options an {@link EntityVerticle} is able to evaluate itself.
+ * <p>
+ * By default the OData endpoint requests all entities of an entity set and applies the system query options in memory.
+ * An entity verticle which is able to evaluate some of the system query options of the {@link io.neonbee.data.DataQuery
+ * query} itself (e.g. by pushing them down to a database) can opt-in to skip the in-memory evaluation, by declaring the
+ * capabilities it applied on the {@link EntityWrapper#setQueryCapabilities(java.util.Set) entity wrapper} it returns.
+ * The endpoint will trust the result and skip the respective in-memory stage.
+ */
+public enum QueryCapability {
+    /**
+     * The entities returned match the <code>$filter</code> system query option.
+     */
+    FILTER,
+
+    /**
+     * The entities returned are sorted as requested by the <code>$orderby</code> system query option.
+     */
+    ORDER_BY,
+
+    /**
+     * The <code>$skip</code> and <code>$top</code> system query options have been applied to the entities returned.
+     * <p>
+     * As paging can only be applied after filtering and sorting, this capability implies {@link #FILTER} and
+     * {@link #ORDER_BY}. In case the <code>$count</code> system query option was requested, an entity verticle
+     * applying paging must also provide the {@link EntityWrapper#setCount(Long) count} of all matching entities.
+     */
+    PAGING
+}
@@ -0,0 +1,104 @@
+package io.neonbee.entity;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.olingo.server.api.uri.UriInfo;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * A bounded cache of the {@link UriInfo UriInfos} parsed by the {@link EntityVerticle EntityVerticles}.
+ * <p>
+ * The entries are keyed by the {@link EntityModel} instance the URI was parsed against, the schema namespace of the
+ * service, the resource path and the query string. As every reload of the {@link EntityModelManager} creates new
+ * {@link EntityModel} instances for changed models, entries parsed against an outdated model are never returned. In
+ * addition the {@link EntityModelManager} invalidates the entries of outdated models when models are reloaded, to free
+ * the outdated entries.
+ */
+final class UriInfoCache {
+    /**
+     * The maximum number of parsed {@link UriInfo UriInfos} to keep, the least recently used entries are evicted first.
+     */
+    @VisibleForTesting
+    static final long MAXIMUM_SIZE = 1000;
+
+    @VisibleForTesting
+    final Cache<Key, UriInfo> cache = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+
+    /**
+     * Returns the cached {@link UriInfo}.
+     *
+     * @param entityModel     the entity model the URI was parsed against
+     * @param schemaNamespace the schema namespace of the service
+     * @param resourcePath    the resource path of the URI
+     * @param query           the query string of the URI
+     * @return the cached {@link UriInfo} or null, in case the URI was not parsed yet
+     */
+    UriInfo get(EntityModel entityModel, String schemaNamespace, String resourcePath, String query) {
+        return cache.getIfPresent(new Key(entityModel, schemaNamespace, resourcePath, query));
+    }
+
+    /**
+     * Caches a parsed {@link UriInfo}.
+     *
+     * @param entityModel     the entity model the URI was parsed against
+     * @param schemaNamespace the schema namespace of the service
+     * @param resourcePath    the resource path of the URI
+     * @param query           the query string of the URI
+     * @param uriInfo         the parsed {@link UriInfo}
+     */
+    void put(EntityModel entityModel, String schemaNamespace, String resourcePath, String query, UriInfo uriInfo) {
+        cache.put(new Key(entityModel, schemaNamespace, resourcePath, query), uriInfo);
+    }
+
+    /**
+     * Invalidates the cached {@link UriInfo UriInfos} parsed against any of the given entity models.
+     *
+     * @param entityModels the outdated entity models, compared by identity
+     */
+    void invalidate(Set<EntityModel> entityModels) {
+        if (!entityModels.isEmpty()) {
+            cache.asMap().keySet().removeIf(key -> entityModels.contains(key.entityModel));
+        }
+    }
+
+    @VisibleForTesting
+    static final class Key {
+        private final EntityModel entityModel;
+
+        private final String schemaNamespace;
+
+        private final String resourcePath;
+
+        private final String query;
+
+        Key(EntityModel entityModel, String schemaNamespace, String resourcePath, String query) {
+            this.entityModel = entityModel;
+            this.schemaNamespace = schemaNamespace;
+            this.resourcePath = resourcePath;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            // entity models are compared by identity, every reload of a changed model results in a new instance
+            return entityModel == other.entityModel && Objects.equals(schemaNamespace, other.schemaNamespace)
+                    && Objects.equals(resourcePath, other.resourcePath) && Objects.equals(query, other.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(entityModel), schemaNamespace, resourcePath, query);
+        }
+    }
+}
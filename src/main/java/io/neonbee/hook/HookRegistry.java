@@ -41,6 +41,17 @@ public interface HookRegistry {
      */
     Future<Collection<HookRegistration>> registerInstanceHooks(Object instance, String correlationId);
 
+    /**
+     * Checks whether any hook is registered for a given type. Allows callers to skip preparing the parameters of hooks,
+     * which would not be executed anyways.
+     *
+     * @param type the HookType.
+     * @return true if hooks of the type might be registered, false if no hook of the type is registered
+     */
+    default boolean hasHooks(HookType type) {
+        return true;
+    }
+
     /**
      * Executes all hook matching the given {@code HookContext::getHookType}. Can be used for hook that don't require
      * parameters.
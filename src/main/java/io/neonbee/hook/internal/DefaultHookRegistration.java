@@ -1,14 +1,23 @@
 package io.neonbee.hook.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.UUID;
 
+import io.neonbee.NeonBee;
+import io.neonbee.hook.HookContext;
 import io.neonbee.hook.HookRegistration;
 import io.neonbee.hook.HookType;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 
 public final class DefaultHookRegistration implements HookRegistration {
+    private static final MethodType HOOK_TYPE =
+            MethodType.methodType(void.class, NeonBee.class, HookContext.class, Promise.class);
+
     private final String id;
 
     private final HookType type;
@@ -19,12 +28,30 @@ public final class DefaultHookRegistration implements HookRegistration {
 
     private final Object relatedObject;
 
+    private final MethodHandle hookHandle;
+
     DefaultHookRegistration(DefaultHookRegistry registry, Object relatedObject, Method hookMethod, HookType type) {
         this.registry = registry;
         this.relatedObject = relatedObject;
         this.hookMethod = hookMethod;
         this.type = type;
         this.id = UUID.randomUUID().toString();
+        this.hookHandle = bindHookHandle(relatedObject, hookMethod);
+    }
+
+    /**
+     * Binds the hook method to the related object once, so that executing the hook does not require a reflective
+     * call. In case the hook method is not accessible, the returned handle throws the access exception when the hook
+     * is executed, as a reflective call would.
+     */
+    private static MethodHandle bindHookHandle(Object relatedObject, Method hookMethod) {
+        try {
+            return MethodHandles.publicLookup().unreflect(hookMethod).bindTo(relatedObject).asType(HOOK_TYPE);
+        } catch (IllegalAccessException e) {
+            return MethodHandles.dropArguments(
+                    MethodHandles.throwException(void.class, IllegalAccessException.class).bindTo(e), 0,
+                    HOOK_TYPE.parameterList());
+        }
     }
 
     @Override
@@ -50,6 +77,10 @@ public final class DefaultHookRegistration implements HookRegistration {
         return relatedObject;
     }
 
+    MethodHandle getHookHandle() {
+        return hookHandle;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -70,7 +101,7 @@ public final class DefaultHookRegistration implements HookRegistration {
 
     @Override
     public Future<Void> unregister() {
-        registry.hookRegistry.get(getType()).remove(this);
+        registry.unregister(this);
         return Future.succeededFuture();
     }
 }
@@ -2,13 +2,11 @@ package io.neonbee.hook.internal;
 
 import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,14 +28,21 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 /**
- * The default hook registry implementation, backed by synchronized in-memory maps.
+ * The default hook registry implementation, backed by in-memory copy-on-write arrays of registrations per hook type.
+ * <p>
+ * Hooks of one type are executed far more often than hooks are registered (e.g. {@link HookType#ONCE_PER_REQUEST} on
+ * every request), thus executing the hooks reads the current array of registrations without any locking, while
+ * registering or unregistering a hook replaces the array. If no hook is registered for a type, executing the hooks does
+ * not allocate anything.
  */
 public class DefaultHookRegistry implements HookRegistry {
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     private static final int NUMBER_HOOK_PARAMETERS = 3;
 
-    final Map<HookType, List<HookRegistration>> hookRegistry;
+    private static final CompositeFuture NO_HOOKS_EXECUTED = CompositeFuture.all(List.of());
+
+    final Map<HookType, DefaultHookRegistration[]> hookRegistry;
 
     private final Vertx vertx;
 
@@ -56,20 +61,31 @@ public class DefaultHookRegistry implements HookRegistry {
         return AsyncHelper.executeBlocking(vertx, () -> findHooks(instance, correlationId)).map(hookRegistrations -> {
             hookRegistrations.forEach(registration -> {
                 LOGGER.correlateWith(correlationId).info("Registering hook {}", registration.getName());
-                hookRegistry.computeIfAbsent(registration.getType(),
-                        type -> Collections.synchronizedList(new ArrayList<>())).add(registration);
+                register((DefaultHookRegistration) registration);
             });
 
             return hookRegistrations;
         });
     }
 
+    @Override
+    public boolean hasHooks(HookType type) {
+        return hookRegistry.containsKey(type);
+    }
+
     @Override
     public CompositeFuture executeHooks(HookType type, Map<String, Object> parameters) {
-        List<Future<Void>> hookExecutions = hookRegistry.getOrDefault(type, List.of()).stream()
-                .map(DefaultHookRegistration.class::cast).map(registration -> executeHook(NeonBee.get(vertx),
-                        registration, DefaultHookContext.of(type, parameters)))
-                .collect(Collectors.toList());
+        DefaultHookRegistration[] registrations = hookRegistry.get(type);
+        if (registrations == null) {
+            return NO_HOOKS_EXECUTED;
+        }
+
+        NeonBee neonBee = NeonBee.get(vertx);
+        HookContext context = DefaultHookContext.of(type, parameters);
+        List<Future<Void>> hookExecutions = new ArrayList<>(registrations.length);
+        for (DefaultHookRegistration registration : registrations) {
+            hookExecutions.add(executeHook(neonBee, registration, context));
+        }
 
         return allComposite(hookExecutions);
     }
@@ -77,20 +93,49 @@ public class DefaultHookRegistry implements HookRegistry {
     @Override
     public Future<Collection<HookRegistration>> getHookRegistrations() {
         Collection<HookRegistration> registrations =
-                hookRegistry.values().stream().flatMap(List::stream).collect(Collectors.toList());
+                hookRegistry.values().stream().flatMap(Arrays::stream).collect(Collectors.toList());
         return Future.succeededFuture(registrations);
     }
 
-    private Future<Void> executeHook(NeonBee neonBee, DefaultHookRegistration hookRegistration, HookContext context) {
-        return Future.future(promise -> {
-            try {
-                hookRegistration.getHookMethod().invoke(hookRegistration.getRelatedObject(), neonBee, context, promise);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                promise.fail(e);
+    void register(DefaultHookRegistration registration) {
+        hookRegistry.merge(registration.getType(), new DefaultHookRegistration[] { registration },
+                (registrations, added) -> {
+                    DefaultHookRegistration[] newRegistrations =
+                            Arrays.copyOf(registrations, registrations.length + 1);
+                    newRegistrations[registrations.length] = registration;
+                    return newRegistrations;
+                });
+    }
+
+    void unregister(DefaultHookRegistration registration) {
+        hookRegistry.computeIfPresent(registration.getType(), (type, registrations) -> {
+            int index = Arrays.asList(registrations).indexOf(registration);
+            if (index < 0) {
+                return registrations;
+            } else if (registrations.length == 1) {
+                // remove the type, so that executing the hooks of the type can be skipped right away
+                return null;
             }
+
+            DefaultHookRegistration[] newRegistrations = new DefaultHookRegistration[registrations.length - 1];
+            System.arraycopy(registrations, 0, newRegistrations, 0, index);
+            System.arraycopy(registrations, index + 1, newRegistrations, index, newRegistrations.length - index);
+            return newRegistrations;
         });
     }
 
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static Future<Void> executeHook(NeonBee neonBee, DefaultHookRegistration hookRegistration,
+            HookContext context) {
+        Promise<Void> promise = Promise.promise();
+        try {
+            hookRegistration.getHookHandle().invokeExact(neonBee, context, promise);
+        } catch (Throwable t) {
+            promise.tryFail(t);
+        }
+        return promise.future();
+    }
+
     private List<HookRegistration> findHooks(Object hookObject, String correlationId) {
         return Arrays.stream(hookObject.getClass().getMethods())
                 .filter(method -> Modifier.isPublic(method.getModifiers()) && isHook(method)).filter(method -> {
@@ -1,27 +1,60 @@
 package io.neonbee.internal;
 
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Predicates;
 import com.google.common.base.Strings;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Iterators;
 
+import io.neonbee.logging.LoggingFacade;
+
+/**
+ * A class loader which loads classes and resources from its own class path first, before delegating to its parent.
+ * <p>
+ * The class loader is parallel capable and locks per class name, so that modules can be deployed concurrently. The
+ * entries of all JAR files on the class path are indexed on the first lookup, so that classes and resources not
+ * contained in the class path are delegated to the parent, without searching the JAR files first. Indexing reads the
+ * JAR files, thus the first lookup blocks, like any lookup of an URL class loader does.
+ */
 public class SelfFirstClassLoader extends URLClassLoader {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    static {
+        registerAsParallelCapable();
+    }
+
     @VisibleForTesting
     final Predicate<String> parentPreferredPredicate;
 
-    private final Map<String, Class<?>> loadedClasses = new ConcurrentHashMap<>();
+    /**
+     * Supplies the names of all entries in the class path or null, if the class path contains anything else than JAR
+     * files, which do not reference further class path entries.
+     */
+    private final Supplier<Set<String>> entryNames = Suppliers.memoize(() -> indexEntryNames(getURLs()));
 
     /**
      * Creates a SelfFirstClassLoader which tries to load classes from its own class path first. If a class can't be
@@ -61,51 +94,145 @@ public class SelfFirstClassLoader extends URLClassLoader {
         this.parentPreferredPredicate = getClassNamePredicate(parentPreferred);
     }
 
+    /**
+     * Returns a predicate matching the passed class names. Class names which only contain a wildcard at their end are
+     * matched using a prefix tree, only class names with wildcards in between are matched using a regular expression.
+     *
+     * @param classNames the class names to match, which may contain wildcards
+     * @return a predicate matching the passed class names
+     */
     @VisibleForTesting
     static Predicate<String> getClassNamePredicate(List<String> classNames) {
-        String pattern = classNames
-                .stream().filter(Predicate.not(Strings::isNullOrEmpty)).map(className -> Arrays
-                        .stream(className.split("\\*", -1)).map(Pattern::quote).collect(Collectors.joining(".*")))
-                .collect(Collectors.joining("|"));
-        return !pattern.isEmpty() ? Pattern.compile(pattern).asMatchPredicate() : Predicates.alwaysFalse();
+        ClassNameTree tree = new ClassNameTree();
+        List<String> patterns = new ArrayList<>();
+        for (String className : classNames) {
+            if (Strings.isNullOrEmpty(className)) {
+                continue;
+            }
+
+            int wildcardIndex = className.indexOf('*');
+            if (wildcardIndex == -1) {
+                tree.add(className, false);
+            } else if (wildcardIndex == className.length() - 1) {
+                tree.add(className.substring(0, wildcardIndex), true);
+            } else {
+                patterns.add(Arrays.stream(className.split("\\*", -1)).map(Pattern::quote)
+                        .collect(Collectors.joining(".*")));
+            }
+        }
+
+        Predicate<String> predicate = tree.isEmpty() ? null : tree::matches;
+        if (!patterns.isEmpty()) {
+            Predicate<String> patternPredicate = Pattern.compile(String.join("|", patterns)).asMatchPredicate();
+            predicate = predicate != null ? predicate.or(patternPredicate) : patternPredicate;
+        }
+        return predicate != null ? predicate : Predicates.alwaysFalse();
+    }
+
+    /**
+     * Indexes the names of all entries of the JAR files on the class path.
+     *
+     * @param urls the class path
+     * @return the names of all entries or null, if the class path contains anything else than JAR files, which do
+     *         not reference further class path entries
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private static Set<String> indexEntryNames(URL... urls) {
+        Set<String> entryNames = new HashSet<>();
+        for (URL url : urls) {
+            try {
+                if (!"file".equals(url.getProtocol())) {
+                    return null;
+                }
+
+                Path path = Path.of(url.toURI());
+                if (!Files.isRegularFile(path)) {
+                    return null;
+                }
+
+                try (JarFile jarFile = new JarFile(path.toFile())) {
+                    if (jarFile.isMultiRelease()) {
+                        // versioned entries are not resolved by their name, thus do not index multi-release JAR files
+                        return null;
+                    }
+
+                    Manifest manifest = jarFile.getManifest();
+                    if (manifest != null && manifest.getMainAttributes().containsKey(Attributes.Name.CLASS_PATH)) {
+                        // the entries of JAR files referenced in the manifest are loaded as well, thus do not index
+                        return null;
+                    }
+
+                    jarFile.stream().map(ZipEntry::getName).forEach(entryName -> {
+                        entryNames.add(entryName);
+                        if (entryName.endsWith("/")) {
+                            // directory entries are also found without their trailing slash
+                            entryNames.add(entryName.substring(0, entryName.length() - 1));
+                        }
+                    });
+                }
+            } catch (URISyntaxException | IllegalArgumentException | IOException e) {
+                LOGGER.warn("Could not index the entries of {}, all lookups will search the class path", url, e);
+                return null;
+            }
+        }
+        return Collections.unmodifiableSet(entryNames);
     }
 
     @SuppressWarnings("PMD.EmptyCatchBlock")
     @Override
     protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
-        Class<?> classToReturn = loadedClasses.get(name);
+        synchronized (getClassLoadingLock(name)) {
+            // Check if this class already loaded by this class loader
+            Class<?> classToReturn = findLoadedClass(name);
 
-        // Check if this class already loaded by this class loader
-        if (classToReturn != null) {
-            return classToReturn;
-        }
+            // If the class version loaded by the parent is preferred, then use super.loadClass
+            // of super because it has parent first approach.
+            if (classToReturn == null && loadFromParent(name)) {
+                try {
+                    classToReturn = getParent().loadClass(name);
+                } catch (ClassNotFoundException e) {
+                    // Fall through
+                }
+            }
 
-        // If the class version loaded by the parent is preferred, then use super.loadClass
-        // of super because it has parent first approach.
-        if (loadFromParent(name)) {
-            try {
-                classToReturn = getParent().loadClass(name);
-                loadedClasses.put(name, classToReturn);
-                return classToReturn;
-            } catch (ClassNotFoundException e) {
-                // Fall through
+            if (classToReturn == null) {
+                // Try and load with this class loader, if the class path contains the class. Otherwise or if the class
+                // loader does not find class, try with parent again
+                try {
+                    classToReturn = isIndexed(name.replace('.', '/').concat(".class")) ? findClass(name) : null;
+                } catch (ClassNotFoundException e) {
+                    // Fall through
+                }
+
+                if (classToReturn == null) {
+                    classToReturn = getParent().loadClass(name);
+                }
             }
-        }
 
-        // Try and load with this class loader
-        try {
-            classToReturn = findClass(name);
-        } catch (ClassNotFoundException e) {
-            // Class loader does not find class, try with parent again
-            classToReturn = getParent().loadClass(name);
+            if (resolve) {
+                resolveClass(classToReturn);
+            }
+
+            return classToReturn;
         }
+    }
 
-        if (resolve) {
-            resolveClass(classToReturn);
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        if (!isIndexed(name.replace('.', '/').concat(".class"))) {
+            throw new ClassNotFoundException(name);
         }
+        return super.findClass(name);
+    }
 
-        loadedClasses.put(name, classToReturn);
-        return classToReturn;
+    @Override
+    public URL findResource(String name) {
+        return isIndexed(name) ? super.findResource(name) : null;
+    }
+
+    @Override
+    public Enumeration<URL> findResources(String name) throws IOException {
+        return isIndexed(name) ? super.findResources(name) : Collections.emptyEnumeration();
     }
 
     @Override
@@ -124,21 +251,79 @@ public class SelfFirstClassLoader extends URLClassLoader {
     @Override
     public Enumeration<URL> getResources(String name) throws IOException {
         // First get resources from this classloader
-        List<URL> resources = Collections.list(findResources(name));
+        Enumeration<URL> resources = findResources(name);
 
         // Then add resources from the parent
         if (getParent() != null) {
             Enumeration<URL> parentResources = getParent().getResources(name);
-            if (parentResources.hasMoreElements()) {
-                resources.addAll(Collections.list(parentResources));
+            if (!resources.hasMoreElements()) {
+                return parentResources;
+            } else if (parentResources.hasMoreElements()) {
+                return Iterators.asEnumeration(Iterators.concat(Iterators.forEnumeration(resources),
+                        Iterators.forEnumeration(parentResources)));
             }
         }
 
-        return Collections.enumeration(resources);
+        return resources;
     }
 
     @VisibleForTesting
     boolean loadFromParent(String className) {
         return parentPreferredPredicate.test(className);
     }
+
+    /**
+     * Checks whether the class path could contain an entry.
+     *
+     * @param entryName the name of the entry
+     * @return false if the class path does not contain the entry for sure, true if it does or has not been indexed
+     */
+    @VisibleForTesting
+    boolean isIndexed(String entryName) {
+        Set<String> names = entryNames.get();
+        return names == null || names.contains(entryName);
+    }
+
+    /**
+     * A prefix tree of class names, matching either a class name exactly or all class names starting with a prefix.
+     */
+    private static final class ClassNameTree {
+        private final Map<Character, ClassNameTree> children = new HashMap<>();
+
+        private boolean prefix;
+
+        private boolean exact;
+
+        void add(String className, boolean isPrefix) {
+            ClassNameTree node = this;
+            for (int i = 0; i < className.length(); i++) {
+                node = node.children.computeIfAbsent(className.charAt(i), character -> new ClassNameTree());
+            }
+
+            if (isPrefix) {
+                node.prefix = true;
+            } else {
+                node.exact = true;
+            }
+        }
+
+        boolean isEmpty() {
+            return children.isEmpty() && !prefix && !exact;
+        }
+
+        boolean matches(String className) {
+            ClassNameTree node = this;
+            for (int i = 0; i < className.length(); i++) {
+                if (node.prefix) {
+                    return true;
+                }
+
+                node = node.children.get(className.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+            return node.prefix || node.exact;
+        }
+    }
 }
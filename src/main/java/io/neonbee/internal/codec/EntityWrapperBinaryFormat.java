@@ -0,0 +1,555 @@
+package io.neonbee.internal.codec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.olingo.commons.api.data.ComplexValue;
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmEnumType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmStructuredType;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.commons.api.edm.EdmTypeDefinition;
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.entity.QueryCapability;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A compact binary wire format for {@link EntityWrapper}s, driven by the {@link EdmEntityType} of the entities.
+ * <p>
+ * Properties are written positionally in the order of the structural properties of the entity type (their ordinal), so
+ * no property names are transmitted. Every value is prefixed by a tag byte, common primitive values (booleans, integer
+ * and floating point numbers, strings and GUIDs) are written in their binary representation, all other primitive
+ * values are written in their OData literal representation. Decoding results in entities equal to the ones the Olingo
+ * JSON deserializer would produce, so both wire formats can be used interchangeably. The entities are followed by the
+ * {@link QueryCapability query capabilities} and the count of the entity wrapper.
+ * <p>
+ * As the properties are written positionally, the header contains a fingerprint of the schema of the entity type. In
+ * case the entity type of the decoding node differs from the one of the encoding node, decoding is rejected.
+ */
+final class EntityWrapperBinaryFormat {
+    /**
+     * The first byte of any entity wrapper encoded in the binary format. Must never be '{', which is the first byte of
+     * the JSON wire format.
+     */
+    static final byte VERSION = 2;
+
+    private static final byte TAG_NULL = 0;
+
+    private static final byte TAG_BOOLEAN = 1;
+
+    private static final byte TAG_INTEGER = 2;
+
+    private static final byte TAG_FLOATING = 3;
+
+    private static final byte TAG_STRING = 4;
+
+    private static final byte TAG_GUID = 5;
+
+    private static final byte TAG_LITERAL = 6;
+
+    private static final byte TAG_COMPLEX = 7;
+
+    private static final byte TAG_COLLECTION = 8;
+
+    private static final int BIT_FILTER = 1;
+
+    private static final int BIT_ORDER_BY = 1 << 1;
+
+    private static final int BIT_PAGING = 1 << 2;
+
+    private EntityWrapperBinaryFormat() {}
+
+    /**
+     * Encodes an entity wrapper to the buffer.
+     *
+     * @param buffer        the buffer to append to
+     * @param entityType    the entity type of the entities in the wrapper
+     * @param entityWrapper the entity wrapper to encode
+     */
+    static void encode(Buffer buffer, EdmEntityType entityType, EntityWrapper entityWrapper) {
+        FullQualifiedName entityTypeName = entityWrapper.getTypeName();
+        buffer.appendByte(VERSION);
+        appendString(buffer, entityTypeName.getNamespace());
+        appendString(buffer, entityTypeName.getName());
+
+        buffer.appendLong(fingerprint(entityType));
+
+        StructureEncoder encoder = new StructureEncoder(entityType);
+        List<Entity> entities = entityWrapper.getEntities();
+        buffer.appendInt(entities.size());
+        for (Entity entity : entities) {
+            appendNullableString(buffer, entity.getETag());
+            encoder.encode(buffer, entity.getProperties());
+        }
+
+        int queryCapabilities = 0;
+        for (QueryCapability capability : entityWrapper.getQueryCapabilities()) {
+            queryCapabilities |= bit(capability);
+        }
+        buffer.appendInt(queryCapabilities);
+        buffer.appendLong(entityWrapper.getCount() != null ? entityWrapper.getCount() : -1L);
+    }
+
+    /**
+     * Checks whether an entity wrapper was encoded in the binary format.
+     *
+     * @param position the position in the buffer the entity wrapper starts at
+     * @param buffer   the buffer to check
+     * @return true if the entity wrapper was encoded in the binary format, false if it was encoded in JSON
+     */
+    static boolean isBinary(int position, Buffer buffer) {
+        return buffer.getByte(position) != '{';
+    }
+
+    /**
+     * Returns the full qualified name of the entity type of an encoded entity wrapper.
+     *
+     * @param position the position in the buffer to start reading from
+     * @param buffer   the buffer to read from
+     * @return the full qualified name of the entity type
+     */
+    static FullQualifiedName decodeTypeName(int position, Buffer buffer) {
+        Reader reader = new Reader(buffer, position + 1);
+        return new FullQualifiedName(reader.readString(), reader.readString());
+    }
+
+    /**
+     * Decodes an entity wrapper from the buffer.
+     *
+     * @param position   the position in the buffer to start reading from
+     * @param buffer     the buffer to read from
+     * @param entityType the entity type of the encoded entities
+     * @return the decoded entity wrapper
+     * @throws IllegalStateException if the entity wrapper was encoded with another version of the format, or the
+     *                               schema of the encoded entity type differs from the given entity type
+     */
+    static EntityWrapper decode(int position, Buffer buffer, EdmEntityType entityType) {
+        Reader reader = new Reader(buffer, position);
+        if (reader.readByte() != VERSION) {
+            throw new IllegalStateException("Unsupported binary entity wrapper format version");
+        }
+        FullQualifiedName entityTypeName = new FullQualifiedName(reader.readString(), reader.readString());
+
+        if (reader.readLong() != fingerprint(entityType)) {
+            throw new IllegalStateException("Entity type " + entityTypeName + " differs from the type encoded");
+        }
+
+        StructureDecoder decoder = new StructureDecoder(entityType);
+        String entityTypeNameString = entityType.getFullQualifiedName().getFullQualifiedNameAsString();
+        int size = reader.readInt();
+        List<Entity> entities = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            Entity entity = new Entity();
+            entity.setType(entityTypeNameString);
+            entity.setETag(reader.readNullableString());
+            decoder.decode(reader, entity.getProperties());
+            entities.add(entity);
+        }
+
+        int queryCapabilitiesMask = reader.readInt();
+        Set<QueryCapability> queryCapabilities = EnumSet.noneOf(QueryCapability.class);
+        for (QueryCapability capability : QueryCapability.values()) {
+            if ((queryCapabilitiesMask & bit(capability)) != 0) {
+                queryCapabilities.add(capability);
+            }
+        }
+        long count = reader.readLong();
+        return new EntityWrapper(entityTypeName, entities).setQueryCapabilities(queryCapabilities)
+                .setCount(count >= 0 ? count : null);
+    }
+
+    /**
+     * Returns a fingerprint of the schema of a structured type, being the names and types of its structural properties
+     * in the order they are encoded, including the ones of nested complex types.
+     *
+     * @param type the structured type
+     * @return the fingerprint of the schema
+     */
+    static long fingerprint(EdmStructuredType type) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        fingerprint(hasher, type, new HashSet<>());
+        return hasher.hash().asLong();
+    }
+
+    private static void fingerprint(Hasher hasher, EdmStructuredType type, Set<FullQualifiedName> visitedTypes) {
+        hasher.putString(type.getFullQualifiedName().getFullQualifiedNameAsString(), UTF_8).putByte((byte) 0);
+        if (!visitedTypes.add(type.getFullQualifiedName())) {
+            // recursive complex types are only fingerprinted once
+            return;
+        }
+
+        for (String propertyName : type.getPropertyNames()) {
+            EdmProperty property = type.getStructuralProperty(propertyName);
+            hasher.putString(propertyName, UTF_8).putByte((byte) 0).putBoolean(property.isCollection());
+            if (property.getType() instanceof EdmStructuredType) {
+                fingerprint(hasher, (EdmStructuredType) property.getType(), visitedTypes);
+            } else {
+                hasher.putString(property.getType().getFullQualifiedName().getFullQualifiedNameAsString(), UTF_8)
+                        .putByte((byte) 0);
+            }
+        }
+    }
+
+    /**
+     * Returns the bit of a query capability in the encoded query capabilities. The bits are independent of the
+     * declaration order of the capabilities, to stay compatible when capabilities are added.
+     *
+     * @param capability the query capability
+     * @return the bit of the query capability
+     */
+    private static int bit(QueryCapability capability) {
+        switch (capability) {
+        case FILTER:
+            return BIT_FILTER;
+        case ORDER_BY:
+            return BIT_ORDER_BY;
+        case PAGING:
+            return BIT_PAGING;
+        default:
+            throw new IllegalArgumentException("No bit assigned to query capability " + capability);
+        }
+    }
+
+    private static void appendString(Buffer buffer, String string) {
+        byte[] bytes = string.getBytes(UTF_8);
+        buffer.appendInt(bytes.length).appendBytes(bytes);
+    }
+
+    private static void appendNullableString(Buffer buffer, String string) {
+        if (string == null) {
+            buffer.appendInt(-1);
+        } else {
+            appendString(buffer, string);
+        }
+    }
+
+    private static EdmPrimitiveType underlyingType(EdmPrimitiveType type) {
+        if (type.getKind() == EdmTypeKind.ENUM) {
+            return ((EdmEnumType) type).getUnderlyingType();
+        } else if (type.getKind() == EdmTypeKind.DEFINITION) {
+            return ((EdmTypeDefinition) type).getUnderlyingType();
+        }
+        return type;
+    }
+
+    private static EdmPrimitiveTypeKind primitiveTypeKind(EdmType type) {
+        try {
+            return type.getKind() == EdmTypeKind.PRIMITIVE
+                    ? EdmPrimitiveTypeKind.valueOfFQN(type.getFullQualifiedName())
+                    : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encodes the properties of a structured type positionally.
+     */
+    private static final class StructureEncoder {
+        private final EdmStructuredType type;
+
+        private final EdmProperty[] properties;
+
+        private final Map<String, Integer> ordinals;
+
+        private final EdmPrimitiveTypeKind[] kinds;
+
+        private final StructureEncoder[] complexEncoders;
+
+        private final Property[] slots;
+
+        StructureEncoder(EdmStructuredType type) {
+            this.type = type;
+            List<String> propertyNames = type.getPropertyNames();
+            properties = new EdmProperty[propertyNames.size()];
+            ordinals = new HashMap<>();
+            kinds = new EdmPrimitiveTypeKind[properties.length];
+            complexEncoders = new StructureEncoder[properties.length];
+            slots = new Property[properties.length];
+            for (int ordinal = 0; ordinal < properties.length; ordinal++) {
+                properties[ordinal] = type.getStructuralProperty(propertyNames.get(ordinal));
+                ordinals.put(properties[ordinal].getName(), ordinal);
+                kinds[ordinal] = primitiveTypeKind(properties[ordinal].getType());
+            }
+        }
+
+        void encode(Buffer buffer, List<Property> values) {
+            for (Property value : values) {
+                Integer ordinal = ordinals.get(value.getName());
+                if (ordinal != null) {
+                    slots[ordinal] = value;
+                }
+            }
+
+            for (int ordinal = 0; ordinal < properties.length; ordinal++) {
+                Property value = slots[ordinal];
+                slots[ordinal] = null;
+                if (value == null || value.isNull()) {
+                    buffer.appendByte(TAG_NULL);
+                } else if (properties[ordinal].isCollection()) {
+                    Collection<?> collection = value.asCollection();
+                    buffer.appendByte(TAG_COLLECTION).appendInt(collection.size());
+                    for (Object element : collection) {
+                        encodeValue(buffer, ordinal, element);
+                    }
+                } else {
+                    encodeValue(buffer, ordinal, value.getValue());
+                }
+            }
+        }
+
+        private void encodeValue(Buffer buffer, int ordinal, Object value) {
+            EdmProperty property = properties[ordinal];
+            if (value == null) {
+                buffer.appendByte(TAG_NULL);
+            } else if (value instanceof ComplexValue) {
+                if (complexEncoders[ordinal] == null) {
+                    complexEncoders[ordinal] = new StructureEncoder((EdmStructuredType) property.getType());
+                }
+                buffer.appendByte(TAG_COMPLEX);
+                complexEncoders[ordinal].encode(buffer, ((ComplexValue) value).getValue());
+            } else if (!encodePrimitiveValue(buffer, kinds[ordinal], value)) {
+                try {
+                    appendString(buffer.appendByte(TAG_LITERAL),
+                            ((EdmPrimitiveType) property.getType()).valueToString(value, property.isNullable(),
+                                    property.getMaxLength(), property.getPrecision(), property.getScale(),
+                                    property.isUnicode()));
+                } catch (EdmPrimitiveTypeException e) {
+                    throw new IllegalArgumentException("Cannot encode value of property " + property.getName()
+                            + " of type " + type.getFullQualifiedName(), e);
+                }
+            }
+        }
+
+        private static boolean encodePrimitiveValue(Buffer buffer, EdmPrimitiveTypeKind kind, Object value) {
+            if (kind == null) {
+                return false;
+            }
+
+            switch (kind) {
+            case Boolean:
+                if (value instanceof Boolean) {
+                    buffer.appendByte(TAG_BOOLEAN).appendByte((byte) ((Boolean) value ? 1 : 0));
+                    return true;
+                }
+                return false;
+            case Byte:
+            case SByte:
+            case Int16:
+            case Int32:
+            case Int64:
+                if (value instanceof Byte || value instanceof Short || value instanceof Integer
+                        || value instanceof Long) {
+                    buffer.appendByte(TAG_INTEGER).appendLong(((Number) value).longValue());
+                    return true;
+                }
+                return false;
+            case Single:
+            case Double:
+                if (value instanceof Float || value instanceof Double) {
+                    buffer.appendByte(TAG_FLOATING).appendDouble(((Number) value).doubleValue());
+                    return true;
+                }
+                return false;
+            case String:
+                if (value instanceof String) {
+                    appendString(buffer.appendByte(TAG_STRING), (String) value);
+                    return true;
+                }
+                return false;
+            case Guid:
+                if (value instanceof UUID) {
+                    UUID uuid = (UUID) value;
+                    buffer.appendByte(TAG_GUID).appendLong(uuid.getMostSignificantBits())
+                            .appendLong(uuid.getLeastSignificantBits());
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Decodes the positionally encoded properties of a structured type.
+     */
+    private static final class StructureDecoder {
+        private final EdmProperty[] properties;
+
+        private final String[] typeNames;
+
+        private final Class<?>[] defaultTypes;
+
+        private final StructureDecoder[] complexDecoders;
+
+        StructureDecoder(EdmStructuredType type) {
+            List<String> propertyNames = type.getPropertyNames();
+            properties = new EdmProperty[propertyNames.size()];
+            typeNames = new String[properties.length];
+            defaultTypes = new Class<?>[properties.length];
+            complexDecoders = new StructureDecoder[properties.length];
+            for (int ordinal = 0; ordinal < properties.length; ordinal++) {
+                EdmProperty property = type.getStructuralProperty(propertyNames.get(ordinal));
+                properties[ordinal] = property;
+                typeNames[ordinal] = property.getType().getFullQualifiedName().getFullQualifiedNameAsString();
+                if (property.getType() instanceof EdmPrimitiveType) {
+                    defaultTypes[ordinal] = property.getMapping() != null
+                            && property.getMapping().getMappedJavaClass() != null
+                                    ? property.getMapping().getMappedJavaClass()
+                                    : underlyingType((EdmPrimitiveType) property.getType()).getDefaultType();
+                }
+            }
+        }
+
+        void decode(Reader reader, List<Property> values) {
+            for (int ordinal = 0; ordinal < properties.length; ordinal++) {
+                EdmProperty property = properties[ordinal];
+                EdmTypeKind kind = property.getType().getKind();
+                Property value = new Property(typeNames[ordinal], property.getName());
+                byte tag = reader.readByte();
+                if (tag == TAG_COLLECTION || (tag == TAG_NULL && property.isCollection())) {
+                    // like the JSON deserializer, absent collections are decoded to empty collections
+                    int size = tag == TAG_COLLECTION ? reader.readInt() : 0;
+                    List<Object> collection = new ArrayList<>(size);
+                    for (int index = 0; index < size; index++) {
+                        collection.add(decodeValue(reader, reader.readByte(), ordinal));
+                    }
+                    value.setValue(kind == EdmTypeKind.COMPLEX ? ValueType.COLLECTION_COMPLEX
+                            : kind == EdmTypeKind.ENUM ? ValueType.COLLECTION_ENUM : ValueType.COLLECTION_PRIMITIVE,
+                            collection);
+                } else {
+                    value.setValue(kind == EdmTypeKind.COMPLEX ? ValueType.COMPLEX
+                            : kind == EdmTypeKind.ENUM ? ValueType.ENUM : ValueType.PRIMITIVE,
+                            decodeValue(reader, tag, ordinal));
+                }
+                values.add(value);
+            }
+        }
+
+        private Object decodeValue(Reader reader, byte tag, int ordinal) {
+            switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_BOOLEAN:
+                return reader.readByte() != 0;
+            case TAG_INTEGER:
+                return toDefaultType(reader.readLong(), defaultTypes[ordinal]);
+            case TAG_FLOATING:
+                double floating = reader.readDouble();
+                if (Float.class.equals(defaultTypes[ordinal])) {
+                    return (float) floating;
+                }
+                return floating;
+            case TAG_STRING:
+                return reader.readString();
+            case TAG_GUID:
+                return new UUID(reader.readLong(), reader.readLong());
+            case TAG_LITERAL:
+                EdmProperty property = properties[ordinal];
+                try {
+                    return ((EdmPrimitiveType) property.getType()).valueOfString(reader.readString(),
+                            property.isNullable(), property.getMaxLength(), property.getPrecision(),
+                            property.getScale(), property.isUnicode(), defaultTypes[ordinal]);
+                } catch (EdmPrimitiveTypeException e) {
+                    throw new IllegalArgumentException("Cannot decode value of property " + property.getName(), e);
+                }
+            case TAG_COMPLEX:
+                if (complexDecoders[ordinal] == null) {
+                    complexDecoders[ordinal] = new StructureDecoder((EdmStructuredType) properties[ordinal].getType());
+                }
+                ComplexValue complexValue = new ComplexValue();
+                complexValue.setTypeName(typeNames[ordinal]);
+                complexDecoders[ordinal].decode(reader, complexValue.getValue());
+                return complexValue;
+            default:
+                throw new IllegalStateException("Unknown value tag " + tag + " in binary entity wrapper");
+            }
+        }
+
+        private static Object toDefaultType(long value, Class<?> defaultType) {
+            if (Byte.class.equals(defaultType)) {
+                return (byte) value;
+            } else if (Short.class.equals(defaultType)) {
+                return (short) value;
+            } else if (Integer.class.equals(defaultType)) {
+                return (int) value;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A sequential reader on a buffer.
+     */
+    private static final class Reader {
+        private final Buffer buffer;
+
+        private int position;
+
+        Reader(Buffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return buffer.getByte(position++);
+        }
+
+        int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        long readLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        double readDouble() {
+            double value = buffer.getDouble(position);
+            position += Double.BYTES;
+            return value;
+        }
+
+        String readString() {
+            int length = readInt();
+            String value = buffer.getString(position, position + length, UTF_8.name());
+            position += length;
+            return value;
+        }
+
+        String readNullableString() {
+            return buffer.getInt(position) < 0 ? skipNull() : readString();
+        }
+
+        private String skipNull() {
+            position += Integer.BYTES;
+            return null;
+        }
+    }
+}
@@ -7,6 +7,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.apache.olingo.commons.api.data.ContextURL;
 import org.apache.olingo.commons.api.data.EntityCollection;
@@ -27,41 +30,94 @@ import org.slf4j.LoggerFactory;
 import io.neonbee.NeonBee;
 import io.neonbee.entity.EntityModelDefinition;
 import io.neonbee.entity.EntityWrapper;
+import io.neonbee.entity.QueryCapability;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, EntityWrapper> {
+    /**
+     * The format used to encode entity wrappers to the wire. Independent of the format used to encode, the codec is
+     * always able to decode entity wrappers of any of the formats.
+     */
+    public enum WireFormat {
+        /**
+         * Entities are serialized using the OData JSON format.
+         */
+        JSON,
+
+        /**
+         * Entities are serialized using a compact binary format driven by the entity type.
+         */
+        BINARY
+    }
+
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+    private static final String COUNT = "count";
+
     private static final String ENTITY = "entity";
 
     private static final String NAME = "name";
 
     private static final String NAMESPACE = "namespace";
 
+    private static final String QUERY_CAPABILITIES = "queryCapabilities";
+
     private static final String ENTITY_TYPE = "entityType";
 
     private final Vertx vertx;
 
+    private final WireFormat wireFormat;
+
     /**
-     * Creates a new EntityWrapperMessageCodec.
+     * Creates a new EntityWrapperMessageCodec, encoding to the {@link WireFormat#JSON JSON} wire format.
      *
      * @param vertx a Vert.x instance required to get the buffered model
      */
     public EntityWrapperMessageCodec(Vertx vertx) {
+        this(vertx, WireFormat.JSON);
+    }
+
+    /**
+     * Creates a new EntityWrapperMessageCodec.
+     *
+     * @param vertx      a Vert.x instance required to get the buffered model
+     * @param wireFormat the format to encode entity wrappers to the wire with
+     */
+    public EntityWrapperMessageCodec(Vertx vertx, WireFormat wireFormat) {
         this.vertx = vertx;
+        this.wireFormat = wireFormat;
     }
 
     @Override
     public void encodeToWire(Buffer buffer, EntityWrapper entityWrapper) {
-        FullQualifiedName entityTypeName = entityWrapper.getTypeName();
-        ServiceMetadata serviceMetadata = getServiceMetadata(entityTypeName);
+        ServiceMetadata serviceMetadata = getServiceMetadata(entityWrapper.getTypeName());
         if (serviceMetadata == null) {
             throw new IllegalStateException("Service metadata was not loaded yet for " + entityWrapper.getTypeName());
         }
+        encodeToWire(buffer, entityWrapper, serviceMetadata, wireFormat);
+    }
+
+    /**
+     * Encodes an entity wrapper to the wire.
+     *
+     * @param buffer          the buffer to append to
+     * @param entityWrapper   the entity wrapper to encode
+     * @param serviceMetadata the service metadata of the entity type
+     * @param wireFormat      the format to encode the entity wrapper with
+     */
+    static void encodeToWire(Buffer buffer, EntityWrapper entityWrapper, ServiceMetadata serviceMetadata,
+            WireFormat wireFormat) {
+        FullQualifiedName entityTypeName = entityWrapper.getTypeName();
         EdmEntityType entityType = serviceMetadata.getEdm().getEntityType(entityTypeName);
+        if (wireFormat == WireFormat.BINARY) {
+            EntityWrapperBinaryFormat.encode(buffer, entityType, entityWrapper);
+            return;
+        }
+
         EdmEntitySet entitySet = serviceMetadata.getEdm().getEntityContainer().getEntitySet(entityTypeName.getName());
         ContextURL contextUrl = ContextURL.with().entitySet(entitySet).build();
         EntityCollectionSerializerOptions.Builder optionsBuilder =
@@ -77,6 +133,14 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
             SerializerResult odataSerializerResult =
                     odataSerializer.entityCollection(serviceMetadata, entityType, entityCollection, options);
             json.put(ENTITY, Buffer.buffer(odataSerializerResult.getContent().readAllBytes()).toString());
+            if (!entityWrapper.getQueryCapabilities().isEmpty()) {
+                JsonArray queryCapabilities = new JsonArray();
+                entityWrapper.getQueryCapabilities().forEach(capability -> queryCapabilities.add(capability.name()));
+                json.put(QUERY_CAPABILITIES, queryCapabilities);
+            }
+            if (entityWrapper.getCount() != null) {
+                json.put(COUNT, entityWrapper.getCount());
+            }
             buffer.appendString(json.toString());
         } catch (SerializerException | IOException e) {
             LOGGER.warn("Error while serializing entity wrapper.", e);
@@ -92,11 +156,30 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
 
     @Override
     public EntityWrapper decodeFromWire(int position, Buffer buffer) {
+        return decodeFromWire(position, buffer, this::getServiceMetadata);
+    }
+
+    /**
+     * Decodes an entity wrapper from the wire, independent of the wire format it was encoded with.
+     *
+     * @param position                the position in the buffer to start reading from
+     * @param buffer                  the buffer to read from
+     * @param serviceMetadataFunction a function returning the service metadata for a given entity type
+     * @return the decoded entity wrapper
+     */
+    static EntityWrapper decodeFromWire(int position, Buffer buffer,
+            Function<FullQualifiedName, ServiceMetadata> serviceMetadataFunction) {
+        if (EntityWrapperBinaryFormat.isBinary(position, buffer)) {
+            FullQualifiedName entityTypeName = EntityWrapperBinaryFormat.decodeTypeName(position, buffer);
+            return EntityWrapperBinaryFormat.decode(position, buffer,
+                    serviceMetadataFunction.apply(entityTypeName).getEdm().getEntityType(entityTypeName));
+        }
+
         JsonObject jsonObject = buffer.getBuffer(position, buffer.length()).toJsonObject();
         JsonObject entityTypeJsonObject = jsonObject.getJsonObject(ENTITY_TYPE);
         FullQualifiedName entityTypeName =
                 new FullQualifiedName(entityTypeJsonObject.getString(NAMESPACE), entityTypeJsonObject.getString(NAME));
-        ServiceMetadata serviceMetadata = getServiceMetadata(entityTypeName);
+        ServiceMetadata serviceMetadata = serviceMetadataFunction.apply(entityTypeName);
         EdmEntityType entityType = serviceMetadata.getEdm().getEntityType(entityTypeName);
         try {
             String payload = jsonObject.getString(ENTITY);
@@ -104,7 +187,11 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
                     getBufferedOData().createDeserializer(APPLICATION_JSON, serviceMetadata);
             DeserializerResult odataDeserializerResult = odataDeserializer
                     .entityCollection(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)), entityType);
-            return new EntityWrapper(entityTypeName, odataDeserializerResult.getEntityCollection().getEntities());
+            Set<QueryCapability> queryCapabilities = EnumSet.noneOf(QueryCapability.class);
+            jsonObject.getJsonArray(QUERY_CAPABILITIES, new JsonArray())
+                    .forEach(capability -> queryCapabilities.add(QueryCapability.valueOf((String) capability)));
+            return new EntityWrapper(entityTypeName, odataDeserializerResult.getEntityCollection().getEntities())
+                    .setQueryCapabilities(queryCapabilities).setCount(jsonObject.getLong(COUNT));
         } catch (DeserializerException e) {
             LOGGER.warn("Error while deserializing entity wrapper.", e);
             throw new RuntimeException(e);
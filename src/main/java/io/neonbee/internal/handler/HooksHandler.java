@@ -6,6 +6,7 @@ import java.util.Map;
 
 import io.neonbee.NeonBee;
 import io.neonbee.data.DataException;
+import io.neonbee.hook.HookRegistry;
 import io.neonbee.hook.HookType;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Handler;
@@ -20,8 +21,13 @@ public class HooksHandler implements Handler<RoutingContext> {
 
     @Override
     public void handle(RoutingContext routingContext) {
-        NeonBee.get(routingContext.vertx()).getHookRegistry()
-                .executeHooks(HookType.ONCE_PER_REQUEST, Map.of(ROUTING_CONTEXT, routingContext))
+        HookRegistry hookRegistry = NeonBee.get(routingContext.vertx()).getHookRegistry();
+        if (!hookRegistry.hasHooks(HookType.ONCE_PER_REQUEST)) {
+            routingContext.next();
+            return;
+        }
+
+        hookRegistry.executeHooks(HookType.ONCE_PER_REQUEST, Map.of(ROUTING_CONTEXT, routingContext))
                 .onComplete(asyncResult -> {
                     if (asyncResult.failed()) {
                         Throwable cause = asyncResult.cause();
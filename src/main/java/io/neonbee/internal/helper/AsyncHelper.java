@@ -78,6 +78,27 @@ public final class AsyncHelper {
         });
     }
 
+    /**
+     * Runs a supplier and returns the result in an asynchronous fashion. Other than
+     * {@link #executeBlocking(Vertx, ThrowingSupplier)}, the supplier is not executed after the blocking code
+     * previously executed on the same context, but concurrently to it.
+     *
+     * @param vertx            the underlying Vert.x instance
+     * @param blockingSupplier the supplier that will be executed
+     * @param <T>              the return type of the supplier
+     * @return a Future representing the asynchronous result of the supplier logic
+     */
+    public static <T> Future<T> executeBlockingUnordered(Vertx vertx,
+            ThrowingSupplier<T, Exception> blockingSupplier) {
+        return vertx.executeBlocking(promise -> {
+            try {
+                promise.complete(blockingSupplier.get());
+            } catch (Exception e) {
+                promise.fail(e);
+            }
+        }, false);
+    }
+
     /**
      * Runs a task and returns the result in an asynchronous fashion. The consumer is responsible for completing the
      * passed in promise when the execution of the task is completed.
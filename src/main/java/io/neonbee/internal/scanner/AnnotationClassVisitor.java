@@ -4,11 +4,11 @@ import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.TYPE;
 
-import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.objectweb.asm.AnnotationVisitor;
@@ -16,39 +16,27 @@ import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
 /**
- * Scans a class if either the class itself, or any of it's methods or fields is annotated with a given annotation.
+ * Collects the annotations of all visited classes, either on the class itself, or on any of it's methods or fields.
+ * <p>
+ * Annotations on the class itself are only collected for public classes, annotations on methods or fields only in case
+ * they are visible at runtime.
  */
 class AnnotationClassVisitor extends ClassVisitor {
-    private final Set<String> classNames = new HashSet<>();
+    private final Map<ElementType, Map<String, Set<String>>> annotatedClasses = new EnumMap<>(ElementType.class);
 
-    private final String annotationClassDescriptor;
+    private final MethodVisitor methodVisitor = new AnnotationMethodVisitor();
 
-    private final boolean includeTypes;
-
-    private MethodVisitor methodVisitor;
-
-    private FieldVisitor fieldVisitor;
+    private final FieldVisitor fieldVisitor = new AnnotationFieldVisitor();
 
     private String className;
 
     private int access;
 
-    AnnotationClassVisitor(Class<? extends Annotation> annotation, ElementType... elementTypes) {
+    AnnotationClassVisitor() {
         super(Opcodes.ASM7);
-
-        annotationClassDescriptor = "L" + annotation.getName().replace('.', '/') + ";";
-
-        // if required initialize the method / field visitors (if null the types won't be tracked)
-        Set<ElementType> elementTypeSet = new HashSet<>(Arrays.asList(elementTypes));
-        includeTypes = elementTypeSet.contains(TYPE);
-        if (elementTypeSet.contains(FIELD)) {
-            fieldVisitor = new AnnotationFieldVisitor();
-        }
-        if (elementTypeSet.contains(METHOD)) {
-            methodVisitor = new AnnotationMethodVisitor();
-        }
     }
 
     @Override
@@ -70,20 +58,25 @@ class AnnotationClassVisitor extends ClassVisitor {
 
     @Override
     public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
-        if (includeTypes && ((this.access & Opcodes.ACC_PUBLIC) != 0) && annotationClassDescriptor.equals(desc)) {
-            classNames.add(className);
+        if ((this.access & Opcodes.ACC_PUBLIC) != 0) {
+            addAnnotatedClass(TYPE, desc);
         }
 
         return null;
     }
 
     /**
-     * Returns the names of classes annotated with the annotation specified when created the visitor instance.
+     * Returns the names of the visited classes per element type and annotation class name.
      *
      * @return the class names
      */
-    public Set<String> getClassNames() {
-        return Collections.unmodifiableSet(classNames);
+    public Map<ElementType, Map<String, Set<String>>> getAnnotatedClasses() {
+        return annotatedClasses;
+    }
+
+    private void addAnnotatedClass(ElementType elementType, String desc) {
+        annotatedClasses.computeIfAbsent(elementType, type -> new HashMap<>())
+                .computeIfAbsent(Type.getType(desc).getClassName(), annotation -> new HashSet<>()).add(className);
     }
 
     class AnnotationMethodVisitor extends MethodVisitor {
@@ -93,8 +86,8 @@ class AnnotationClassVisitor extends ClassVisitor {
 
         @Override
         public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
-            if (visible && annotationClassDescriptor.equals(desc)) {
-                classNames.add(className);
+            if (visible) {
+                addAnnotatedClass(METHOD, desc);
             }
             return null;
         }
@@ -107,8 +100,8 @@ class AnnotationClassVisitor extends ClassVisitor {
 
         @Override
         public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
-            if (visible && annotationClassDescriptor.equals(desc)) {
-                classNames.add(className);
+            if (visible) {
+                addAnnotatedClass(FIELD, desc);
             }
             return null;
         }
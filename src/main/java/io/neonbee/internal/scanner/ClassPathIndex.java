@@ -0,0 +1,228 @@
+package io.neonbee.internal.scanner;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.ElementType;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.ClassReader;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import io.neonbee.logging.LoggingFacade;
+
+/**
+ * An index of the annotated classes in one root of the class path, either a directory or a JAR file.
+ * <p>
+ * Building the index requires reading every class file of the root, which is expensive for large JAR files. Thus the
+ * index of a JAR file can be written into the JAR file at build time (see {@link #main(String...)}) and is kept in
+ * memory after the first scan, so that subsequent scans of the same JAR file, e.g. for hooks and for deployables, can
+ * reuse it. An index in a JAR file is only used if it was built for the very same class files, i.e. class files with
+ * the same names, sizes and checksums, indexes of directories are never persisted, as the class files in a directory
+ * might change any time.
+ */
+public final class ClassPathIndex {
+    /**
+     * The name of the resource in a JAR file containing the index of the JAR file.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/neonbee/annotation.idx";
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final String FINGERPRINT_PREFIX = "fingerprint=";
+
+    private static final String ZIP_ATTRIBUTE_VIEW = "zip";
+
+    private static final String ZIP_CRC_ATTRIBUTE = "zip:crc";
+
+    private static final long MAXIMUM_JAR_INDEXES = 1000;
+
+    /**
+     * The indexes of the JAR files by their path, size and modification time. Bounded, as every change of a JAR file
+     * results in a new key and JAR files of modules get deployed from temporary files.
+     */
+    @VisibleForTesting
+    static final Cache<String, ClassPathIndex> JAR_INDEXES =
+            CacheBuilder.newBuilder().maximumSize(MAXIMUM_JAR_INDEXES).softValues().build();
+
+    private final String fingerprint;
+
+    private final Map<ElementType, Map<String, Set<String>>> annotatedClasses;
+
+    private ClassPathIndex(String fingerprint, Map<ElementType, Map<String, Set<String>>> annotatedClasses) {
+        this.fingerprint = fingerprint;
+        this.annotatedClasses = annotatedClasses;
+    }
+
+    /**
+     * Writes the index of the passed JAR files into them, so that they do not need to be scanned for annotations when
+     * NeonBee starts.
+     *
+     * @param jarPaths the paths to the JAR files to index
+     * @throws IOException in case the index could not be written
+     */
+    public static void main(String... jarPaths) throws IOException {
+        for (String jarPath : jarPaths) {
+            try (FileSystem fileSystem = FileSystems.newFileSystem(Paths.get(jarPath), (ClassLoader) null)) {
+                writeIndex(fileSystem.getPath("/"));
+            }
+        }
+    }
+
+    /**
+     * Blocking method to get the index of a directory on the class path. The directory is always scanned.
+     *
+     * Attention: Blocking! Must only be called inside a executeBlocking block!
+     *
+     * @param directoryPath the path to the directory
+     * @return the index of the directory
+     * @throws IOException in case the directory could not be scanned
+     */
+    static ClassPathIndex ofDirectory(Path directoryPath) throws IOException {
+        return scan(directoryPath, listClassFiles(directoryPath));
+    }
+
+    /**
+     * Blocking method to get the index of a JAR file on the class path. The index is taken from memory, read from the
+     * JAR file, or as a last resort, built by scanning the JAR file.
+     *
+     * Attention: Blocking! Must only be called inside a executeBlocking block!
+     *
+     * @param jarPath the path to the JAR file
+     * @return the index of the JAR file
+     * @throws IOException in case the JAR file could not be scanned
+     */
+    static ClassPathIndex ofJarFile(Path jarPath) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(jarPath, BasicFileAttributes.class);
+        String key = jarPath.toAbsolutePath() + ":" + attributes.size() + ":" + attributes.lastModifiedTime();
+
+        ClassPathIndex index = JAR_INDEXES.getIfPresent(key);
+        if (index == null) {
+            try (FileSystem fileSystem = FileSystems.newFileSystem(jarPath, (ClassLoader) null)) {
+                Path rootPath = fileSystem.getPath("/");
+                List<Path> classFiles = listClassFiles(rootPath);
+                index = readIndex(rootPath.resolve(INDEX_RESOURCE), fingerprint(rootPath, classFiles));
+                if (index == null) {
+                    index = scan(rootPath, classFiles);
+                }
+            }
+            JAR_INDEXES.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the names of the classes annotated with a given annotation.
+     *
+     * @param annotationClassName the class name of the annotation
+     * @param elementType         the type of element annotated in the class (supports TYPE, FIELD and METHOD)
+     * @return the class names
+     */
+    Set<String> getAnnotatedClasses(String annotationClassName, ElementType elementType) {
+        return annotatedClasses.getOrDefault(elementType, Map.of()).getOrDefault(annotationClassName, Set.of());
+    }
+
+    private static void writeIndex(Path rootPath) throws IOException {
+        ClassPathIndex index = scan(rootPath, listClassFiles(rootPath));
+        Path indexPath = rootPath.resolve(INDEX_RESOURCE);
+        Files.createDirectories(indexPath.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(indexPath, UTF_8)) {
+            writer.write(FINGERPRINT_PREFIX + index.fingerprint);
+            writer.newLine();
+            for (Map.Entry<ElementType, Map<String, Set<String>>> elementTypeEntry : index.annotatedClasses
+                    .entrySet()) {
+                for (Map.Entry<String, Set<String>> annotationEntry : elementTypeEntry.getValue().entrySet()) {
+                    for (String className : annotationEntry.getValue()) {
+                        writer.write(String.join(" ", elementTypeEntry.getKey().name(), annotationEntry.getKey(),
+                                className));
+                        writer.newLine();
+                    }
+                }
+            }
+        }
+    }
+
+    private static ClassPathIndex readIndex(Path indexPath, String fingerprint) throws IOException {
+        if (!Files.exists(indexPath)) {
+            return null;
+        }
+
+        Map<ElementType, Map<String, Set<String>>> annotatedClasses = new EnumMap<>(ElementType.class);
+        try (BufferedReader reader = Files.newBufferedReader(indexPath, UTF_8)) {
+            if (!(FINGERPRINT_PREFIX + fingerprint).equals(reader.readLine())) {
+                LOGGER.info("Ignoring outdated class path index {}", indexPath.toUri());
+                return null;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] entry = line.split(" ", 3);
+                if (entry.length == 3) {
+                    annotatedClasses.computeIfAbsent(ElementType.valueOf(entry[0]), type -> new HashMap<>())
+                            .computeIfAbsent(entry[1], annotation -> new HashSet<>()).add(entry[2]);
+                }
+            }
+        }
+        return new ClassPathIndex(fingerprint, annotatedClasses);
+    }
+
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private static ClassPathIndex scan(Path rootPath, List<Path> classFiles) throws IOException {
+        AnnotationClassVisitor classVisitor = new AnnotationClassVisitor();
+        for (Path classFile : classFiles) {
+            try (InputStream inputStream = Files.newInputStream(classFile)) {
+                new ClassReader(inputStream).accept(classVisitor,
+                        ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            } catch (IOException | RuntimeException e) {
+                /* nothing to do here, class files which cannot be read are not annotated */
+            }
+        }
+        return new ClassPathIndex(fingerprint(rootPath, classFiles), classVisitor.getAnnotatedClasses());
+    }
+
+    private static List<Path> listClassFiles(Path rootPath) throws IOException {
+        try (Stream<Path> walk = Files.walk(rootPath)) {
+            return walk.filter(path -> path.toString().endsWith(".class") && !Files.isDirectory(path))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String fingerprint(Path rootPath, List<Path> classFiles) throws IOException {
+        // besides the names, hash the size and for JAR files the CRC of every class file, so that an index is outdated
+        // as soon as any class file was changed, even if the JAR file was not rebuilt as a whole
+        boolean zipFileSystem = rootPath.getFileSystem().supportedFileAttributeViews().contains(ZIP_ATTRIBUTE_VIEW);
+        Map<String, Path> sortedClassFiles = new TreeMap<>();
+        classFiles.forEach(classFile -> sortedClassFiles.put(rootPath.relativize(classFile).toString(), classFile));
+
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (Map.Entry<String, Path> entry : sortedClassFiles.entrySet()) {
+            hasher.putString(entry.getKey(), UTF_8).putByte((byte) 0).putLong(Files.size(entry.getValue()));
+            if (zipFileSystem) {
+                hasher.putLong((Long) Files.getAttribute(entry.getValue(), ZIP_CRC_ATTRIBUTE));
+            }
+        }
+        return hasher.hash().toString();
+    }
+}
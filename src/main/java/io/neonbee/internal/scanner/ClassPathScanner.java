@@ -21,9 +21,12 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.jar.Manifest;
@@ -31,19 +34,15 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.objectweb.asm.ClassReader;
-
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
-import com.google.common.collect.Streams;
 
 import io.neonbee.internal.helper.AsyncHelper;
+import io.neonbee.internal.helper.AsyncHelper.ThrowingSupplier;
 import io.neonbee.internal.helper.FileSystemHelper;
-import io.neonbee.internal.helper.JarHelper;
 import io.neonbee.internal.helper.ThreadHelper;
 import io.neonbee.logging.LoggingFacade;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -186,45 +185,26 @@ public class ClassPathScanner {
     /**
      * Scans the whole class path (does also recursively dig into JAR files!) for class files which are annotated with a
      * given annotation (either the whole class, methods or fields might be annotated and specified in elementTypes).
+     * <p>
+     * The directories and JAR files on the class path are scanned in parallel. JAR files are not scanned again, if they
+     * contain a {@link ClassPathIndex} or have been scanned before.
      *
      * @param vertx             the Vert.x instance
      * @param annotationClasses A List of annotations to check for
      * @param elementTypes      the types of annotation to check for (supports TYPE, FIELD and METHOD)
      * @return a future to a list of resources on the class path
      */
-    @SuppressWarnings("PMD.EmptyCatchBlock")
     public Future<List<String>> scanForAnnotation(Vertx vertx, List<Class<? extends Annotation>> annotationClasses,
             ElementType... elementTypes) {
-
-        Future<List<String>> classesFromDirectories = scanWithPredicate(vertx, ClassPathScanner::isClassFile);
-        Future<List<String>> classesFromJars = scanJarFilesWithPredicate(vertx, ClassPathScanner::isClassFile)
-                .map(classes -> classes.stream().map(JarHelper::extractFilePath).collect(Collectors.toList()));
-
-        return CompositeFuture.all(classesFromDirectories, classesFromJars)
-                .compose(compositeResult -> AsyncHelper.executeBlocking(vertx, () -> {
-                    List<AnnotationClassVisitor> classVisitors = annotationClasses.stream()
-                            .map(annotationClass -> new AnnotationClassVisitor(annotationClass, elementTypes))
-                            .collect(Collectors.toList());
-                    Streams.concat(classesFromDirectories.result().stream(), classesFromJars.result().stream())
-                            .forEach(name -> {
-                                try {
-                                    String resourceName = name.replace(".", "/").replaceFirst("/class$", ".class");
-                                    for (AnnotationClassVisitor acv : classVisitors) {
-                                        ClassReader classReader =
-                                                new ClassReader(classLoader.getResourceAsStream(resourceName));
-                                        classReader.accept(acv, 0);
-                                    }
-                                } catch (IOException e) {
-                                    /*
-                                     * nothing to do here, depending on which part of the reading it failed, deployable
-                                     * could be set or not
-                                     */
-                                }
-                            });
-
-                    return classVisitors.stream().flatMap(acv -> acv.getClassNames().stream()).distinct()
-                            .collect(Collectors.toList());
-                }));
+        return AsyncHelper.executeBlocking(vertx, this::getClassPathIndexes)
+                .compose(classPathIndexes -> AsyncHelper.allComposite(classPathIndexes.stream()
+                        .map(classPathIndex -> AsyncHelper.executeBlockingUnordered(vertx, classPathIndex))
+                        .collect(Collectors.toList())))
+                .map(compositeResult -> compositeResult.<ClassPathIndex>list().stream()
+                        .flatMap(classPathIndex -> annotationClasses.stream().flatMap(annotationClass -> Arrays
+                                .stream(elementTypes).map(elementType -> classPathIndex
+                                        .getAnnotatedClasses(annotationClass.getName(), elementType))))
+                        .flatMap(Set::stream).distinct().collect(Collectors.toList()));
     }
 
     /**
@@ -288,6 +268,39 @@ public class ClassPathScanner {
         });
     }
 
+    /**
+     * Blocking method to get suppliers for the {@link ClassPathIndex} of all directories and JAR files on the class
+     * path.
+     *
+     * Attention: Blocking! Must only be called inside a executeBlocking block!
+     *
+     * @return a List of suppliers of the indexes, which must also be called inside a executeBlocking block
+     * @throws IOException        an I/O error occurs while scanning the class paths
+     * @throws URISyntaxException in case a URL on the class path is malformed
+     */
+    private List<ThrowingSupplier<ClassPathIndex, Exception>> getClassPathIndexes()
+            throws IOException, URISyntaxException {
+        List<ThrowingSupplier<ClassPathIndex, Exception>> classPathIndexes = new ArrayList<>();
+        for (URL rootResource : Collections.list(classLoader.getResources(EMPTY))) {
+            // ignore non-files on root (we don't care for bundled JARs or ZIPs)
+            if ("file".equals(rootResource.getProtocol())) {
+                Path directoryPath = Paths.get(rootResource.toURI());
+                if (Files.isDirectory(directoryPath)) {
+                    classPathIndexes.add(() -> ClassPathIndex.ofDirectory(directoryPath));
+                }
+            }
+        }
+        for (URL manifestResource : getManifestResourceURLs()) {
+            String uri = manifestResource.toURI().toString();
+            // filter for manifest files inside of jar files, i.e. jar:file:///path/to/jarFile!/META-INF/MANIFEST.MF
+            if (uri.startsWith("jar:file:")) {
+                Path jarPath = Paths.get(URI.create(uri.substring("jar:".length(), uri.lastIndexOf("!/"))));
+                classPathIndexes.add(() -> ClassPathIndex.ofJarFile(jarPath));
+            }
+        }
+        return classPathIndexes;
+    }
+
     /**
      * Blocking method to get all resource URLs from the MANIFEST.MF file(s) on the class loader
      *
@@ -320,10 +333,6 @@ public class ClassPathScanner {
         }
     }
 
-    private static boolean isClassFile(String name) {
-        return name.endsWith(".class");
-    }
-
     public static class CloseableClassPathScanner extends ClassPathScanner implements Closeable {
         private static final LoggingFacade LOGGER = LoggingFacade.create();
 
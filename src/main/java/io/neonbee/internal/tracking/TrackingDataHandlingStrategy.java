@@ -1,12 +1,17 @@
 package io.neonbee.internal.tracking;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import io.neonbee.data.DataContext;
 
 /**
  * An interface to abstract the behavior for tracking.
  *
  * Different tracking strategies can be implemented, e.g. logging to an appender, forward data to a data sink etc.
- *
+ * <p>
+ * A strategy declares which messages it needs to handle, so that the {@link TrackingInterceptor} can skip decoding the
+ * context of a message, or is not installed at all, if the strategy would not handle the message anyways.
  */
 @SuppressWarnings("checkstyle:MissingJavadocMethod")
 public interface TrackingDataHandlingStrategy {
@@ -17,4 +22,24 @@ public interface TrackingDataHandlingStrategy {
     void handleOutBoundReply(DataContext context);
 
     void handleInBoundReply(DataContext context);
+
+    /**
+     * Returns the directions of the messages this strategy handles. Tracking interceptors are only installed for the
+     * returned directions.
+     *
+     * @return the message directions to handle, defaults to all directions
+     */
+    default Set<MessageDirection> getMessageDirections() {
+        return EnumSet.allOf(MessageDirection.class);
+    }
+
+    /**
+     * Checks whether this strategy currently handles any messages, e.g. because the log level it logs with is enabled.
+     * This method is called for every message, before the context of the message is decoded, thus it must be cheap.
+     *
+     * @return true if the strategy handles messages, defaults to true
+     */
+    default boolean isEnabled() {
+        return true;
+    }
 }
@@ -0,0 +1,165 @@
+package io.neonbee.internal.tracking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.google.common.collect.Iterators;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataContext.DataVerticleCoordinate;
+
+/**
+ * A tracking data handling strategy, which records the time of every hop of a request into a fixed size ring buffer,
+ * instead of logging it.
+ * <p>
+ * Recording a hop is lock-free and does not allocate anything except the hop itself. Once the buffer is full, the
+ * oldest hops are overwritten.
+ */
+public class TrackingDataTimingStrategy implements TrackingDataHandlingStrategy {
+    /**
+     * The default number of hops kept by the strategy.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicReferenceArray<Hop> hops;
+
+    private final int mask;
+
+    /**
+     * Creates a timing strategy keeping the {@link #DEFAULT_CAPACITY default number} of hops.
+     */
+    public TrackingDataTimingStrategy() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a timing strategy keeping a given number of hops.
+     *
+     * @param capacity the number of hops to keep, must be a power of two
+     */
+    public TrackingDataTimingStrategy(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two");
+        }
+        this.hops = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public void handleOutBoundRequest(DataContext context) {
+        record(context, HopType.OUTBOUND_REQUEST);
+    }
+
+    @Override
+    public void handleInBoundRequest(DataContext context) {
+        record(context, HopType.INBOUND_REQUEST);
+    }
+
+    @Override
+    public void handleOutBoundReply(DataContext context) {
+        record(context, HopType.OUTBOUND_REPLY);
+    }
+
+    @Override
+    public void handleInBoundReply(DataContext context) {
+        record(context, HopType.INBOUND_REPLY);
+    }
+
+    /**
+     * Returns the recorded hops, which have not been overwritten yet, from the oldest to the latest.
+     *
+     * @return the recorded hops
+     */
+    public List<Hop> getHops() {
+        long latest = sequence.get();
+        long oldest = Math.max(0, latest - hops.length());
+
+        List<Hop> result = new ArrayList<>((int) (latest - oldest));
+        for (long current = oldest; current < latest; current++) {
+            Hop hop = hops.get((int) (current & mask));
+            // the hop could have been overwritten by a newer one or not have been written yet
+            if (hop != null && hop.sequence == current) {
+                result.add(hop);
+            }
+        }
+        return result;
+    }
+
+    private void record(DataContext context, HopType type) {
+        DataVerticleCoordinate coordinate = Iterators.getLast(context.path(), null);
+        long current = sequence.getAndIncrement();
+        hops.set((int) (current & mask), new Hop(current, context.correlationId(),
+                coordinate != null ? coordinate.getQualifiedName() : null, type, System.nanoTime()));
+    }
+
+    /**
+     * The type of a hop.
+     */
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    public enum HopType {
+        OUTBOUND_REQUEST, INBOUND_REQUEST, OUTBOUND_REPLY, INBOUND_REPLY
+    }
+
+    /**
+     * A hop of a request, i.e. a message sent or received.
+     */
+    public static final class Hop {
+        private final long sequence;
+
+        private final String correlationId;
+
+        private final String qualifiedName;
+
+        private final HopType type;
+
+        private final long nanoTime;
+
+        private Hop(long sequence, String correlationId, String qualifiedName, HopType type, long nanoTime) {
+            this.sequence = sequence;
+            this.correlationId = correlationId;
+            this.qualifiedName = qualifiedName;
+            this.type = type;
+            this.nanoTime = nanoTime;
+        }
+
+        /**
+         * Returns the correlation id of the request.
+         *
+         * @return the correlation id
+         */
+        public String getCorrelationId() {
+            return correlationId;
+        }
+
+        /**
+         * Returns the qualified name of the latest verticle in the path of the request.
+         *
+         * @return the qualified name or null, if the path is empty
+         */
+        public String getQualifiedName() {
+            return qualifiedName;
+        }
+
+        /**
+         * Returns the type of the hop.
+         *
+         * @return the type
+         */
+        public HopType getType() {
+            return type;
+        }
+
+        /**
+         * Returns the time of the hop, as returned by {@link System#nanoTime()}.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getNanoTime() {
+            return nanoTime;
+        }
+    }
+}
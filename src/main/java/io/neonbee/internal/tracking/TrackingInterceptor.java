@@ -2,8 +2,12 @@ package io.neonbee.internal.tracking;
 
 import static io.neonbee.data.DataVerticle.CONTEXT_HEADER;
 import static io.neonbee.data.internal.DataContextImpl.decodeContextFromString;
+import static io.neonbee.data.internal.DataContextImpl.decodeCorrelationIdFromString;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 
 import io.neonbee.data.DataContext;
 import io.vertx.core.Handler;
@@ -12,52 +16,101 @@ import io.vertx.core.eventbus.Message;
 
 /**
  * A tracking interceptor, which delegates the tracking data handling to a configurable handler.
+ * <p>
+ * The context of a message is only decoded, if the handler is enabled and the message is sampled. Whether a message is
+ * sampled, depends on the hash of its correlation id only, so that all messages of one request are either tracked on
+ * all nodes of a cluster, or on none of them.
  */
 public class TrackingInterceptor implements Handler<DeliveryContext<Object>> {
+    private static final HashFunction SAMPLING_HASH_FUNCTION = Hashing.murmur3_32_fixed();
+
+    private static final double HASH_RANGE = 0x1p32;
 
     private final MessageDirection direction;
 
     private final TrackingDataHandlingStrategy handler;
 
+    private final double samplingRate;
+
+    /**
+     * Creates a tracking interceptor, which tracks all messages.
+     *
+     * @param direction the direction of the messages to intercept
+     * @param handler   the handler to delegate the tracking data to
+     */
     @VisibleForTesting
     public TrackingInterceptor(MessageDirection direction, TrackingDataHandlingStrategy handler) {
+        this(direction, handler, 1.0);
+    }
+
+    /**
+     * Creates a tracking interceptor, which tracks a sample of the messages.
+     *
+     * @param direction    the direction of the messages to intercept
+     * @param handler      the handler to delegate the tracking data to
+     * @param samplingRate the rate of requests to track, between 0.0 (none) and 1.0 (all)
+     */
+    public TrackingInterceptor(MessageDirection direction, TrackingDataHandlingStrategy handler, double samplingRate) {
         this.direction = direction;
         this.handler = handler;
+        this.samplingRate = samplingRate;
     }
 
     @Override
     public void handle(DeliveryContext<Object> event) {
         Message<Object> message = event.message();
-        String contextHeader = message.headers().get(CONTEXT_HEADER);
-        if (contextHeader != null) {
-            DataContext context = decodeContextFromString(contextHeader);
-            if (message.replyAddress() != null) {
-                switch (direction) {
-                case OUTBOUND:
-                    handler.handleOutBoundRequest(context);
-                    break;
-                case INBOUND:
-                    handler.handleInBoundRequest(context);
-                    break;
-                default:
-                    break;
-                }
-            } else {
-                switch (direction) {
-                case OUTBOUND:
-                    handler.handleOutBoundReply(context);
-                    break;
-                case INBOUND:
-                    handler.handleInBoundReply(context);
-                    break;
-                default:
-                    break;
-                }
+        if (handler.isEnabled()) {
+            String contextHeader = message.headers().get(CONTEXT_HEADER);
+            if (contextHeader != null && isSampled(contextHeader)) {
+                handle(message, decodeContextFromString(contextHeader));
             }
         }
         event.next();
     }
 
+    private void handle(Message<Object> message, DataContext context) {
+        if (message.replyAddress() != null) {
+            switch (direction) {
+            case OUTBOUND:
+                handler.handleOutBoundRequest(context);
+                break;
+            case INBOUND:
+                handler.handleInBoundRequest(context);
+                break;
+            default:
+                break;
+            }
+        } else {
+            switch (direction) {
+            case OUTBOUND:
+                handler.handleOutBoundReply(context);
+                break;
+            case INBOUND:
+                handler.handleInBoundReply(context);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    @VisibleForTesting
+    boolean isSampled(String contextHeader) {
+        if (samplingRate >= 1.0) {
+            return true;
+        } else if (samplingRate <= 0.0) {
+            return false;
+        }
+
+        String correlationId = decodeCorrelationIdFromString(contextHeader);
+        if (correlationId == null) {
+            return false;
+        }
+
+        long hash = Integer.toUnsignedLong(SAMPLING_HASH_FUNCTION.hashString(correlationId, UTF_8).asInt());
+        return hash / HASH_RANGE < samplingRate;
+    }
+
     /**
      * Returns the message direction of this interceptor.
      *
@@ -75,4 +128,13 @@ public class TrackingInterceptor implements Handler<DeliveryContext<Object>> {
     public TrackingDataHandlingStrategy getHandler() {
         return handler;
     }
+
+    /**
+     * Returns the rate of requests tracked by this interceptor.
+     *
+     * @return the sampling rate, between 0.0 (none) and 1.0 (all)
+     */
+    public double getSamplingRate() {
+        return samplingRate;
+    }
 }
@@ -0,0 +1,306 @@
+package io.neonbee.internal.verticle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+
+import io.neonbee.config.AutoscalerConfig;
+import io.neonbee.data.DataVerticle;
+import io.neonbee.logging.LoggingFacade;
+import io.netty.channel.EventLoop;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Verticle;
+
+/**
+ * Deploys additional instances of hot data verticles at runtime and undeploys them again, as soon as the event loops
+ * the verticles run on are idle, see {@link AutoscalerConfig}.
+ * <p>
+ * The utilization of every event loop is probed periodically, by submitting a task to the event loop and measuring the
+ * time until it is executed, as well as by reading the number of pending tasks of the event loop. At most one instance
+ * per data verticle is deployed or undeployed in each interval and only instances deployed by the autoscaler are
+ * undeployed again. The additional instances are deployed as child deployments of the autoscaler, thus they are
+ * undeployed together with the autoscaler. They are also undeployed as soon as no original deployment of their verticle
+ * remains, e.g. because the module of the verticle was undeployed, so that no instance outlives the class loader of
+ * its module. In case deploying an additional instance fails, the verticle is not scaled for an exponentially growing
+ * number of intervals.
+ * <p>
+ * Probing the event loops and inspecting the deployments requires internal APIs of Vert.x and Netty, which are accessed
+ * through a {@link VertxInternalsAdapter}. In case these APIs are not available, autoscaling is disabled.
+ */
+public class AutoscalerVerticle extends AbstractVerticle {
+    /**
+     * The number of intervals the event loops of a data verticle must be idle, before an instance is undeployed.
+     */
+    @VisibleForTesting
+    static final int SCALE_DOWN_INTERVALS = 5;
+
+    /**
+     * The maximum number of intervals a verticle is not scaled, after deploying an additional instance failed.
+     */
+    @VisibleForTesting
+    static final int MAX_BACKOFF_INTERVALS = 64;
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final AutoscalerConfig config;
+
+    private final Map<Class<? extends Verticle>, ScaledVerticle> scaledVerticles = new HashMap<>();
+
+    private final List<EventLoopProbe> probes = new ArrayList<>();
+
+    private VertxInternalsAdapter internals;
+
+    private int maxInstances;
+
+    private long timerId = -1;
+
+    /**
+     * Creates a new autoscaler.
+     *
+     * @param config the configuration of the autoscaler
+     */
+    public AutoscalerVerticle(AutoscalerConfig config) {
+        super();
+        this.config = config;
+    }
+
+    @Override
+    public void start() {
+        internals = VertxInternalsAdapter.create(vertx);
+        if (internals == null) {
+            LOGGER.warn("Autoscaling is disabled, as the internal APIs of Vert.x and Netty required are not available");
+            return;
+        }
+
+        for (EventLoop eventLoop : internals.getEventLoops()) {
+            probes.add(new EventLoopProbe(eventLoop));
+        }
+        maxInstances = config.getMaxInstances() > 0 ? config.getMaxInstances() : probes.size();
+        timerId = vertx.setPeriodic(config.getInterval(), id -> {
+            try {
+                scale();
+            } catch (LinkageError e) {
+                LOGGER.warn("Autoscaling is disabled, as an internal API of Vert.x or Netty failed", e);
+                vertx.cancelTimer(timerId);
+            }
+        });
+    }
+
+    @Override
+    public void stop() {
+        if (timerId >= 0) {
+            vertx.cancelTimer(timerId);
+        }
+    }
+
+    @VisibleForTesting
+    void scale() {
+        long busyLag = TimeUnit.MILLISECONDS.toNanos(config.getBusyLag());
+        Set<EventLoop> busyEventLoops = new HashSet<>();
+        for (EventLoopProbe probe : probes) {
+            if (probe.probe(busyLag, config.getQueueDepth())) {
+                busyEventLoops.add(probe.eventLoop);
+            }
+        }
+
+        Map<Class<? extends Verticle>, List<String>> scalableDeployments = findScalableDeployments();
+        for (Iterator<ScaledVerticle> iterator = scaledVerticles.values().iterator(); iterator.hasNext();) {
+            ScaledVerticle scaledVerticle = iterator.next();
+            if (!scaledVerticle.pending && !scalableDeployments.containsKey(scaledVerticle.verticleClass)) {
+                // no original deployment of the verticle remains, e.g. because the module of the verticle was
+                // undeployed, thus the additional instances must not outlive it
+                iterator.remove();
+                undeployAll(scaledVerticle);
+            }
+        }
+
+        scalableDeployments.forEach((verticleClass, deployments) -> {
+            ScaledVerticle scaledVerticle = scaledVerticles.computeIfAbsent(verticleClass, ScaledVerticle::new);
+            if (scaledVerticle.pending) {
+                return;
+            }
+            if (scaledVerticle.backoffIntervals > 0) {
+                scaledVerticle.backoffIntervals--;
+                return;
+            }
+            scale(scaledVerticle, deployments, busyEventLoops);
+        });
+    }
+
+    private void scale(ScaledVerticle scaledVerticle, List<String> deploymentIds, Set<EventLoop> busyEventLoops) {
+        // forget about additional instances, which have been undeployed by someone else in the meantime
+        scaledVerticle.deploymentIds.removeIf(deploymentId -> !internals.isDeployed(deploymentId));
+
+        int instances = 0;
+        int busyInstances = 0;
+        for (String deploymentId : Iterables.concat(deploymentIds, scaledVerticle.deploymentIds)) {
+            for (EventLoop eventLoop : internals.getEventLoops(deploymentId)) {
+                instances++;
+                if (busyEventLoops.contains(eventLoop)) {
+                    busyInstances++;
+                }
+            }
+        }
+
+        DeploymentOptions deploymentOptions = internals.getDeploymentOptions(deploymentIds.get(0));
+        if (deploymentOptions != null && (instances < config.getMinInstances()
+                || (busyInstances == instances && instances < maxInstances))) {
+            scaledVerticle.idleIntervals = 0;
+            scaleUp(scaledVerticle, deploymentOptions);
+        } else if (busyInstances == 0 && instances > config.getMinInstances()
+                && !scaledVerticle.deploymentIds.isEmpty()) {
+            if (++scaledVerticle.idleIntervals >= SCALE_DOWN_INTERVALS) {
+                scaledVerticle.idleIntervals = 0;
+                scaleDown(scaledVerticle);
+            }
+        } else {
+            scaledVerticle.idleIntervals = 0;
+        }
+    }
+
+    private void scaleUp(ScaledVerticle scaledVerticle, DeploymentOptions deploymentOptions) {
+        LOGGER.info("Deploying an additional instance of hot verticle {}", scaledVerticle.verticleClass.getName());
+        scaledVerticle.pending = true;
+        vertx.deployVerticle(scaledVerticle.verticleClass, new DeploymentOptions(deploymentOptions).setInstances(1))
+                .onComplete(asyncResult -> {
+                    scaledVerticle.pending = false;
+                    if (asyncResult.succeeded()) {
+                        scaledVerticle.deploymentIds.push(asyncResult.result());
+                        scaledVerticle.failures = 0;
+                    } else {
+                        // likely deploying the verticle will fail again, thus back off exponentially
+                        scaledVerticle.backoffIntervals =
+                                Math.min(1 << Math.min(scaledVerticle.failures++, 30), MAX_BACKOFF_INTERVALS);
+                        LOGGER.warn("Failed to deploy an additional instance of verticle {}, retrying in {} intervals",
+                                scaledVerticle.verticleClass.getName(), scaledVerticle.backoffIntervals,
+                                asyncResult.cause());
+                    }
+                });
+    }
+
+    private void scaleDown(ScaledVerticle scaledVerticle) {
+        LOGGER.info("Undeploying an additional instance of idle verticle {}", scaledVerticle.verticleClass.getName());
+        scaledVerticle.pending = true;
+        vertx.undeploy(scaledVerticle.deploymentIds.pop()).onComplete(asyncResult -> {
+            scaledVerticle.pending = false;
+            if (asyncResult.failed()) {
+                LOGGER.warn("Failed to undeploy an additional instance of verticle {}",
+                        scaledVerticle.verticleClass.getName(), asyncResult.cause());
+            }
+        });
+    }
+
+    private void undeployAll(ScaledVerticle scaledVerticle) {
+        LOGGER.info("Undeploying all additional instances of undeployed verticle {}",
+                scaledVerticle.verticleClass.getName());
+        for (String deploymentId : scaledVerticle.deploymentIds) {
+            vertx.undeploy(deploymentId).onFailure(throwable -> LOGGER.warn(
+                    "Failed to undeploy an additional instance of verticle {}",
+                    scaledVerticle.verticleClass.getName(), throwable));
+        }
+    }
+
+    /**
+     * Returns the original deployments of all data verticles to scale, by their class, i.e. not including the
+     * deployments of the autoscaler itself. Verticles without a public no-args constructor cannot be scaled, as the
+     * autoscaler would not be able to create further instances of them.
+     */
+    private Map<Class<? extends Verticle>, List<String>> findScalableDeployments() {
+        Set<String> scaledDeploymentIds = new HashSet<>();
+        scaledVerticles.values().forEach(scaledVerticle -> scaledDeploymentIds.addAll(scaledVerticle.deploymentIds));
+
+        Map<Class<? extends Verticle>, List<String>> deployments = new HashMap<>();
+        for (String deploymentId : vertx.deploymentIDs()) {
+            if (scaledDeploymentIds.contains(deploymentId)) {
+                continue;
+            }
+
+            Class<? extends Verticle> verticleClass = internals.getVerticleClass(deploymentId);
+            if (verticleClass != null && isScalable(verticleClass)) {
+                deployments.computeIfAbsent(verticleClass, key -> new ArrayList<>()).add(deploymentId);
+            }
+        }
+        return deployments;
+    }
+
+    private boolean isScalable(Class<? extends Verticle> verticleClass) {
+        if (!DataVerticle.class.isAssignableFrom(verticleClass) || (!config.getVerticles().isEmpty()
+                && !config.getVerticles().contains(verticleClass.getName()))) {
+            return false;
+        }
+
+        try {
+            verticleClass.getConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static final class ScaledVerticle {
+        private final Class<? extends Verticle> verticleClass;
+
+        private final Deque<String> deploymentIds = new ArrayDeque<>();
+
+        private boolean pending;
+
+        private int failures;
+
+        private int backoffIntervals;
+
+        private int idleIntervals;
+
+        ScaledVerticle(Class<? extends Verticle> verticleClass) {
+            this.verticleClass = verticleClass;
+        }
+    }
+
+    private static final class EventLoopProbe {
+        private final EventLoop eventLoop;
+
+        private volatile boolean pending;
+
+        private volatile long submitted;
+
+        private volatile long lag;
+
+        EventLoopProbe(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        /**
+         * Checks whether the event loop was busy since the last probe and submits a new probe task to the event loop.
+         *
+         * @param busyLag    the time in nanoseconds after which a task which was not executed marks the loop as busy
+         * @param queueDepth the number of pending tasks which marks the loop as busy
+         * @return true if the event loop is busy
+         */
+        boolean probe(long busyLag, int queueDepth) {
+            if (pending) {
+                // the previous probe task was not executed yet, do not submit another one
+                return System.nanoTime() - submitted >= busyLag;
+            }
+
+            boolean busy = lag >= busyLag || VertxInternalsAdapter.getPendingTasks(eventLoop) >= queueDepth;
+
+            pending = true;
+            submitted = System.nanoTime();
+            eventLoop.execute(() -> {
+                lag = System.nanoTime() - submitted;
+                pending = false;
+            });
+            return busy;
+        }
+    }
+}
@@ -1,27 +1,42 @@
 package io.neonbee.internal.verticle;
 
 import static io.neonbee.NeonBeeDeployable.NEONBEE_NAMESPACE;
+import static io.neonbee.entity.QueryCapability.FILTER;
+import static io.neonbee.entity.QueryCapability.ORDER_BY;
+import static io.neonbee.entity.QueryCapability.PAGING;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeDeployable;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataMap;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
 import io.neonbee.data.DataVerticle;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.OrderExpressionExecutor;
 import io.neonbee.entity.EntityVerticle;
 import io.neonbee.entity.EntityWrapper;
+import io.neonbee.entity.QueryCapability;
+import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 
 @NeonBeeDeployable(namespace = NEONBEE_NAMESPACE, autoDeploy = false)
 public class ConsolidationVerticle extends DataVerticle<EntityWrapper> {
@@ -30,10 +45,37 @@ public class ConsolidationVerticle extends DataVerticle<EntityWrapper> {
      */
     public static final String ENTITY_TYPE_NAME_HEADER = "entityTypeName";
 
+    /**
+     * The key to configure the {@link ConsolidationStrategy}, either "lazy" (default) or "strict".
+     */
+    public static final String CONFIG_CONSOLIDATION_STRATEGY = "consolidationStrategy";
+
     private static final String NAME = "_consolidationVerticle";
 
+    private static final String SKIP = "$skip";
+
+    private static final String TOP = "$top";
+
+    private static final String ORDER_BY_OPTION = "$orderby";
+
+    private static final String COUNT = "$count";
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
     public static final String QUALIFIED_NAME = DataVerticle.createQualifiedName(NEONBEE_NAMESPACE, NAME);
 
+    @VisibleForTesting
+    ConsolidationStrategy consolidationStrategy = ConsolidationStrategy.LAZY;
+
+    @Override
+    public void init(Vertx vertx, Context context) {
+        super.init(vertx, context);
+        if (config() != null) {
+            consolidationStrategy = ConsolidationStrategy.valueOf(config().getString(CONFIG_CONSOLIDATION_STRATEGY,
+                    ConsolidationStrategy.LAZY.name()).toUpperCase(Locale.ROOT));
+        }
+    }
+
     @Override
     public String getName() {
         return NAME;
@@ -43,20 +85,61 @@ public class ConsolidationVerticle extends DataVerticle<EntityWrapper> {
     public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
         return EntityVerticle
                 .getVerticlesForEntityType(vertx, new FullQualifiedName(query.getHeader(ENTITY_TYPE_NAME_HEADER)))
-                .map(qualifiedNames -> qualifiedNames.stream()
-                        .map(qualifiedName -> new DataRequest(qualifiedName, query)).collect(Collectors.toList()));
+                .map(qualifiedNames -> {
+                    DataQuery consolidationQuery = qualifiedNames.size() > 1 ? pageQuery(query) : query;
+                    return qualifiedNames.stream()
+                            .map(qualifiedName -> new DataRequest(qualifiedName, consolidationQuery))
+                            .collect(Collectors.toList());
+                });
+    }
+
+    /**
+     * In case entity verticle apply paging themselves, it is only possible to page the consolidated entities in memory
+     * if every entity verticle returns the first $skip + $top entities. Thus remove $skip and add it to $top.
+     */
+    @VisibleForTesting
+    static DataQuery pageQuery(DataQuery query) {
+        String skip = query.getParameter(SKIP);
+        if (skip == null) {
+            return query;
+        }
+
+        DataQuery pageQuery = query.copy().removeParameter(SKIP);
+        String top = query.getParameter(TOP);
+        if (top != null) {
+            try {
+                pageQuery.setParameter(TOP,
+                        Integer.toString(Math.addExact(Integer.parseInt(skip), Integer.parseInt(top))));
+            } catch (NumberFormatException | ArithmeticException e) {
+                // invalid values will be reported when the query options get applied in memory
+                return query;
+            }
+        }
+        return pageQuery;
     }
 
     @Override
     public Future<EntityWrapper> retrieveData(DataQuery query, DataMap require, DataContext context) {
         FullQualifiedName entityTypeName = new FullQualifiedName(query.getHeader(ENTITY_TYPE_NAME_HEADER));
-        List<Entity> entities = new ArrayList<>();
+        List<List<Entity>> entityLists = new ArrayList<>();
+        // the entities are only filtered / ordered / can only be counted, if all of the entity verticle did so
+        boolean filtered = true;
+        boolean ordered = true;
+        Long count = 0L;
 
-        for (AsyncResult<?> asyncResult : require.values()) {
+        for (Map.Entry<DataRequest, AsyncResult<?>> entry : require.entrySet()) {
+            AsyncResult<?> asyncResult = entry.getValue();
             if (asyncResult.failed()) {
+                if (consolidationStrategy == ConsolidationStrategy.STRICT) {
+                    return failedFuture(asyncResult.cause());
+                }
+
                 // do a lazy consolidation here, so do not fail in case one "backend" fails
-                // TODO make consolidation strategy configurable (lazy vs. strict)
-                // TODO log: could not receive data to consolidate
+                if (LOGGER.isWarnEnabled()) {
+                    (context != null ? LOGGER.correlateWith(context) : LOGGER).warn(
+                            "Could not receive entities to consolidate from {}", entry.getKey().getQualifiedName(),
+                            asyncResult.cause());
+                }
                 continue;
             }
 
@@ -72,10 +155,139 @@ public class ConsolidationVerticle extends DataVerticle<EntityWrapper> {
                         "Cannot consolidate entities of different types into one entity collection"));
             }
 
-            entities.addAll(entityWrapper.getEntities());
+            entityLists.add(entityWrapper.getEntities());
+            Set<QueryCapability> queryCapabilities = entityWrapper.getQueryCapabilities();
+            filtered &= queryCapabilities.contains(FILTER) || queryCapabilities.contains(PAGING);
+            ordered &= queryCapabilities.contains(ORDER_BY) || queryCapabilities.contains(PAGING);
+            count = count != null && entityWrapper.getCount() != null ? count + entityWrapper.getCount() : null;
+        }
+
+        Consolidation consolidation = new Consolidation(entityTypeName, query, filtered, ordered, count);
+        if (query.getParameter(ORDER_BY_OPTION) == null || !ordered || entityLists.size() < 2) {
+            // the entities are either not requested in any order, are unordered anyways, or there is nothing to merge
+            return succeededFuture(consolidation.consolidate(concatenate(entityLists, consolidation.limit), true));
+        }
+
+        // as every entity verticle returned its entities in the requested order, merge the ordered lists of entities
+        return EntityVerticle.parseUriInfo(NeonBee.get(vertx), query)
+                .map(uriInfo -> consolidation.consolidate(OrderExpressionExecutor.mergeOrderedLists(null,
+                        uriInfo.getOrderByOption(), entityLists, consolidation.limit), true))
+                .otherwise(throwable -> {
+                    // in case the query cannot be parsed, leave it up to the endpoint to sort the entities
+                    if (LOGGER.isWarnEnabled()) {
+                        (context != null ? LOGGER.correlateWith(context) : LOGGER)
+                                .warn("Could not merge the ordered entities to consolidate", throwable);
+                    }
+                    return consolidation.consolidate(concatenate(entityLists, Integer.MAX_VALUE), false);
+                });
+    }
+
+    private static List<Entity> concatenate(List<List<Entity>> entityLists, int limit) {
+        List<Entity> entities = new ArrayList<>();
+        for (List<Entity> entityList : entityLists) {
+            if (entities.size() + entityList.size() > limit) {
+                entities.addAll(entityList.subList(0, limit - entities.size()));
+                break;
+            }
+            entities.addAll(entityList);
+        }
+        return entities;
+    }
+
+    /**
+     * Whether to consolidate the entities, in case some of the entity verticles failed to return entities.
+     */
+    public enum ConsolidationStrategy {
+        /**
+         * Consolidate the entities of all entity verticles which returned entities, ignoring the failed ones.
+         */
+        LAZY,
+
+        /**
+         * Fail the consolidation, in case any of the entity verticles failed to return entities.
+         */
+        STRICT
+    }
+
+    /**
+     * The query capabilities and paging of consolidated entities.
+     * <p>
+     * In case every entity verticle filtered and ordered its entities, the consolidated entities are paged, so that the
+     * endpoint does not have to sort and page them again. Only the first $skip + $top entities are needed for that.
+     * Paging is not applied in case $count is requested, but not every entity verticle provided a count.
+     */
+    private static final class Consolidation {
+        private final FullQualifiedName entityTypeName;
+
+        private final boolean filtered;
+
+        private final boolean orderRequested;
+
+        private final boolean ordered;
+
+        private final Long count;
+
+        private final boolean paged;
+
+        private final int skip;
+
+        private final int limit;
+
+        Consolidation(FullQualifiedName entityTypeName, DataQuery query, boolean filtered, boolean ordered,
+                Long count) {
+            this.entityTypeName = entityTypeName;
+            this.filtered = filtered;
+            // without an $orderby option, the order of the consolidated entities does not matter
+            this.orderRequested = query.getParameter(ORDER_BY_OPTION) != null;
+            this.ordered = !orderRequested || ordered;
+            this.count = count;
+
+            int skipValue = parsePagingOption(query.getParameter(SKIP), 0);
+            int topValue = parsePagingOption(query.getParameter(TOP), Integer.MAX_VALUE);
+            // invalid $skip / $top values will be reported when the query options get applied in memory
+            this.paged = filtered && this.ordered && skipValue >= 0 && topValue >= 0
+                    && (query.getParameter(SKIP) != null || query.getParameter(TOP) != null)
+                    && (count != null || !"true".equalsIgnoreCase(query.getParameter(COUNT)));
+            this.skip = paged ? skipValue : 0;
+            this.limit = paged ? (int) Math.min((long) skipValue + topValue, Integer.MAX_VALUE) : Integer.MAX_VALUE;
         }
 
-        // TODO: Add sorting / maybe filtering / skip & top handling
-        return succeededFuture(new EntityWrapper(entityTypeName, entities));
+        private static int parsePagingOption(String value, int defaultValue) {
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        /**
+         * Consolidates the entities into one entity wrapper.
+         *
+         * @param entities the entities to consolidate, limited to the first $skip + $top entities in case of paging
+         * @param inOrder  false in case the ordered entities could not be merged into the requested order
+         * @return the entity wrapper of the consolidated entities
+         */
+        EntityWrapper consolidate(List<Entity> entities, boolean inOrder) {
+            Set<QueryCapability> queryCapabilities = EnumSet.noneOf(QueryCapability.class);
+            List<Entity> consolidatedEntities = entities;
+            if (paged && inOrder) {
+                queryCapabilities.add(PAGING);
+                consolidatedEntities = new ArrayList<>(entities.subList(Math.min(skip, entities.size()),
+                        entities.size()));
+            } else {
+                if (filtered) {
+                    queryCapabilities.add(FILTER);
+                }
+                if (ordered && inOrder && orderRequested) {
+                    queryCapabilities.add(ORDER_BY);
+                }
+            }
+
+            return new EntityWrapper(entityTypeName, consolidatedEntities).setQueryCapabilities(queryCapabilities)
+                    .setCount(count);
+        }
     }
 }
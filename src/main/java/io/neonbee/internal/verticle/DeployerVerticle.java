@@ -24,11 +24,11 @@ public class DeployerVerticle extends WatchVerticle {
      * @param watchDir the directory to watch
      */
     public DeployerVerticle(Path watchDir) {
-        this(watchDir, WatchVerticle.DEFAULT_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        this(watchDir, WatchVerticle.DEFAULT_QUIET_PERIOD, TimeUnit.MILLISECONDS);
     }
 
-    DeployerVerticle(Path watchDir, long interval, TimeUnit unit) {
-        super(watchDir, interval, unit, false, true);
+    DeployerVerticle(Path watchDir, long quietPeriod, TimeUnit unit) {
+        super(watchDir, quietPeriod, unit, false, true);
     }
 
     @Override
@@ -10,7 +10,7 @@ import io.vertx.core.Promise;
 public class ModelRefreshVerticle extends WatchVerticle {
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
-    private static final int DEFAULT_CHECK_INTERVAL = 5;
+    private static final int DEFAULT_QUIET_PERIOD = 1;
 
     /**
      * Creates a ModelRefreshVerticle that watches for new models on the given path.
@@ -18,11 +18,11 @@ public class ModelRefreshVerticle extends WatchVerticle {
      * @param modelsDirPath the directory to watch
      */
     public ModelRefreshVerticle(Path modelsDirPath) {
-        super(modelsDirPath, DEFAULT_CHECK_INTERVAL, TimeUnit.SECONDS, false, false);
+        super(modelsDirPath, DEFAULT_QUIET_PERIOD, TimeUnit.SECONDS, false, false);
     }
 
-    ModelRefreshVerticle(Path modelsDirPath, long interval, TimeUnit unit) {
-        super(modelsDirPath, interval, unit, false, false);
+    ModelRefreshVerticle(Path modelsDirPath, long quietPeriod, TimeUnit unit) {
+        super(modelsDirPath, quietPeriod, unit, false, false);
     }
 
     @Override
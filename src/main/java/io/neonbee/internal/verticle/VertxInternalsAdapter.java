@@ -0,0 +1,136 @@
+package io.neonbee.internal.verticle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.neonbee.logging.LoggingFacade;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.Context;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Verticle;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.Deployment;
+import io.vertx.core.impl.VertxInternal;
+
+/**
+ * Isolates the access to the internal APIs of Vert.x and Netty the {@link AutoscalerVerticle} depends on, i.e. the
+ * deployments of Vert.x, the event loops of their contexts and the pending tasks of the event loops. These APIs are not
+ * part of the public API of Vert.x and could change with any version, thus the adapter checks that all of them are
+ * available, before it is created.
+ */
+final class VertxInternalsAdapter {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final VertxInternal vertx;
+
+    private VertxInternalsAdapter(VertxInternal vertx) {
+        this.vertx = vertx;
+    }
+
+    /**
+     * Creates a new adapter, in case all internal APIs required are available.
+     *
+     * @param vertx the Vert.x instance
+     * @return the adapter, or null in case any of the internal APIs required is not available
+     */
+    static VertxInternalsAdapter create(Vertx vertx) {
+        if (!(vertx instanceof VertxInternal)) {
+            LOGGER.warn("Vert.x instance of type {} does not provide the internal API required",
+                    vertx.getClass().getName());
+            return null;
+        }
+
+        try {
+            VertxInternal.class.getMethod("getDeployment", String.class);
+            VertxInternal.class.getMethod("getEventLoopGroup");
+            Deployment.class.getMethod("getVerticles");
+            Deployment.class.getMethod("getContexts");
+            Deployment.class.getMethod("deploymentOptions");
+            ContextInternal.class.getMethod("nettyEventLoop");
+            SingleThreadEventExecutor.class.getMethod("pendingTasks");
+            return new VertxInternalsAdapter((VertxInternal) vertx);
+        } catch (NoSuchMethodException | LinkageError e) {
+            LOGGER.warn("Internal API of Vert.x or Netty required is not available", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns all event loops of Vert.x.
+     *
+     * @return the event loops
+     */
+    List<EventLoop> getEventLoops() {
+        List<EventLoop> eventLoops = new ArrayList<>();
+        for (EventExecutor executor : vertx.getEventLoopGroup()) {
+            eventLoops.add((EventLoop) executor);
+        }
+        return eventLoops;
+    }
+
+    /**
+     * Checks whether a deployment is (still) deployed.
+     *
+     * @param deploymentId the id of the deployment
+     * @return true if the deployment exists
+     */
+    boolean isDeployed(String deploymentId) {
+        return vertx.getDeployment(deploymentId) != null;
+    }
+
+    /**
+     * Returns the class of the verticles of a deployment.
+     *
+     * @param deploymentId the id of the deployment
+     * @return the class of the verticles, or null if the deployment does not exist or has no verticles
+     */
+    Class<? extends Verticle> getVerticleClass(String deploymentId) {
+        Deployment deployment = vertx.getDeployment(deploymentId);
+        return deployment == null || deployment.getVerticles().isEmpty() ? null
+                : deployment.getVerticles().iterator().next().getClass();
+    }
+
+    /**
+     * Returns the options a deployment was deployed with.
+     *
+     * @param deploymentId the id of the deployment
+     * @return the deployment options, or null if the deployment does not exist
+     */
+    DeploymentOptions getDeploymentOptions(String deploymentId) {
+        Deployment deployment = vertx.getDeployment(deploymentId);
+        return deployment != null ? deployment.deploymentOptions() : null;
+    }
+
+    /**
+     * Returns the event loops of all instances of a deployment, one per instance.
+     *
+     * @param deploymentId the id of the deployment
+     * @return the event loops, or an empty list if the deployment does not exist
+     */
+    List<EventLoop> getEventLoops(String deploymentId) {
+        Deployment deployment = vertx.getDeployment(deploymentId);
+        if (deployment == null) {
+            return List.of();
+        }
+
+        List<EventLoop> eventLoops = new ArrayList<>();
+        for (Context context : deployment.getContexts()) {
+            eventLoops.add(((ContextInternal) context).nettyEventLoop());
+        }
+        return eventLoops;
+    }
+
+    /**
+     * Returns the number of tasks pending to be executed by an event loop.
+     *
+     * @param eventLoop the event loop
+     * @return the number of pending tasks, or -1 if the number is not known for the type of event loop
+     */
+    static int getPendingTasks(EventLoop eventLoop) {
+        return eventLoop instanceof SingleThreadEventExecutor ? ((SingleThreadEventExecutor) eventLoop).pendingTasks()
+                : -1;
+    }
+}
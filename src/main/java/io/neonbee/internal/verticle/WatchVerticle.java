@@ -1,6 +1,5 @@
 package io.neonbee.internal.verticle;
 
-import static io.neonbee.internal.helper.AsyncHelper.joinComposite;
 import static io.neonbee.internal.helper.FunctionalHelper.uncheckedMapper;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
@@ -8,17 +7,24 @@ import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
 import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchEvent.Kind;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -32,13 +38,24 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.file.FileProps;
 import io.vertx.core.json.JsonObject;
 
+/**
+ * A verticle watching a directory and its subdirectories for changes.
+ * <p>
+ * The {@link WatchService} is consumed by a blocking loop on a dedicated worker thread. All events observed for a path
+ * are coalesced, until no further event was observed for the path within a quiet period and the size and the last
+ * modification time of the file did not change anymore. Only then the observe methods are called once for every kind
+ * of event observed, so that e.g. copying a large file into the watched directory, which results in multiple modify
+ * events, is only handled once the file was completely written.
+ */
 public class WatchVerticle extends AbstractVerticle {
     /**
-     * The default WatchVerticle check interval. The default time unit is milliseconds.
+     * The default quiet period of the WatchVerticle. The default time unit is milliseconds.
      */
-    public static final int DEFAULT_CHECK_INTERVAL = 500;
+    public static final int DEFAULT_QUIET_PERIOD = 500;
 
     @VisibleForTesting
     static final String WATCH_LOGIC_KEY = "watchLogic";
@@ -51,19 +68,23 @@ public class WatchVerticle extends AbstractVerticle {
     private static final long UNDEPLOY_DELAY = 50L;
 
     @VisibleForTesting
-    final long watchPeriodMillis;
+    final long quietPeriodMillis;
 
-    final Map<Path, WatchKey> watchKeys = new HashMap<>();
+    final Map<Path, WatchKey> watchKeys = new ConcurrentHashMap<>();
 
     private final Path watchPath;
 
     private WatchService watcher;
 
+    private WorkerExecutor watchExecutor;
+
     private final boolean parallelProcessing;
 
     private final boolean handleExisting;
 
-    private final String counterName = UUID.randomUUID().toString();
+    private final Map<Path, PendingChange> pendingChanges = new HashMap<>();
+
+    private Future<Void> processing = Future.succeededFuture();
 
     /**
      * A common problem using WatchVerticle is to detect if a watched resource was moved or copied, because if a file is
@@ -112,15 +133,15 @@ public class WatchVerticle extends AbstractVerticle {
      * <li>ENTRY_MODIFY</li>
      * </ul>
      *
-     * Due to the limitations of {@link WatchService} it is not possible to monitor changes in subdirectories of the
-     * passed <b>watchDir</b>.
+     * The WatchVerticle is capable to monitor changes in subdirectories of the passed <b>watchDir</b>.
      *
-     * By default the WatchVerticle checks every 500 milliseconds for changes in the watched directory.
+     * By default the WatchVerticle handles changes of a path, once no further changes have been observed for 500
+     * milliseconds.
      *
      * @param watchPath The {@link Path} to monitor
      */
     public WatchVerticle(Path watchPath) {
-        this(watchPath, DEFAULT_CHECK_INTERVAL, TimeUnit.MILLISECONDS, true, true);
+        this(watchPath, DEFAULT_QUIET_PERIOD, TimeUnit.MILLISECONDS, true, true);
     }
 
     /**
@@ -133,17 +154,17 @@ public class WatchVerticle extends AbstractVerticle {
      * The WatchVerticle is capable to monitor changes in subdirectories of the passed <b>watchDir</b>.
      *
      * @param watchPath          The {@link Path} to monitor
-     * @param interval           The interval to check for changes
-     * @param unit               The unit of the check interval
-     * @param parallelProcessing If false, ignores upcoming intervals if processing of a predecessor interval is still
-     *                           in progress. Default is true.
+     * @param quietPeriod        The period without further changes, after which the changes of a path are handled
+     * @param unit               The unit of the quiet period
+     * @param parallelProcessing If false, the changes of a path are not handled before the handling of the changes of
+     *                           the predecessor path is finished. Default is true.
      * @param handleExisting     If true, trigger an ENTRY_CREATE and ENTRY_MODIFY event, for every element in the
      *                           watchPath. Default is true.
      */
-    public WatchVerticle(Path watchPath, long interval, TimeUnit unit, boolean parallelProcessing,
+    public WatchVerticle(Path watchPath, long quietPeriod, TimeUnit unit, boolean parallelProcessing,
             boolean handleExisting) {
         super();
-        this.watchPeriodMillis = unit.toMillis(interval);
+        this.quietPeriodMillis = unit.toMillis(quietPeriod);
         this.watchPath = watchPath.toAbsolutePath();
         this.parallelProcessing = parallelProcessing;
         this.handleExisting = handleExisting;
@@ -170,26 +191,25 @@ public class WatchVerticle extends AbstractVerticle {
             return;
         }
 
-        (handleExisting ? handleExistingFiles(watchPath) : registerWatchKey(watchPath))
-                .compose(nothing -> vertx.sharedData().getLocalCounter(counterName)).onSuccess(counter -> {
-                    vertx.setPeriodic(watchPeriodMillis, l -> {
-                        if (parallelProcessing) {
-                            checkForChanges();
-                        } else {
-                            counter.compareAndSet(0, 1).onSuccess(result -> {
-                                if (result) {
-                                    checkForChanges().onComplete(nothing -> counter.compareAndSet(1, 0));
-                                }
-                            });
-                        }
-                    });
-                }).<Void>mapEmpty().onComplete(startPromise);
+        (handleExisting ? handleExistingFiles(watchPath) : registerWatchKey(watchPath)).onSuccess(nothing -> {
+            // the watch loop blocks its thread for the whole lifetime of the verticle, thus use a dedicated worker
+            // thread, instead of blocking one of the shared worker pool
+            watchExecutor = vertx.createSharedWorkerExecutor("neonbee-watch-" + UUID.randomUUID(), 1, Long.MAX_VALUE);
+            watchExecutor.<Void>executeBlocking(promise -> {
+                watch();
+                promise.complete();
+            }, false);
+        }).onComplete(startPromise);
     }
 
     @Override
     public void stop(Promise<Void> stopPromise) throws Exception {
+        pendingChanges.values().forEach(change -> vertx.cancelTimer(change.timerId));
+        pendingChanges.clear();
+
         if (watcher != null) {
             try {
+                // closing the watch service also ends the watch loop
                 watcher.close();
             } catch (IOException e) {
                 stopPromise.fail(e);
@@ -197,7 +217,11 @@ public class WatchVerticle extends AbstractVerticle {
             }
         }
 
-        stopPromise.complete();
+        if (watchExecutor != null) {
+            watchExecutor.close().onComplete(stopPromise);
+        } else {
+            stopPromise.complete();
+        }
     }
 
     /**
@@ -238,31 +262,103 @@ public class WatchVerticle extends AbstractVerticle {
                 })).collect(Collectors.toList()));
     }
 
-    private Future<Void> handleWatchKeyEvents(Path watchKeyPath, WatchKey watchKey) {
-        List<WatchEvent<?>> events = watchKey.pollEvents();
-        List<Future<Void>> watchEventFutures = new ArrayList<>(events.size());
+    /**
+     * Takes the signalled keys from the watch service, until the watch service is closed. Watch keys for created
+     * directories are registered and watch keys of deleted directories are canceled immediately, so that no changes in
+     * newly created subdirectories are missed, all other handling happens on the context of the verticle.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey watchKey = watcher.take();
+                Path watchKeyPath = (Path) watchKey.watchable();
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (OVERFLOW.equals(event.kind())) {
+                        LOGGER.warn("Events for Path '{}' have been lost", watchKeyPath);
+                        continue;
+                    }
 
-        for (WatchEvent<?> event : events) {
-            Path affectedPath = watchKeyPath.resolve(event.context().toString());
-            watchEventFutures.add(processEvent(affectedPath, event.kind()));
-        }
+                    Path affectedPath = watchKeyPath.resolve((Path) event.context());
+                    if (ENTRY_CREATE.equals(event.kind()) && Files.isDirectory(affectedPath)) {
+                        registerWatchKey(affectedPath).onFailure(throwable -> LOGGER
+                                .error("Failed to watch directory '{}'", affectedPath, throwable));
+                    } else if (ENTRY_DELETE.equals(event.kind())) {
+                        Optional.ofNullable(watchKeys.remove(affectedPath)).ifPresent(WatchKey::cancel);
+                    }
+
+                    observeEvent(affectedPath, event.kind(), FileSnapshot.of(affectedPath));
+                }
 
-        return joinComposite(watchEventFutures).onComplete(asyncCompFuture -> {
-            watchKeys.get(watchPath).reset();
-        }).mapEmpty();
+                if (!watchKey.reset()) {
+                    // the watched directory is no longer accessible
+                    watchKeys.remove(watchKeyPath, watchKey);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.debug("Stopped watching Path '{}'", watchPath);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
+    /**
+     * Records an observed event for a path on the context of the verticle and (re-)starts the quiet period of the path.
+     *
+     * @param affectedPath The {@link Path} the event was observed for
+     * @param kind         The kind of the event
+     * @param snapshot     The snapshot of the file after the event was observed, or null if the file does not exist
+     */
     @VisibleForTesting
-    Future<Void> checkForChanges() {
-        // To prevent a ConcurrentModificationException while iterating over values of map watchKeys a temporary list is
-        // created.
-        Map<Path, WatchKey> tempWatchKeys = Map.copyOf(watchKeys);
-        List<Future<Void>> watchKeyFutures = new ArrayList<>(tempWatchKeys.size());
-        for (Map.Entry<Path, WatchKey> entry : tempWatchKeys.entrySet()) {
-            watchKeyFutures.add(handleWatchKeyEvents(entry.getKey(), entry.getValue()));
-        }
+    void observeEvent(Path affectedPath, Kind<?> kind, FileSnapshot snapshot) {
+        context.runOnContext(nothing -> {
+            PendingChange change = pendingChanges.computeIfAbsent(affectedPath, PendingChange::new);
+            // keep the kinds in the order of their latest occurrence, e.g. to handle a deletion before a re-creation
+            change.kinds.remove(kind);
+            change.kinds.add(kind);
+            change.snapshot = snapshot;
+            change.events++;
+
+            vertx.cancelTimer(change.timerId);
+            awaitQuietPeriod(change);
+        });
+    }
+
+    private void awaitQuietPeriod(PendingChange change) {
+        change.timerId = vertx.setTimer(quietPeriodMillis, timerId -> {
+            long events = change.events;
+            FileSystemHelper.getProperties(vertx, change.path).map(FileSnapshot::new).otherwise((FileSnapshot) null)
+                    .onSuccess(snapshot -> {
+                        if (change.events != events) {
+                            // further events have been observed in the meantime, which restarted the quiet period
+                            return;
+                        }
+
+                        if (!Objects.equals(snapshot, change.snapshot)) {
+                            // the file is still changing, e.g. because it is still being written
+                            change.snapshot = snapshot;
+                            awaitQuietPeriod(change);
+                            return;
+                        }
 
-        return joinComposite(watchKeyFutures).mapEmpty();
+                        pendingChanges.remove(change.path);
+                        if (parallelProcessing) {
+                            processChange(change);
+                        } else {
+                            processing = processing.transform(nothing -> processChange(change));
+                        }
+                    });
+        });
+    }
+
+    private Future<Void> processChange(PendingChange change) {
+        Future<Void> future = Future.succeededFuture();
+        for (Kind<?> kind : change.kinds) {
+            // if the path does not exist anymore, only its deletion is handled
+            if (change.snapshot != null || ENTRY_DELETE.equals(kind)) {
+                future = future.transform(nothing -> processEvent(change.path, kind));
+            }
+        }
+        return future;
     }
 
     private Future<Void> registerWatchKey(Path affectedPath) {
@@ -281,26 +377,11 @@ public class WatchVerticle extends AbstractVerticle {
 
         Promise<Void> promise = Promise.promise();
         if (ENTRY_CREATE.equals(kind)) {
-            FileSystemHelper.isDirectory(vertx, affectedPath).compose(isDirectory -> {
-                if (isDirectory) {
-                    return registerWatchKey(affectedPath);
-                } else {
-                    return Future.succeededFuture();
-                }
-            }).onComplete(asyncRegisterResult -> {
-                if (asyncRegisterResult.failed()) {
-                    promise.fail(asyncRegisterResult.cause());
-                } else {
-                    observedCreate(affectedPath, promise);
-                }
-            });
+            observedCreate(affectedPath, promise);
         } else if (ENTRY_DELETE.equals(kind)) {
-            Optional.ofNullable(watchKeys.remove(affectedPath)).ifPresent(WatchKey::cancel);
             observedDelete(affectedPath, promise);
         } else if (ENTRY_MODIFY.equals(kind)) {
             observedModify(affectedPath, promise);
-        } else if (OVERFLOW.equals(kind)) {
-            promise.complete();
         } else {
             LOGGER.warn("Unknown WatchEvent kind '{}' for Path '{}'", kind, affectedPath);
             promise.complete();
@@ -376,4 +457,71 @@ public class WatchVerticle extends AbstractVerticle {
         observedModify(affectedPath);
         finishPromise.complete();
     }
+
+    /**
+     * The size and the last modification time of a file, used to determine whether a file is still changing.
+     */
+    @VisibleForTesting
+    static final class FileSnapshot {
+        private final long size;
+
+        private final long lastModifiedTime;
+
+        FileSnapshot(long size, long lastModifiedTime) {
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+
+        FileSnapshot(FileProps props) {
+            this(props.size(), props.lastModifiedTime());
+        }
+
+        /**
+         * Takes a snapshot of a file. Blocks while reading the attributes of the file.
+         *
+         * @param path the path of the file
+         * @return the snapshot of the file or null, if the file does not exist
+         */
+        static FileSnapshot of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileSnapshot(attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FileSnapshot)) {
+                return false;
+            }
+            FileSnapshot other = (FileSnapshot) obj;
+            return size == other.size && lastModifiedTime == other.lastModifiedTime;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModifiedTime);
+        }
+    }
+
+    private static final class PendingChange {
+        private final Path path;
+
+        private final Set<Kind<?>> kinds = new LinkedHashSet<>();
+
+        private FileSnapshot snapshot;
+
+        private long events;
+
+        private long timerId = -1;
+
+        PendingChange(Path path) {
+            this.path = path;
+        }
+    }
 }
@@ -30,10 +30,11 @@ import io.vertx.ext.web.RoutingContext;
  * created via this interface configurable when a NeonBee instance starts, which will allow you to change the behavior
  * of how the correlation id is propagated.
  *
- * To keep this LoggingFacade thread-safe, after the log message was written, the correlation id will be removed from
- * the facade by the log delegate. This guarantees that subsequent log messages will not mix up correlation ids, even if
- * they are executed on a different thread. This means the {@link #correlateWith(String)} method has to be called each
- * time a log message should be printed with a correlation id associated.
+ * To keep this LoggingFacade thread-safe, the correlation id is kept per thread and after the log message was written,
+ * the correlation id will be removed from the facade by the log delegate. This guarantees that subsequent log messages
+ * will not mix up correlation ids, even if they are executed on a different thread. This means the
+ * {@link #correlateWith(String)} method has to be called each time, on the same thread, a log message should be printed
+ * with a correlation id associated.
  */
 public interface LoggingFacade extends Logger {
     /**
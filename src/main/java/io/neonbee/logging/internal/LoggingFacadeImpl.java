@@ -1,11 +1,19 @@
 package io.neonbee.logging.internal;
 
+import static org.slf4j.event.Level.DEBUG;
+import static org.slf4j.event.Level.ERROR;
+import static org.slf4j.event.Level.INFO;
+import static org.slf4j.event.Level.TRACE;
+import static org.slf4j.event.Level.WARN;
+
 import org.slf4j.Logger;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.slf4j.event.Level;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+
 import io.neonbee.logging.LoggingFacade;
 
 @SuppressWarnings({ "PMD.ExcessivePublicCount", "PMD.CyclomaticComplexity", "PMD.TooManyMethods" })
@@ -19,8 +27,10 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     private final Logger logger;
 
-    @VisibleForTesting
-    Marker currentMarker = DEFAULT_MARKER;
+    /**
+     * The facade is shared by all threads, thus the correlation id to log the next message with is kept per thread.
+     */
+    private final ThreadLocal<Correlation> correlation = ThreadLocal.withInitial(Correlation::new);
 
     public LoggingFacadeImpl(Logger logger) {
         this.logger = logger;
@@ -28,14 +38,50 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public LoggingFacade correlateWith(String correlationId) {
-        if (Strings.isNullOrEmpty(correlationId)) {
-            currentMarker = DEFAULT_MARKER;
-        } else if (currentMarker == null || !correlationId.equals(currentMarker.getName())) {
-            currentMarker = MarkerFactory.getDetachedMarker(correlationId);
-        }
+        correlation.get().correlationId = Strings.emptyToNull(correlationId);
         return this;
     }
 
+    /**
+     * Returns the marker to log the next message of this thread with and removes the correlation id of the thread.
+     * Markers are only created in case the message is logged and the correlation id changed since the last message.
+     *
+     * @param level the level of the next message
+     * @return the marker to log the next message with
+     */
+    @VisibleForTesting
+    Marker correlationMarker(Level level) {
+        Correlation currentCorrelation = correlation.get();
+        String correlationId = currentCorrelation.correlationId;
+        if (correlationId == null) {
+            return DEFAULT_MARKER;
+        }
+
+        currentCorrelation.correlationId = null;
+        if (!isEnabled(level)) {
+            return DEFAULT_MARKER;
+        }
+        if (!correlationId.equals(currentCorrelation.marker.getName())) {
+            currentCorrelation.marker = MarkerFactory.getDetachedMarker(correlationId);
+        }
+        return currentCorrelation.marker;
+    }
+
+    private boolean isEnabled(Level level) {
+        switch (level) {
+        case TRACE:
+            return isTraceEnabled();
+        case DEBUG:
+            return isDebugEnabled();
+        case INFO:
+            return isInfoEnabled();
+        case WARN:
+            return isWarnEnabled();
+        default:
+            return isErrorEnabled();
+        }
+    }
+
     @Override
     public String getName() {
         return logger.getName();
@@ -43,7 +89,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isTraceEnabled() {
-        return logger.isTraceEnabled(currentMarker);
+        return logger.isTraceEnabled(DEFAULT_MARKER);
     }
 
     @Override
@@ -53,27 +99,27 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void trace(String msg) {
-        logger.trace(currentMarker, msg);
+        logger.trace(correlationMarker(TRACE), msg);
     }
 
     @Override
     public void trace(String format, Object arg) {
-        logger.trace(currentMarker, format, arg);
+        logger.trace(correlationMarker(TRACE), format, arg);
     }
 
     @Override
     public void trace(String format, Object arg1, Object arg2) {
-        logger.trace(currentMarker, format, arg1, arg2);
+        logger.trace(correlationMarker(TRACE), format, arg1, arg2);
     }
 
     @Override
     public void trace(String format, Object... arguments) {
-        logger.trace(currentMarker, format, arguments);
+        logger.trace(correlationMarker(TRACE), format, arguments);
     }
 
     @Override
     public void trace(String msg, Throwable t) {
-        logger.trace(currentMarker, msg, t);
+        logger.trace(correlationMarker(TRACE), msg, t);
     }
 
     @Override
@@ -103,7 +149,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isDebugEnabled() {
-        return logger.isDebugEnabled(currentMarker);
+        return logger.isDebugEnabled(DEFAULT_MARKER);
     }
 
     @Override
@@ -113,27 +159,27 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void debug(String msg) {
-        logger.debug(currentMarker, msg);
+        logger.debug(correlationMarker(DEBUG), msg);
     }
 
     @Override
     public void debug(String format, Object arg) {
-        logger.debug(currentMarker, format, arg);
+        logger.debug(correlationMarker(DEBUG), format, arg);
     }
 
     @Override
     public void debug(String format, Object arg1, Object arg2) {
-        logger.debug(currentMarker, format, arg1, arg2);
+        logger.debug(correlationMarker(DEBUG), format, arg1, arg2);
     }
 
     @Override
     public void debug(String format, Object... arguments) {
-        logger.debug(currentMarker, format, arguments);
+        logger.debug(correlationMarker(DEBUG), format, arguments);
     }
 
     @Override
     public void debug(String msg, Throwable t) {
-        logger.debug(currentMarker, msg, t);
+        logger.debug(correlationMarker(DEBUG), msg, t);
     }
 
     @Override
@@ -163,7 +209,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isInfoEnabled() {
-        return logger.isInfoEnabled(currentMarker);
+        return logger.isInfoEnabled(DEFAULT_MARKER);
     }
 
     @Override
@@ -173,27 +219,27 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void info(String msg) {
-        logger.info(currentMarker, msg);
+        logger.info(correlationMarker(INFO), msg);
     }
 
     @Override
     public void info(String format, Object arg) {
-        logger.info(currentMarker, format, arg);
+        logger.info(correlationMarker(INFO), format, arg);
     }
 
     @Override
     public void info(String format, Object arg1, Object arg2) {
-        logger.info(currentMarker, format, arg1, arg2);
+        logger.info(correlationMarker(INFO), format, arg1, arg2);
     }
 
     @Override
     public void info(String format, Object... arguments) {
-        logger.info(currentMarker, format, arguments);
+        logger.info(correlationMarker(INFO), format, arguments);
     }
 
     @Override
     public void info(String msg, Throwable t) {
-        logger.info(currentMarker, msg, t);
+        logger.info(correlationMarker(INFO), msg, t);
     }
 
     @Override
@@ -223,7 +269,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isWarnEnabled() {
-        return logger.isWarnEnabled(currentMarker);
+        return logger.isWarnEnabled(DEFAULT_MARKER);
     }
 
     @Override
@@ -233,27 +279,27 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void warn(String msg) {
-        logger.warn(currentMarker, msg);
+        logger.warn(correlationMarker(WARN), msg);
     }
 
     @Override
     public void warn(String format, Object arg) {
-        logger.warn(currentMarker, format, arg);
+        logger.warn(correlationMarker(WARN), format, arg);
     }
 
     @Override
     public void warn(String format, Object arg1, Object arg2) {
-        logger.warn(currentMarker, format, arg1, arg2);
+        logger.warn(correlationMarker(WARN), format, arg1, arg2);
     }
 
     @Override
     public void warn(String format, Object... arguments) {
-        logger.warn(currentMarker, format, arguments);
+        logger.warn(correlationMarker(WARN), format, arguments);
     }
 
     @Override
     public void warn(String msg, Throwable t) {
-        logger.warn(currentMarker, msg, t);
+        logger.warn(correlationMarker(WARN), msg, t);
 
     }
 
@@ -284,7 +330,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isErrorEnabled() {
-        return logger.isErrorEnabled(currentMarker);
+        return logger.isErrorEnabled(DEFAULT_MARKER);
     }
 
     @Override
@@ -294,27 +340,27 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void error(String msg) {
-        logger.error(currentMarker, msg);
+        logger.error(correlationMarker(ERROR), msg);
     }
 
     @Override
     public void error(String format, Object arg) {
-        logger.error(currentMarker, format, arg);
+        logger.error(correlationMarker(ERROR), format, arg);
     }
 
     @Override
     public void error(String format, Object arg1, Object arg2) {
-        logger.error(currentMarker, format, arg1, arg2);
+        logger.error(correlationMarker(ERROR), format, arg1, arg2);
     }
 
     @Override
     public void error(String format, Object... arguments) {
-        logger.error(currentMarker, format, arguments);
+        logger.error(correlationMarker(ERROR), format, arguments);
     }
 
     @Override
     public void error(String msg, Throwable t) {
-        logger.error(currentMarker, msg, t);
+        logger.error(correlationMarker(ERROR), msg, t);
     }
 
     @Override
@@ -341,4 +387,10 @@ public class LoggingFacadeImpl implements LoggingFacade {
     public void error(Marker marker, String msg, Throwable t) {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
     }
+
+    private static final class Correlation {
+        String correlationId;
+
+        Marker marker = DEFAULT_MARKER;
+    }
 }
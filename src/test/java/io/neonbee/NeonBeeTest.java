@@ -17,6 +17,7 @@ import static io.vertx.core.Future.succeededFuture;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -60,6 +61,7 @@ import io.neonbee.health.internal.HealthCheck;
 import io.neonbee.internal.NeonBeeModuleJar;
 import io.neonbee.internal.tracking.MessageDirection;
 import io.neonbee.internal.tracking.TrackingDataLoggingStrategy;
+import io.neonbee.internal.tracking.TrackingDataTimingStrategy;
 import io.neonbee.internal.tracking.TrackingInterceptor;
 import io.neonbee.internal.verticle.ConsolidationVerticle;
 import io.neonbee.internal.verticle.HealthCheckVerticle;
@@ -315,6 +317,22 @@ class NeonBeeTest extends NeonBeeTestBase {
         assertThat(TrackingDataLoggingStrategy.class).isAssignableTo(outboundHandler.getHandler().getClass());
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Vert.x should not add eventbus interceptors, if no request is sampled.")
+    void testDecorateEventbusWithoutSampling() {
+        Vertx vertx = defaultVertxMock();
+        NeonBee neonBee = registerNeonBeeMock(vertx,
+                new NeonBeeConfig().setTrackingDataHandlingStrategy(TrackingDataTimingStrategy.class.getName())
+                        .setTrackingSamplingRate(0));
+        EventBus eventBus = mock(EventBus.class);
+        when(vertx.eventBus()).thenReturn(eventBus);
+        neonBee.decorateEventBus();
+        verify(eventBus, never()).addInboundInterceptor(Mockito.any(Handler.class));
+        verify(eventBus, never()).addOutboundInterceptor(Mockito.any(Handler.class));
+        assertThat(neonBee.getTrackingDataHandlingStrategy()).isInstanceOf(TrackingDataTimingStrategy.class);
+    }
+
     @Test
     void testFilterByProfile() {
         assertThat(NeonBee.filterByAutoDeployAndProfiles(CoreVerticle.class, List.of(CORE))).isTrue();
@@ -41,6 +41,7 @@ class TrackingInterceptorClusterTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(strategy.isEnabled()).thenReturn(true);
         lenient().doNothing().when(strategy).handleOutBoundRequest(any(DataContext.class));
         lenient().doNothing().when(strategy).handleInBoundRequest(any(DataContext.class));
         lenient().doNothing().when(strategy).handleOutBoundReply(any(DataContext.class));
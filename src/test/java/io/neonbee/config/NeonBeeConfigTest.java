@@ -4,6 +4,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.config.NeonBeeConfig.DEFAULT_EVENT_BUS_TIMEOUT;
 import static io.neonbee.config.NeonBeeConfig.DEFAULT_TIME_ZONE;
 import static io.neonbee.config.NeonBeeConfig.DEFAULT_TRACKING_DATA_HANDLING_STRATEGY;
+import static io.neonbee.config.NeonBeeConfig.DEFAULT_TRACKING_SAMPLING_RATE;
 import static io.vertx.core.CompositeFuture.all;
 import static org.junit.Assert.assertThrows;
 
@@ -27,6 +28,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.neonbee.config.metrics.MicrometerRegistryLoader;
+import io.neonbee.internal.codec.EntityWrapperMessageCodec.WireFormat;
 import io.neonbee.test.base.NeonBeeTestBase;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
 import io.vertx.core.Vertx;
@@ -40,6 +42,8 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
 
     private static final String DUMMY_TRACKING_DATA_HANDLING_STRATEGY = "Hodor";
 
+    private static final double DUMMY_TRACKING_SAMPLING_RATE = 0.25;
+
     private static final String DUMMY_TIME_ZONE = "Hammer Time";
 
     private static final Map<String, String> DUMMY_EVENT_BUS_CODECS = Map.of("Random", "Codec");
@@ -50,7 +54,8 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
 
     private static final NeonBeeConfig DUMMY_NEONBEE_CONFIG =
             new NeonBeeConfig().setEventBusTimeout(DUMMY_EVENT_BUS_TIMEOUT)
-                    .setTrackingDataHandlingStrategy(DUMMY_TRACKING_DATA_HANDLING_STRATEGY).setTimeZone(DUMMY_TIME_ZONE)
+                    .setTrackingDataHandlingStrategy(DUMMY_TRACKING_DATA_HANDLING_STRATEGY)
+                    .setTrackingSamplingRate(DUMMY_TRACKING_SAMPLING_RATE).setTimeZone(DUMMY_TIME_ZONE)
                     .setEventBusCodecs(DUMMY_EVENT_BUS_CODECS).setPlatformClasses(DUMMY_PLATFORM_CLASSES)
                     .setMicrometerRegistries(DUMMY_MICROMETER_REGISTRIES);
 
@@ -156,6 +161,19 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
         assertThat(config.getTrackingDataHandlingStrategy()).isEqualTo("ABC");
     }
 
+    @Test
+    @DisplayName("should read the autoscaler configuration correctly")
+    void readAutoscalerConfig() {
+        JsonObject autoscalerJson =
+                new JsonObject().put("enabled", true).put("maxInstances", 8).put("verticles", new JsonArray().add("A"));
+        NeonBeeConfig config = new NeonBeeConfig(new JsonObject().put("autoscaler", autoscalerJson));
+        assertThat(config.getAutoscalerConfig().isEnabled()).isTrue();
+        assertThat(config.getAutoscalerConfig().getMaxInstances()).isEqualTo(8);
+        assertThat(config.getAutoscalerConfig().getMinInstances()).isEqualTo(1);
+        assertThat(config.getAutoscalerConfig().getVerticles()).containsExactly("A");
+        assertThat(config.toJson().getJsonObject("autoscaler").getInteger("maxInstances")).isEqualTo(8);
+    }
+
     @Test
     @DisplayName("should read the metrics configuration correctly")
     void readMetricsConfig() {
@@ -219,12 +237,15 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
         NeonBeeConfig defaultConfig = new NeonBeeConfig();
         assertThat(defaultConfig.getEventBusTimeout()).isEqualTo(DEFAULT_EVENT_BUS_TIMEOUT);
         assertThat(defaultConfig.getTrackingDataHandlingStrategy()).isEqualTo(DEFAULT_TRACKING_DATA_HANDLING_STRATEGY);
+        assertThat(defaultConfig.getTrackingSamplingRate()).isEqualTo(DEFAULT_TRACKING_SAMPLING_RATE);
         assertThat(defaultConfig.getTimeZone()).isEqualTo(DEFAULT_TIME_ZONE);
         assertThat(defaultConfig.getEventBusCodecs()).isEmpty();
+        assertThat(defaultConfig.getEntityWrapperWireFormat()).isEqualTo(WireFormat.JSON);
         assertThat(defaultConfig.getPlatformClasses()).containsExactly("io.vertx.*", "io.neonbee.*", "org.slf4j.*",
                 "org.apache.olingo.*");
         assertThat(defaultConfig.getHealthConfig().isEnabled()).isTrue();
         assertThat(defaultConfig.getHealthConfig().getTimeout()).isEqualTo(1);
+        assertThat(defaultConfig.getAutoscalerConfig().isEnabled()).isFalse();
     }
 
     @Test
@@ -236,6 +257,7 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
     private void isEqualToDummyConfig(NeonBeeConfig nbc) {
         assertThat(nbc.getEventBusTimeout()).isEqualTo(DUMMY_EVENT_BUS_TIMEOUT);
         assertThat(nbc.getTrackingDataHandlingStrategy()).isEqualTo(DUMMY_TRACKING_DATA_HANDLING_STRATEGY);
+        assertThat(nbc.getTrackingSamplingRate()).isEqualTo(DUMMY_TRACKING_SAMPLING_RATE);
         assertThat(nbc.getTimeZone()).isEqualTo(DUMMY_TIME_ZONE);
         assertThat(nbc.getEventBusCodecs()).isEqualTo(DUMMY_EVENT_BUS_CODECS);
         assertThat(nbc.getPlatformClasses()).isEqualTo(DUMMY_PLATFORM_CLASSES);
@@ -159,4 +159,67 @@ class DataQueryTest {
                 Buffer.buffer("payload1"));
         assertThat(query1.copy().setBody(Buffer.buffer("payload2"))).isNotEqualTo(query1);
     }
+
+    @Test
+    @DisplayName("getQuery should return the same query string until the parameters change")
+    void testMemoizedQuery() {
+        DataQuery query = new DataQuery("uri", "name=Hodor");
+        String queryString = query.getQuery();
+        assertThat(query.getQuery()).isSameInstanceAs(queryString);
+        assertThat(query.copy().getQuery()).isSameInstanceAs(queryString);
+
+        query.addParameter("name", "Jon");
+        assertThat(query.getQuery()).isEqualTo("name=Hodor&name=Jon");
+
+        query.getParameters().remove("name");
+        assertThat(query.getQuery()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Copies should share the parameters, headers and body until either query changes them")
+    void testCopyOnWrite() {
+        DataQuery query = new DataQuery(DataAction.CREATE, "uri", "name=Hodor", Map.of("header1", List.of("value1")),
+                Buffer.buffer("payload"));
+        DataQuery copy = query.copy();
+        assertThat(copy.parameters).isSameInstanceAs(query.parameters);
+        assertThat(copy.headers).isSameInstanceAs(query.headers);
+        assertThat(copy.body).isSameInstanceAs(query.body);
+
+        copy.addParameter("name", "Jon").setHeader("header1", "value2").getBody().appendString("2");
+        assertThat(query.getParameterValues("name")).containsExactly("Hodor");
+        assertThat(query.getHeader("header1")).isEqualTo("value1");
+        assertThat(query.getBody()).isEqualTo(Buffer.buffer("payload"));
+        assertThat(copy.getParameterValues("name")).containsExactly("Hodor", "Jon");
+        assertThat(copy.getHeader("header1")).isEqualTo("value2");
+        assertThat(copy.getBody()).isEqualTo(Buffer.buffer("payload2"));
+
+        // once returned, the mutable parameters, headers and body must not be shared with any copy
+        Map<String, List<String>> parameters = query.getParameters();
+        Map<String, List<String>> headers = query.getHeaders();
+        Buffer body = query.getBody();
+        copy = query.copy();
+        parameters.clear();
+        headers.clear();
+        body.appendString("2");
+        assertThat(copy.getQuery()).isEqualTo("name=Hodor");
+        assertThat(copy.getHeader("header1")).isEqualTo("value1");
+        assertThat(copy.getBody()).isEqualTo(Buffer.buffer("payload"));
+    }
+
+    @Test
+    @DisplayName("Reading parameter and header values should neither copy nor expose them")
+    void testReadValuesWithoutCopy() {
+        DataQuery query = new DataQuery(DataAction.READ, "uri", "name=Hodor", Map.of("header1", List.of("value1")),
+                null);
+        DataQuery copy = query.copy();
+        assertThat(copy.getParameterValues("name")).containsExactly("Hodor");
+        assertThat(copy.getHeaderValues("header1")).containsExactly("value1");
+        assertThat(copy.getParameterValues("unknown")).isNull();
+        assertThat(copy.parameters).isSameInstanceAs(query.parameters);
+        assertThat(copy.headers).isSameInstanceAs(query.headers);
+        assertThat(copy.copy().parameters).isSameInstanceAs(query.parameters);
+
+        assertThrows(UnsupportedOperationException.class, () -> copy.getParameterValues("name").add("Jon"));
+        assertThrows(UnsupportedOperationException.class, () -> copy.getHeaderValues("header1").add("value2"));
+    }
 }
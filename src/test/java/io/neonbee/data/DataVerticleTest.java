@@ -5,8 +5,11 @@ import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.vertx.core.Future.succeededFuture;
 import static java.lang.Boolean.parseBoolean;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,8 +23,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 import io.neonbee.NeonBeeDeployable;
 import io.neonbee.NeonBeeOptions;
 import io.neonbee.config.MetricsConfig;
+import io.neonbee.data.DataRequest.ResolutionStrategy;
 import io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics;
 import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Checkpoint;
@@ -126,6 +131,54 @@ class DataVerticleTest extends DataVerticleTestBase {
         })));
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that the optimized resolution strategy deduplicates requests in the whole dependency tree")
+    void optimizedResolutionTest(VertxTestContext testContext) {
+        LeafVerticle leafVerticle = new LeafVerticle();
+        Checkpoint checkpoint = testContext.checkpoint(2);
+        CompositeFuture.all(deployVerticle(leafVerticle), deployVerticle(new BranchVerticle("BranchA")),
+                deployVerticle(new BranchVerticle("BranchB")), deployVerticle(new RootVerticle()))
+                .compose(nothing -> requestData(
+                        new DataRequest(RootVerticle.NAME).setResolutionStrategy(ResolutionStrategy.RECURSIVE)))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("BranchA(Leaf) BranchB(Leaf)");
+                    assertThat(leafVerticle.invocations.get()).isEqualTo(2);
+                    checkpoint.flag();
+                })))
+                .compose(nothing -> requestData(
+                        new DataRequest(RootVerticle.NAME).setResolutionStrategy(ResolutionStrategy.OPTIMIZED)))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("BranchA(Leaf) BranchB(Leaf)");
+                    assertThat(leafVerticle.invocations.get()).isEqualTo(3);
+                    checkpoint.flag();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that the results of a data verticle annotated with @DataCache are cached")
+    void cachedResultsTest(VertxTestContext testContext) {
+        CachedVerticle cachedVerticle = new CachedVerticle();
+        Checkpoint checkpoint = testContext.checkpoint(2);
+        deployVerticle(cachedVerticle)
+                .compose(nothing -> CompositeFuture.all(requestData(new DataRequest(CachedVerticle.NAME)),
+                        requestData(new DataRequest(CachedVerticle.NAME))))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    // the concurrent requests share the result of one invocation
+                    assertThat(result.<String>resultAt(0)).isEqualTo("Cached1");
+                    assertThat(result.<String>resultAt(1)).isEqualTo("Cached1");
+                    checkpoint.flag();
+                }))).compose(nothing -> CompositeFuture.all(requestData(new DataRequest(CachedVerticle.NAME)),
+                        requestData(new DataRequest(CachedVerticle.NAME, new DataQuery("other")))))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result.<String>resultAt(0)).isEqualTo("Cached1");
+                    assertThat(result.<String>resultAt(1)).isEqualTo("Cached2");
+                    assertThat(cachedVerticle.invocations.get()).isEqualTo(2);
+                    checkpoint.flag();
+                })));
+    }
+
     @Test
     void createQualifiedName() {
         assertThat(DataVerticle.createQualifiedName("namespace", "verticle")).isEqualTo("namespace/verticle");
@@ -260,6 +313,84 @@ class DataVerticleTest extends DataVerticleTestBase {
         }
     }
 
+    private static class LeafVerticle extends DataVerticle<String> {
+        public static final String NAME = "Leaf";
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            invocations.incrementAndGet();
+            return succeededFuture(NAME);
+        }
+    }
+
+    @DataCache
+    private static class CachedVerticle extends DataVerticle<String> {
+        public static final String NAME = "Cached";
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            String result = NAME + invocations.incrementAndGet();
+            return Future.future(promise -> vertx.setTimer(10, timerId -> promise.complete(result)));
+        }
+    }
+
+    private static class BranchVerticle extends DataVerticle<String> {
+        private final String name;
+
+        BranchVerticle(String name) {
+            super();
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            return succeededFuture(List.of(new DataRequest(LeafVerticle.NAME, new DataQuery("leaf"))));
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture(name + "(" + require.<String>resultFor(LeafVerticle.NAME) + ")");
+        }
+    }
+
+    private static class RootVerticle extends DataVerticle<String> {
+        public static final String NAME = "Root";
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            return succeededFuture(List.of(new DataRequest("BranchA"), new DataRequest("BranchB")));
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture(require.<String>resultFor("BranchA") + " " + require.<String>resultFor("BranchB"));
+        }
+    }
+
     private static class DataVerticleMetricConfig extends DataVerticle<String> {
 
         private final JsonObject config;
@@ -88,6 +88,17 @@ class DataContextImplTest {
         assertThat(coordinate.getIpAddress()).isEqualTo("ip2");
     }
 
+    @Test
+    void testDecodeCorrelationIdFromString() {
+        assertThat(DataContextImpl.decodeCorrelationIdFromString(DataContextImpl.encodeContextToString(context)))
+                .isEqualTo("correlationId");
+        assertThat(DataContextImpl.decodeCorrelationIdFromString(
+                "{\"path\":[{\"correlationId\":\"nested\"}],\"data\":{},\"correlationId\":\"last\"}"))
+                        .isEqualTo("last");
+        assertThat(DataContextImpl.decodeCorrelationIdFromString("{\"sessionId\":\"sessionId\"}")).isNull();
+        assertThat(DataContextImpl.decodeCorrelationIdFromString(null)).isNull();
+    }
+
     @Test
     void testAddVerticleToPath() {
         context.pushVerticleToPath("DataVerticle");
@@ -302,6 +313,27 @@ class DataContextImplTest {
                         .remove("anyAttribute"));
     }
 
+    @Test
+    @DisplayName("the nested objects and arrays of the user principal of a context should be immutable")
+    void testNestedUserPrincipalImmutable() {
+        JsonObject principal = new JsonObject().put("nested", new JsonObject().put("key", "value")).put("array",
+                new JsonArray().add(new JsonObject().put("key", "value")));
+        DataContextImpl context = new DataContextImpl(null, null, null, principal, null);
+        assertThrows(UnsupportedOperationException.class,
+                () -> context.userPrincipal().getJsonObject("nested").put("key", "modified"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> context.userPrincipal().getJsonArray("array").add("modified"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> context.userPrincipal().getJsonArray("array").getJsonObject(0).put("key", "modified"));
+
+        // decoded contexts share the decoded principal, which must never be modified
+        String contextString = DataContextImpl.encodeContextToString(context);
+        DataContext decoded = DataContextImpl.decodeContextFromString(contextString);
+        assertThrows(UnsupportedOperationException.class,
+                () -> decoded.userPrincipal().getJsonObject("nested").put("key", "modified"));
+        assertThat(DataContextImpl.decodeContextFromString(contextString).userPrincipal()).isEqualTo(principal);
+    }
+
     @Test
     @DisplayName("the user arbitrary data of a context")
     void testArbitraryData() {
@@ -375,6 +407,37 @@ class DataContextImplTest {
                 .put("expectedArray", new JsonArray().add(0)).put("expectedNull", (Object) null));
     }
 
+    @Test
+    @DisplayName("test decoded contexts are independent of each other")
+    void testDecodedContextsAreIndependent() {
+        context.put("key", new JsonObject().put("nested", "value"));
+        context.pushVerticleToPath("Data1Verticle");
+        context.amendTopVerticleCoordinate("deploymentId1");
+        context.updateResponseTimestamp();
+        String contextString = DataContextImpl.encodeContextToString(context);
+
+        DataContextImpl context1 = (DataContextImpl) DataContextImpl.decodeContextFromString(contextString);
+        DataContextImpl context2 = (DataContextImpl) DataContextImpl.decodeContextFromString(contextString);
+        context1.<JsonObject>get("key").put("nested", "modified");
+        context1.pushVerticleToPath("Data2Verticle");
+        assertThat(context2.<JsonObject>get("key").getString("nested")).isEqualTo("value");
+        assertEquals(1, contextPathSize(context2));
+        assertThat(context2.pathAsString()).isEqualTo(context.pathAsString());
+
+        // a copy of a decoded context, which was not accessed yet, is independent of the original as well
+        DataContextImpl context3 = (DataContextImpl) DataContextImpl.decodeContextFromString(contextString);
+        DataContextImpl copy = context3.copy();
+        context3.put("key", "modified");
+        context3.popVerticleFromPath();
+        assertThat(copy.<JsonObject>get("key").getString("nested")).isEqualTo("value");
+        assertEquals(1, contextPathSize(copy));
+        assertThat(copy.userPrincipal()).isEqualTo(new JsonObject().put("username", "Duke"));
+
+        // encoding a decoded context, which was not accessed yet, results in the same context
+        assertThat(new JsonObject(DataContextImpl.encodeContextToString(copy.copy())))
+                .isEqualTo(new JsonObject(contextString));
+    }
+
     private int contextPathSize(DataContext context) {
         return Iterators.size(context.path());
     }
@@ -0,0 +1,200 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Ticker;
+
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataCache;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class DataResultCacheTest {
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Test
+    @DisplayName("Check that the cache is configured by the annotation and the verticle configuration")
+    void testConfigure() {
+        DataCache annotation = CachedVerticle.class.getAnnotation(DataCache.class);
+        Supplier<ResultCopier> copierSupplier = () -> new ResultCopier(null, null);
+        assertThat(DataResultCache.configure(null, null, copierSupplier)).isNull();
+        assertThat(DataResultCache.configure(new JsonObject().put("enabled", true), null, copierSupplier)).isNotNull();
+        assertThat(DataResultCache.configure(null, annotation, copierSupplier)).isNotNull();
+        assertThat(DataResultCache.configure(new JsonObject().put("enabled", false), annotation,
+                () -> fail("copier must only be created in case caching is enabled"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Check that results are cached until they expire")
+    void testExpiry() {
+        DataResultCache cache = new DataResultCache(10, 60, true, ticker, new ResultCopier(null, null));
+        assertThat(retrieve(cache, new DataQuery("path"), null).result()).isEqualTo("result1");
+        assertThat(retrieve(cache, new DataQuery("path"), null).result()).isEqualTo("result1");
+        assertThat(retrieve(cache, new DataQuery("otherPath"), null).result()).isEqualTo("result2");
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        assertThat(retrieve(cache, new DataQuery("path"), null).result()).isEqualTo("result3");
+
+        cache.invalidate();
+        assertThat(retrieve(cache, new DataQuery("path"), null).result()).isEqualTo("result4");
+    }
+
+    @Test
+    @DisplayName("Check that results are cached per user principal")
+    void testPartitionByUser() {
+        DataContext alice = new DataContextImpl("corr", "session", new JsonObject().put("user", "alice"));
+        DataContext bob = new DataContextImpl("corr", "session", new JsonObject().put("user", "bob"));
+
+        DataResultCache partitioned = new DataResultCache(10, 60, true, ticker, new ResultCopier(null, null));
+        assertThat(retrieve(partitioned, new DataQuery("path"), alice).result()).isEqualTo("result1");
+        assertThat(retrieve(partitioned, new DataQuery("path"), bob).result()).isEqualTo("result2");
+        assertThat(retrieve(partitioned, new DataQuery("path"), alice).result()).isEqualTo("result1");
+
+        DataResultCache shared = new DataResultCache(10, 60, false, ticker, new ResultCopier(null, null));
+        assertThat(retrieve(shared, new DataQuery("path"), alice).result()).isEqualTo("result3");
+        assertThat(retrieve(shared, new DataQuery("path"), bob).result()).isEqualTo("result3");
+    }
+
+    @Test
+    @DisplayName("Check that pending requests are shared and failed requests are not cached")
+    void testPendingAndFailedRequests() {
+        DataResultCache cache = new DataResultCache(10, 60, true, ticker, new ResultCopier(null, null));
+        Promise<String> promise = Promise.promise();
+        Future<String> first = cache.get(new DataQuery("path"), null, () -> promise.future());
+        Future<String> second = cache.get(new DataQuery("path"), null, () -> succeededFuture("unexpected"));
+        assertThat(second.isComplete()).isFalse();
+
+        promise.fail("failed");
+        assertThat(first.failed()).isTrue();
+        assertThat(second.failed()).isTrue();
+        assertThat(retrieve(cache, new DataQuery("path"), null).result()).isEqualTo("result1");
+
+        Future<String> failed = cache.get(new DataQuery("failing"), null, () -> failedFuture("failed"));
+        assertThat(failed.failed()).isTrue();
+        assertThat(cache.results.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Check that every consumer is handed its own copy of a cached result")
+    void testResultsAreCopied() {
+        DataResultCache cache = new DataResultCache(10, 60, true, ticker, new ResultCopier(null, null));
+        Promise<JsonArray> promise = Promise.promise();
+        Future<JsonArray> first = cache.get(new DataQuery("path"), null, () -> promise.future());
+        Future<JsonArray> second = cache.get(new DataQuery("path"), null, () -> succeededFuture(new JsonArray()));
+
+        JsonArray result = new JsonArray().add("b").add("a");
+        promise.complete(result);
+        assertThat(first.result()).isSameInstanceAs(result);
+        assertThat(second.result()).isEqualTo(result);
+        assertThat(second.result()).isNotSameInstanceAs(result);
+
+        // modify the results of both consumers in place
+        first.result().add("c");
+        second.result().remove(0);
+        assertThat(cache.get(new DataQuery("path"), null, () -> succeededFuture(new JsonArray())).result())
+                .isEqualTo(new JsonArray().add("b").add("a"));
+    }
+
+    @Test
+    @DisplayName("Check that results which cannot be copied are not cached")
+    void testResultsWhichCannotBeCopiedAreNotCached() {
+        DataResultCache cache = new DataResultCache(10, 60, true, ticker, new ResultCopier(null, null));
+        Promise<List<String>> promise = Promise.promise();
+        Future<List<String>> first = cache.get(new DataQuery("path"), null, () -> promise.future());
+        Future<List<String>> second = cache.get(new DataQuery("path"), null, () -> succeededFuture(List.of("b")));
+
+        promise.complete(new ArrayList<>(List.of("a")));
+        assertThat(first.result()).containsExactly("a");
+        // the pending request retrieves the result on its own, instead of sharing the result of the first request
+        assertThat(second.result()).containsExactly("b");
+        assertThat(cache.results.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Check that results are copied using the message codec of the data verticle")
+    void testResultsAreCopiedUsingCodec() {
+        DataResultCache cache = new DataResultCache(10, 60, true, ticker, new ResultCopier(new ListCodec(), null));
+        List<String> result = new ArrayList<>(List.of("b", "a"));
+        Future<List<String>> first = cache.get(new DataQuery("path"), null, () -> succeededFuture(result));
+        first.result().sort(null);
+
+        Future<List<String>> second = cache.get(new DataQuery("path"), null, () -> succeededFuture(List.of()));
+        assertThat(second.result()).containsExactly("b", "a").inOrder();
+        assertThat(second.result()).isNotSameInstanceAs(result);
+    }
+
+    @Test
+    @DisplayName("Check that only reading queries are cached")
+    void testManipulatingQueriesAreNotCached() {
+        DataResultCache cache = new DataResultCache(10, 60, true, ticker, new ResultCopier(null, null));
+        retrieve(cache, new DataQuery(DataAction.CREATE, "path"), null);
+        retrieve(cache, new DataQuery(DataAction.CREATE, "path"), null);
+        assertThat(invocations.get()).isEqualTo(2);
+        assertThat(cache.results.size()).isEqualTo(0);
+    }
+
+    private Future<String> retrieve(DataResultCache cache, DataQuery query, DataContext context) {
+        return cache.get(query, context, () -> succeededFuture("result" + invocations.incrementAndGet()));
+    }
+
+    @DataCache
+    private static class CachedVerticle {}
+
+    private static class ListCodec implements MessageCodec<List<String>, List<String>> {
+        @Override
+        public void encodeToWire(Buffer buffer, List<String> list) {
+            new JsonArray(list).writeToBuffer(buffer);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<String> decodeFromWire(int pos, Buffer buffer) {
+            JsonArray array = new JsonArray();
+            array.readFromBuffer(pos, buffer);
+            return new ArrayList<>(array.getList());
+        }
+
+        @Override
+        public List<String> transform(List<String> list) {
+            return list;
+        }
+
+        @Override
+        public String name() {
+            return "list";
+        }
+
+        @Override
+        public byte systemCodecID() {
+            return -1;
+        }
+    }
+}
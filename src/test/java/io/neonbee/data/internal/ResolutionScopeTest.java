@@ -0,0 +1,133 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.neonbee.NeonBeeMockHelper;
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class ResolutionScopeTest {
+    @Test
+    @DisplayName("Check that a scope is reference counted")
+    void testAcquireRelease() {
+        ResolutionScope scope = ResolutionScope.acquire(null);
+        assertThat(ResolutionScope.isActive(scope.getId())).isTrue();
+        assertThat(ResolutionScope.acquire(scope.getId())).isSameInstanceAs(scope);
+
+        scope.release();
+        assertThat(ResolutionScope.isActive(scope.getId())).isTrue();
+        scope.release();
+        assertThat(ResolutionScope.isActive(scope.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Check that identical reading requests are only executed once")
+    void testRequestDeduplication(Vertx vertx) {
+        NeonBeeMockHelper.registerNeonBeeMock(vertx);
+        ResolutionScope scope = ResolutionScope.acquire(null);
+        AtomicInteger invocations = new AtomicInteger();
+
+        Future<String> first = scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")), null,
+                () -> succeededFuture("result" + invocations.incrementAndGet()));
+        scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")), null,
+                () -> succeededFuture("result" + invocations.incrementAndGet()));
+        scope.request(vertx, new DataRequest("Verticle", new DataQuery("otherPath")), null,
+                () -> succeededFuture("result" + invocations.incrementAndGet()));
+        assertThat(first.result()).isEqualTo("result1");
+        assertThat(invocations.get()).isEqualTo(2);
+
+        scope.request(vertx, new DataRequest("Verticle", new DataQuery(DataAction.CREATE, "path")), null,
+                () -> succeededFuture("result" + invocations.incrementAndGet()));
+        scope.request(vertx, new DataRequest("Verticle", new DataQuery(DataAction.CREATE, "path")), null,
+                () -> succeededFuture("result" + invocations.incrementAndGet()));
+        assertThat(invocations.get()).isEqualTo(4);
+
+        scope.release();
+    }
+
+    @Test
+    @DisplayName("Check that every consumer of a deduplicated request gets its own copy of the result")
+    void testResultsAreCopied(Vertx vertx, VertxTestContext testContext) {
+        NeonBeeMockHelper.registerNeonBeeMock(vertx);
+        ResolutionScope scope = ResolutionScope.acquire(null);
+
+        Future<JsonObject> first = scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")), null,
+                () -> succeededFuture(new JsonObject().put("key", "value")));
+        first.result().put("key", "modified");
+        scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")), null,
+                () -> succeededFuture(new JsonObject())).compose(second -> {
+                    testContext.verify(() -> assertThat(second).isEqualTo(new JsonObject().put("key", "value")));
+                    second.put("key", "modified");
+                    return scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")), null,
+                            () -> succeededFuture(new JsonObject()));
+                }).onComplete(testContext.succeeding(third -> testContext.verify(() -> {
+                    assertThat(third).isEqualTo(new JsonObject().put("key", "value"));
+                    scope.release();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("Check that requests are only deduplicated for identical queries and data contexts")
+    void testRequestKey(Vertx vertx) {
+        NeonBeeMockHelper.registerNeonBeeMock(vertx);
+        ResolutionScope scope = ResolutionScope.acquire(null);
+        AtomicInteger invocations = new AtomicInteger();
+
+        DataQuery query = new DataQuery("path");
+        DataContext context = new DataContextImpl("corr", "session", "token", new JsonObject().put("user", "a"), null);
+        scope.request(vertx, new DataRequest("Verticle", query), context,
+                () -> succeededFuture("result" + invocations.incrementAndGet()));
+        query.setUriPath("otherPath");
+        scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")), context.copy(),
+                () -> succeededFuture("result" + invocations.incrementAndGet()));
+        assertThat(invocations.get()).isEqualTo(1);
+
+        scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")),
+                new DataContextImpl("corr", "session", "token", new JsonObject().put("user", "b"), null),
+                () -> succeededFuture("result" + invocations.incrementAndGet()));
+        assertThat(invocations.get()).isEqualTo(2);
+
+        scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")),
+                context.copy().put("key", "value"), () -> succeededFuture("result" + invocations.incrementAndGet()));
+        assertThat(invocations.get()).isEqualTo(3);
+
+        scope.release();
+    }
+
+    @Test
+    @DisplayName("Check that results which cannot be copied are not shared")
+    void testResultsWhichCannotBeCopiedAreNotShared(Vertx vertx, VertxTestContext testContext) {
+        NeonBeeMockHelper.registerNeonBeeMock(vertx);
+        ResolutionScope scope = ResolutionScope.acquire(null);
+        AtomicInteger invocations = new AtomicInteger();
+
+        Future<List<Integer>> first = scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")), null,
+                () -> succeededFuture(new ArrayList<>(List.of(invocations.incrementAndGet()))));
+        Future<List<Integer>> second = scope.request(vertx, new DataRequest("Verticle", new DataQuery("path")), null,
+                () -> succeededFuture(new ArrayList<>(List.of(invocations.incrementAndGet()))));
+        second.onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+            assertThat(first.result()).containsExactly(1);
+            assertThat(result).containsExactly(2);
+            scope.release();
+            testContext.completeNow();
+        })));
+    }
+}
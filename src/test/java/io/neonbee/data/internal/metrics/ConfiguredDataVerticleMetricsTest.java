@@ -79,6 +79,21 @@ class ConfiguredDataVerticleMetricsTest {
         }
     }
 
+    @Test
+    @DisplayName("Test config with query tag normalization only, all metrics should be reported")
+    void queryTagConfigEnabled() {
+        JsonObject config = new JsonObject().put(ConfiguredDataVerticleMetrics.ENABLED, true)
+                .put(ConfiguredDataVerticleMetrics.QUERY_TAG, "raw");
+
+        MeterRegistry mockRegistry = mock(MeterRegistry.class);
+        try (MockedStatic<BackendRegistries> registry = mockStatic(BackendRegistries.class)) {
+            registry.when(() -> BackendRegistries.getNow(anyString())).thenReturn(mockRegistry);
+
+            DataVerticleMetrics instance = ConfiguredDataVerticleMetrics.configureMetricsReporting(config);
+            assertThat(instance).isInstanceOf(DataVerticleMetricsImpl.class);
+        }
+    }
+
     @Test
     @DisplayName("Test config with all values provided")
     void configWithAllValuesEnabled() {
@@ -2,11 +2,17 @@ package io.neonbee.data.internal.metrics;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeOptions;
 import io.neonbee.config.NeonBeeConfig;
@@ -14,6 +20,8 @@ import io.neonbee.data.DataVerticle;
 import io.neonbee.test.helper.SystemHelper;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
@@ -106,6 +114,54 @@ class DataVerticleMetricsImplTest {
         }));
     }
 
+    @Test
+    @DisplayName("Meters must be registered once and cached by name and tags")
+    void testMetersAreCached() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry);
+        List<Tag> tags = List.of(new ImmutableTag("key", "value"));
+
+        metrics.reportNumberOfRequests("requests", "description", tags);
+        metrics.reportNumberOfRequests("requests", "description", List.of(new ImmutableTag("key", "value")));
+        metrics.reportNumberOfRequests("requests", "description", List.of());
+        metrics.reportTimingMetric("timer", "description", tags, Future.succeededFuture());
+        metrics.reportTimingMetric("timer", "description", tags, Future.succeededFuture());
+        metrics.reportStatusCounter("status", "description", tags, Future.succeededFuture());
+        metrics.reportStatusCounter("status", "description", tags, Future.succeededFuture());
+        metrics.reportStatusCounter("status", "description", tags, Future.failedFuture("failed"));
+
+        assertThat(metrics.counters.get("requests")).hasSize(2);
+        assertThat(registry.get("requests").tags(tags).counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("requests").tags(List.of()).counters()).hasSize(2);
+        assertThat(metrics.timers.get("timer")).hasSize(1);
+        assertThat(registry.get("timer").tags(tags).timer().count()).isEqualTo(2);
+        assertThat(registry.get("status").tags(tags).tag("succeeded", "true").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("status").tags(tags).tag("succeeded", "false").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Active requests gauges must count the requests of all data verticles reporting to the registry")
+    void testActiveRequestsGaugeIsShared() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics1 = new DataVerticleMetricsImpl(registry);
+        DataVerticleMetricsImpl metrics2 = new DataVerticleMetricsImpl(registry);
+
+        Promise<Void> request1 = Promise.promise();
+        Promise<Void> request2 = Promise.promise();
+        Promise<Void> request3 = Promise.promise();
+        metrics1.reportActiveRequestsGauge("active", "description", List.of(), request1.future());
+        metrics1.reportActiveRequestsGauge("active", "description", List.of(), request2.future());
+        metrics2.reportActiveRequestsGauge("active", "description", List.of(), request3.future());
+        assertThat(registry.get("active").gauge().value()).isEqualTo(3.0);
+
+        request1.complete();
+        request3.fail("failed");
+        assertThat(registry.get("active").gauge().value()).isEqualTo(1.0);
+
+        request2.complete();
+        assertThat(registry.get("active").gauge().value()).isEqualTo(0.0);
+    }
+
     public HttpRequest<Buffer> createRequest(NeonBee neonBee, HttpMethod method, String path) {
         WebClientOptions opts =
                 new WebClientOptions().setDefaultHost("localhost").setDefaultPort(neonBee.getOptions().getServerPort());
@@ -0,0 +1,61 @@
+package io.neonbee.data.internal.metrics;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.data.internal.metrics.QueryTagNormalizer.QUERY_TAG_KEY;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.ImmutableTag;
+import io.neonbee.data.internal.metrics.QueryTagNormalizer.Normalization;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class QueryTagNormalizerTest {
+    @Test
+    @DisplayName("Test the normalization of the query tag")
+    void testNormalize() {
+        QueryTagNormalizer parameters = new QueryTagNormalizer(Normalization.PARAMETERS, Set.of("$top=10"));
+        assertThat(parameters.normalize("")).isEmpty();
+        assertThat(parameters.normalize("$filter=ID eq 1&$top=5&flag")).isEqualTo("$filter&$top&flag");
+        assertThat(parameters.normalize("$top=10")).isEqualTo("$top=10");
+
+        QueryTagNormalizer raw = new QueryTagNormalizer(Normalization.RAW, Set.of());
+        assertThat(raw.normalize("$filter=ID eq 1")).isEqualTo("$filter=ID eq 1");
+
+        QueryTagNormalizer none = new QueryTagNormalizer(Normalization.NONE, Set.of("$top=10"));
+        assertThat(none.normalize("$filter=ID eq 1")).isEmpty();
+        assertThat(none.normalize("$top=10")).isEqualTo("$top=10");
+    }
+
+    @Test
+    @DisplayName("Test that the query tags are cached")
+    void testTags() {
+        QueryTagNormalizer normalizer = new QueryTagNormalizer(Normalization.PARAMETERS, Set.of());
+        assertThat(normalizer.tags(null)).isEmpty();
+        assertThat(normalizer.tags("$top=5")).containsExactly(new ImmutableTag(QUERY_TAG_KEY, "$top"));
+        assertThat(normalizer.tags("$top=5")).isSameInstanceAs(normalizer.tags("$top=5"));
+    }
+
+    @Test
+    @DisplayName("Test the configuration of the query tag")
+    void testConfigure() {
+        assertThat(QueryTagNormalizer.configure(null)).isSameInstanceAs(QueryTagNormalizer.DISABLED);
+        assertThat(QueryTagNormalizer.DISABLED.tags("$top=5")).isEmpty();
+
+        JsonObject config = new JsonObject().put(ConfiguredDataVerticleMetrics.ENABLED, true);
+        assertThat(QueryTagNormalizer.configure(config).normalize("$top=5")).isEqualTo("$top");
+
+        config.put(ConfiguredDataVerticleMetrics.QUERY_TAG, "raw");
+        assertThat(QueryTagNormalizer.configure(config).normalize("$top=5")).isEqualTo("$top=5");
+
+        config.put(ConfiguredDataVerticleMetrics.QUERY_TAG, "none")
+                .put(ConfiguredDataVerticleMetrics.QUERY_TAG_ALLOW_LIST, new JsonArray(List.of("$top=10")));
+        QueryTagNormalizer normalizer = QueryTagNormalizer.configure(config);
+        assertThat(normalizer.normalize("$top=5")).isEmpty();
+        assertThat(normalizer.normalize("$top=10")).isEqualTo("$top=10");
+    }
+}
@@ -1,49 +1,65 @@
 package io.neonbee.endpoint.odatav4.internal.olingo;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.MAXIMUM_EVENT_LOOP_BODY_SIZE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.isProcessedOnEventLoop;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapODataResponse;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapToODataRequest;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static io.neonbee.endpoint.odatav4.internal.olingo.ResponseStreamer.CHUNK_SIZE;
+import static io.vertx.core.Future.succeededFuture;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.olingo.server.api.ODataContent;
 import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.ODataResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
 
 import com.google.common.base.Charsets;
 
 import io.neonbee.internal.handler.CorrelationIdHandler;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
 
+@ExtendWith(VertxExtension.class)
 class OlingoEndpointHandlerTest {
     @Test
     @DisplayName("map generic response")
-    void checkGenericResponseMapping() {
+    void checkGenericResponseMapping(Vertx vertx) {
         ODataResponse odataResponse = new ODataResponse();
         odataResponse.setStatusCode(200);
         odataResponse.setHeader("expected1", "value1");
         odataResponse.setHeader("expected2", "value2");
         odataResponse.setContent(new ByteArrayInputStream("expected data".getBytes(Charsets.UTF_8)));
 
-        HttpServerResponse responseMock = mock(HttpServerResponse.class);
-        assertDoesNotThrow(() -> mapODataResponse(odataResponse, responseMock));
+        HttpServerResponse responseMock = mockResponse();
+        assertThat(mapODataResponse(vertx, odataResponse, responseMock).succeeded()).isTrue();
 
         verify(responseMock).setStatusCode(200);
         verify(responseMock).putHeader("expected1", "value1");
@@ -52,11 +68,12 @@ class OlingoEndpointHandlerTest {
         ArgumentCaptor<Buffer> endBuffer = ArgumentCaptor.forClass(Buffer.class);
         verify(responseMock).end(endBuffer.capture());
         assertThat(endBuffer.getValue().toString()).isEqualTo("expected data");
+        verify(responseMock, times(0)).setChunked(true);
     }
 
     @Test
     @DisplayName("map OData response")
-    void checkODataResponseMapping() {
+    void checkODataResponseMapping(Vertx vertx, VertxTestContext testContext) {
         ODataResponse odataResponse = new ODataResponse();
         ODataContent odataContentMock = mock(ODataContent.class);
         doAnswer((Answer<ODataContent>) invocation -> {
@@ -65,12 +82,98 @@ class OlingoEndpointHandlerTest {
         }).when(odataContentMock).write(any(OutputStream.class));
         odataResponse.setODataContent(odataContentMock);
 
-        HttpServerResponse responseMock = mock(HttpServerResponse.class);
-        assertDoesNotThrow(() -> mapODataResponse(odataResponse, responseMock));
+        HttpServerResponse responseMock = mockResponse();
+        mapODataResponse(vertx, odataResponse, responseMock).onComplete(testContext.succeeding(nothing -> {
+            testContext.verify(() -> {
+                ArgumentCaptor<Buffer> endBuffer = ArgumentCaptor.forClass(Buffer.class);
+                verify(responseMock).end(endBuffer.capture());
+                assertThat(endBuffer.getValue().toString()).isEqualTo("expected data");
+            });
+            testContext.completeNow();
+        }));
+    }
 
-        ArgumentCaptor<Buffer> endBuffer = ArgumentCaptor.forClass(Buffer.class);
-        verify(responseMock).end(endBuffer.capture());
-        assertThat(endBuffer.getValue().toString()).isEqualTo("expected data");
+    @Test
+    @DisplayName("stream large response in chunks")
+    @SuppressWarnings("unchecked")
+    void checkStreamedResponseMapping(Vertx vertx) {
+        byte[] content = randomBytes(3 * CHUNK_SIZE + 42);
+        ODataResponse odataResponse = new ODataResponse();
+        odataResponse.setContent(new ByteArrayInputStream(content));
+
+        HttpServerResponse responseMock = mockResponse();
+        // the write queue gets full after the first chunk was written
+        when(responseMock.writeQueueFull()).thenReturn(false, true, false);
+        Future<Void> mapped = mapODataResponse(vertx, odataResponse, responseMock);
+        assertThat(mapped.isComplete()).isFalse();
+
+        ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+        verify(responseMock).drainHandler(drainHandler.capture());
+        verify(responseMock, times(1)).write(any(Buffer.class));
+        drainHandler.getValue().handle(null);
+
+        assertThat(mapped.succeeded()).isTrue();
+        verify(responseMock, atLeastOnce()).setChunked(true);
+        assertThat(writtenContent(responseMock, 3)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("stop streaming a response which is closed while its write queue is full")
+    @SuppressWarnings("unchecked")
+    void checkClosedStreamedResponseMapping(Vertx vertx) {
+        AtomicBoolean contentClosed = new AtomicBoolean();
+        ODataResponse odataResponse = new ODataResponse();
+        odataResponse.setContent(new ByteArrayInputStream(randomBytes(3 * CHUNK_SIZE + 42)) {
+            @Override
+            public void close() {
+                contentClosed.set(true);
+            }
+        });
+
+        HttpServerResponse responseMock = mockResponse();
+        when(responseMock.writeQueueFull()).thenReturn(false, true, false);
+        Future<Void> mapped = mapODataResponse(vertx, odataResponse, responseMock);
+
+        ArgumentCaptor<Handler<Void>> closeHandler = ArgumentCaptor.forClass(Handler.class);
+        verify(responseMock).closeHandler(closeHandler.capture());
+        closeHandler.getValue().handle(null);
+        assertThat(mapped.failed()).isTrue();
+        assertThat(contentClosed.get()).isTrue();
+
+        // the handlers set while streaming must be removed again
+        verify(responseMock).closeHandler(isNull());
+        verify(responseMock).exceptionHandler(isNull());
+
+        // a late drain of the response must not resume streaming
+        ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+        verify(responseMock, atLeastOnce()).drainHandler(drainHandler.capture());
+        drainHandler.getAllValues().get(0).handle(null);
+        verify(responseMock, times(1)).write(any(Buffer.class));
+        verify(responseMock, never()).end(any(Buffer.class));
+    }
+
+    @Test
+    @DisplayName("stream large OData response in chunks")
+    void checkStreamedODataResponseMapping(Vertx vertx, VertxTestContext testContext) {
+        byte[] content = randomBytes(2 * CHUNK_SIZE + 42);
+        ODataResponse odataResponse = new ODataResponse();
+        ODataContent odataContentMock = mock(ODataContent.class);
+        doAnswer((Answer<ODataContent>) invocation -> {
+            OutputStream output = invocation.<OutputStream>getArgument(0);
+            output.write(content[0]);
+            output.write(content, 1, content.length - 1);
+            return null;
+        }).when(odataContentMock).write(any(OutputStream.class));
+        odataResponse.setODataContent(odataContentMock);
+
+        HttpServerResponse responseMock = mockResponse();
+        mapODataResponse(vertx, odataResponse, responseMock).onComplete(testContext.succeeding(nothing -> {
+            testContext.verify(() -> {
+                verify(responseMock, atLeastOnce()).setChunked(true);
+                assertThat(writtenContent(responseMock, 2)).isEqualTo(content);
+            });
+            testContext.completeNow();
+        }));
     }
 
     @Test
@@ -104,4 +207,54 @@ class OlingoEndpointHandlerTest {
         assertThat(odataReq.getRawODataPath()).isEqualTo(expectedPath);
         assertThat(odataReq.getRawQueryPath()).isEqualTo(expectedQuery);
     }
+
+    @Test
+    @DisplayName("only batch, metadata and large requests are processed in a worker thread")
+    void testIsProcessedOnEventLoop() {
+        assertThat(isProcessedOnEventLoop(mockRoutingContext(0), mockODataRequest("/Entities"))).isTrue();
+        assertThat(isProcessedOnEventLoop(mockRoutingContext(MAXIMUM_EVENT_LOOP_BODY_SIZE),
+                mockODataRequest("/Entities"))).isTrue();
+        assertThat(isProcessedOnEventLoop(mockRoutingContext(MAXIMUM_EVENT_LOOP_BODY_SIZE + 1),
+                mockODataRequest("/Entities"))).isFalse();
+        assertThat(isProcessedOnEventLoop(mockRoutingContext(0), mockODataRequest("/$batch"))).isFalse();
+        assertThat(isProcessedOnEventLoop(mockRoutingContext(0), mockODataRequest("/$metadata"))).isFalse();
+    }
+
+    private static RoutingContext mockRoutingContext(int bodyLength) {
+        RequestBody requestBody = mock(RequestBody.class);
+        when(requestBody.length()).thenReturn(bodyLength);
+        RoutingContext routingContext = mock(RoutingContext.class);
+        when(routingContext.body()).thenReturn(requestBody);
+        return routingContext;
+    }
+
+    private static ODataRequest mockODataRequest(String rawODataPath) {
+        ODataRequest odataRequest = new ODataRequest();
+        odataRequest.setRawODataPath(rawODataPath);
+        return odataRequest;
+    }
+
+    private static HttpServerResponse mockResponse() {
+        HttpServerResponse responseMock = mock(HttpServerResponse.class);
+        when(responseMock.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+        when(responseMock.end(any(Buffer.class))).thenReturn(succeededFuture());
+        return responseMock;
+    }
+
+    private static byte[] writtenContent(HttpServerResponse responseMock, int chunks) {
+        ArgumentCaptor<Buffer> writeBuffers = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock, times(chunks)).write(writeBuffers.capture());
+        ArgumentCaptor<Buffer> endBuffer = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock).end(endBuffer.capture());
+
+        Buffer written = Buffer.buffer();
+        writeBuffers.getAllValues().forEach(written::appendBuffer);
+        return written.appendBuffer(endBuffer.getValue()).getBytes();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
 }
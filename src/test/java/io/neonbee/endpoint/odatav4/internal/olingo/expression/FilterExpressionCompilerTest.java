@@ -0,0 +1,117 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.core.MetadataParser;
+import org.apache.olingo.server.core.uri.parser.Parser;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionCompiler.CompiledFilter;
+import io.vertx.ext.web.RoutingContext;
+
+class FilterExpressionCompilerTest {
+    private static final List<Entity> ENTITIES = List.of(createEntity(0, "a"), createEntity(1, "b"),
+            createEntity(2, "c"), createEntity(3, "A"), createEntity(null, null));
+
+    private static final Path EDMX =
+            TEST_RESOURCES.resolve("io/neonbee/internal/codec/io.neonbee.codec.TypesService.edmx");
+
+    private static ServiceMetadata serviceMetadata;
+
+    private final RoutingContext routingContext = mock(RoutingContext.class);
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        try (Reader reader = new InputStreamReader(Files.newInputStream(EDMX), UTF_8)) {
+            serviceMetadata = OData.newInstance().createServiceMetadata(
+                    new MetadataParser().referenceResolver(null).buildEdmProvider(reader), Collections.emptyList());
+        }
+    }
+
+    static Stream<Arguments> withFilters() {
+        return Stream.of("int32 eq 1", "int32 ne 1", "int32 gt 1 and string ne 'c'", "int64 le 10 or string eq 'c'",
+                "not (int32 eq 1)", "decimal ge 0.15", "double lt 2.5", "int16 eq 2", "string in ('a', 'c')",
+                "startswith(string, 'a')", "tolower(string) eq 'a'",
+                "contains(concat(string, 'x'), 'ax')", "length(string) eq 1 and int32 lt 3", "1 eq 1", "1 eq 2",
+                "false and int32 eq 1", "true or int32 eq 1", "int32 eq 1 or (int32 eq 2 and not (string eq 'b'))")
+                .map(Arguments::of);
+    }
+
+    @ParameterizedTest(name = "{index}: $filter={0}")
+    @MethodSource("withFilters")
+    @DisplayName("Compiled filters must select the same entities as the filter expression visitor")
+    void testCompiledFilter(String filter) throws Exception {
+        Expression expression = parseFilter(filter);
+
+        List<Entity> expected = new ArrayList<>();
+        for (Entity entity : ENTITIES) {
+            FilterExpressionVisitor filterExpressionVisitor = new FilterExpressionVisitor(routingContext, entity);
+            if (Boolean.TRUE.equals(expression.accept(filterExpressionVisitor).getValue())) {
+                expected.add(entity);
+            }
+        }
+
+        CompiledFilter compiledFilter = FilterExpressionCompiler.compile(routingContext, expression);
+        List<Entity> actual = new ArrayList<>();
+        for (Entity entity : ENTITIES) {
+            if (compiledFilter.test(entity)) {
+                actual.add(entity);
+            }
+        }
+
+        assertThat(actual).containsExactlyElementsIn(expected).inOrder();
+    }
+
+    @Test
+    @DisplayName("Unsupported filter expressions must fail when the compiled filter is evaluated")
+    void testUnsupportedFilter() throws Exception {
+        CompiledFilter compiledFilter =
+                FilterExpressionCompiler.compile(routingContext, parseFilter("int32 add 1 eq 2"));
+        ODataApplicationException exception =
+                assertThrows(ODataApplicationException.class, () -> compiledFilter.test(ENTITIES.get(0)));
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatusCode.NOT_IMPLEMENTED.getStatusCode());
+    }
+
+    private static Expression parseFilter(String filter) throws Exception {
+        return new Parser(serviceMetadata.getEdm(), OData.newInstance())
+                .parseUri("Types", "$filter=" + filter, null, "").getFilterOption().getExpression();
+    }
+
+    private static Entity createEntity(Integer index, String string) {
+        return new Entity().addProperty(new Property(null, "int16", ValueType.PRIMITIVE,
+                index == null ? null : index.shortValue()))
+                .addProperty(new Property(null, "int32", ValueType.PRIMITIVE, index))
+                .addProperty(new Property(null, "int64", ValueType.PRIMITIVE, index == null ? null : index * 10L))
+                .addProperty(new Property(null, "double", ValueType.PRIMITIVE, index == null ? null : index + 0.5d))
+                .addProperty(new Property(null, "decimal", ValueType.PRIMITIVE,
+                        index == null ? null : BigDecimal.valueOf(index, 1)))
+                .addProperty(new Property(null, "string", ValueType.PRIMITIVE, string));
+    }
+}
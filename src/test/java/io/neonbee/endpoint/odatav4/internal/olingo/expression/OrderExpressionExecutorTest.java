@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Random;
 import java.util.UUID;
 
 import org.apache.olingo.commons.api.data.Entity;
@@ -31,6 +32,7 @@ import org.apache.olingo.commons.core.edm.EdmPropertyImpl;
 import org.apache.olingo.commons.core.edm.EdmTypeImpl;
 import org.apache.olingo.server.api.uri.UriInfoResource;
 import org.apache.olingo.server.api.uri.UriResourcePrimitiveProperty;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
 import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
 import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitor;
 import org.apache.olingo.server.core.uri.queryoption.OrderByItemImpl;
@@ -569,6 +571,101 @@ class OrderExpressionExecutorTest {
                         "org.apache.olingo.server.api.ODataApplicationException: An error has occurred while comparing two values of property testGuidProperty. The types of the compared values are UUID and String but both must be one of: UUID");
     }
 
+    @Test
+    @DisplayName("Ordering with a limit must return the first entities of the full ordering")
+    void executeOrderOptionWithLimitTest() {
+        Random random = new Random(42);
+        List<Entity> entityList = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            entityList.add(new Entity() //
+                    .addProperty(new Property(null, "testNumberProperty", ValueType.PRIMITIVE,
+                            random.nextInt(4) == 0 ? null : random.nextInt(10)))
+                    .addProperty(new Property(null, "testStringProperty", ValueType.PRIMITIVE,
+                            (random.nextBoolean() ? "s" : "S") + random.nextInt(3)))
+                    .addProperty(new Property(null, "testDoubleProperty", ValueType.PRIMITIVE,
+                            (double) random.nextInt(5))));
+        }
+
+        List<OrderByItem> orderByItems = List.of(orderByItem("testNumberProperty", "Edm.Int64", true),
+                orderByItem("testStringProperty", "Edm.String", false),
+                orderByItem("testDoubleProperty", "Edm.Double", false));
+        OrderByOptionImpl orderByOption = mock(OrderByOptionImpl.class);
+        when(orderByOption.getOrders()).thenReturn(orderByItems);
+
+        List<Entity> expectedEntityList = new ArrayList<>(entityList);
+        expectedEntityList.sort(new EntityChainedComparator(
+                List.of(new EntityComparator(routingContext, "testNumberProperty", true, EdmPrimitiveTypeKind.Int64),
+                        new EntityComparator(routingContext, "testStringProperty", false, EdmPrimitiveTypeKind.String),
+                        new EntityComparator(routingContext, "testDoubleProperty", false,
+                                EdmPrimitiveTypeKind.Double))));
+
+        for (int limit : new int[] { 0, 1, 20, 199, 200, 500 }) {
+            assertThat(OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList, limit))
+                    .containsExactlyElementsIn(expectedEntityList.subList(0, Math.min(limit, 200))).inOrder();
+        }
+        assertThat(entityList).isNotEqualTo(expectedEntityList);
+        assertThat(OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList))
+                .containsExactlyElementsIn(expectedEntityList).inOrder();
+    }
+
+    @Test
+    @DisplayName("Merging ordered lists must return the first entities of the ordering of all lists")
+    void mergeOrderedListsTest() {
+        Random random = new Random(42);
+        List<OrderByItem> orderByItems = List.of(orderByItem("testNumberProperty", "Edm.Int64", true),
+                orderByItem("testStringProperty", "Edm.String", false));
+        OrderByOptionImpl orderByOption = mock(OrderByOptionImpl.class);
+        when(orderByOption.getOrders()).thenReturn(orderByItems);
+
+        List<Entity> entityList = new ArrayList<>();
+        List<List<Entity>> orderedLists = new ArrayList<>();
+        for (int size : new int[] { 50, 0, 1, 120 }) {
+            List<Entity> list = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                list.add(new Entity() //
+                        .addProperty(new Property(null, "testNumberProperty", ValueType.PRIMITIVE,
+                                random.nextInt(4) == 0 ? null : random.nextInt(10)))
+                        .addProperty(new Property(null, "testStringProperty", ValueType.PRIMITIVE,
+                                (random.nextBoolean() ? "s" : "S") + random.nextInt(3))));
+            }
+            entityList.addAll(list);
+            orderedLists.add(OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, list));
+        }
+
+        // entities with equal sort keys are taken in the order of the lists, as in the ordering of the concatenation
+        List<Entity> expectedEntityList =
+                OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList);
+        for (int limit : new int[] { 0, 1, 20, 171, 500 }) {
+            assertThat(OrderExpressionExecutor.mergeOrderedLists(routingContext, orderByOption, orderedLists, limit))
+                    .containsExactlyElementsIn(expectedEntityList.subList(0, Math.min(limit, 171))).inOrder();
+        }
+        assertThat(OrderExpressionExecutor.mergeOrderedLists(null, orderByOption, List.of(), 10)).isEmpty();
+    }
+
+    private static OrderByItemImpl orderByItem(String propertyName, String propertyType, boolean descending) {
+        EdmTypeImpl edmType = mock(EdmTypeImpl.class);
+        when(edmType.getKind()).thenReturn(EdmTypeKind.PRIMITIVE);
+        when(edmType.toString()).thenReturn(propertyType);
+
+        EdmPropertyImpl edmProperty = mock(EdmPropertyImpl.class);
+        when(edmProperty.getType()).thenReturn(edmType);
+        when(edmProperty.getName()).thenReturn(propertyName);
+
+        UriResourcePrimitiveProperty uriResourcePrimitiveProperty = mock(UriResourcePrimitiveProperty.class);
+        when(uriResourcePrimitiveProperty.getProperty()).thenReturn(edmProperty);
+
+        UriInfoResource resourcePath = mock(UriInfoResource.class);
+        when(resourcePath.getUriResourceParts()).thenReturn(List.of(uriResourcePrimitiveProperty));
+
+        MemberImpl member = mock(MemberImpl.class);
+        when(member.getResourcePath()).thenReturn(resourcePath);
+
+        OrderByItemImpl orderByItem = mock(OrderByItemImpl.class);
+        when(orderByItem.getExpression()).thenReturn(member);
+        when(orderByItem.isDescending()).thenReturn(descending);
+        return orderByItem;
+    }
+
     @SuppressWarnings("rawtypes")
     @Test
     void classDefinitionTest() throws Exception {
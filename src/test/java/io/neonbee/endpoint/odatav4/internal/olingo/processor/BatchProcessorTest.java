@@ -0,0 +1,218 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataRequest;
+import org.apache.olingo.server.api.ODataResponse;
+import org.apache.olingo.server.api.batch.BatchFacade;
+import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
+import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class BatchProcessorTest {
+    private static final String CRLF = "\r\n";
+
+    private final List<String> handledRequests = new ArrayList<>();
+
+    private final List<Promise<Void>> processPromises = new ArrayList<>();
+
+    private final Promise<Void> processPromise = Promise.promise();
+
+    private final ODataResponse response = new ODataResponse();
+
+    private BatchFacade facade;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        facade = mock(BatchFacade.class);
+        when(facade.extractBoundaryFromContentType(any())).thenReturn("batch_1");
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that independent parts are processed concurrently up to the parallelism")
+    void testParallelism(Vertx vertx, VertxTestContext testContext) throws Exception {
+        BatchProcessor processor = createProcessor(vertx, 2);
+        when(facade.handleBatchRequest(any())).thenAnswer(invocation -> {
+            ODataRequest request = invocation.<BatchRequestPart>getArgument(0).getRequests().get(0);
+            return new ODataResponsePart(handle(processor, request, 200), false);
+        });
+
+        ODataRequest batchRequest = batchRequest(part("Entities(0)") + part("Entities(1)") + part("Entities(2)")
+                + part("Entities(3)") + part("Entities(4)"));
+        vertx.runOnContext(nothing -> {
+            try {
+                processor.processBatch(facade, batchRequest, response);
+            } catch (Exception e) {
+                testContext.failNow(e);
+            }
+            vertx.runOnContext(dispatched -> testContext.verify(() -> {
+                assertThat(handledRequests).containsExactly("/Entities(0)", "/Entities(1)");
+                processPromises.get(1).complete();
+                assertThat(handledRequests).hasSize(3);
+                processPromises.get(2).complete();
+                assertThat(handledRequests).hasSize(4);
+                processPromises.get(3).complete();
+                assertThat(handledRequests).hasSize(5);
+                processPromises.get(4).complete();
+                assertThat(processPromise.future().isComplete()).isFalse();
+                processPromises.get(0).complete();
+
+                // the response parts are ordered as the request parts, regardless of the order they finished in
+                assertThat(processPromise.future().succeeded()).isTrue();
+                String content = content(response);
+                int lastIndex = -1;
+                for (int part = 0; part < 5; part++) {
+                    int index = content.indexOf("X-Request: /Entities(" + part + ")");
+                    assertThat(index).isGreaterThan(lastIndex);
+                    lastIndex = index;
+                }
+                testContext.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that the requests of a change set are processed consecutively")
+    void testChangeSet(Vertx vertx, VertxTestContext testContext) throws Exception {
+        BatchProcessor processor = createProcessor(vertx, 4);
+        mockChangeSetHandling(processor, 200);
+
+        ODataRequest batchRequest = batchRequest(changeSet("Entities(0)", "Entities(1)", "Entities(2)"));
+        vertx.runOnContext(nothing -> {
+            try {
+                processor.processBatch(facade, batchRequest, response);
+            } catch (Exception e) {
+                testContext.failNow(e);
+            }
+            vertx.runOnContext(dispatched -> testContext.verify(() -> {
+                assertThat(handledRequests).containsExactly("/Entities(0)");
+                processPromises.get(0).complete();
+                assertThat(handledRequests).containsExactly("/Entities(0)", "/Entities(1)");
+                processPromises.get(1).complete();
+                assertThat(handledRequests).hasSize(3);
+                processPromises.get(2).complete();
+
+                assertThat(processPromise.future().succeeded()).isTrue();
+                String content = content(response);
+                assertThat(content).contains("boundary=changeset_");
+                assertThat(content).contains("X-Request: /Entities(2)");
+                testContext.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that a change set stops processing at the first failed request")
+    void testFailedChangeSet(Vertx vertx, VertxTestContext testContext) throws Exception {
+        BatchProcessor processor = createProcessor(vertx, 4);
+        mockChangeSetHandling(processor, 400);
+
+        ODataRequest batchRequest = batchRequest(changeSet("Entities(0)", "Entities(1)"));
+        vertx.runOnContext(nothing -> {
+            try {
+                processor.processBatch(facade, batchRequest, response);
+            } catch (Exception e) {
+                testContext.failNow(e);
+            }
+            vertx.runOnContext(dispatched -> testContext.verify(() -> {
+                processPromises.get(0).complete();
+                assertThat(handledRequests).containsExactly("/Entities(0)");
+
+                assertThat(processPromise.future().succeeded()).isTrue();
+                String content = content(response);
+                assertThat(content).doesNotContain("boundary=changeset_");
+                assertThat(content).contains("400 Bad Request");
+                testContext.completeNow();
+            }));
+        });
+    }
+
+    private BatchProcessor createProcessor(Vertx vertx, int parallelism) {
+        Map<String, Object> data = new HashMap<>();
+        RoutingContext routingContext = mock(RoutingContext.class);
+        when(routingContext.get(anyString())).thenAnswer(invocation -> data.get(invocation.<String>getArgument(0)));
+        when(routingContext.put(anyString(), any())).thenAnswer(invocation -> {
+            data.put(invocation.getArgument(0), invocation.getArgument(1));
+            return routingContext;
+        });
+
+        BatchProcessor processor = new BatchProcessor(vertx, routingContext, processPromise, parallelism);
+        processor.init(OData.newInstance(), null);
+        return processor;
+    }
+
+    private void mockChangeSetHandling(BatchProcessor processor, int statusCode) throws Exception {
+        when(facade.handleBatchRequest(any())).thenAnswer(invocation -> processor.processChangeSet(facade,
+                invocation.<BatchRequestPart>getArgument(0).getRequests()));
+        when(facade.handleODataRequest(any()))
+                .thenAnswer(invocation -> handle(processor, invocation.getArgument(0), statusCode));
+    }
+
+    private ODataResponse handle(BatchProcessor processor, ODataRequest request, int statusCode) {
+        handledRequests.add(request.getRawODataPath());
+        processPromises.add(processor.getProcessPromise());
+
+        ODataResponse partResponse = new ODataResponse();
+        partResponse.setStatusCode(statusCode);
+        partResponse.setHeader("X-Request", request.getRawODataPath());
+        if (request.getHeader("Content-ID") != null) {
+            partResponse.setHeader("Content-ID", request.getHeader("Content-ID"));
+        }
+        return partResponse;
+    }
+
+    private static ODataRequest batchRequest(String parts) {
+        ODataRequest request = new ODataRequest();
+        request.setRawBaseUri("http://localhost/odata");
+        request.setBody(new ByteArrayInputStream((parts + "--batch_1--" + CRLF).getBytes(UTF_8)));
+        return request;
+    }
+
+    private static String part(String path) {
+        return "--batch_1" + CRLF + "Content-Type: application/http" + CRLF + "Content-Transfer-Encoding: binary" + CRLF
+                + CRLF + "GET " + path + " HTTP/1.1" + CRLF + CRLF + CRLF;
+    }
+
+    private static String changeSet(String... paths) {
+        StringBuilder changeSet = new StringBuilder("--batch_1" + CRLF
+                + "Content-Type: multipart/mixed; boundary=changeset_1" + CRLF + CRLF);
+        for (int index = 0; index < paths.length; index++) {
+            changeSet.append("--changeset_1" + CRLF + "Content-Type: application/http" + CRLF
+                    + "Content-Transfer-Encoding: binary" + CRLF + "Content-ID: " + index + CRLF + CRLF + "DELETE "
+                    + paths[index] + " HTTP/1.1" + CRLF + CRLF + CRLF);
+        }
+        return changeSet.append("--changeset_1--" + CRLF).toString();
+    }
+
+    private static String content(ODataResponse response) throws IOException {
+        return new String(response.getContent().readAllBytes(), UTF_8);
+    }
+}
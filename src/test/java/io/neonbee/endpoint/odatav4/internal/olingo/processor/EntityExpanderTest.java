@@ -0,0 +1,64 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Link;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
+import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.ReferencedEntityIndex;
+
+class EntityExpanderTest {
+    @Test
+    @DisplayName("Check that a single navigation property without related entity is expanded to null")
+    void testExpandWithoutRelatedEntity() {
+        // Items(orderID) -> Orders(ID)
+        EdmNavigationProperty navigationProperty = mockNavigationProperty();
+        Entity order = new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, 1));
+        EntityExpander expander = new EntityExpander(List.of(navigationProperty),
+                Map.of(navigationProperty, new ReferencedEntityIndex(navigationProperty, List.of(order))));
+
+        Entity item = createItem(1);
+        expander.expand(item);
+        assertThat(item.getNavigationLink("order").getInlineEntity()).isSameInstanceAs(order);
+
+        for (Entity itemWithoutOrder : List.of(createItem(2), createItem(null))) {
+            expander.expand(itemWithoutOrder);
+            Link link = itemWithoutOrder.getNavigationLink("order");
+            assertThat(link).isNotNull();
+            assertThat(link.getInlineEntity()).isNull();
+        }
+    }
+
+    private static EdmNavigationProperty mockNavigationProperty() {
+        EdmReferentialConstraint constraint = mock(EdmReferentialConstraint.class);
+        when(constraint.getPropertyName()).thenReturn("orderID");
+        when(constraint.getReferencedPropertyName()).thenReturn("ID");
+
+        EdmEntityType orderType = mock(EdmEntityType.class);
+        when(orderType.getKind()).thenReturn(EdmTypeKind.ENTITY);
+
+        EdmNavigationProperty navigationProperty = mock(EdmNavigationProperty.class);
+        when(navigationProperty.getName()).thenReturn("order");
+        when(navigationProperty.getType()).thenReturn(orderType);
+        when(navigationProperty.isCollection()).thenReturn(false);
+        when(navigationProperty.getReferentialConstraints()).thenReturn(List.of(constraint));
+        return navigationProperty;
+    }
+
+    private static Entity createItem(Integer orderId) {
+        return new Entity().addProperty(new Property(null, "orderID", ValueType.PRIMITIVE, orderId));
+    }
+}
@@ -0,0 +1,96 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.ReferencedEntityIndex;
+
+class NavigationPropertyHelperTest {
+    private static final Entity ITEM_1_1 = createItem(1, "A", "first");
+
+    private static final Entity ITEM_1_2 = createItem(1, "A", "second");
+
+    private static final Entity ITEM_1_B = createItem(1, "B", "other");
+
+    private static final Entity ITEM_2 = createItem(2, "A", "third");
+
+    private static final Entity ITEM_WITHOUT_ORDER = createItem(null, "A", "orphan");
+
+    private static final List<Entity> ITEMS = List.of(ITEM_1_1, ITEM_2, ITEM_1_B, ITEM_WITHOUT_ORDER, ITEM_1_2);
+
+    @Test
+    @DisplayName("Check that the related entities of a collection navigation property are determined")
+    void testCollectionNavigationProperty() {
+        // Orders(ID, system) -> Items(orderID, orderSystem), the constraints are defined at the partner (Item -> Order)
+        EdmNavigationProperty partner = mockNavigationProperty(false,
+                List.of(mockConstraint("orderID", "ID"), mockConstraint("orderSystem", "system")));
+        EdmNavigationProperty items = mockNavigationProperty(true, List.of());
+        when(items.getPartner()).thenReturn(partner);
+
+        ReferencedEntityIndex index = new ReferencedEntityIndex(items, ITEMS);
+        Entity order = createOrder(1, "A");
+        assertThat(index.getRelatedEntities(order)).containsExactly(ITEM_1_1, ITEM_1_2).inOrder();
+        assertThat(NavigationPropertyHelper.getRelatedEntities(items, order, ITEMS))
+                .containsExactly(ITEM_1_1, ITEM_1_2).inOrder();
+
+        Entity unknownOrder = createOrder(3, "A");
+        assertThat(index.getRelatedEntities(unknownOrder)).isEmpty();
+        assertThat(NavigationPropertyHelper.getRelatedEntities(items, unknownOrder, ITEMS)).isEmpty();
+
+        Entity orderWithoutId = createOrder(null, "A");
+        assertThat(index.getRelatedEntities(orderWithoutId)).isEmpty();
+        assertThat(NavigationPropertyHelper.getRelatedEntities(items, orderWithoutId, ITEMS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Check that the related entity of a single navigation property is determined")
+    void testSingleNavigationProperty() {
+        // Items(orderID, orderSystem) -> Orders(ID, system)
+        EdmNavigationProperty order = mockNavigationProperty(false,
+                List.of(mockConstraint("orderID", "ID"), mockConstraint("orderSystem", "system")));
+        Entity order1 = createOrder(1, "A");
+        List<Entity> orders = List.of(createOrder(1, "B"), order1, createOrder(2, "A"));
+
+        ReferencedEntityIndex index = new ReferencedEntityIndex(order, orders);
+        assertThat(index.getRelatedEntities(ITEM_1_2)).containsExactly(order1);
+        assertThat(NavigationPropertyHelper.getRelatedEntities(order, ITEM_1_2, orders)).containsExactly(order1);
+        assertThat(index.getRelatedEntities(ITEM_WITHOUT_ORDER)).isEmpty();
+    }
+
+    private static EdmNavigationProperty mockNavigationProperty(boolean isCollection,
+            List<EdmReferentialConstraint> constraints) {
+        EdmNavigationProperty navigationProperty = mock(EdmNavigationProperty.class);
+        when(navigationProperty.isCollection()).thenReturn(isCollection);
+        when(navigationProperty.getReferentialConstraints()).thenReturn(constraints);
+        return navigationProperty;
+    }
+
+    private static EdmReferentialConstraint mockConstraint(String propertyName, String referencedPropertyName) {
+        EdmReferentialConstraint constraint = mock(EdmReferentialConstraint.class);
+        when(constraint.getPropertyName()).thenReturn(propertyName);
+        when(constraint.getReferencedPropertyName()).thenReturn(referencedPropertyName);
+        return constraint;
+    }
+
+    private static Entity createOrder(Integer id, String system) {
+        return new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, id))
+                .addProperty(new Property(null, "system", ValueType.PRIMITIVE, system));
+    }
+
+    private static Entity createItem(Integer orderId, String orderSystem, String name) {
+        return new Entity().addProperty(new Property(null, "orderID", ValueType.PRIMITIVE, orderId))
+                .addProperty(new Property(null, "orderSystem", ValueType.PRIMITIVE, orderSystem))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, name));
+    }
+}
@@ -3,12 +3,15 @@ package io.neonbee.entity;
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import javax.xml.stream.XMLStreamException;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
@@ -20,6 +23,7 @@ import io.neonbee.test.base.NeonBeeTestBase;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
 
@@ -121,6 +125,51 @@ class EntityModelLoaderTest extends NeonBeeTestBase {
                 })));
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("check if only changed models are parsed again when loading models with a previous loader")
+    void reuseUnchangedModelsTest(Vertx vertx, VertxTestContext testContext) throws IOException {
+        Map.Entry<String, byte[]> referenceModel = buildModelEntry("ReferenceService.csn");
+        Map.Entry<String, byte[]> referenceExtModel = buildModelEntry("io.neonbee.reference.ReferenceService.edmx");
+        Map<String, byte[]> extendedModels = Map.ofEntries(referenceExtModel);
+        Map<String, byte[]> changedExtendedModels = Map.of(referenceExtModel.getKey(),
+                Buffer.buffer(referenceExtModel.getValue()).appendString("\n").getBytes());
+
+        EntityModelLoader loader = new EntityModelLoader(vertx);
+        Future<EntityModelLoader> unchangedLoaderFuture = loader
+                .parseModel(referenceModel.getKey(), referenceModel.getValue(), extendedModels)
+                .map(v -> new EntityModelLoader(vertx, loader)).compose(unchangedLoader -> unchangedLoader
+                        .parseModel(referenceModel.getKey(), referenceModel.getValue(), extendedModels)
+                        .map(unchangedLoader));
+        unchangedLoaderFuture.map(unchangedLoader -> new EntityModelLoader(vertx, unchangedLoader))
+                .compose(changedLoader -> changedLoader
+                        .parseModel(referenceModel.getKey(), referenceModel.getValue(), changedExtendedModels)
+                        .map(changedLoader))
+                .onComplete(testContext.succeeding(changedLoader -> testContext.verify(() -> {
+                    EntityModelLoader unchangedLoader = unchangedLoaderFuture.result();
+                    EntityModel model = loader.models.get("io.neonbee.reference");
+                    assertThat(unchangedLoader.models.get("io.neonbee.reference")).isSameInstanceAs(model);
+                    assertThat(unchangedLoader.edmProviders).isEmpty();
+
+                    EntityModel changedModel = changedLoader.models.get("io.neonbee.reference");
+                    assertThat(changedModel).isNotSameInstanceAs(model);
+                    assertThat(changedModel.getCsnModel()).isSameInstanceAs(model.getCsnModel());
+                    assertThat(changedModel.getEdmxMetadata().getEdm().getEntityContainer().getNamespace())
+                            .isEqualTo("io.neonbee.reference.ReferenceService");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("check if the schema namespace is read from EDMX models")
+    void readSchemaNamespaceTest() throws Exception {
+        assertThat(EntityModelLoader.readSchemaNamespace(
+                Buffer.buffer(TEST_RESOURCES.getRelated("io.neonbee.test2.TestService2Cars.edmx").getBytes())))
+                        .isEqualTo("io.neonbee.test2.TestService2Cars");
+        assertThrows(XMLStreamException.class, () -> EntityModelLoader.readSchemaNamespace(Buffer.buffer(
+                "<edmx:Edmx Version=\"4.0\" xmlns:edmx=\"http://docs.oasis-open.org/odata/ns/edmx\"/>")));
+    }
+
     @Test
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
     @DisplayName("check if getting CSN Model works")
@@ -13,6 +13,8 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
@@ -32,6 +34,7 @@ import io.neonbee.test.helper.FileSystemHelper;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
 
@@ -128,6 +131,52 @@ public class EntityModelManagerTest extends NeonBeeTestBase { // NOPMD (public d
         })));
     }
 
+    @Test
+    @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("incremental model loading: only changed models should be reloaded and announced")
+    void incrementalModelLoadingTest(Vertx vertx, VertxTestContext testContext) throws Exception {
+        Path workingDir = FileSystemHelper.createTempDirectory();
+        WorkingDirectoryBuilder.hollow().addModel(TEST_RESOURCES.resolveRelated("TestService1.csn"))
+                .addModel(TEST_RESOURCES.resolveRelated("TestService2.csn")).build(workingDir);
+
+        NeonBee neonBee = NeonBeeMockHelper.registerNeonBeeMock(vertx,
+                defaultOptions().clearActiveProfiles().setIgnoreClassPath(true).setWorkingDirectory(workingDir));
+        EntityModelManager modelManager = neonBee.getModelManager();
+
+        List<JsonArray> changedSchemaNamespaces = new ArrayList<>();
+        vertx.eventBus().<JsonArray>consumer(EntityModelManager.EVENT_BUS_MODELS_LOADED_ADDRESS,
+                message -> changedSchemaNamespaces.add(message.body()));
+
+        modelManager.getSharedModels().compose(models -> {
+            // reloading unchanged models should reuse all models
+            return modelManager.reloadModels().map(reloadedModels -> {
+                testContext.verify(() -> assertThat(reloadedModels).containsExactlyEntriesIn(models));
+                return models;
+            });
+        }).compose(models -> {
+            // reloading a changed model should only replace the changed model
+            Path carsModel = workingDir.resolve("models").resolve("io.neonbee.test2.TestService2Cars.edmx");
+            return vertx.fileSystem().readFile(carsModel.toString())
+                    .compose(payload -> vertx.fileSystem().writeFile(carsModel.toString(), payload.appendString("\n")))
+                    .compose(v -> modelManager.reloadModels()).map(reloadedModels -> {
+                        testContext.verify(() -> {
+                            assertThat(reloadedModels.get("io.neonbee.test1"))
+                                    .isSameInstanceAs(models.get("io.neonbee.test1"));
+                            assertThat(reloadedModels.get("io.neonbee.test2"))
+                                    .isNotSameInstanceAs(models.get("io.neonbee.test2"));
+                        });
+                        return reloadedModels;
+                    });
+        }).onComplete(testContext.succeeding(models -> vertx.setTimer(100, timerId -> testContext.verify(() -> {
+            assertThat(changedSchemaNamespaces).hasSize(2);
+            assertThat(changedSchemaNamespaces.get(0)).containsExactly("io.neonbee.test1.TestService1",
+                    "io.neonbee.test2.TestService2Cars", "io.neonbee.test2.TestService2Users");
+            assertThat(changedSchemaNamespaces.get(1)).containsExactly("io.neonbee.test2.TestService2Cars",
+                    "io.neonbee.test2.TestService2Users");
+            testContext.completeNow();
+        }))));
+    }
+
     @Test
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
     @DisplayName("check if getting single shared models will work for get shared edmx model")
@@ -14,13 +14,17 @@ import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
 import static io.vertx.core.Future.succeededFuture;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Link;
 import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.data.ValueType;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
@@ -32,12 +36,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
+import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeDeployable;
 import io.neonbee.NeonBeeOptions;
 import io.neonbee.data.DataAction;
+import io.neonbee.data.DataCache;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
 import io.neonbee.data.DataVerticle;
+import io.neonbee.data.internal.DataContextImpl;
 import io.neonbee.internal.verticle.ConsolidationVerticle;
 import io.neonbee.test.base.EntityVerticleTestBase;
 import io.vertx.core.CompositeFuture;
@@ -50,6 +58,8 @@ import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
 
 class EntityVerticleTest extends EntityVerticleTestBase {
+    private static final String BARRIER_NAME = "barrier";
+
     private EntityVerticle entityVerticleImpl1;
 
     private EntityVerticle entityVerticleImpl2;
@@ -116,6 +126,52 @@ class EntityVerticleTest extends EntityVerticleTestBase {
                 });
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that the verticles for an entity type are cached locally until they change")
+    void cacheVerticlesForEntityType(Vertx vertx, VertxTestContext testContext) {
+        EntityVerticleRoutingTable routingTable = getNeonBee().getEntityVerticleRoutingTable();
+        String name = sharedEntityMapName(EntityVerticleImpl3.FQN_TEST_PRODUCTS);
+        String qualifiedName = new EntityVerticleImpl3().getQualifiedName();
+        JsonArray changedQualifiedNames = new JsonArray().add(qualifiedName).add("test/_OtherVerticle");
+
+        // wait for the invalidation published when the verticle got announced, before the routes can be cached. the
+        // invalidations are handled in order, thus as soon as a later invalidation was handled, so was the announcement
+        routingTable.routes.put(BARRIER_NAME, List.of());
+        vertx.eventBus().publish(EntityVerticleRoutingTable.EVENT_BUS_ROUTES_CHANGED_ADDRESS, BARRIER_NAME);
+        awaitInvalidation(vertx, routingTable, BARRIER_NAME)
+                .compose(nothing -> EntityVerticle.getVerticlesForEntityType(vertx,
+                        EntityVerticleImpl3.FQN_TEST_PRODUCTS))
+                .compose(qualifiedNames -> {
+                    testContext.verify(() -> {
+                        assertThat(qualifiedNames).containsExactly(qualifiedName);
+                        assertThat(routingTable.routes).containsEntry(name, qualifiedNames);
+                    });
+                    // e.g. another node of the cluster announces a verticle for the same entity type
+                    return getNeonBee().getAsyncMap().put(name, changedQualifiedNames);
+                }).compose(nothing -> EntityVerticle.getVerticlesForEntityType(vertx,
+                        EntityVerticleImpl3.FQN_TEST_PRODUCTS))
+                .compose(qualifiedNames -> {
+                    testContext.verify(() -> assertThat(qualifiedNames).containsExactly(qualifiedName));
+                    vertx.eventBus().publish(EntityVerticleRoutingTable.EVENT_BUS_ROUTES_CHANGED_ADDRESS, name);
+                    return awaitInvalidation(vertx, routingTable, name);
+                }).compose(nothing -> EntityVerticle.getVerticlesForEntityType(vertx,
+                        EntityVerticleImpl3.FQN_TEST_PRODUCTS))
+                .onComplete(testContext.succeeding(changedNames -> testContext.verify(() -> {
+                    assertThat(changedNames).containsExactlyElementsIn(changedQualifiedNames);
+                    testContext.completeNow();
+                })));
+    }
+
+    private static Future<Void> awaitInvalidation(Vertx vertx, EntityVerticleRoutingTable routingTable, String name) {
+        return Future.future(promise -> vertx.setPeriodic(10, timerId -> {
+            if (!routingTable.routes.containsKey(name)) {
+                vertx.cancelTimer(timerId);
+                promise.complete();
+            }
+        }));
+    }
+
     @Test
     @DisplayName("test EntityVerticle URI_PATH regexp")
     void testEntityURIPathRegex() {
@@ -195,6 +251,33 @@ class EntityVerticleTest extends EntityVerticleTestBase {
                 })));
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Parsed URI infos must be cached until the models change")
+    void cacheParsedUriInfoTest(VertxTestContext testContext) {
+        NeonBee neonBee = getNeonBee();
+        EntityModelManager modelManager = neonBee.getModelManager();
+        DataQuery query = new DataQuery(DataAction.READ, "/io.neonbee.test1.TestService1/AllPropertiesNullable",
+                "$filter=KeyPropertyString eq 'Test123'");
+
+        EntityVerticle.parseUriInfo(neonBee, query).compose(uriInfo -> EntityVerticle.parseUriInfo(neonBee, query)
+                .map(cachedUriInfo -> {
+                    testContext.verify(() -> assertThat(cachedUriInfo).isSameInstanceAs(uriInfo));
+                    return uriInfo;
+                })).compose(uriInfo -> modelManager.reloadModels()
+                        .compose(models -> EntityVerticle.parseUriInfo(neonBee, query)).map(cachedUriInfo -> {
+                            // reloading unchanged models must not invalidate the URI infos parsed against them
+                            testContext.verify(() -> assertThat(cachedUriInfo).isSameInstanceAs(uriInfo));
+                            modelManager.uriInfoCache
+                                    .invalidate(Set.of(modelManager.getBufferedModel("io.neonbee.test1")));
+                            return uriInfo;
+                        }))
+                .compose(uriInfo -> EntityVerticle.parseUriInfo(neonBee, query).map(reparsedUriInfo -> {
+                    testContext.verify(() -> assertThat(reparsedUriInfo).isNotSameInstanceAs(uriInfo));
+                    return null;
+                })).onComplete(testContext.succeedingThenComplete());
+    }
+
     @Test
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
     @DisplayName("requestEntity must call ConsolidationVerticle if more then one EntityVerticle is registered for Entity")
@@ -224,6 +307,42 @@ class EntityVerticleTest extends EntityVerticleTestBase {
                 })));
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Modifying the cached entities of an EntityVerticle must not affect other consumers")
+    void modifyCachedEntitiesTest(VertxTestContext testContext) {
+        CachedEntityVerticle cachedEntityVerticle = new CachedEntityVerticle();
+        Checkpoint checkpoint = testContext.checkpoint(2);
+        // entity wrappers are copied using their model, so the models have to be loaded
+        getNeonBee().getModelManager().getSharedModels().compose(models -> deployVerticle(cachedEntityVerticle))
+                .compose(v -> CompositeFuture.all(requestCachedEntities(cachedEntityVerticle),
+                        requestCachedEntities(cachedEntityVerticle)))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    EntityWrapper first = result.resultAt(0);
+                    EntityWrapper second = result.resultAt(1);
+                    assertThat(second.getEntities()).isNotSameInstanceAs(first.getEntities());
+
+                    // sort and expand the entities in place, like the processors of the OData endpoint do
+                    first.getEntities()
+                            .sort(Comparator.comparing(entity -> (String) entity.getProperty("ID").getValue()));
+                    first.getEntities().get(0).getNavigationLinks().add(new Link());
+                    checkpoint.flag();
+                }))).compose(v -> requestCachedEntities(cachedEntityVerticle))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    List<Entity> entities = result.getEntities();
+                    assertThat(entities.stream().map(entity -> entity.getProperty("ID").getValue())
+                            .collect(Collectors.toList())).containsExactly("LC", "A207").inOrder();
+                    assertThat(entities.get(1).getNavigationLinks()).isEmpty();
+                    assertThat(cachedEntityVerticle.invocations.get()).isEqualTo(1);
+                    checkpoint.flag();
+                })));
+    }
+
+    private Future<EntityWrapper> requestCachedEntities(CachedEntityVerticle cachedEntityVerticle) {
+        return DataVerticle.requestData(getNeonBee().getVertx(),
+                new DataRequest(cachedEntityVerticle.getQualifiedName()), new DataContextImpl());
+    }
+
     @Test
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
     @DisplayName("EntityVerticles should announce their entities, as soon as they are deployed and if the models reload")
@@ -285,7 +404,7 @@ class EntityVerticleImpl3 extends EntityVerticle {
     static final List<Entity> TEST_PRODUCTS = List.of(createTestProducts("LC", "Lord Citrange", "God"),
             createTestProducts("A207", "Apache 207", "Gangster der sein Tanzbein schwingt"));
 
-    private static Entity createTestProducts(String id, String name, String description) {
+    static Entity createTestProducts(String id, String name, String description) {
         Entity testProduct = new Entity();
         testProduct.addProperty(new Property(null, "ID", ValueType.PRIMITIVE, id));
         testProduct.addProperty(new Property(null, "name", ValueType.PRIMITIVE, name));
@@ -303,3 +422,26 @@ class EntityVerticleImpl3 extends EntityVerticle {
         return succeededFuture(new EntityWrapper(FQN_TEST_PRODUCTS, TEST_PRODUCTS));
     }
 }
+
+@DataCache
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+class CachedEntityVerticle extends EntityVerticle {
+    static final FullQualifiedName FQN_TEST_PRODUCTS =
+            new FullQualifiedName("io.neonbee.test1.TestService1", "TestProducts");
+
+    final AtomicInteger invocations = new AtomicInteger();
+
+    @Override
+    public Future<Set<FullQualifiedName>> entityTypeNames() {
+        return succeededFuture(Set.of());
+    }
+
+    @Override
+    public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+        invocations.incrementAndGet();
+        return succeededFuture(
+                new EntityWrapper(FQN_TEST_PRODUCTS, new ArrayList<>(List.of(
+                        EntityVerticleImpl3.createTestProducts("LC", "Lord Citrange", "God"),
+                        EntityVerticleImpl3.createTestProducts("A207", "Apache 207", "Tanzbein")))));
+    }
+}
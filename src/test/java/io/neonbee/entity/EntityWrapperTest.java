@@ -2,8 +2,12 @@ package io.neonbee.entity;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.entity.QueryCapability.FILTER;
+import static io.neonbee.entity.QueryCapability.PAGING;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.olingo.commons.api.data.Entity;
@@ -67,6 +71,25 @@ class EntityWrapperTest extends NeonBeeTestBase {
         assertThat(firstNamesHodor).isNotEqualTo(firstNamesSam);
         assertThat(firstNamesHodor).isEqualTo(new EntityWrapper("First.Name", hodor));
         assertThat(firstNamesSam).isNotEqualTo(new EntityWrapper("Hodor.Hodor", sam));
+
+        EntityWrapper filteredHodor = new EntityWrapper("First.Name", hodor).setQueryCapabilities(Set.of(FILTER));
+        assertThat(filteredHodor).isNotEqualTo(firstNamesHodor);
+        assertThat(filteredHodor).isEqualTo(
+                new EntityWrapper("First.Name", hodor).setQueryCapabilities(EnumSet.of(FILTER)).setCount(null));
+        assertThat(filteredHodor).isNotEqualTo(
+                new EntityWrapper("First.Name", hodor).setQueryCapabilities(Set.of(FILTER)).setCount(1L));
+    }
+
+    @Test
+    @DisplayName("Check that query capabilities are never null")
+    void testQueryCapabilities() {
+        EntityWrapper wrapper = new EntityWrapper("Foo.Bar", (Entity) null);
+        assertThat(wrapper.getQueryCapabilities()).isEmpty();
+        assertThat(wrapper.setQueryCapabilities(null).getQueryCapabilities()).isEmpty();
+        assertThat(wrapper.setQueryCapabilities(Set.of(PAGING, FILTER)).getQueryCapabilities())
+                .containsExactly(FILTER, PAGING);
+        assertThat(wrapper.getCount()).isNull();
+        assertThat(wrapper.setCount(42L).getCount()).isEqualTo(42L);
     }
 
     @Test
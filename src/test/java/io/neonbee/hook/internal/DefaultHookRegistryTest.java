@@ -100,6 +100,37 @@ class DefaultHookRegistryTest {
                 }));
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that executeHooks skips hook types without registrations")
+    void executeHooksWithoutRegistrationsTest(VertxTestContext testContext) {
+        assertThat(hookRegistry.hasHooks(HookType.ONCE_PER_REQUEST)).isFalse();
+        assertThat(hookRegistry.executeHooks(HookType.ONCE_PER_REQUEST, Map.of()))
+                .isSameInstanceAs(hookRegistry.executeHooks(HookType.AFTER_STARTUP, Map.of()));
+
+        hookRegistry.registerInstanceHooks(new TestHook(), CORRELATION_ID).compose(registrations -> {
+            testContext.verify(() -> assertThat(hookRegistry.hasHooks(HookType.ONCE_PER_REQUEST)).isTrue());
+            return registrations.iterator().next().unregister();
+        }).onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            assertThat(hookRegistry.hasHooks(HookType.ONCE_PER_REQUEST)).isFalse();
+            assertThat(hookRegistry.executeHooks(HookType.ONCE_PER_REQUEST, Map.of()).list()).isEmpty();
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that executeHooks fails with the exception thrown by a hook")
+    void executeFailingHooksTest(VertxTestContext testContext) {
+        hookRegistry.registerInstanceHooks(new FailingTestHook(), CORRELATION_ID)
+                .compose(v -> hookRegistry.executeHooks(HookType.BEFORE_SHUTDOWN, Map.of()))
+                .onComplete(testContext.failing(throwable -> testContext.verify(() -> {
+                    assertThat(throwable).isInstanceOf(IllegalStateException.class);
+                    assertThat(throwable).hasMessageThat().isEqualTo("Hodor");
+                    testContext.completeNow();
+                })));
+    }
+
     @Test
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
     @DisplayName("Check that getHookRegistrations works correct")
@@ -124,4 +155,12 @@ class DefaultHookRegistryTest {
             promise.complete();
         }
     }
+
+    public static class FailingTestHook {
+        @SuppressWarnings("PMD.UnusedFormalParameter")
+        @Hook(HookType.BEFORE_SHUTDOWN)
+        public void test(NeonBee neonBee, HookContext hookContext, Promise<Void> promise) {
+            throw new IllegalStateException("Hodor");
+        }
+    }
 }
@@ -2,6 +2,7 @@ package io.neonbee.internal;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.net.URL;
@@ -71,6 +72,7 @@ class SelfFirstClassLoaderTest {
 
         assertThat(sfcl.loadFromParent("io.hodor.Hodor")).isFalse();
         assertThat(sfcl.loadFromParent("com.example.Hodor")).isFalse();
+        assertThat(sfcl.loadFromParent("com.example.LordCitrangeJunior")).isFalse();
         assertThat(sfcl.loadFromParent("io.NeonBee")).isFalse();
         assertThat(sfcl.loadFromParent("io.neonbeefoo.Lol")).isFalse();
         assertThat(sfcl.loadFromParent("io.vertx.any.testClass")).isFalse();
@@ -119,6 +121,50 @@ class SelfFirstClassLoaderTest {
         sfcl.close();
     }
 
+    @Test
+    @DisplayName("Test if the class loader is registered as parallel capable")
+    void testParallelCapable() throws IOException {
+        SelfFirstClassLoader sfcl = new SelfFirstClassLoader(new URL[] {}, null);
+        assertThat(sfcl.isRegisteredAsParallelCapable()).isTrue();
+        sfcl.close();
+    }
+
+    @Test
+    @DisplayName("Test if classes and resources not contained in the indexed class path are loaded from parent")
+    void testIndexedClassPath() throws IOException, ClassNotFoundException {
+        SelfFirstClassLoader sfcl =
+                new SelfFirstClassLoader(new BasicJar(Map.of(RESOURCE_NAME, RESOURCE_CONTENT_PLATFORM))
+                        .writeToTempURL(), ClassLoader.getSystemClassLoader());
+        assertThat(sfcl.isIndexed(RESOURCE_NAME)).isTrue();
+        assertThat(sfcl.isIndexed(CLASS_NAME + ".class")).isFalse();
+
+        assertThat(sfcl.findResource(RESOURCE_NAME)).isNotNull();
+        assertThat(sfcl.findResource("OtherResource")).isNull();
+        assertThat(Collections.list(sfcl.getResources(RESOURCE_NAME))).hasSize(1);
+        assertThat(sfcl.loadClass(SelfFirstClassLoaderTest.class.getName()))
+                .isSameInstanceAs(SelfFirstClassLoaderTest.class);
+        assertThrows(ClassNotFoundException.class, () -> sfcl.loadClass(CLASS_NAME));
+        sfcl.close();
+
+        // directories on the class path cannot be indexed
+        URL[] directoryUrls = new URL[] { FileSystemHelper.createTempDirectory().toUri().toURL() };
+        SelfFirstClassLoader unindexed = new SelfFirstClassLoader(directoryUrls, ClassLoader.getSystemClassLoader());
+        assertThat(unindexed.isIndexed(CLASS_NAME + ".class")).isTrue();
+        unindexed.close();
+    }
+
+    @Test
+    @DisplayName("Test that JAR files referencing further JAR files in their manifest are not indexed")
+    void testClassPathAttribute() throws IOException {
+        Path referencedJar = new BasicJar(Map.of(RESOURCE_NAME, RESOURCE_CONTENT_PLATFORM)).writeToTempPath();
+        URL[] urls = new BasicJar(Map.of("Class-Path", referencedJar.toUri().toString()), Map.of()).writeToTempURL();
+        SelfFirstClassLoader sfcl = new SelfFirstClassLoader(urls, ClassLoader.getSystemClassLoader());
+        assertThat(sfcl.isIndexed(RESOURCE_NAME)).isTrue();
+        assertThat(sfcl.findResource(RESOURCE_NAME)).isNotNull();
+        assertThat(Collections.list(sfcl.getResources(RESOURCE_NAME))).hasSize(1);
+        sfcl.close();
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     @DisplayName("Test if parent preferred classes are loaded from parent class loader")
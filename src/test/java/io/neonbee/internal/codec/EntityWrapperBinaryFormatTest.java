@@ -0,0 +1,149 @@
+package io.neonbee.internal.codec;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.entity.QueryCapability.ORDER_BY;
+import static io.neonbee.entity.QueryCapability.PAGING;
+import static io.neonbee.internal.codec.EntityWrapperMessageCodec.WireFormat.BINARY;
+import static io.neonbee.internal.codec.EntityWrapperMessageCodec.WireFormat.JSON;
+import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.olingo.commons.api.data.ComplexValue;
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.core.edm.primitivetype.EdmPrimitiveTypeFactory;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.core.MetadataParser;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.internal.codec.EntityWrapperMessageCodec.WireFormat;
+import io.vertx.core.buffer.Buffer;
+
+class EntityWrapperBinaryFormatTest {
+    private static final String TYPE_NAME = "io.neonbee.codec.TypesService.Types";
+
+    private static ServiceMetadata serviceMetadata;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                Files.newInputStream(TEST_RESOURCES.resolveRelated("io.neonbee.codec.TypesService.edmx")), UTF_8)) {
+            serviceMetadata = OData.newInstance().createServiceMetadata(
+                    new MetadataParser().referenceResolver(null).buildEdmProvider(reader), Collections.emptyList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode and decode all kinds of properties")
+    void encodeDecode() throws Exception {
+        EntityWrapper wrapper = new EntityWrapper(TYPE_NAME, List.of(createEntity(), createEmptyEntity()));
+
+        EntityWrapper binaryDecoded = encodeDecode(wrapper, BINARY);
+        Entity entity = binaryDecoded.getEntities().get(0);
+        assertThat(entity.getProperty("ID").getValue())
+                .isEqualTo(UUID.fromString("2a7b39a9-0e33-4d3e-a1e2-2c7d4a3a5b01"));
+        assertThat(entity.getProperty("boolean").getValue()).isEqualTo(true);
+        assertThat(entity.getProperty("byte").getValue()).isEqualTo((short) 200);
+        assertThat(entity.getProperty("int64").getValue()).isEqualTo(Long.MAX_VALUE);
+        assertThat(entity.getProperty("single").getValue()).isEqualTo(1.5f);
+        assertThat(entity.getProperty("decimal").getValue()).isEqualTo(new BigDecimal("12.34"));
+        assertThat(entity.getProperty("address").asComplex().getValue()).hasSize(2);
+        assertThat(entity.getProperty("tags").asCollection()).containsExactly("a", "b");
+        assertThat(binaryDecoded.getEntities().get(1).getProperty("string").isNull()).isTrue();
+        assertThat(binaryDecoded.getEntities().get(1).getProperty("tags").asCollection()).isEmpty();
+
+        // the binary format must result in the same entities as decoding the JSON format
+        assertThat(binaryDecoded).isEqualTo(encodeDecode(wrapper, JSON));
+    }
+
+    @Test
+    @DisplayName("Should encode and decode the query capabilities and the count")
+    void encodeDecodeQueryCapabilities() {
+        EntityWrapper wrapper = new EntityWrapper(TYPE_NAME, createEmptyEntity())
+                .setQueryCapabilities(EnumSet.of(ORDER_BY, PAGING)).setCount(42L);
+        for (WireFormat wireFormat : WireFormat.values()) {
+            EntityWrapper decoded = encodeDecode(wrapper, wireFormat);
+            assertThat(decoded.getQueryCapabilities()).containsExactly(ORDER_BY, PAGING);
+            assertThat(decoded.getCount()).isEqualTo(42L);
+        }
+
+        EntityWrapper emptyWrapper = new EntityWrapper(TYPE_NAME, List.of());
+        assertThat(encodeDecode(emptyWrapper, BINARY).getCount()).isNull();
+        assertThat(encodeDecode(emptyWrapper, JSON).getQueryCapabilities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject decoding entities of an entity type, which differs from the type encoded")
+    void decodeChangedEntityType() throws Exception {
+        String edmx = Files.readString(TEST_RESOURCES.resolveRelated("io.neonbee.codec.TypesService.edmx"));
+        ServiceMetadata changedServiceMetadata;
+        try (Reader reader = new StringReader(edmx.replace("<Property Name=\"number\" Type=\"Edm.Int32\"/>",
+                "<Property Name=\"number\" Type=\"Edm.String\"/>"))) {
+            changedServiceMetadata = OData.newInstance().createServiceMetadata(
+                    new MetadataParser().referenceResolver(null).buildEdmProvider(reader), Collections.emptyList());
+        }
+
+        Buffer buffer = Buffer.buffer();
+        EntityWrapperMessageCodec.encodeToWire(buffer, new EntityWrapper(TYPE_NAME, createEntity()), serviceMetadata,
+                BINARY);
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> EntityWrapperMessageCodec.decodeFromWire(0, buffer, typeName -> changedServiceMetadata));
+        assertThat(exception).hasMessageThat().contains("differs from the type encoded");
+    }
+
+    private static EntityWrapper encodeDecode(EntityWrapper wrapper, WireFormat wireFormat) {
+        Buffer buffer = Buffer.buffer();
+        EntityWrapperMessageCodec.encodeToWire(buffer, wrapper, serviceMetadata, wireFormat);
+        return EntityWrapperMessageCodec.decodeFromWire(0, buffer, typeName -> serviceMetadata);
+    }
+
+    private static Entity createEntity() throws Exception {
+        ComplexValue address = new ComplexValue();
+        address.getValue().add(new Property(null, "street", ValueType.PRIMITIVE, "Dietmar-Hopp-Allee"));
+        address.getValue().add(new Property(null, "number", ValueType.PRIMITIVE, 16));
+
+        return new Entity()
+                .addProperty(new Property(null, "ID", ValueType.PRIMITIVE,
+                        UUID.fromString("2a7b39a9-0e33-4d3e-a1e2-2c7d4a3a5b01")))
+                .addProperty(new Property(null, "boolean", ValueType.PRIMITIVE, true))
+                .addProperty(new Property(null, "byte", ValueType.PRIMITIVE, (short) 200))
+                .addProperty(new Property(null, "int16", ValueType.PRIMITIVE, (short) -12))
+                .addProperty(new Property(null, "int32", ValueType.PRIMITIVE, 123_456))
+                .addProperty(new Property(null, "int64", ValueType.PRIMITIVE, Long.MAX_VALUE))
+                .addProperty(new Property(null, "single", ValueType.PRIMITIVE, 1.5f))
+                .addProperty(new Property(null, "double", ValueType.PRIMITIVE, 0.1d))
+                .addProperty(new Property(null, "decimal", ValueType.PRIMITIVE, new BigDecimal("12.34")))
+                .addProperty(new Property(null, "string", ValueType.PRIMITIVE, "Grüße"))
+                .addProperty(new Property(null, "date", ValueType.PRIMITIVE,
+                        EdmPrimitiveTypeFactory.getInstance(EdmPrimitiveTypeKind.Date).valueOfString("2022-07-14",
+                                null, null, null, null, null,
+                                EdmPrimitiveTypeFactory.getInstance(EdmPrimitiveTypeKind.Date).getDefaultType())))
+                .addProperty(new Property(null, "dateTimeOffset", ValueType.PRIMITIVE,
+                        Timestamp.valueOf("2022-07-14 10:15:30.123")))
+                .addProperty(new Property(null, "address", ValueType.COMPLEX, address))
+                .addProperty(new Property(null, "tags", ValueType.COLLECTION_PRIMITIVE, List.of("a", "b")));
+    }
+
+    private static Entity createEmptyEntity() {
+        return new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE,
+                UUID.fromString("c0ffee00-0e33-4d3e-a1e2-2c7d4a3a5b01")));
+    }
+}
@@ -2,6 +2,7 @@ package io.neonbee.internal.codec;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.internal.codec.EntityWrapperMessageCodec.WireFormat.BINARY;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
 
 import java.util.concurrent.TimeUnit;
@@ -66,6 +67,32 @@ class EntityWrapperMessageCodecTest extends NeonBeeTestBase {
         }).onComplete(testContext.succeedingThenComplete());
     }
 
+    @Test
+    @DisplayName("Should serialize and deserialize an EntityWrapper correctly using the binary wire format.")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void encodeDecodeBinary(VertxTestContext testContext) {
+        EntityWrapperMessageCodec binaryCodec = new EntityWrapperMessageCodec(getNeonBee().getVertx(), BINARY);
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            Buffer binaryBuffer = Buffer.buffer();
+            binaryCodec.encodeToWire(binaryBuffer, wrapper);
+            Buffer jsonBuffer = Buffer.buffer();
+            codec.encodeToWire(jsonBuffer, wrapper);
+            assertThat(binaryBuffer.length()).isLessThan(jsonBuffer.length());
+
+            // both codecs must be able to decode both of the formats
+            EntityWrapper decodeFromWire = codec.decodeFromWire(0, binaryBuffer);
+            assertThat(decodeFromWire.getTypeName().getNamespace()).isEqualTo("io.neonbee.codec.CodecService");
+            assertThat(decodeFromWire.getTypeName().getName()).isEqualTo("TestUsers");
+            Entity decodedEntity = decodeFromWire.getEntity();
+            assertThat(decodedEntity.getProperty("name").getValue()).isEqualTo("NAME");
+            assertThat(decodedEntity.getProperty("description").getValue()).isEqualTo("DESCRIPTION");
+            assertThat(decodedEntity.getProperty("ID").getValue()).isEqualTo("ID");
+            assertThat(decodeFromWire).isEqualTo(binaryCodec.decodeFromWire(0, jsonBuffer));
+
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
     @Test
     @DisplayName("Transform should return the same object")
     void testTransform() {
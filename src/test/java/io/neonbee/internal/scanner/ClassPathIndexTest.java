@@ -0,0 +1,85 @@
+package io.neonbee.internal.scanner;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.internal.scanner.ClassPathIndex.INDEX_RESOURCE;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClassPathIndexTest {
+    private static final String DEPRECATED = Deprecated.class.getName();
+
+    @Test
+    @DisplayName("Should scan a JAR file only once")
+    void scanJarFileTest() throws IOException {
+        Path jarPath = new AnnotatedClassTemplate("Hodor", "type").setTypeAnnotation("@Deprecated").asJar()
+                .writeToTempPath();
+
+        ClassPathIndex index = ClassPathIndex.ofJarFile(jarPath);
+        assertThat(index.getAnnotatedClasses(DEPRECATED, TYPE)).containsExactly("type.Hodor");
+        assertThat(index.getAnnotatedClasses(DEPRECATED, METHOD)).isEmpty();
+        assertThat(ClassPathIndex.ofJarFile(jarPath)).isSameInstanceAs(index);
+    }
+
+    @Test
+    @DisplayName("Should read the index of a JAR file instead of scanning it")
+    void readIndexTest() throws IOException {
+        Path jarPath = new AnnotatedClassTemplate("Hodor", "type").setTypeAnnotation("@Deprecated").asJar()
+                .writeToTempPath();
+        ClassPathIndex.main(jarPath.toString());
+
+        // change the written index, to verify that the index is read and the JAR file is not scanned
+        try (FileSystem fileSystem = FileSystems.newFileSystem(jarPath, (ClassLoader) null)) {
+            Path indexPath = fileSystem.getPath(INDEX_RESOURCE);
+            List<String> index = Files.readAllLines(indexPath);
+            assertThat(index).contains("TYPE " + DEPRECATED + " type.Hodor");
+            Files.write(indexPath, List.of(index.get(0), "TYPE " + DEPRECATED + " type.Hodor2"));
+        }
+
+        assertThat(ClassPathIndex.ofJarFile(jarPath).getAnnotatedClasses(DEPRECATED, TYPE))
+                .containsExactly("type.Hodor2");
+    }
+
+    @Test
+    @DisplayName("Should scan a JAR file if its index is outdated")
+    void outdatedIndexTest() throws IOException {
+        Path jarPath = new AnnotatedClassTemplate("Hodor", "type").setTypeAnnotation("@Deprecated").asJar()
+                .writeToTempPath();
+        try (FileSystem fileSystem = FileSystems.newFileSystem(jarPath, (ClassLoader) null)) {
+            Path indexPath = fileSystem.getPath(INDEX_RESOURCE);
+            Files.createDirectories(indexPath.getParent());
+            Files.write(indexPath, List.of("fingerprint=outdated", "TYPE " + DEPRECATED + " type.Hodor2"));
+        }
+
+        assertThat(ClassPathIndex.ofJarFile(jarPath).getAnnotatedClasses(DEPRECATED, TYPE))
+                .containsExactly("type.Hodor");
+    }
+
+    @Test
+    @DisplayName("Should scan a JAR file if one of its class files changed since it was indexed")
+    void changedClassFileTest() throws IOException {
+        Path jarPath = new AnnotatedClassTemplate("Hodor", "type").setTypeAnnotation("@Deprecated").asJar()
+                .writeToTempPath();
+        ClassPathIndex.main(jarPath.toString());
+
+        // replace the class file with a class file of the same name, which is not annotated
+        Path otherJarPath = new AnnotatedClassTemplate("Hodor", "type").asJar().writeToTempPath();
+        try (FileSystem fileSystem = FileSystems.newFileSystem(jarPath, (ClassLoader) null);
+                FileSystem otherFileSystem = FileSystems.newFileSystem(otherJarPath, (ClassLoader) null)) {
+            Files.copy(otherFileSystem.getPath("type/Hodor.class"), fileSystem.getPath("type/Hodor.class"),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        assertThat(ClassPathIndex.ofJarFile(jarPath).getAnnotatedClasses(DEPRECATED, TYPE)).isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package io.neonbee.internal.tracking;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.internal.tracking.TrackingDataTimingStrategy.Hop;
+import io.neonbee.internal.tracking.TrackingDataTimingStrategy.HopType;
+
+class TrackingDataTimingStrategyTest {
+    @Test
+    @DisplayName("test recording hops")
+    void testRecordHops() {
+        DataContextImpl context = new DataContextImpl("correlationId", null, null, null, null, null);
+        context.pushVerticleToPath("Data1Verticle");
+        context.pushVerticleToPath("Data2Verticle");
+
+        TrackingDataTimingStrategy strategy = new TrackingDataTimingStrategy();
+        strategy.handleOutBoundRequest(context);
+        strategy.handleInBoundRequest(context);
+        strategy.handleOutBoundReply(context);
+        strategy.handleInBoundReply(context);
+
+        List<Hop> hops = strategy.getHops();
+        assertThat(hops.stream().map(Hop::getType).collect(Collectors.toList())).containsExactly(
+                HopType.OUTBOUND_REQUEST, HopType.INBOUND_REQUEST, HopType.OUTBOUND_REPLY, HopType.INBOUND_REPLY)
+                .inOrder();
+        assertThat(hops.get(0).getCorrelationId()).isEqualTo("correlationId");
+        assertThat(hops.get(0).getQualifiedName()).isEqualTo("Data2Verticle");
+        assertThat(hops.get(3).getNanoTime()).isAtLeast(hops.get(0).getNanoTime());
+    }
+
+    @Test
+    @DisplayName("test overwriting the oldest hops")
+    void testOverwriteHops() {
+        TrackingDataTimingStrategy strategy = new TrackingDataTimingStrategy(4);
+        for (int i = 0; i < 6; i++) {
+            strategy.handleOutBoundRequest(new DataContextImpl("correlationId" + i, null, null, null, null, null));
+        }
+
+        assertThat(strategy.getHops().stream().map(Hop::getCorrelationId).collect(Collectors.toList()))
+                .containsExactly("correlationId2", "correlationId3", "correlationId4", "correlationId5").inOrder();
+        assertThat(strategy.getHops().get(0).getQualifiedName()).isNull();
+    }
+
+    @Test
+    @DisplayName("test invalid capacity")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TrackingDataTimingStrategy(3));
+        assertThrows(IllegalArgumentException.class, () -> new TrackingDataTimingStrategy(0));
+    }
+}
@@ -1,16 +1,24 @@
 package io.neonbee.internal.tracking;
 
+import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.Range;
+
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.internal.DataContextImpl;
@@ -38,7 +46,7 @@ class TrackingInterceptorTest {
     @Test
     @DisplayName("test outbound message")
     void testHandleOutBoundMessages() {
-        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        TrackingDataHandlingStrategy strategy = mockStrategy();
         TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.OUTBOUND, strategy);
         doNothing().when(strategy).handleOutBoundRequest(any(DataContext.class));
         doNothing().when(strategy).handleOutBoundReply(any(DataContext.class));
@@ -46,19 +54,19 @@ class TrackingInterceptorTest {
         interceptor.handle(deliveryContext);
         verify(strategy, times(1)).handleOutBoundRequest(any(DataContext.class));
         verify(strategy, times(0)).handleOutBoundReply(any(DataContext.class));
-        reset(strategy);
+        clearInvocations(strategy);
 
         message.setReplyAddress(null);
         interceptor.handle(deliveryContext);
         verify(strategy, times(0)).handleOutBoundRequest(any(DataContext.class));
         verify(strategy, times(1)).handleOutBoundReply(any(DataContext.class));
-        reset(strategy);
+        clearInvocations(strategy);
     }
 
     @Test
     @DisplayName("test inbound message")
     void testHandleInBoundMessages() {
-        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        TrackingDataHandlingStrategy strategy = mockStrategy();
         TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.INBOUND, strategy);
         doNothing().when(strategy).handleInBoundRequest(any(DataContext.class));
         doNothing().when(strategy).handleInBoundReply(any(DataContext.class));
@@ -66,12 +74,55 @@ class TrackingInterceptorTest {
         interceptor.handle(deliveryContext);
         verify(strategy, times(1)).handleInBoundRequest(any(DataContext.class));
         verify(strategy, times(0)).handleInBoundReply(any(DataContext.class));
-        reset(strategy);
+        clearInvocations(strategy);
 
         message.setReplyAddress(null);
         interceptor.handle(deliveryContext);
         verify(strategy, times(0)).handleInBoundRequest(any(DataContext.class));
         verify(strategy, times(1)).handleInBoundReply(any(DataContext.class));
-        reset(strategy);
+        clearInvocations(strategy);
+    }
+
+    @Test
+    @DisplayName("test disabled strategy")
+    void testDisabledStrategy() {
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        when(strategy.isEnabled()).thenReturn(false);
+        message.headers().set("Context", "not a context");
+        TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.OUTBOUND, strategy);
+        interceptor.handle(new TestDeliveryContext<>(message));
+        verify(strategy, never()).handleOutBoundRequest(any(DataContext.class));
+    }
+
+    @Test
+    @DisplayName("test sampled messages")
+    void testSampling() {
+        TrackingDataHandlingStrategy strategy = mockStrategy();
+        TrackingInterceptor noneInterceptor = new TrackingInterceptor(MessageDirection.OUTBOUND, strategy, 0.0);
+        noneInterceptor.handle(new TestDeliveryContext<>(message));
+        verify(strategy, never()).handleOutBoundRequest(any(DataContext.class));
+
+        TrackingInterceptor halfInterceptor = new TrackingInterceptor(MessageDirection.OUTBOUND, strategy, 0.5);
+        TrackingInterceptor otherHalfInterceptor = new TrackingInterceptor(MessageDirection.INBOUND, strategy, 0.5);
+        long sampled = IntStream.range(0, 1000).mapToObj(i -> encodeContext(UUID.randomUUID().toString()))
+                .filter(contextHeader -> {
+                    // the sampling decision must be the same for all interceptors
+                    assertThat(otherHalfInterceptor.isSampled(contextHeader))
+                            .isEqualTo(halfInterceptor.isSampled(contextHeader));
+                    return halfInterceptor.isSampled(contextHeader);
+                }).count();
+        assertThat(sampled).isIn(Range.closed(400L, 600L));
+
+        assertThat(halfInterceptor.isSampled("{}")).isFalse();
+    }
+
+    private static TrackingDataHandlingStrategy mockStrategy() {
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        when(strategy.isEnabled()).thenReturn(true);
+        return strategy;
+    }
+
+    private static String encodeContext(String correlationId) {
+        return DataContextImpl.encodeContextToString(new DataContextImpl(correlationId, null, null, null, null, null));
     }
 }
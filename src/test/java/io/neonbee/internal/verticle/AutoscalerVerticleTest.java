@@ -0,0 +1,173 @@
+package io.neonbee.internal.verticle;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.config.AutoscalerConfig;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataMap;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataVerticle;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Verticle;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class AutoscalerVerticleTest extends DataVerticleTestBase {
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("should deploy instances of hot data verticles and undeploy them, when they are idle")
+    void testScaleUpAndDown(Vertx vertx, VertxTestContext testContext) {
+        // a busy lag of zero makes all event loops busy
+        AutoscalerConfig config = new AutoscalerConfig().setEnabled(true).setInterval(10).setBusyLag(0)
+                .setMaxInstances(3).setVerticles(List.of(ScaledDataVerticle.class.getName()));
+
+        deployVerticle(new ScaledDataVerticle()).compose(v -> deployVerticle(new AutoscalerVerticle(config)))
+                .onComplete(testContext.succeeding(v -> vertx.setPeriodic(10, timerId -> {
+                    int instances = countInstances(vertx, ScaledDataVerticle.class);
+                    testContext.verify(() -> assertThat(instances).isAtMost(3));
+                    if (instances == 3 && config.getBusyLag() == 0) {
+                        // all event loops are idle now
+                        config.setBusyLag((int) TimeUnit.MINUTES.toMillis(1)).setQueueDepth(Integer.MAX_VALUE);
+                    } else if (instances == 1 && config.getBusyLag() > 0) {
+                        vertx.cancelTimer(timerId);
+                        testContext.completeNow();
+                    }
+                })));
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("should undeploy the deployed instances together with the autoscaler")
+    void testUndeploy(Vertx vertx, VertxTestContext testContext) {
+        AutoscalerConfig config = new AutoscalerConfig().setEnabled(true).setInterval(10).setBusyLag(0)
+                .setMaxInstances(2);
+
+        deployVerticle(new ScaledDataVerticle()).compose(v -> deployVerticle(new AutoscalerVerticle(config)))
+                .onComplete(testContext.succeeding(deployment -> vertx.setPeriodic(10, timerId -> {
+                    if (countInstances(vertx, ScaledDataVerticle.class) == 2) {
+                        vertx.cancelTimer(timerId);
+                        deployment.undeploy().onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                            assertThat(countInstances(vertx, ScaledDataVerticle.class)).isEqualTo(1);
+                            testContext.completeNow();
+                        })));
+                    }
+                })));
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("should undeploy the deployed instances, as soon as the original verticle is undeployed")
+    void testUndeployOriginal(Vertx vertx, VertxTestContext testContext) {
+        AutoscalerConfig config = new AutoscalerConfig().setEnabled(true).setInterval(10).setBusyLag(0)
+                .setMaxInstances(3).setVerticles(List.of(ScaledDataVerticle.class.getName()));
+
+        deployVerticle(new ScaledDataVerticle()).compose(original -> deployVerticle(new AutoscalerVerticle(config))
+                .compose(v -> awaitInstances(vertx, 3))
+                // e.g. the module of the verticle is undeployed, while the autoscaler remains deployed
+                .compose(v -> original.undeploy())).compose(v -> awaitInstances(vertx, 0))
+                .onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("should retry to deploy instances, after deploying an instance failed")
+    void testBackoff(Vertx vertx, VertxTestContext testContext) {
+        AutoscalerConfig config = new AutoscalerConfig().setEnabled(true).setInterval(10).setBusyLag(0)
+                .setMaxInstances(2).setVerticles(List.of(FailingOnceDataVerticle.class.getName()));
+
+        FailingOnceDataVerticle.STARTS.set(0);
+        deployVerticle(new FailingOnceDataVerticle()).compose(v -> deployVerticle(new AutoscalerVerticle(config)))
+                .compose(v -> awaitInstances(vertx, FailingOnceDataVerticle.class, 2))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // the original instance, the failed instance and the instance deployed after backing off
+                    assertThat(FailingOnceDataVerticle.STARTS.get()).isEqualTo(3);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("should disable autoscaling, in case the internal APIs of Vert.x are not available")
+    void testInternalsNotAvailable() {
+        Vertx vertxMock = mock(Vertx.class);
+        assertThat(VertxInternalsAdapter.create(vertxMock)).isNull();
+
+        AutoscalerVerticle autoscaler = new AutoscalerVerticle(new AutoscalerConfig().setEnabled(true));
+        autoscaler.init(vertxMock, mock(Context.class));
+        autoscaler.start();
+        autoscaler.stop();
+        verify(vertxMock, never()).setPeriodic(anyLong(), any());
+        verify(vertxMock, never()).cancelTimer(anyLong());
+    }
+
+    private static Future<Void> awaitInstances(Vertx vertx, int instances) {
+        return awaitInstances(vertx, ScaledDataVerticle.class, instances);
+    }
+
+    private static Future<Void> awaitInstances(Vertx vertx, Class<? extends Verticle> verticleClass, int instances) {
+        return Future.future(promise -> vertx.setPeriodic(10, timerId -> {
+            if (countInstances(vertx, verticleClass) == instances) {
+                vertx.cancelTimer(timerId);
+                promise.complete();
+            }
+        }));
+    }
+
+    private static int countInstances(Vertx vertx, Class<? extends Verticle> verticleClass) {
+        return vertx.deploymentIDs().stream().map(((VertxInternal) vertx)::getDeployment).filter(Objects::nonNull)
+                .flatMap(deployment -> deployment.getVerticles().stream()).filter(verticleClass::isInstance)
+                .mapToInt(verticle -> 1).sum();
+    }
+
+    public static class ScaledDataVerticle extends DataVerticle<String> {
+        @Override
+        public String getName() {
+            return "Scaled";
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return Future.succeededFuture("Scaled");
+        }
+    }
+
+    public static class FailingOnceDataVerticle extends DataVerticle<String> {
+        static final AtomicInteger STARTS = new AtomicInteger();
+
+        @Override
+        public void start(Promise<Void> startPromise) {
+            if (STARTS.incrementAndGet() == 2) {
+                startPromise.fail("Failing once");
+            } else {
+                super.start(startPromise);
+            }
+        }
+
+        @Override
+        public String getName() {
+            return "FailingOnce";
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return Future.succeededFuture("FailingOnce");
+        }
+    }
+}
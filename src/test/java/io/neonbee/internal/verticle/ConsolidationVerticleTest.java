@@ -0,0 +1,140 @@
+package io.neonbee.internal.verticle;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.entity.QueryCapability.FILTER;
+import static io.neonbee.entity.QueryCapability.ORDER_BY;
+import static io.neonbee.entity.QueryCapability.PAGING;
+import static io.neonbee.internal.verticle.ConsolidationVerticle.ENTITY_TYPE_NAME_HEADER;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataMap;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.internal.verticle.ConsolidationVerticle.ConsolidationStrategy;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+
+class ConsolidationVerticleTest {
+    private static final String ENTITY_TYPE_NAME = "Foo.Bar";
+
+    @Test
+    @DisplayName("Check that $skip is added to $top for consolidation")
+    void testPageQuery() {
+        DataQuery query = new DataQuery("Foo/Bar", "$skip=5&$top=10&$filter=a eq 1");
+        DataQuery pageQuery = ConsolidationVerticle.pageQuery(query);
+        assertThat(pageQuery.getParameter("$skip")).isNull();
+        assertThat(pageQuery.getParameter("$top")).isEqualTo("15");
+        assertThat(pageQuery.getParameter("$filter")).isEqualTo("a eq 1");
+        assertThat(query.getParameter("$skip")).isEqualTo("5");
+
+        assertThat(ConsolidationVerticle.pageQuery(new DataQuery("Foo/Bar", "$skip=5")).getParameters()).isEmpty();
+        DataQuery topQuery = new DataQuery("Foo/Bar", "$top=10");
+        assertThat(ConsolidationVerticle.pageQuery(topQuery)).isSameInstanceAs(topQuery);
+        DataQuery invalidQuery = new DataQuery("Foo/Bar", "$skip=5&$top=ten");
+        assertThat(ConsolidationVerticle.pageQuery(invalidQuery)).isSameInstanceAs(invalidQuery);
+    }
+
+    @Test
+    @DisplayName("Check that query capabilities and counts are consolidated")
+    void testConsolidateQueryCapabilities() {
+        EntityWrapper filtered = new EntityWrapper(ENTITY_TYPE_NAME, createEntity("a"))
+                .setQueryCapabilities(EnumSet.of(FILTER, ORDER_BY)).setCount(3L);
+        EntityWrapper paged = new EntityWrapper(ENTITY_TYPE_NAME, createEntity("b"))
+                .setQueryCapabilities(EnumSet.of(PAGING)).setCount(4L);
+        EntityWrapper unfiltered = new EntityWrapper(ENTITY_TYPE_NAME, createEntity("c"));
+
+        EntityWrapper result = consolidate(filtered, paged);
+        assertThat(result.getEntities()).hasSize(2);
+        assertThat(result.getQueryCapabilities()).containsExactly(FILTER);
+        assertThat(result.getCount()).isEqualTo(7L);
+
+        result = consolidate(filtered, unfiltered);
+        assertThat(result.getEntities()).hasSize(2);
+        assertThat(result.getQueryCapabilities()).isEmpty();
+        assertThat(result.getCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("Check that filtered and ordered entities are paged, if no specific order was requested")
+    void testConsolidatePaging() {
+        EntityWrapper first = new EntityWrapper(ENTITY_TYPE_NAME, List.of(createEntity("a"), createEntity("b")))
+                .setQueryCapabilities(EnumSet.of(PAGING)).setCount(5L);
+        EntityWrapper second = new EntityWrapper(ENTITY_TYPE_NAME, List.of(createEntity("c"), createEntity("d")))
+                .setQueryCapabilities(EnumSet.of(FILTER, ORDER_BY)).setCount(2L);
+
+        EntityWrapper result = consolidate(new DataQuery("Foo/Bar", "$skip=1&$top=2"), first, second);
+        assertThat(result.getQueryCapabilities()).containsExactly(PAGING);
+        assertThat(names(result)).containsExactly("b", "c").inOrder();
+        assertThat(result.getCount()).isEqualTo(7L);
+
+        // the entities cannot be paged, if $count is requested, but not all entity verticles provided a count
+        result = consolidate(new DataQuery("Foo/Bar", "$skip=1&$top=2&$count=true"), first,
+                new EntityWrapper(ENTITY_TYPE_NAME, createEntity("c")).setQueryCapabilities(EnumSet.of(FILTER)));
+        assertThat(result.getQueryCapabilities()).containsExactly(FILTER);
+        assertThat(names(result)).containsExactly("a", "b", "c").inOrder();
+        assertThat(result.getCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("Check that failed entity verticles are ignored in lazy and fail the consolidation in strict mode")
+    void testConsolidationStrategy() {
+        Map<DataRequest, AsyncResult<?>> results = new LinkedHashMap<>();
+        results.put(new DataRequest("Verticle0", new DataQuery()),
+                succeededFuture(new EntityWrapper(ENTITY_TYPE_NAME, createEntity("a"))));
+        results.put(new DataRequest("Verticle1", new DataQuery()), failedFuture("Backend unavailable"));
+        DataQuery query = new DataQuery().setHeader(ENTITY_TYPE_NAME_HEADER, ENTITY_TYPE_NAME);
+
+        ConsolidationVerticle consolidationVerticle = new ConsolidationVerticle();
+        Future<EntityWrapper> result = consolidationVerticle.retrieveData(query, new DataMap(results), null);
+        assertThat(names(result.result())).containsExactly("a");
+
+        consolidationVerticle.consolidationStrategy = ConsolidationStrategy.STRICT;
+        result = consolidationVerticle.retrieveData(query, new DataMap(results), null);
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessageThat().isEqualTo("Backend unavailable");
+    }
+
+    @Test
+    @DisplayName("Check that consolidating no entity wrappers results in an empty entity wrapper")
+    void testConsolidateNothing() {
+        assertThat(consolidate().getEntities()).isEqualTo(List.of());
+    }
+
+    private static EntityWrapper consolidate(EntityWrapper... entityWrappers) {
+        return consolidate(new DataQuery(), entityWrappers);
+    }
+
+    private static EntityWrapper consolidate(DataQuery query, EntityWrapper... entityWrappers) {
+        Map<DataRequest, AsyncResult<?>> results = new LinkedHashMap<>();
+        for (int index = 0; index < entityWrappers.length; index++) {
+            results.put(new DataRequest("Verticle" + index, new DataQuery()), succeededFuture(entityWrappers[index]));
+        }
+        return new ConsolidationVerticle()
+                .retrieveData(query.setHeader(ENTITY_TYPE_NAME_HEADER, ENTITY_TYPE_NAME), new DataMap(results),
+                        null)
+                .result();
+    }
+
+    private static List<Object> names(EntityWrapper entityWrapper) {
+        return entityWrapper.getEntities().stream().map(entity -> entity.getProperty("name").getValue())
+                .collect(Collectors.toList());
+    }
+
+    private static Entity createEntity(String name) {
+        return new Entity().addProperty(new Property(null, "name", ValueType.PRIMITIVE, name));
+    }
+}
@@ -14,20 +14,21 @@ import static io.neonbee.test.helper.FileSystemHelper.createTempDirectory;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +39,7 @@ import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 
 import io.neonbee.NeonBeeOptions;
+import io.neonbee.internal.verticle.WatchVerticle.FileSnapshot;
 import io.neonbee.test.base.NeonBeeTestBase;
 import io.neonbee.test.helper.DeploymentHelper;
 import io.vertx.core.Future;
@@ -79,12 +81,12 @@ class WatchVerticleTest extends NeonBeeTestBase {
 
     @Test
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
-    @DisplayName("Constructor should set / calculate interval correct")
+    @DisplayName("Constructor should set / calculate quiet period correct")
     void testConstructor() {
         WatchVerticle watchVerticle = new WatchVerticle(watchDir);
-        assertThat(watchVerticle.watchPeriodMillis).isEqualTo(500);
+        assertThat(watchVerticle.quietPeriodMillis).isEqualTo(500);
         watchVerticle = new WatchVerticle(watchDir, 2, TimeUnit.SECONDS, false, false);
-        assertThat(watchVerticle.watchPeriodMillis).isEqualTo(2000);
+        assertThat(watchVerticle.quietPeriodMillis).isEqualTo(2000);
     }
 
     @Test
@@ -119,45 +121,63 @@ class WatchVerticleTest extends NeonBeeTestBase {
     }
 
     @Test
-    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
-    @DisplayName("Upcoming check intervals should be ignored, if processing of a predecessor interval is still in progress")
+    @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("WatchVerticle should coalesce the events observed for a path within the quiet period")
     @DisabledOnOs(value = { OS.MAC },
             disabledReason = "Issues with File Watching Service on macOS. We need a cross-platform Java recursive directory watcher, that works well with macOS")
-    void testBlocking(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
-        AtomicReference<Promise<Void>> waitFutureReference = new AtomicReference<>(Promise.promise());
-        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 1, TimeUnit.MILLISECONDS, false, false));
-        doAnswer(invocation -> waitFutureReference.get()).when(watchVerticleSpy).checkForChanges();
-
-        DeploymentHelper.deployVerticle(vertx, watchVerticleSpy).compose(deploymentId ->
-        // Wait 100 milliseconds to ensure that interval theoretically could triggered more then once
-        waitFor(vertx, 100).compose(v -> {
-            testCtx.verify(() -> verify(watchVerticleSpy, times(1)).checkForChanges());
-            // Check if still no other interval was started
-            // Resolve waitFuture to enter a new interval
-            waitFutureReference.getAndSet(Promise.<Void>promise()).complete();
-            // Wait 10 milliseconds to ensure that WatchVerticle enters a new interval
-            return waitFor(vertx, 100);
-        }).onComplete(testCtx.succeeding(v -> {
-            // CHeck that WatchVerticle entered a new interval
-            testCtx.verify(() -> verify(watchVerticleSpy, times(2)).checkForChanges());
-            testCtx.completeNow();
-        })));
+    void testCoalescing(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
+        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 500, TimeUnit.MILLISECONDS, false, false));
+        Path watchedFile = watchDir.resolve("watchedFile");
+
+        DeploymentHelper.deployVerticle(vertx, watchVerticleSpy)
+                .compose(s -> writeFile(vertx, watchedFile, Buffer.buffer(toByte("Lord"))))
+                .compose(v -> waitFor(vertx, 50))
+                .compose(v -> writeFile(vertx, watchedFile, Buffer.buffer(toByte("Lord Citrange"))))
+                .compose(v -> waitFor(vertx, 50))
+                .compose(v -> writeFile(vertx, watchedFile, Buffer.buffer(toByte("Lord Citrange the Great"))))
+                .compose(v -> waitFor(vertx, 1000)).onComplete(testCtx.succeeding(v -> {
+                    testCtx.verify(() -> verifyCreateModifyFile(watchVerticleSpy, watchedFile));
+                    testCtx.completeNow();
+                }));
     }
 
     @Test
-    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
-    @DisplayName("Upcoming check intervals should not be ignored, if processing of a predecessor interval is still in progress")
-    @DisabledOnOs(value = { OS.MAC },
-            disabledReason = "Issues with File Watching Service on macOS. We need a cross-platform Java recursive directory watcher, that works well with macOS")
-    void testParallelProcessing(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
-        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MILLISECONDS, true, false));
-        doAnswer(invocation -> Promise.promise()).when(watchVerticleSpy).checkForChanges();
-
-        DeploymentHelper.deployVerticle(vertx, watchVerticleSpy).compose(deploymentId ->
-        // Assumption that the watchVerticle has been called at least 10 times after 100 ms
-        waitFor(vertx, 110)).onComplete(testCtx.succeeding(v -> {
-            // Check that WatchVerticle has been called at least 10 times
-            testCtx.verify(() -> verify(watchVerticleSpy, atLeast(10)).checkForChanges());
+    @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("WatchVerticle should not handle changes of a path, before the file is stable")
+    void testStability(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
+        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 200, TimeUnit.MILLISECONDS, false, false));
+        Path watchedFile = watchDir.resolve("watchedFile");
+
+        writeFile(vertx, watchedFile, Buffer.buffer(toByte("Lord Citrange")))
+                .compose(v -> DeploymentHelper.deployVerticle(vertx, watchVerticleSpy)).compose(s -> {
+                    // a snapshot which differs from the file, as if the file was changed after the event was observed
+                    watchVerticleSpy.observeEvent(watchedFile, ENTRY_MODIFY, new FileSnapshot(0, 0));
+                    return waitFor(vertx, 300);
+                }).compose(v -> {
+                    testCtx.verify(() -> verify(watchVerticleSpy, never()).observedModify(eq(watchedFile)));
+                    return waitFor(vertx, 500);
+                }).onComplete(testCtx.succeeding(v -> {
+                    testCtx.verify(() -> verify(watchVerticleSpy).observedModify(eq(watchedFile)));
+                    testCtx.completeNow();
+                }));
+    }
+
+    @Test
+    @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("WatchVerticle should only handle the deletion of paths which do not exist anymore")
+    void testDeleted(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
+        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MILLISECONDS, false, false));
+        Path watchedFile = watchDir.resolve("watchedFile");
+
+        DeploymentHelper.deployVerticle(vertx, watchVerticleSpy).compose(s -> {
+            watchVerticleSpy.observeEvent(watchedFile, ENTRY_CREATE, new FileSnapshot(0, 0));
+            watchVerticleSpy.observeEvent(watchedFile, ENTRY_DELETE, null);
+            return waitFor(vertx, 200);
+        }).onComplete(testCtx.succeeding(v -> {
+            testCtx.verify(() -> {
+                verify(watchVerticleSpy, never()).observedCreate(eq(watchedFile));
+                verify(watchVerticleSpy).observedDelete(eq(watchedFile));
+            });
             testCtx.completeNow();
         }));
     }
@@ -168,18 +188,18 @@ class WatchVerticleTest extends NeonBeeTestBase {
     @DisabledOnOs(value = { OS.MAC },
             disabledReason = "Issues with File Watching Service on macOS. We need a cross-platform Java recursive directory watcher, that works well with macOS")
     void test(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
-        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MINUTES, false, false));
+        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MILLISECONDS, false, false));
         Path watchedFile = watchDir.resolve("watchedFile");
 
         DeploymentHelper.deployVerticle(vertx, watchVerticleSpy)
                 .compose(s -> writeFile(vertx, watchedFile, Buffer.buffer()))
-                .compose(v -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                .compose(v -> verifyFileEvent(vertx, testCtx,
                         () -> verify(watchVerticleSpy, atLeast(1)).observedCreate(eq(watchedFile))))
                 .compose(v -> writeFile(vertx, watchedFile, Buffer.buffer(toByte("Lord Citrange")))
-                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx,
                                 () -> verify(watchVerticleSpy, atLeast(1)).observedModify(eq(watchedFile)))))
                 .compose(v -> deleteRecursive(vertx, watchedFile).compose(innerVoid -> verifyFileEvent(vertx, testCtx,
-                        watchVerticleSpy, () -> verify(watchVerticleSpy, atLeast(1)).observedDelete(eq(watchedFile)))))
+                        () -> verify(watchVerticleSpy, atLeast(1)).observedDelete(eq(watchedFile)))))
                 .onComplete(testCtx.succeedingThenComplete());
     }
 
@@ -189,7 +209,7 @@ class WatchVerticleTest extends NeonBeeTestBase {
     @DisabledOnOs(value = { OS.MAC },
             disabledReason = "Issues with File Watching Service on macOS. We need a cross-platform Java recursive directory watcher, that works well with macOS")
     void testExisting(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
-        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MINUTES, false, true));
+        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MILLISECONDS, false, true));
         Path watchedFile = watchDir.resolve("watchedFile");
 
         writeFile(vertx, watchedFile, Buffer.buffer())
@@ -200,13 +220,13 @@ class WatchVerticleTest extends NeonBeeTestBase {
     }
 
     @Test
-    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
     @DisplayName("CycleTest: WatchVerticle should detect recursively that a file was created, modified and deleted")
     @DisabledOnOs(value = { OS.MAC },
             disabledReason = "Issues with File Watching Service on macOS. We need a cross-platform Java recursive directory watcher, that works well with macOS")
     void testRecursivly(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
 
-        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MINUTES, false, true));
+        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MILLISECONDS, false, true));
         Path watchedSubDir = watchDir.resolve("subDir");
         Path watchedSubSubDir = watchedSubDir.resolve("subSubDir");
         Path watchedFileInSubDir = watchedSubDir.resolve("watchedFile");
@@ -215,29 +235,29 @@ class WatchVerticleTest extends NeonBeeTestBase {
         DeploymentHelper.deployVerticle(vertx, watchVerticleSpy)
                 // Create subdirectory and test events
                 .compose(s -> createDirs(vertx, watchedSubDir)
-                        .compose(v -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        .compose(v -> verifyFileEvent(vertx, testCtx,
                                 () -> verify(watchVerticleSpy, atLeast(1)).observedCreate(eq(watchedSubDir))))
                         .compose(v -> writeFile(vertx, watchedFileInSubDir, Buffer.buffer()))
-                        .compose(v -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        .compose(v -> verifyFileEvent(vertx, testCtx,
                                 () -> verify(watchVerticleSpy, atLeast(1)).observedCreate(eq(watchedFileInSubDir))))
                         .compose(v -> writeFile(vertx, watchedFileInSubDir, Buffer.buffer(toByte("Lord Citrange"))))
-                        .compose(v -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        .compose(v -> verifyFileEvent(vertx, testCtx,
                                 () -> verify(watchVerticleSpy, atLeast(1)).observedModify(eq(watchedFileInSubDir))))
                         .compose(v -> deleteRecursive(vertx, watchedFileInSubDir))
-                        .compose(v -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        .compose(v -> verifyFileEvent(vertx, testCtx,
                                 () -> verify(watchVerticleSpy, atLeast(1)).observedDelete(eq(watchedFileInSubDir)))))
 
                 // Create sub subdirectory and test events
                 .compose(v -> createDirs(vertx, watchedSubSubDir)
-                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx,
                                 () -> verify(watchVerticleSpy).observedCreate(eq(watchedSubSubDir))))
                         .compose(innerVoid -> writeFile(vertx, watchedFileInSubSubDir, Buffer.buffer()))
-                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx,
                                 () -> verify(watchVerticleSpy).observedCreate(eq(watchedFileInSubSubDir)))))
 
                 // DELETE subdirectory and check if the mapped watchKey is deleted
                 .compose(v -> deleteRecursive(vertx, watchedSubDir)
-                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx,
                                 () -> verify(watchVerticleSpy).observedDelete(eq(watchedSubDir))))
                         .compose(innerVoid -> {
                             testCtx.verify(
@@ -245,7 +265,7 @@ class WatchVerticleTest extends NeonBeeTestBase {
                             return succeededFuture();
                         })
                         // check if the subdirectories/files of the deleted directory are deleted as well
-                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        .compose(innerVoid -> verifyFileEvent(vertx, testCtx,
                                 () -> verify(watchVerticleSpy).observedDelete(eq(watchedSubSubDir))))
                         .compose(innerVoid -> {
                             testCtx.verify(
@@ -261,7 +281,7 @@ class WatchVerticleTest extends NeonBeeTestBase {
     @DisabledOnOs(value = { OS.MAC },
             disabledReason = "Issues with File Watching Service on macOS. We need a cross-platform Java recursive directory watcher, that works well with macOS")
     void testHandleExistingRecursivly(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
-        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MINUTES, false, true));
+        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, TimeUnit.MILLISECONDS, false, true));
         // Root Directory Content
         Path watchedFile = watchDir.resolve("watchedFile");
         Path watchedSubDir = watchDir.resolve("watchedSubDir");
@@ -291,13 +311,11 @@ class WatchVerticleTest extends NeonBeeTestBase {
                 }));
     }
 
-    private static Future<Void> verifyFileEvent(Vertx vertx, VertxTestContext testCtx, WatchVerticle watchVerticleSpy,
-            ExecutionBlock checks) {
+    private static Future<Void> verifyFileEvent(Vertx vertx, VertxTestContext testCtx, ExecutionBlock checks) {
         // on windows or some CI platforms, same as deletion handles, all modification handles can take a bit of time
         // any may not be reported to the file watcher verticle, immediately after the write / delete
-        // operation finishes, thus add a small delay to account for this
-        return waitFor(vertx, 100).compose(nothing -> watchVerticleSpy.checkForChanges())
-                .onComplete(s -> testCtx.verify(checks));
+        // operation finishes, thus add a small delay to account for this and for the quiet period of the verticle
+        return waitFor(vertx, 100).onComplete(s -> testCtx.verify(checks));
     }
 
     private static void verifyCreateModifyFile(WatchVerticle watchVerticleSpy, Path watchedFile) {
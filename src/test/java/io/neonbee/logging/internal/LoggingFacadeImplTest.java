@@ -9,6 +9,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.slf4j.event.Level.DEBUG;
+import static org.slf4j.event.Level.INFO;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,20 +41,39 @@ class LoggingFacadeImplTest {
     @Test
     void testCorrelateWith() {
         String correlId = "hodor";
-        LoggingFacadeImpl facade = new LoggingFacadeImpl(null);
+        when(mockedLogger.isInfoEnabled(DEFAULT_MARKER)).thenReturn(true);
 
         facade.correlateWith(correlId);
-        Marker hodorMarker = facade.currentMarker;
+        Marker hodorMarker = facade.correlationMarker(INFO);
         assertThat(hodorMarker.getName()).isEqualTo(correlId);
+        assertThat(facade.correlationMarker(INFO)).isEqualTo(DEFAULT_MARKER);
 
         facade.correlateWith(correlId);
-        assertThat(facade.currentMarker).isSameInstanceAs(hodorMarker);
+        assertThat(facade.correlationMarker(INFO)).isSameInstanceAs(hodorMarker);
+
+        facade.correlateWith("otherid");
+        assertThat(facade.correlationMarker(DEBUG)).isEqualTo(DEFAULT_MARKER);
 
         facade.correlateWith("");
-        assertThat(facade.currentMarker).isEqualTo(DEFAULT_MARKER);
+        assertThat(facade.correlationMarker(INFO)).isEqualTo(DEFAULT_MARKER);
 
         facade.correlateWith((String) null);
-        assertThat(facade.currentMarker).isEqualTo(DEFAULT_MARKER);
+        assertThat(facade.correlationMarker(INFO)).isEqualTo(DEFAULT_MARKER);
+    }
+
+    @Test
+    void testCorrelateWithPerThread() throws InterruptedException {
+        when(mockedLogger.isInfoEnabled(DEFAULT_MARKER)).thenReturn(true);
+
+        facade.correlateWith("anyid");
+        Thread thread = new Thread(() -> facade.info(DUMMY_LOG_MSG));
+        thread.start();
+        thread.join();
+        verify(mockedLogger, times(1)).info(DEFAULT_MARKER, DUMMY_LOG_MSG);
+
+        facade.info(DUMMY_LOG_MSG);
+        verify(mockedLogger, times(1)).info((Marker) argThat(marker -> "anyid".equals(marker.toString())),
+                eq(DUMMY_LOG_MSG));
     }
 
     @Test
@@ -78,6 +100,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).trace(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        when(mockedLogger.isTraceEnabled(DEFAULT_MARKER)).thenReturn(true);
         facade.correlateWith("anyid").trace(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).trace((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -101,6 +124,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).debug(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        when(mockedLogger.isDebugEnabled(DEFAULT_MARKER)).thenReturn(true);
         facade.correlateWith("anyid").debug(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).debug((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -124,6 +148,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).info(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        when(mockedLogger.isInfoEnabled(DEFAULT_MARKER)).thenReturn(true);
         facade.correlateWith("anyid").info(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).info((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -147,6 +172,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).warn(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        when(mockedLogger.isWarnEnabled(DEFAULT_MARKER)).thenReturn(true);
         facade.correlateWith("anyid").warn(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).warn((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -170,6 +196,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).error(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        when(mockedLogger.isErrorEnabled(DEFAULT_MARKER)).thenReturn(true);
         facade.correlateWith("anyid").error(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).error((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -0,0 +1,65 @@
+package io.neonbee.test.endpoint.odata;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.test.base.ODataEndpointTestBase;
+import io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class ODataBatchTest extends ODataEndpointTestBase {
+    private static final String CRLF = "\r\n";
+
+    @Override
+    protected List<Path> provideEntityModels() {
+        return List.of(TestService1EntityVerticle.getDeclaredEntityModel());
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void setUp(VertxTestContext testContext) {
+        deployVerticle(new TestService1EntityVerticle()).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Respond with all parts of a batch request in the order of the request")
+    void batchTest(VertxTestContext testContext) {
+        StringBuilder body = new StringBuilder();
+        for (String path : List.of("AllPropertiesNullable('id-1')", "AllPropertiesNullable/$count",
+                "AllPropertiesNullable('id-2')", "AllPropertiesNullable('id-4')")) {
+            body.append("--batch_1" + CRLF + "Content-Type: application/http" + CRLF
+                    + "Content-Transfer-Encoding: binary" + CRLF + CRLF + "GET " + path + " HTTP/1.1" + CRLF + CRLF
+                    + CRLF);
+        }
+        body.append("--batch_1--" + CRLF);
+
+        createRequest(HttpMethod.POST, "/odata/io.neonbee.test.TestService1/$batch")
+                .putHeader("Content-Type", "multipart/mixed;boundary=batch_1")
+                .sendBuffer(Buffer.buffer(body.toString())).onComplete(testContext.succeeding(response -> {
+                    testContext.verify(() -> {
+                        assertThat(response.statusCode()).isEqualTo(202);
+                        String content = response.bodyAsString();
+                        int id1 = content.indexOf("\"KeyPropertyString\":\"id-1\"");
+                        int count = content.indexOf(CRLF + "6" + CRLF);
+                        int id2 = content.indexOf("\"KeyPropertyString\":\"id-2\"");
+                        int id4 = content.indexOf("\"KeyPropertyString\":\"id-4\"");
+                        assertThat(id1).isAtLeast(0);
+                        assertThat(count).isGreaterThan(id1);
+                        assertThat(id2).isGreaterThan(count);
+                        assertThat(id4).isGreaterThan(id2);
+                    });
+                    testContext.completeNow();
+                }));
+    }
+}
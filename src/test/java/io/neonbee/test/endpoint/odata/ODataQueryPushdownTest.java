@@ -0,0 +1,112 @@
+package io.neonbee.test.endpoint.odata;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.entity.QueryCapability.FILTER;
+import static io.neonbee.entity.QueryCapability.PAGING;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.EXPECTED_ENTITY_DATA_1;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.EXPECTED_ENTITY_DATA_2;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.TEST_ENTITY_SET_FQN;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.getDeclaredEntityModel;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.test.base.ODataEndpointTestBase;
+import io.neonbee.test.base.ODataRequest;
+import io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class ODataQueryPushdownTest extends ODataEndpointTestBase {
+    @Override
+    protected List<Path> provideEntityModels() {
+        return List.of(getDeclaredEntityModel());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Entities filtered by the entity verticle must not be filtered again")
+    void filteredEntitiesTest(VertxTestContext testContext) {
+        ODataRequest request = new ODataRequest(TEST_ENTITY_SET_FQN)
+                .setQuery(Map.of("$filter", "KeyPropertyString eq 'id-4'", "$top", "2", "$count", "true"));
+
+        // the verticle ignores the filter, but declares it applied it, so the result has to be trusted
+        Future<HttpResponse<Buffer>> response = deployVerticle(new PushdownEntityVerticle(
+                entityWrapper -> entityWrapper.setQueryCapabilities(EnumSet.of(FILTER))))
+                        .compose(nothing -> requestOData(request));
+        assertOData(response, body -> assertThat(body.toJsonObject().getMap()).containsAtLeast("@odata.count", 6),
+                testContext).compose(v -> assertODataEntitySetContainsExactly(response,
+                        List.of(EXPECTED_ENTITY_DATA_1, EXPECTED_ENTITY_DATA_2), testContext))
+                        .onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Entities paged by the entity verticle must not be paged again and use the provided count")
+    void pagedEntitiesTest(VertxTestContext testContext) {
+        ODataRequest request = new ODataRequest(TEST_ENTITY_SET_FQN)
+                .setQuery(Map.of("$skip", "1", "$top", "1", "$count", "true"));
+
+        Future<HttpResponse<Buffer>> response = deployVerticle(new PushdownEntityVerticle(entityWrapper -> {
+            entityWrapper.getEntities().subList(2, entityWrapper.getEntities().size()).clear();
+            return entityWrapper.setQueryCapabilities(EnumSet.of(PAGING)).setCount(42L);
+        })).compose(nothing -> requestOData(request));
+        assertOData(response, body -> assertThat(body.toJsonObject().getMap()).containsAtLeast("@odata.count", 42),
+                testContext).compose(v -> assertODataEntitySetContainsExactly(response,
+                        List.of(EXPECTED_ENTITY_DATA_1, EXPECTED_ENTITY_DATA_2), testContext))
+                        .onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Entities paged by the entity verticle without a count cannot be counted")
+    void pagedEntitiesWithoutCountTest(VertxTestContext testContext) {
+        ODataRequest request = new ODataRequest(TEST_ENTITY_SET_FQN).setQuery(Map.of("$top", "1", "$count", "true"));
+
+        deployVerticle(new PushdownEntityVerticle(
+                entityWrapper -> entityWrapper.setQueryCapabilities(EnumSet.of(PAGING))))
+                        .compose(nothing -> requestOData(request))
+                        .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                            assertThat(response.statusCode()).isEqualTo(500);
+                            testContext.completeNow();
+                        })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("The count provided by the entity verticle must be used for $count requests")
+    void countEntitiesTest(VertxTestContext testContext) {
+        deployVerticle(new PushdownEntityVerticle(entityWrapper -> {
+            entityWrapper.getEntities().clear();
+            return entityWrapper.setCount(42L);
+        })).compose(nothing -> assertOData(requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).setCount()), "42",
+                testContext)).onComplete(testContext.succeedingThenComplete());
+    }
+
+    private static class PushdownEntityVerticle extends TestService1EntityVerticle {
+        private final UnaryOperator<EntityWrapper> pushdown;
+
+        PushdownEntityVerticle(UnaryOperator<EntityWrapper> pushdown) {
+            super();
+            this.pushdown = pushdown;
+        }
+
+        @Override
+        public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+            return super.retrieveData(query, context).map(pushdown);
+        }
+    }
+}